@@ -0,0 +1,63 @@
+package com.eventease.eventease_service.benchmark;
+
+import com.eventease.eventease_service.EventeaseServiceApplication;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.repository.EventRepository;
+import com.eventease.eventease_service.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the service against the embedded benchmark database (the {@code bench} profile) without a
+ * web server, and seeds the rows the benchmarks work on.
+ */
+final class BenchmarkData {
+
+  static final LocalDate FIRST_DAY = LocalDate.of(2030, 1, 1);
+
+  private BenchmarkData() {
+  }
+
+  static ConfigurableApplicationContext start() {
+    return new SpringApplicationBuilder(EventeaseServiceApplication.class)
+        .web(WebApplicationType.NONE)
+        .profiles("bench")
+        .run();
+  }
+
+  static User user(int i, User.Role role) {
+    User user = new User();
+    user.setFirstName("First" + i);
+    user.setLastName("Last" + i);
+    user.setEmail("user" + i + "@example.com");
+    user.setPhoneNumber(String.format("212555%04d", i % 10000));
+    user.setRole(role);
+    return user;
+  }
+
+  static User saveUser(ConfigurableApplicationContext context, int i) {
+    return context.getBean(UserRepository.class).save(user(i, User.Role.values()[i % User.Role.values().length]));
+  }
+
+  static Event event(int i, User host, LocalDate date, int capacity) {
+    return new Event.Builder()
+        .setName("Event " + i)
+        .setDescription("Benchmark event " + i)
+        .setLocation("Room " + (i % 50))
+        .setDate(date)
+        .setTime(LocalTime.of(10, 0))
+        .setEndTime(LocalTime.of(12, 0))
+        .setCapacity(capacity)
+        .setBudget(1000)
+        .setHost(host)
+        .build();
+  }
+
+  static Event saveEvent(ConfigurableApplicationContext context, int i, User host, LocalDate date, int capacity) {
+    return context.getBean(EventRepository.class).save(event(i, host, date, capacity));
+  }
+}
@@ -0,0 +1,116 @@
+package com.eventease.eventease_service.benchmark;
+
+import com.eventease.eventease_service.EventeaseServiceApplication;
+import com.eventease.eventease_service.model.DomainEventType;
+import com.eventease.eventease_service.service.DomainEvent;
+import com.eventease.eventease_service.service.DomainEventBus;
+import com.eventease.eventease_service.service.DomainEventSubscriber;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Domain event bus throughput: writing events to the outbox on their own and in batches of 100 per
+ * transaction, and the full path from publish until a subscriber has received the event, which
+ * includes the relay interval.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainEventBusBenchmark {
+
+  private static final int BATCH = 100;
+  private static final Map<String, Object> PAYLOAD = Map.of("userId", 42L, "status", "ATTENDING");
+
+  private ConfigurableApplicationContext context;
+  private DomainEventBus domainEventBus;
+  private TransactionTemplate transactionTemplate;
+  private CountingSubscriber subscriber;
+  private long published;
+
+  @Setup
+  public void setUp() {
+    context = new SpringApplicationBuilder(EventeaseServiceApplication.class, SubscriberConfig.class)
+        .web(WebApplicationType.NONE)
+        .profiles("bench")
+        .properties("outbox.relay-interval-ms=1")
+        .run();
+    domainEventBus = context.getBean(DomainEventBus.class);
+    transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    subscriber = context.getBean(CountingSubscriber.class);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public void publish() {
+    domainEventBus.publish(DomainEventType.RSVP_CREATED, 1L, PAYLOAD);
+    published++;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void publishBatch() {
+    transactionTemplate.executeWithoutResult(status -> {
+      for (int i = 0; i < BATCH; i++) {
+        domainEventBus.publish(DomainEventType.RSVP_CREATED, 1L, PAYLOAD);
+      }
+    });
+    published += BATCH;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void publishBatchAndAwaitDelivery() {
+    publishBatch();
+    while (subscriber.delivered.get() < published) {
+      Thread.onSpinWait();
+    }
+  }
+
+  static class SubscriberConfig {
+    @Bean
+    public CountingSubscriber countingSubscriber() {
+      return new CountingSubscriber();
+    }
+  }
+
+  static class CountingSubscriber implements DomainEventSubscriber {
+    private final AtomicLong delivered = new AtomicLong();
+
+    @Override
+    public String getName() {
+      return "benchmark";
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+      delivered.addAndGet(events.size());
+    }
+  }
+}
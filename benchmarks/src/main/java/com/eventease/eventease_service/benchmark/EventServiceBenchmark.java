@@ -0,0 +1,73 @@
+package com.eventease.eventease_service.benchmark;
+
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.repository.EventRepository;
+import com.eventease.eventease_service.service.EventService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Date-range event search over a year of events spread evenly across days and hosts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventServiceBenchmark {
+
+  @Param("10000")
+  public int events;
+
+  @Param({"7", "30"})
+  public int windowDays;
+
+  private ConfigurableApplicationContext context;
+  private EventService eventService;
+  private LocalDate from;
+  private LocalDate to;
+
+  @Setup
+  public void setUp() {
+    context = BenchmarkData.start();
+    eventService = context.getBean(EventService.class);
+    List<User> hosts = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      hosts.add(BenchmarkData.saveUser(context, i));
+    }
+    List<Event> batch = new ArrayList<>();
+    for (int i = 0; i < events; i++) {
+      batch.add(BenchmarkData.event(i, hosts.get(i % hosts.size()), BenchmarkData.FIRST_DAY.plusDays(i % 365), 100));
+    }
+    context.getBean(EventRepository.class).saveAll(batch);
+    from = BenchmarkData.FIRST_DAY.plusDays(180);
+    to = from.plusDays(windowDays - 1);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<Event> findByDateBetween() {
+    return eventService.findByDateBetween(from, to);
+  }
+}
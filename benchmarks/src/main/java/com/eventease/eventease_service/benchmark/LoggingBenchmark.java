@@ -0,0 +1,130 @@
+package com.eventease.eventease_service.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.RSVP;
+import com.eventease.eventease_service.service.RSVPService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Latency of an RSVP request (create and cancel) with verbose logging switched off, written
+ * synchronously, or handed to the asynchronous appender used in production. Logging is verbose
+ * here on purpose: the service and every SQL statement are logged at DEBUG, as {@code show-sql}
+ * used to. Events are written as JSON to a temporary file, so the file system is the sink, not
+ * the benchmark's console.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+
+  @Param({"off", "sync", "async"})
+  public String logging;
+
+  @Param("500")
+  public int users;
+
+  private ConfigurableApplicationContext context;
+  private RSVPService rsvpService;
+  private String eventId;
+  private String[] userIds;
+  private final AtomicInteger nextUser = new AtomicInteger();
+  private Appender<ILoggingEvent> appender;
+  private Path logFile;
+
+  @Setup
+  public void setUp() throws IOException {
+    context = BenchmarkData.start();
+    rsvpService = context.getBean(RSVPService.class);
+    userIds = new String[users];
+    for (int i = 0; i < users; i++) {
+      userIds[i] = String.valueOf(BenchmarkData.saveUser(context, i).getId());
+    }
+    Event event = BenchmarkData.saveEvent(context, 0, BenchmarkData.saveUser(context, users),
+        BenchmarkData.FIRST_DAY, users + 1);
+    eventId = String.valueOf(event.getId());
+    logFile = Files.createTempFile("logging-benchmark", ".json");
+    configureLogging();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    context.close();
+    if (appender != null) {
+      appender.stop();
+    }
+    Files.deleteIfExists(logFile);
+  }
+
+  @Benchmark
+  public void createAndCancel() {
+    String userId = userIds[Math.floorMod(nextUser.getAndIncrement(), users)];
+    RSVP rsvp = new RSVP();
+    rsvp.setStatus("ATTENDING");
+    rsvp.setEventRole("PARTICIPANT");
+    rsvpService.createRSVP(eventId, userId, rsvp);
+    rsvpService.cancelRSVP(eventId, userId);
+  }
+
+  private void configureLogging() {
+    LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+    Logger root = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+    root.detachAndStopAllAppenders();
+    Level verbose = "off".equals(logging) ? Level.OFF : Level.DEBUG;
+    loggerContext.getLogger("com.eventease.eventease_service").setLevel(verbose);
+    loggerContext.getLogger("org.hibernate.SQL").setLevel(verbose);
+    if ("off".equals(logging)) {
+      root.setLevel(Level.OFF);
+      return;
+    }
+
+    JsonEncoder encoder = new JsonEncoder();
+    encoder.setContext(loggerContext);
+    encoder.start();
+    FileAppender<ILoggingEvent> file = new FileAppender<>();
+    file.setContext(loggerContext);
+    file.setFile(logFile.toString());
+    file.setEncoder(encoder);
+    file.start();
+    appender = file;
+
+    if ("async".equals(logging)) {
+      AsyncAppender async = new AsyncAppender();
+      async.setContext(loggerContext);
+      async.setQueueSize(8192);
+      async.setNeverBlock(true);
+      async.addAppender(file);
+      async.start();
+      appender = async;
+    }
+    root.addAppender(appender);
+  }
+}
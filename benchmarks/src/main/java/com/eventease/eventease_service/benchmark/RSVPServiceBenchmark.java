@@ -0,0 +1,88 @@
+package com.eventease.eventease_service.benchmark;
+
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.RSVP;
+import com.eventease.eventease_service.service.RSVPService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * RSVP write paths. A user can hold one RSVP per event, so every operation ends by cancelling the
+ * RSVP it created and the table stays the same size; the cost of a check-in is the difference
+ * between the two benchmarks. Users are taken round-robin from a pool much larger than the thread
+ * count, so threads never RSVP the same user at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RSVPServiceBenchmark {
+
+  @Param("2000")
+  public int users;
+
+  private ConfigurableApplicationContext context;
+  private RSVPService rsvpService;
+  private String eventId;
+  private String[] userIds;
+  private final AtomicInteger nextUser = new AtomicInteger();
+
+  @Setup
+  public void setUp() {
+    context = BenchmarkData.start();
+    rsvpService = context.getBean(RSVPService.class);
+    userIds = new String[users];
+    for (int i = 0; i < users; i++) {
+      userIds[i] = String.valueOf(BenchmarkData.saveUser(context, i).getId());
+    }
+    Event event = BenchmarkData.saveEvent(context, 0, BenchmarkData.saveUser(context, users),
+        BenchmarkData.FIRST_DAY, users + 1);
+    eventId = String.valueOf(event.getId());
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public void createAndCancel() {
+    String userId = nextUser();
+    rsvpService.createRSVP(eventId, userId, attending());
+    rsvpService.cancelRSVP(eventId, userId);
+  }
+
+  @Benchmark
+  public void createCheckInAndCancel() {
+    String userId = nextUser();
+    rsvpService.createRSVP(eventId, userId, attending());
+    rsvpService.checkInUser(eventId, userId);
+    rsvpService.cancelRSVP(eventId, userId);
+  }
+
+  private String nextUser() {
+    return userIds[Math.floorMod(nextUser.getAndIncrement(), users)];
+  }
+
+  private static RSVP attending() {
+    RSVP rsvp = new RSVP();
+    rsvp.setStatus("ATTENDING");
+    rsvp.setEventRole("PARTICIPANT");
+    return rsvp;
+  }
+}
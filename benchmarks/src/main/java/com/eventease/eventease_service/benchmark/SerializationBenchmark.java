@@ -0,0 +1,130 @@
+package com.eventease.eventease_service.benchmark;
+
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.EventImage;
+import com.eventease.eventease_service.model.RSVP;
+import com.eventease.eventease_service.model.Task;
+import com.eventease.eventease_service.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Serialization of the controllers' list responses ({"success", "data"}) for events, RSVPs and tasks,
+ * in each response encoding the service offers: JSON and Smile, each with and without gzip. The
+ * encoded sizes are printed once per trial, so CPU cost and payload size can be read side by side.
+ * The mappers are built like Spring Boot's, without a database or application context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+  @Param({"event", "rsvp", "task"})
+  public String type;
+
+  @Param({"1", "100"})
+  public int size;
+
+  private ObjectMapper json;
+  private ObjectMapper smile;
+  private Map<String, Object> response;
+
+  @Setup
+  public void setUp() throws IOException {
+    json = Jackson2ObjectMapperBuilder.json().build();
+    smile = Jackson2ObjectMapperBuilder.smile().build();
+    response = new HashMap<>();
+    response.put("success", true);
+    response.put("data", data());
+    System.out.printf("%n%s x%d: json=%dB json+gzip=%dB smile=%dB smile+gzip=%dB%n", type, size,
+        json().length, jsonGzip().length, smile().length, smileGzip().length);
+  }
+
+  @Benchmark
+  public byte[] json() throws IOException {
+    return json.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public byte[] jsonGzip() throws IOException {
+    return gzip(json);
+  }
+
+  @Benchmark
+  public byte[] smile() throws IOException {
+    return smile.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public byte[] smileGzip() throws IOException {
+    return gzip(smile);
+  }
+
+  private byte[] gzip(ObjectMapper mapper) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      mapper.writeValue(out, response);
+    }
+    return bytes.toByteArray();
+  }
+
+  private List<Object> data() {
+    User host = BenchmarkData.user(0, User.Role.ORGANIZER);
+    host.setId(1L);
+    List<Object> data = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      Event event = BenchmarkData.event(i, host, BenchmarkData.FIRST_DAY.plusDays(i), 100);
+      event.setId((long) i + 1);
+      event.setImages(List.of(new EventImage("https://storage.googleapis.com/bench/event-" + i + ".jpg", event)));
+      switch (type) {
+        case "event" -> data.add(event);
+        case "rsvp" -> {
+          User guest = BenchmarkData.user(i + 1, User.Role.CAREGIVER);
+          guest.setId((long) i + 2);
+          RSVP rsvp = new RSVP();
+          rsvp.setUser(guest);
+          rsvp.setEvent(event);
+          rsvp.setStatus("ATTENDING");
+          rsvp.setEventRole("PARTICIPANT");
+          rsvp.setStartTime(LocalDateTime.of(event.getDate(), event.getTime()));
+          rsvp.setEndTime(LocalDateTime.of(event.getDate(), event.getEndTime()));
+          data.add(rsvp);
+        }
+        default -> {
+          Task task = new Task();
+          task.setId((long) i + 1);
+          task.setName("Task " + i);
+          task.setDescription("Benchmark task " + i);
+          task.setStatus(Task.TaskStatus.values()[i % Task.TaskStatus.values().length]);
+          task.setEvent(event);
+          task.setAssignedUser(host);
+          data.add(task);
+        }
+      }
+    }
+    return data;
+  }
+}
@@ -0,0 +1,66 @@
+package com.eventease.eventease_service.benchmark;
+
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.repository.UserRepository;
+import com.eventease.eventease_service.service.UserService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * User search through the Criteria-based filter: a selective filter (one last name) and a broad one
+ * (a role shared by a quarter of the users).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserServiceBenchmark {
+
+  @Param("10000")
+  public int users;
+
+  private ConfigurableApplicationContext context;
+  private UserService userService;
+
+  @Setup
+  public void setUp() {
+    context = BenchmarkData.start();
+    userService = context.getBean(UserService.class);
+    List<User> batch = new ArrayList<>();
+    for (int i = 0; i < users; i++) {
+      batch.add(BenchmarkData.user(i, User.Role.values()[i % User.Role.values().length]));
+    }
+    context.getBean(UserRepository.class).saveAll(batch);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Iterable<User> filterByLastName() {
+    return userService.getUsersByFilter(null, "Last" + (users / 2), null, null, null);
+  }
+
+  @Benchmark
+  public Iterable<User> filterByRole() {
+    return userService.getUsersByFilter(null, null, null, null, User.Role.CAREGIVER);
+  }
+}
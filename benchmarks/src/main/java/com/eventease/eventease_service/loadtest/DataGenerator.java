@@ -0,0 +1,175 @@
+package com.eventease.eventease_service.loadtest;
+
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.EventImage;
+import com.eventease.eventease_service.model.RSVP;
+import com.eventease.eventease_service.model.Task;
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Generates a deterministic synthetic dataset: the same seed and sizes always produce the same
+ * users, events, RSVPs and tasks. Events spread over a 90-day window with a skewed capacity mix and
+ * up to three images each; each event is filled to a random share of its capacity, and carries a
+ * handful of tasks in a realistic status mix. Rows are written through JPA in chunks, and the event
+ * counters are recomputed at the end so they match the generated RSVPs.
+ */
+public class DataGenerator {
+
+  static final LocalDate FIRST_DAY = LocalDate.of(2030, 3, 1);
+  static final int DAYS = 90;
+
+  private static final int CHUNK = 500;
+  private static final int[] CAPACITIES = {20, 50, 50, 100, 100, 100, 250, 500};
+  private static final User.Role[] ROLES = {
+      User.Role.ELDERLY, User.Role.ELDERLY, User.Role.ELDERLY, User.Role.CAREGIVER,
+      User.Role.CAREGIVER, User.Role.ORGANIZER, User.Role.PLANNER};
+  private static final Task.TaskStatus[] TASK_STATUSES = {
+      Task.TaskStatus.PENDING, Task.TaskStatus.PENDING, Task.TaskStatus.PENDING, Task.TaskStatus.PENDING,
+      Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.IN_PROGRESS,
+      Task.TaskStatus.COMPLETED, Task.TaskStatus.COMPLETED, Task.TaskStatus.CANCELLED};
+
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final EventRepository eventRepository;
+
+  public DataGenerator(EntityManager entityManager, TransactionTemplate transactionTemplate,
+                       EventRepository eventRepository) {
+    this.entityManager = entityManager;
+    this.transactionTemplate = transactionTemplate;
+    this.eventRepository = eventRepository;
+  }
+
+  /**
+   * Generates and stores a dataset.
+   *
+   * @param seed the random seed
+   * @param userCount the number of users
+   * @param eventCount the number of events
+   * @return the IDs of what was generated, for the scenarios to pick from
+   */
+  public Dataset generate(long seed, int userCount, int eventCount) {
+    Random random = new Random(seed);
+
+    List<Long> userIds = new ArrayList<>(userCount);
+    inChunks(userCount, i -> {
+      User user = new User();
+      user.setFirstName("First" + i);
+      user.setLastName("Last" + (i % 1000));
+      user.setEmail("user" + i + "@example.com");
+      user.setPhoneNumber(String.format("212%07d", i));
+      user.setRole(ROLES[random.nextInt(ROLES.length)]);
+      entityManager.persist(user);
+      userIds.add(user.getId());
+    });
+
+    List<GeneratedEvent> events = new ArrayList<>(eventCount);
+    inChunks(eventCount, i -> {
+      User host = entityManager.getReference(User.class, userIds.get(random.nextInt(userIds.size())));
+      LocalTime start = LocalTime.of(8 + random.nextInt(12), random.nextBoolean() ? 0 : 30);
+      Event event = new Event.Builder()
+          .setName("Event " + i)
+          .setDescription("Synthetic event " + i)
+          .setLocation("Hall " + random.nextInt(40))
+          .setDate(FIRST_DAY.plusDays(random.nextInt(DAYS)))
+          .setTime(start)
+          .setEndTime(start.plusHours(1 + random.nextInt(3)))
+          .setCapacity(CAPACITIES[random.nextInt(CAPACITIES.length)])
+          .setBudget(500 + random.nextInt(20) * 250)
+          .setHost(host)
+          .build();
+      List<EventImage> images = new ArrayList<>();
+      for (int image = random.nextInt(4); image > 0; image--) {
+        images.add(new EventImage("https://storage.googleapis.com/loadtest/event-" + i + "-" + image + ".jpg", event));
+      }
+      event.setImages(images);
+      entityManager.persist(event);
+      events.add(new GeneratedEvent(event.getId(), event.getDate(), event.getCapacity(), new ArrayList<>(),
+          new ArrayList<>()));
+    });
+
+    // Fill each event to 20-100% of its capacity with distinct users
+    List<Object[]> rsvps = new ArrayList<>();
+    for (GeneratedEvent event : events) {
+      int attendees = Math.min(userIds.size(), (int) (event.capacity() * (0.2 + 0.8 * random.nextDouble())));
+      Set<Long> chosen = new LinkedHashSet<>();
+      while (chosen.size() < attendees) {
+        chosen.add(userIds.get(random.nextInt(userIds.size())));
+      }
+      event.attendeeIds().addAll(chosen);
+      chosen.forEach(userId -> rsvps.add(new Object[] {event, userId}));
+    }
+    inChunks(rsvps.size(), i -> {
+      GeneratedEvent generated = (GeneratedEvent) rsvps.get(i)[0];
+      Event event = entityManager.getReference(Event.class, generated.id());
+      RSVP rsvp = new RSVP();
+      rsvp.setUser(entityManager.getReference(User.class, (Long) rsvps.get(i)[1]));
+      rsvp.setEvent(event);
+      rsvp.setStatus("ATTENDING");
+      rsvp.setEventRole(random.nextInt(20) == 0 ? "VOLUNTEER" : "PARTICIPANT");
+      entityManager.persist(rsvp);
+    });
+
+    // Zero to eight tasks per event
+    List<GeneratedEvent> taskEvents = new ArrayList<>();
+    for (GeneratedEvent event : events) {
+      for (int task = random.nextInt(9); task > 0; task--) {
+        taskEvents.add(event);
+      }
+    }
+    inChunks(taskEvents.size(), i -> {
+      GeneratedEvent generated = taskEvents.get(i);
+      Task task = new Task();
+      task.setName("Task " + i);
+      task.setDescription("Synthetic task " + i);
+      task.setStatus(TASK_STATUSES[random.nextInt(TASK_STATUSES.length)]);
+      task.setEvent(entityManager.getReference(Event.class, generated.id()));
+      // Every task needs an assignee; most go to someone attending the event
+      List<Long> assignees = generated.attendeeIds().isEmpty() || random.nextInt(10) >= 7
+          ? userIds : generated.attendeeIds();
+      task.setAssignedUser(entityManager.getReference(User.class, assignees.get(random.nextInt(assignees.size()))));
+      entityManager.persist(task);
+      generated.taskIds().add(task.getId());
+    });
+
+    eventRepository.recomputeCounters();
+    return new Dataset(userIds, events);
+  }
+
+  // Persists count rows, flushing and clearing the persistence context every CHUNK rows
+  private void inChunks(int count, IntConsumer row) {
+    for (int from = 0; from < count; from += CHUNK) {
+      int start = from;
+      int end = Math.min(count, from + CHUNK);
+      transactionTemplate.executeWithoutResult(status -> {
+        for (int i = start; i < end; i++) {
+          row.accept(i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+      });
+    }
+  }
+
+  /**
+   * An event as generated, with the users holding an RSVP to it and the IDs of its tasks.
+   */
+  public record GeneratedEvent(Long id, LocalDate date, int capacity, List<Long> attendeeIds, List<Long> taskIds) {
+  }
+
+  /**
+   * The IDs of a generated dataset.
+   */
+  public record Dataset(List<Long> userIds, List<GeneratedEvent> events) {
+  }
+}
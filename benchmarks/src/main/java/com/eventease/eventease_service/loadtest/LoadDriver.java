@@ -0,0 +1,148 @@
+package com.eventease.eventease_service.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replays a scenario's requests with a fixed number of concurrent clients, each sending its next
+ * request as soon as the previous one is answered, and reports latency percentiles and throughput
+ * per endpoint. 4xx answers are business outcomes (e.g. an RSVP overlapping another) and are
+ * counted separately from 5xx answers and transport failures, which are errors.
+ */
+public class LoadDriver {
+
+  private final HttpClient http = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(10))
+      .build();
+  private final int concurrency;
+
+  public LoadDriver(int concurrency) {
+    this.concurrency = concurrency;
+  }
+
+  /**
+   * Sends all requests and returns the statistics per endpoint, sorted by endpoint.
+   */
+  public Report run(List<LoadRequest> requests) throws InterruptedException {
+    Map<String, EndpointStats> stats = new TreeMap<>();
+    for (LoadRequest request : requests) {
+      stats.computeIfAbsent(request.endpoint(), endpoint -> new EndpointStats(endpoint));
+    }
+
+    AtomicInteger next = new AtomicInteger();
+    ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+    long start = System.nanoTime();
+    for (int client = 0; client < concurrency; client++) {
+      clients.execute(() -> {
+        int index;
+        while ((index = next.getAndIncrement()) < requests.size()) {
+          LoadRequest request = requests.get(index);
+          long sent = System.nanoTime();
+          int status;
+          try {
+            status = http.send(request.request(), HttpResponse.BodyHandlers.discarding()).statusCode();
+          } catch (Exception e) {
+            status = -1;
+          }
+          stats.get(request.endpoint()).record(status, System.nanoTime() - sent);
+        }
+      });
+    }
+    clients.shutdown();
+    clients.awaitTermination(1, TimeUnit.HOURS);
+    return new Report(new ArrayList<>(stats.values()), (System.nanoTime() - start) / 1e9);
+  }
+
+  /**
+   * The outcome of one scenario run.
+   */
+  public record Report(List<EndpointStats> endpoints, double seconds) {
+
+    public int errors() {
+      return endpoints.stream().mapToInt(EndpointStats::getErrors).sum();
+    }
+
+    public void print(String title) {
+      System.out.printf("%n== %s (%.1fs) ==%n", title, seconds);
+      System.out.printf("%-52s %7s %7s %7s %7s %9s %9s %9s %9s%n",
+          "endpoint", "count", "2xx", "4xx", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+      for (EndpointStats endpoint : endpoints) {
+        long[] sorted = endpoint.sortedLatencies();
+        System.out.printf("%-52s %7d %7d %7d %7d %9.1f %9.1f %9.1f %9.1f%n",
+            endpoint.getEndpoint(), sorted.length, endpoint.getSuccesses(), endpoint.getClientErrors(),
+            endpoint.getErrors(), sorted.length / seconds, percentile(sorted, 0.50), percentile(sorted, 0.99),
+            sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+      }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      return sorted[Math.max((int) Math.ceil(quantile * sorted.length) - 1, 0)] / 1e6;
+    }
+  }
+
+  /**
+   * Latencies and status classes recorded for one endpoint.
+   */
+  public static final class EndpointStats {
+    private final String endpoint;
+    private long[] latencies = new long[1024];
+    private int count;
+    private int successes;
+    private int clientErrors;
+    private int errors;
+
+    EndpointStats(String endpoint) {
+      this.endpoint = endpoint;
+    }
+
+    synchronized void record(int status, long latencyNanos) {
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = latencyNanos;
+      if (status >= 200 && status < 300) {
+        successes++;
+      } else if (status >= 400 && status < 500) {
+        clientErrors++;
+      } else {
+        errors++;
+      }
+    }
+
+    synchronized long[] sortedLatencies() {
+      long[] sorted = Arrays.copyOf(latencies, count);
+      Arrays.sort(sorted);
+      return sorted;
+    }
+
+    public String getEndpoint() {
+      return endpoint;
+    }
+
+    public synchronized int getSuccesses() {
+      return successes;
+    }
+
+    public synchronized int getClientErrors() {
+      return clientErrors;
+    }
+
+    public synchronized int getErrors() {
+      return errors;
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.eventease.eventease_service.loadtest;
+
+import java.net.http.HttpRequest;
+
+/**
+ * One scripted request, labelled with the endpoint template it is reported under.
+ */
+public record LoadRequest(String endpoint, HttpRequest request) {
+}
@@ -0,0 +1,83 @@
+package com.eventease.eventease_service.loadtest;
+
+import com.eventease.eventease_service.EventeaseServiceApplication;
+import com.eventease.eventease_service.loadtest.DataGenerator.Dataset;
+import com.eventease.eventease_service.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * End-to-end load test. Boots the full service on a random port against the embedded benchmark
+ * database with GCS, Twilio and SMTP stubbed, generates a synthetic dataset, then runs the chosen
+ * scenarios over HTTP one after the other and prints latency percentiles and throughput per endpoint.
+ * Exits with status 1 if any request failed with a 5xx or a transport error.
+ *
+ * <p>Options, all {@code --name=value}: {@code users} (default 5000), {@code events} (500),
+ * {@code seed} (42), {@code scenarios} (invitation-blast,check-in-rush,browse-day), {@code requests}
+ * per scenario (5000) and {@code concurrency} (64). Any other option is passed to Spring, e.g.
+ * {@code --loadtest.sms-latency-ms=200} or {@code --spring.profiles.active=bench,virtual-threads}.
+ */
+public final class LoadTest {
+
+  private LoadTest() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = new HashMap<>(Map.of(
+        "users", "5000",
+        "events", "500",
+        "seed", "42",
+        "scenarios", "invitation-blast,check-in-rush,browse-day",
+        "requests", "5000",
+        "concurrency", "64"));
+    List<String> springArgs = new ArrayList<>();
+    for (String arg : args) {
+      String[] option = arg.replaceFirst("^--", "").split("=", 2);
+      if (options.containsKey(option[0]) && option.length == 2) {
+        options.put(option[0], option[1]);
+      } else {
+        springArgs.add(arg);
+      }
+    }
+
+    int exitCode = 0;
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+        EventeaseServiceApplication.class, StubServicesConfig.class)
+        .profiles("bench")
+        .properties("server.port=0")
+        .run(springArgs.toArray(new String[0]))) {
+      String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+      long seed = Long.parseLong(options.get("seed"));
+
+      long started = System.nanoTime();
+      Dataset dataset = new DataGenerator(context.getBean(EntityManager.class),
+          new TransactionTemplate(context.getBean(PlatformTransactionManager.class)),
+          context.getBean(EventRepository.class))
+          .generate(seed, Integer.parseInt(options.get("users")), Integer.parseInt(options.get("events")));
+      System.out.printf("Generated %d users and %d events in %.1fs%n", dataset.userIds().size(),
+          dataset.events().size(), (System.nanoTime() - started) / 1e9);
+
+      LoadDriver driver = new LoadDriver(Integer.parseInt(options.get("concurrency")));
+      for (String id : options.get("scenarios").split(",")) {
+        Scenario scenario = Scenario.fromId(id.trim());
+        List<LoadRequest> requests = scenario.requests(baseUrl, dataset,
+            Integer.parseInt(options.get("requests")), new Random(seed + scenario.ordinal()));
+        LoadDriver.Report report = driver.run(requests);
+        report.print(scenario.getId() + ", " + requests.size() + " requests, "
+            + options.get("concurrency") + " clients");
+        if (report.errors() > 0) {
+          exitCode = 1;
+        }
+      }
+    }
+    System.exit(exitCode);
+  }
+}
@@ -0,0 +1,137 @@
+package com.eventease.eventease_service.loadtest;
+
+import com.eventease.eventease_service.loadtest.DataGenerator.Dataset;
+import com.eventease.eventease_service.loadtest.DataGenerator.GeneratedEvent;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * The scripted load scenarios. Each one turns a generated dataset into a deterministic, shuffled
+ * list of requests; the driver replays the list with a fixed number of concurrent clients.
+ */
+public enum Scenario {
+
+  /**
+   * Organizers of the five emptiest large events invite users who have not RSVPed yet by SMS, and
+   * 40% of the invitees accept through the one-click link.
+   */
+  INVITATION_BLAST("invitation-blast") {
+    @Override
+    List<LoadRequest> requests(String baseUrl, Dataset dataset, int size, Random random) {
+      List<GeneratedEvent> events = new ArrayList<>(dataset.events());
+      events.sort(Comparator.comparingInt((GeneratedEvent e) -> e.capacity() - e.attendeeIds().size()).reversed());
+      List<LoadRequest> requests = new ArrayList<>();
+      for (GeneratedEvent event : events.subList(0, Math.min(5, events.size()))) {
+        Set<Long> attending = new HashSet<>(event.attendeeIds());
+        for (int i = 0; i < size / 5; i++) {
+          Long userId = dataset.userIds().get(random.nextInt(dataset.userIds().size()));
+          if (!attending.add(userId)) {
+            continue;
+          }
+          requests.add(post(baseUrl, "POST /api/send-message", "/api/send-message",
+              "{\"userId\":\"" + userId + "\",\"eventId\":\"" + event.id() + "\"}"));
+          if (random.nextInt(10) < 4) {
+            requests.add(get(baseUrl, "GET /api/events/1c/{userId}/{eventId}",
+                "/api/events/1c/" + userId + "/" + event.id()));
+          }
+        }
+      }
+      Collections.shuffle(requests, random);
+      return requests;
+    }
+  },
+
+  /**
+   * Doors open at the three largest events: every attendee checks in, while staff dashboards
+   * reload the attendee list once per twenty check-ins.
+   */
+  CHECK_IN_RUSH("check-in-rush") {
+    @Override
+    List<LoadRequest> requests(String baseUrl, Dataset dataset, int size, Random random) {
+      List<GeneratedEvent> events = new ArrayList<>(dataset.events());
+      events.sort(Comparator.comparingInt((GeneratedEvent e) -> e.attendeeIds().size()).reversed());
+      List<LoadRequest> requests = new ArrayList<>();
+      for (GeneratedEvent event : events.subList(0, Math.min(3, events.size()))) {
+        for (Long userId : event.attendeeIds()) {
+          requests.add(post(baseUrl, "POST /api/events/{eventId}/rsvp/checkin/{userId}",
+              "/api/events/" + event.id() + "/rsvp/checkin/" + userId, ""));
+        }
+        for (int i = 0; i < event.attendeeIds().size() / 20; i++) {
+          requests.add(get(baseUrl, "GET /api/events/{eventId}/attendees", "/api/events/" + event.id() + "/attendees"));
+        }
+      }
+      Collections.shuffle(requests, random);
+      return requests.subList(0, Math.min(size, requests.size()));
+    }
+  },
+
+  /**
+   * A read-heavy day: event pages, weekly calendar searches, attendee lists, task boards, profiles
+   * and personal RSVP lists, weighted like a browsing session.
+   */
+  BROWSE_DAY("browse-day") {
+    @Override
+    List<LoadRequest> requests(String baseUrl, Dataset dataset, int size, Random random) {
+      List<LoadRequest> requests = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        GeneratedEvent event = dataset.events().get(random.nextInt(dataset.events().size()));
+        Long userId = dataset.userIds().get(random.nextInt(dataset.userIds().size()));
+        int pick = random.nextInt(100);
+        if (pick < 35) {
+          requests.add(get(baseUrl, "GET /api/events/{eventId}", "/api/events/" + event.id()));
+        } else if (pick < 55) {
+          requests.add(get(baseUrl, "GET /api/events?startDate&endDate",
+              "/api/events?startDate=" + event.date() + "&endDate=" + event.date().plusDays(6)));
+        } else if (pick < 70) {
+          requests.add(get(baseUrl, "GET /api/events/{eventId}/attendees", "/api/events/" + event.id() + "/attendees"));
+        } else if (pick < 85) {
+          requests.add(get(baseUrl, "GET /api/tasks/event/{eventId}/board", "/api/tasks/event/" + event.id() + "/board"));
+        } else if (pick < 95) {
+          requests.add(get(baseUrl, "GET /api/users/{id}", "/api/users/" + userId));
+        } else {
+          requests.add(get(baseUrl, "GET /api/events/rsvp/user/{userId}", "/api/events/rsvp/user/" + userId));
+        }
+      }
+      return requests;
+    }
+  };
+
+  private final String id;
+
+  Scenario(String id) {
+    this.id = id;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  abstract List<LoadRequest> requests(String baseUrl, Dataset dataset, int size, Random random);
+
+  public static Scenario fromId(String id) {
+    for (Scenario scenario : values()) {
+      if (scenario.id.equals(id)) {
+        return scenario;
+      }
+    }
+    throw new IllegalArgumentException("Unknown scenario: " + id);
+  }
+
+  private static LoadRequest get(String baseUrl, String endpoint, String path) {
+    return new LoadRequest(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build());
+  }
+
+  private static LoadRequest post(String baseUrl, String endpoint, String path, String json) {
+    return new LoadRequest(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(json))
+        .build());
+  }
+}
@@ -0,0 +1,65 @@
+package com.eventease.eventease_service.loadtest;
+
+import com.eventease.eventease_service.config.EmailConfig;
+import com.eventease.eventease_service.config.TwilioConfig;
+import com.eventease.eventease_service.service.EmailService;
+import com.eventease.eventease_service.service.ImageStorageService;
+import com.eventease.eventease_service.service.TwilioService;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Replaces GCS, Twilio and SMTP with stubs that only wait, for {@code loadtest.gcs-latency-ms},
+ * {@code loadtest.sms-latency-ms} and {@code loadtest.smtp-latency-ms} respectively, so requests
+ * spend about as long blocked on them as they do in production. Not annotated as a configuration,
+ * so component scanning leaves it out of the benchmark contexts; {@link LoadTest} registers it.
+ */
+public class StubServicesConfig {
+
+  @Bean
+  @Primary
+  public ImageStorageService stubImageStorageService(@Value("${loadtest.gcs-latency-ms:150}") long latencyMillis) {
+    return new ImageStorageService(null) {
+      @Override
+      public String save(MultipartFile file) {
+        pause(latencyMillis);
+        return "https://storage.googleapis.com/loadtest/" + UUID.randomUUID();
+      }
+    };
+  }
+
+  @Bean
+  @Primary
+  public TwilioService stubTwilioService(TwilioConfig twilioConfig,
+                                         @Value("${loadtest.sms-latency-ms:120}") long latencyMillis) {
+    return new TwilioService(twilioConfig) {
+      @Override
+      public void sendSms(String to, String messageBody) {
+        pause(latencyMillis);
+      }
+    };
+  }
+
+  @Bean
+  @Primary
+  public EmailService stubEmailService(EmailConfig emailConfig,
+                                       @Value("${loadtest.smtp-latency-ms:300}") long latencyMillis) {
+    return new EmailService(emailConfig) {
+      @Override
+      public void sendEmail(String to, String subject, String text) {
+        pause(latencyMillis);
+      }
+    };
+  }
+
+  private static void pause(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,4 @@
+package com.eventease.eventease_service.benchmark.jmh_generated;
+public class DomainEventBusBenchmark_jmhType extends DomainEventBusBenchmark_jmhType_B3 {
+}
+
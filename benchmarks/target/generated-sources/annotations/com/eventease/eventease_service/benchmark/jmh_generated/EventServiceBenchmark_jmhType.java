@@ -0,0 +1,4 @@
+package com.eventease.eventease_service.benchmark.jmh_generated;
+public class EventServiceBenchmark_jmhType extends EventServiceBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.eventease.eventease_service.benchmark.jmh_generated;
+public class LoggingBenchmark_jmhType extends LoggingBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.eventease.eventease_service.benchmark.jmh_generated;
+public class RSVPServiceBenchmark_jmhType extends RSVPServiceBenchmark_jmhType_B3 {
+}
+
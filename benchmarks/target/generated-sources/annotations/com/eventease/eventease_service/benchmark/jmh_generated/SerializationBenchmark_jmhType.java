@@ -0,0 +1,4 @@
+package com.eventease.eventease_service.benchmark.jmh_generated;
+public class SerializationBenchmark_jmhType extends SerializationBenchmark_jmhType_B3 {
+}
+
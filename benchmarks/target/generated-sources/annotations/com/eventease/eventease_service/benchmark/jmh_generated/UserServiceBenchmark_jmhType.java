@@ -0,0 +1,4 @@
+package com.eventease.eventease_service.benchmark.jmh_generated;
+public class UserServiceBenchmark_jmhType extends UserServiceBenchmark_jmhType_B3 {
+}
+
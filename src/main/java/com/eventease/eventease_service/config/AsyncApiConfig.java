@@ -0,0 +1,32 @@
+package com.eventease.eventease_service.config;
+
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Provides the executor behind the asynchronous API ({@code /api/async/**}), enabled with the
+ * {@code async-api} profile. Requests hand their blocking work to this bounded pool and release
+ * their container thread; once the pool and its queue are full, new work is rejected and answered
+ * with 503 instead of queueing without limit.
+ */
+@Configuration
+@Profile("async-api")
+public class AsyncApiConfig {
+
+  @Bean(name = "asyncApiExecutor")
+  public Executor asyncApiExecutor(@Value("${async-api.pool-size:32}") int poolSize,
+                                   @Value("${async-api.queue-capacity:2000}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("async-api-");
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.initialize();
+    return executor;
+  }
+}
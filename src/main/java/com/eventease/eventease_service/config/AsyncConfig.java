@@ -0,0 +1,40 @@
+package com.eventease.eventease_service.config;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables {@code @Async} methods, which run on Spring Boot's task executor
+ * (sized through the {@code spring.task.execution.pool.*} properties).
+ *
+ * <p>Boot only creates that executor while no other {@link java.util.concurrent.Executor} bean
+ * exists, and the outbound and async API executors are such beans, so it is declared here the same
+ * way Boot would: virtual threads capped by {@code spring.task.execution.simple.concurrency-limit}
+ * in virtual-thread mode, the configured pool otherwise. Spring MVC also runs streamed responses
+ * and SSE on it.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+  @Lazy
+  @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+      AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+  public AsyncTaskExecutor applicationTaskExecutor(Environment environment,
+                                                   ThreadPoolTaskExecutorBuilder poolBuilder,
+                                                   SimpleAsyncTaskExecutorBuilder virtualBuilder) {
+    if (Threading.VIRTUAL.isActive(environment)) {
+      return virtualBuilder.build();
+    }
+    return poolBuilder.build();
+  }
+}
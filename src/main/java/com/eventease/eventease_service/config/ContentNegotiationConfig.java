@@ -0,0 +1,28 @@
+package com.eventease.eventease_service.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Serves every endpoint as Smile (binary JSON) to clients that send
+ * {@code Accept: application/x-jackson-smile}; JSON stays the default. The Smile mapper gets the
+ * same {@code spring.jackson.*} customizations as the JSON one, so both encodings carry the same
+ * fields and date formats. Response compression is configured through {@code server.compression.*}.
+ */
+@Configuration
+public class ContentNegotiationConfig {
+
+  // Replaces Spring MVC's default Smile converter, which would not see Boot's Jackson settings
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      ObjectProvider<Jackson2ObjectMapperBuilderCustomizer> customizers, ApplicationContext applicationContext) {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.smile().applicationContext(applicationContext);
+    customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+    return new MappingJackson2SmileHttpMessageConverter(builder.build());
+  }
+}
@@ -27,6 +27,9 @@ public class EmailConfig {
     @Value("${spring.mail.password}")
     private String mailPassword;
 
+    @Value("${mail.debug:false}")
+    private boolean mailDebug;
+
     @Bean
     public JavaMailSender getJavaMailSender() {
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
@@ -45,7 +48,7 @@ public class EmailConfig {
         props.put("mail.smtp.starttls.required", "true");
         props.put("mail.smtp.timeout", "5000");
         props.put("mail.smtp.connectiontimeout", "5000");
-        props.put("mail.debug", "true");
+        props.put("mail.debug", String.valueOf(mailDebug));
 
         return mailSender;
     }
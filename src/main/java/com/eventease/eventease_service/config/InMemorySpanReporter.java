@@ -0,0 +1,83 @@
+package com.eventease.eventease_service.config;
+
+import io.micrometer.tracing.exporter.FinishedSpan;
+import io.micrometer.tracing.exporter.SpanReporter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the most recently finished spans in memory for local analysis, enabled with the
+ * {@code local-tracing} profile. Spans are written into a fixed ring that overwrites the oldest
+ * entry, so reporting never blocks or allocates beyond one record per span, and readers take a
+ * snapshot without stopping the exporter thread.
+ */
+@Component
+@Profile("local-tracing")
+public class InMemorySpanReporter implements SpanReporter {
+
+  private final AtomicReferenceArray<RecordedSpan> ring;
+  private final AtomicLong written = new AtomicLong();
+
+  public InMemorySpanReporter(@Value("${tracing.in-memory.capacity:10000}") int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.ring = new AtomicReferenceArray<>(capacity);
+  }
+
+  @Override
+  public void report(FinishedSpan span) {
+    RecordedSpan recorded = new RecordedSpan(span.getTraceId(), span.getSpanId(), span.getParentId(),
+        span.getName(), span.getStartTimestamp(),
+        Duration.between(span.getStartTimestamp(), span.getEndTimestamp()),
+        Map.copyOf(span.getTags()), span.getError() == null ? null : span.getError().toString());
+    long slot = written.getAndIncrement();
+    ring.set((int) (slot % ring.length()), recorded);
+  }
+
+  /**
+   * Returns the retained spans of one trace, ordered by start time.
+   */
+  public List<RecordedSpan> getTrace(String traceId) {
+    List<RecordedSpan> spans = new ArrayList<>();
+    for (RecordedSpan span : snapshot()) {
+      if (span.traceId().equals(traceId)) {
+        spans.add(span);
+      }
+    }
+    spans.sort(Comparator.comparing(RecordedSpan::start));
+    return spans;
+  }
+
+  /**
+   * Returns every retained span, oldest first.
+   */
+  public List<RecordedSpan> snapshot() {
+    long end = written.get();
+    long start = Math.max(0, end - ring.length());
+    List<RecordedSpan> spans = new ArrayList<>((int) (end - start));
+    for (long slot = start; slot < end; slot++) {
+      RecordedSpan span = ring.get((int) (slot % ring.length()));
+      if (span != null) {
+        spans.add(span);
+      }
+    }
+    return spans;
+  }
+
+  /**
+   * A finished span as retained in memory; {@code parentId} is null for a trace's root span.
+   */
+  public record RecordedSpan(String traceId, String spanId, String parentId, String name, Instant start,
+                             Duration duration, Map<String, String> tags, String error) {
+  }
+}
@@ -0,0 +1,58 @@
+package com.eventease.eventease_service.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Marker;
+
+/**
+ * Samples the high-volume categories listed in {@code logging.sampling.loggers}: of their enabled
+ * messages below WARN only one in {@code logging.sampling.rate} is logged, counted per logger.
+ * It runs as a turbo filter, before a logging event is even created, so a dropped message costs a
+ * counter increment. Warnings and errors are never sampled.
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+  private List<String> loggerPrefixes = List.of();
+  private int rate = 1;
+  private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+  /**
+   * Sets the sampled categories as a comma-separated list of logger name prefixes.
+   */
+  public void setLoggers(String loggers) {
+    this.loggerPrefixes = Arrays.stream(loggers.split(","))
+        .map(String::trim)
+        .filter(prefix -> !prefix.isEmpty())
+        .toList();
+  }
+
+  public void setRate(int rate) {
+    this.rate = Math.max(rate, 1);
+  }
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    if (rate == 1 || level == null || level.isGreaterOrEqual(Level.WARN)
+        || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !isSampled(logger.getName())) {
+      return FilterReply.NEUTRAL;
+    }
+    long seen = counters.computeIfAbsent(logger.getName(), name -> new AtomicLong()).getAndIncrement();
+    return seen % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+  }
+
+  private boolean isSampled(String loggerName) {
+    for (String prefix : loggerPrefixes) {
+      if (loggerName.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,39 @@
+package com.eventease.eventease_service.config;
+
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Provides the executor that fans out blocking calls to external services (e.g. image uploads to
+ * Google Cloud Storage) from within a request. With {@code spring.threads.virtual.enabled} on Java
+ * 21+ every call gets its own virtual thread, capped by {@code outbound.max-concurrency}; otherwise
+ * a bounded pool of {@code outbound.pool-size} platform threads runs them.
+ */
+@Configuration
+public class OutboundIoConfig {
+
+  @Bean(name = "outboundIoExecutor")
+  public Executor outboundIoExecutor(Environment environment,
+                                     @Value("${outbound.max-concurrency:64}") int maxConcurrency,
+                                     @Value("${outbound.pool-size:8}") int poolSize) {
+    if (Threading.VIRTUAL.isActive(environment)) {
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("outbound-io-");
+      executor.setVirtualThreads(true);
+      executor.setConcurrencyLimit(maxConcurrency);
+      return executor;
+    }
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("outbound-io-");
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.initialize();
+    return executor;
+  }
+}
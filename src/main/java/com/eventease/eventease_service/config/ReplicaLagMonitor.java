@@ -0,0 +1,83 @@
+package com.eventease.eventease_service.config;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Measures each replica's replication lag with a heartbeat row: the primary stamps
+ * {@code replica_heartbeat} with its clock on every check, and a replica's lag is how old the stamp
+ * it has received is. A replica serves reads only while its lag is within {@code max-lag-ms} (plus
+ * one check interval, the age of the newest stamp) and its check succeeds; otherwise
+ * {@link ReplicaRoutingDataSource} sends its reads to the primary until it catches up.
+ */
+public class ReplicaLagMonitor {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+  private final JdbcTemplate primary;
+  private final ReplicaRoutingDataSource routingDataSource;
+  private final long maxLagMillis;
+  // A lock rather than a monitor, so a virtual scheduler thread waiting on a replica does not pin its carrier
+  private final ReentrantLock checkLock = new ReentrantLock();
+  private boolean heartbeatTableCreated;
+
+  public ReplicaLagMonitor(DataSource primary, ReplicaRoutingDataSource routingDataSource,
+                           long maxLagMillis, long checkIntervalMillis) {
+    this.primary = new JdbcTemplate(primary);
+    this.routingDataSource = routingDataSource;
+    this.maxLagMillis = maxLagMillis + checkIntervalMillis;
+  }
+
+  @Scheduled(fixedDelayString = "${datasource.replica.check-interval-ms:1000}")
+  public void check() {
+    checkLock.lock();
+    try {
+      checkLocked();
+    } finally {
+      checkLock.unlock();
+    }
+  }
+
+  private void checkLocked() {
+    try {
+      if (!heartbeatTableCreated) {
+        primary.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat "
+            + "(id TINYINT PRIMARY KEY, beat_at DATETIME(6) NOT NULL)");
+        heartbeatTableCreated = true;
+      }
+      primary.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, UTC_TIMESTAMP(6)) "
+          + "ON DUPLICATE KEY UPDATE beat_at = VALUES(beat_at)");
+    } catch (DataAccessException e) {
+      logger.warn("Failed to write the replication heartbeat", e);
+    }
+    for (Map.Entry<String, DataSource> replica : routingDataSource.getReplicas().entrySet()) {
+      boolean wasHealthy = routingDataSource.getHealthyReplicas().contains(replica.getKey());
+      Long lagMillis = lagMillis(replica.getValue());
+      boolean healthy = lagMillis != null && lagMillis <= maxLagMillis;
+      routingDataSource.setHealthy(replica.getKey(), healthy);
+      if (healthy != wasHealthy) {
+        logger.warn("Replica {} {} (lag {} ms)", replica.getKey(),
+            healthy ? "is serving reads again" : "stopped serving reads", lagMillis == null ? "unknown" : lagMillis);
+      }
+    }
+  }
+
+  // Null when the lag cannot be measured: the replica is down or has no heartbeat yet
+  private Long lagMillis(DataSource replica) {
+    try {
+      Long lagMicros = new JdbcTemplate(replica).queryForObject(
+          "SELECT TIMESTAMPDIFF(MICROSECOND, beat_at, UTC_TIMESTAMP(6)) FROM replica_heartbeat WHERE id = 1",
+          Long.class);
+      return lagMicros == null ? null : Math.max(lagMicros / 1000, 0);
+    } catch (DataAccessException e) {
+      logger.debug("Replication lag check failed", e);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.eventease.eventease_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Sends read-only transactions to MySQL replicas, enabled with the {@code read-replicas} profile.
+ * The primary pool is configured from {@code spring.datasource.*} as usual, or is split into the
+ * workload pools when {@code workload-pools} is also active; each URL in
+ * {@code datasource.replica.urls} gets its own pool with the primary's credentials unless
+ * {@code datasource.replica.username} and {@code password} are set.
+ */
+@Configuration
+@Profile("read-replicas")
+public class ReplicaRoutingConfig {
+
+  @Bean
+  @Profile("!workload-pools")
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+      DataSourceProperties properties,
+      @Value("${datasource.replica.urls}") String urls,
+      @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+      @Value("${datasource.replica.password:${spring.datasource.password}}") String password,
+      @Value("${datasource.replica.pool-size:10}") int poolSize,
+      @Value("${spring.datasource.hikari.connection-timeout:30000}") long connectionTimeout) {
+    List<String> replicaUrls = Arrays.stream(urls.split(",")).map(String::trim).filter(url -> !url.isEmpty()).toList();
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    for (int i = 0; i < replicaUrls.size(); i++) {
+      HikariDataSource replica = new HikariDataSource();
+      replica.setPoolName("replica-" + i);
+      replica.setJdbcUrl(replicaUrls.get(i));
+      replica.setUsername(username);
+      replica.setPassword(password);
+      replica.setDriverClassName(properties.determineDriverClassName());
+      replica.setMaximumPoolSize(poolSize);
+      replica.setConnectionTimeout(connectionTimeout);
+      replicas.put(replica.getPoolName(), replica);
+    }
+    return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+  }
+
+  /**
+   * The data source used by JPA and JdbcTemplate. The lazy proxy defers fetching a connection until
+   * the first statement, when the transaction's read-only flag is known.
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                             ReplicaRoutingDataSource replicaRoutingDataSource,
+                                             @Value("${datasource.replica.max-lag-ms:2000}") long maxLagMillis,
+                                             @Value("${datasource.replica.check-interval-ms:1000}") long checkIntervalMillis) {
+    return new ReplicaLagMonitor(primaryDataSource, replicaRoutingDataSource, maxLagMillis, checkIntervalMillis);
+  }
+}
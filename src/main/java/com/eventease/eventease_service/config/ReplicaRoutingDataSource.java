@@ -0,0 +1,100 @@
+package com.eventease.eventease_service.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Routes read-only transactions to the replicas that are currently within the allowed replication
+ * lag, round-robin, and everything else to the primary. Once a request has run a write transaction,
+ * its later reads stay on the primary so the request always sees its own writes. When no replica
+ * is healthy, reads fall back to the primary.
+ *
+ * <p>The decision reads the current transaction's flags, so this data source must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which only fetches a
+ * connection once the transaction has started.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  static final String PRIMARY = "primary";
+  static final String STICKY_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".STICKY";
+
+  private final Map<String, DataSource> replicas;
+  private final AtomicInteger next = new AtomicInteger();
+  private volatile List<String> healthyReplicas = List.of();
+
+  /**
+   * @param primary the data source for writes and for reads that cannot use a replica
+   * @param replicas the replica data sources by name; none is used until it is marked healthy
+   */
+  public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+    this.replicas = new LinkedHashMap<>(replicas);
+    Map<Object, Object> targets = new HashMap<>(replicas);
+    targets.put(PRIMARY, primary);
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  public Map<String, DataSource> getReplicas() {
+    return replicas;
+  }
+
+  public List<String> getHealthyReplicas() {
+    return healthyReplicas;
+  }
+
+  /**
+   * Marks a replica as usable for reads or not, e.g. after a replication lag check.
+   */
+  public synchronized void setHealthy(String replica, boolean healthy) {
+    if (healthyReplicas.contains(replica) == healthy || !replicas.containsKey(replica)) {
+      return;
+    }
+    List<String> updated = new ArrayList<>(healthyReplicas);
+    if (healthy) {
+      updated.add(replica);
+    } else {
+      updated.remove(replica);
+    }
+    healthyReplicas = List.copyOf(updated);
+  }
+
+  /**
+   * Closes the replica pools; the primary is closed by its own bean.
+   */
+  public void close() throws Exception {
+    for (DataSource replica : replicas.values()) {
+      if (replica instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    RequestAttributes request = RequestContextHolder.getRequestAttributes();
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if (request != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+        request.setAttribute(STICKY_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+      }
+      return PRIMARY;
+    }
+    if (request != null && request.getAttribute(STICKY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+      return PRIMARY;
+    }
+    List<String> candidates = healthyReplicas;
+    if (candidates.isEmpty()) {
+      return PRIMARY;
+    }
+    return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+  }
+}
@@ -0,0 +1,51 @@
+package com.eventease.eventease_service.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens a {@code repository.calls} observation around every Spring Data repository method, so each
+ * query shows up as a child span of the request that issued it. The span is named after the
+ * repository interface and method; its timer is disabled in {@code application.properties} because
+ * {@code spring.data.repository.invocations} already measures the same calls.
+ */
+@Aspect
+@Component
+public class RepositoryObservationAspect {
+
+  static final String NAME = "repository.calls";
+
+  private final ObservationRegistry observationRegistry;
+  private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+  public RepositoryObservationAspect(ObservationRegistry observationRegistry) {
+    this.observationRegistry = observationRegistry;
+  }
+
+  @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+  public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+    if (observationRegistry.isNoop()) {
+      return joinPoint.proceed();
+    }
+    Object target = joinPoint.getTarget();
+    String repository = repositoryNames.computeIfAbsent(target.getClass(), type -> repositoryName(target));
+    String method = joinPoint.getSignature().getName();
+    return Observation.createNotStarted(NAME, observationRegistry)
+        .contextualName(repository + "#" + method)
+        .lowCardinalityKeyValue("repository", repository)
+        .lowCardinalityKeyValue("method", method)
+        .observeChecked(() -> joinPoint.proceed());
+  }
+
+  private static String repositoryName(Object target) {
+    Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(target);
+    return interfaces.length > 0 ? interfaces[0].getSimpleName() : target.getClass().getSimpleName();
+  }
+}
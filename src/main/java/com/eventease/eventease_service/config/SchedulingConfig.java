@@ -0,0 +1,12 @@
+package com.eventease.eventease_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the background jobs declared with {@code @Scheduled}, such as the event counter flush.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
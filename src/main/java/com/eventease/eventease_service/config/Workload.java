@@ -0,0 +1,30 @@
+package com.eventease.eventease_service.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Selects the connection pool a service method's database work runs on when the
+ * {@code workload-pools} profile is active. The outermost annotated call decides, and only if no
+ * transaction is open yet: work that joins a caller's transaction keeps the caller's connection.
+ * Unannotated work runs on the {@link Type#TRANSACTIONAL} pool.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Workload {
+
+  Type value();
+
+  enum Type {
+    /** Short read-write transactions such as RSVP creation; the default pool. */
+    TRANSACTIONAL,
+    /** Single-row lookups by key; a small pool that fails fast instead of queueing. */
+    HOT_READ,
+    /** Listings, reports and long transactions, kept away from the other two. */
+    BULK
+  }
+}
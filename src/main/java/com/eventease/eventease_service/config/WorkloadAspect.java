@@ -0,0 +1,48 @@
+package com.eventease.eventease_service.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Binds the {@link Workload} of an annotated service method for the duration of the call. It runs
+ * outside the transaction interceptor, so a method's own transaction already sees its workload,
+ * while a call made from within a running transaction or an outer workload leaves both alone.
+ */
+@Aspect
+@Component
+@Profile("workload-pools")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadAspect {
+
+  @Around("@annotation(com.eventease.eventease_service.config.Workload) "
+      + "|| @within(com.eventease.eventease_service.config.Workload)")
+  public Object bindWorkload(ProceedingJoinPoint joinPoint) throws Throwable {
+    Workload.Type previous = WorkloadRoutingDataSource.currentWorkload();
+    if (previous != null || TransactionSynchronizationManager.isActualTransactionActive()) {
+      return joinPoint.proceed();
+    }
+    WorkloadRoutingDataSource.bind(workloadOf(joinPoint));
+    try {
+      return joinPoint.proceed();
+    } finally {
+      WorkloadRoutingDataSource.bind(null);
+    }
+  }
+
+  private static Workload.Type workloadOf(ProceedingJoinPoint joinPoint) {
+    MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+    Workload workload = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), Workload.class);
+    if (workload == null) {
+      workload = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Workload.class);
+    }
+    return workload != null ? workload.value() : Workload.Type.TRANSACTIONAL;
+  }
+}
@@ -0,0 +1,94 @@
+package com.eventease.eventease_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Splits the connections to the primary database into one pool per {@link Workload}, enabled with
+ * the {@code workload-pools} profile, so that slow listings and long transactions cannot take the
+ * connections RSVP writes need. Each pool is sized and timed out under
+ * {@code datasource.pools.<transactional|hot-read|bulk>} and publishes the usual
+ * {@code hikaricp.connections.*} metrics tagged with its pool name. With {@code read-replicas}
+ * also active, the pools serve everything that is not sent to a replica.
+ */
+@Configuration
+@Profile("workload-pools")
+public class WorkloadPoolConfig {
+
+  @Bean
+  public HikariDataSource transactionalPool(DataSourceProperties properties, Environment environment) {
+    return pool("transactional", properties, environment);
+  }
+
+  @Bean
+  public HikariDataSource hotReadPool(DataSourceProperties properties, Environment environment) {
+    return pool("hot-read", properties, environment);
+  }
+
+  @Bean
+  public HikariDataSource bulkPool(DataSourceProperties properties, Environment environment) {
+    return pool("bulk", properties, environment);
+  }
+
+  @Bean(name = {"workloadRoutingDataSource", "primaryDataSource"})
+  public WorkloadRoutingDataSource workloadRoutingDataSource(
+      @Qualifier("transactionalPool") HikariDataSource transactionalPool,
+      @Qualifier("hotReadPool") HikariDataSource hotReadPool,
+      @Qualifier("bulkPool") HikariDataSource bulkPool) {
+    return new WorkloadRoutingDataSource(Map.of(
+        Workload.Type.TRANSACTIONAL, transactionalPool,
+        Workload.Type.HOT_READ, hotReadPool,
+        Workload.Type.BULK, bulkPool));
+  }
+
+  /**
+   * The data source used by JPA and JdbcTemplate when replicas are not in use. The lazy proxy
+   * defers fetching a connection until the first statement, after the workload has been bound.
+   */
+  @Bean
+  @Primary
+  @Profile("!read-replicas")
+  public DataSource dataSource(WorkloadRoutingDataSource workloadRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(workloadRoutingDataSource);
+  }
+
+  @Bean
+  public WorkloadPoolSizer workloadPoolSizer(@Qualifier("transactionalPool") HikariDataSource transactionalPool,
+                                             @Qualifier("hotReadPool") HikariDataSource hotReadPool,
+                                             @Qualifier("bulkPool") HikariDataSource bulkPool,
+                                             @Value("${datasource.pools.total-max-size:40}") int totalMaxSize,
+                                             @Value("${datasource.pools.resize-step:2}") int step,
+                                             @Value("${datasource.pools.shrink-after-checks:12}") int shrinkAfterChecks) {
+    Map<Workload.Type, HikariDataSource> pools = new EnumMap<>(Workload.Type.class);
+    pools.put(Workload.Type.TRANSACTIONAL, transactionalPool);
+    pools.put(Workload.Type.HOT_READ, hotReadPool);
+    pools.put(Workload.Type.BULK, bulkPool);
+    return new WorkloadPoolSizer(pools, totalMaxSize, step, shrinkAfterChecks);
+  }
+
+  private static HikariDataSource pool(String name, DataSourceProperties properties, Environment environment) {
+    String prefix = "datasource.pools." + name + ".";
+    HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    pool.setPoolName(name);
+    pool.setMaximumPoolSize(environment.getProperty(prefix + "max-size", Integer.class, 10));
+    pool.setMinimumIdle(environment.getProperty(prefix + "min-idle", Integer.class, 2));
+    pool.setConnectionTimeout(environment.getProperty(prefix + "connection-timeout-ms", Long.class, 30000L));
+    Binder.get(environment)
+        .bind("spring.datasource.hikari.data-source-properties", Bindable.mapOf(String.class, String.class))
+        .ifBound(dataSourceProperties -> dataSourceProperties.forEach(pool::addDataSourceProperty));
+    return pool;
+  }
+}
@@ -0,0 +1,79 @@
+package com.eventease.eventease_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.util.EnumMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Resizes the workload pools to their demand within a shared connection budget. A pool that had
+ * threads waiting for a connection grows by one step, as long as the pools together stay within
+ * {@code datasource.pools.total-max-size}; a pool that stayed under half busy for
+ * {@code shrink-after-checks} checks in a row shrinks by one step, never below its configured size.
+ * Connections given up by one workload thereby become available to the others.
+ */
+public class WorkloadPoolSizer {
+
+  private static final Logger logger = LoggerFactory.getLogger(WorkloadPoolSizer.class);
+
+  private final Map<Workload.Type, HikariDataSource> pools;
+  private final Map<Workload.Type, Integer> floors = new EnumMap<>(Workload.Type.class);
+  private final Map<Workload.Type, Integer> idleChecks = new EnumMap<>(Workload.Type.class);
+  private final int totalMaxSize;
+  private final int step;
+  private final int shrinkAfterChecks;
+
+  public WorkloadPoolSizer(Map<Workload.Type, HikariDataSource> pools, int totalMaxSize, int step,
+                           int shrinkAfterChecks) {
+    this.pools = new EnumMap<>(pools);
+    this.totalMaxSize = totalMaxSize;
+    this.step = step;
+    this.shrinkAfterChecks = shrinkAfterChecks;
+    pools.forEach((workload, pool) -> {
+      floors.put(workload, pool.getMaximumPoolSize());
+      idleChecks.put(workload, 0);
+    });
+  }
+
+  @Scheduled(fixedDelayString = "${datasource.pools.resize-interval-ms:5000}")
+  public synchronized void resize() {
+    int total = 0;
+    for (HikariDataSource pool : pools.values()) {
+      total += pool.getMaximumPoolSize();
+    }
+    for (Map.Entry<Workload.Type, HikariDataSource> entry : pools.entrySet()) {
+      Workload.Type workload = entry.getKey();
+      HikariDataSource pool = entry.getValue();
+      HikariPoolMXBean usage = pool.getHikariPoolMXBean();
+      if (usage == null) {
+        continue;
+      }
+      int size = pool.getMaximumPoolSize();
+
+      if (usage.getThreadsAwaitingConnection() > 0) {
+        idleChecks.put(workload, 0);
+        int grown = Math.min(size + step, size + totalMaxSize - total);
+        if (grown > size) {
+          pool.setMaximumPoolSize(grown);
+          total += grown - size;
+          logger.info("Grew {} pool to {} connections ({} threads waiting)", workload, grown,
+              usage.getThreadsAwaitingConnection());
+        }
+      } else if (usage.getActiveConnections() * 2 < size && size > floors.get(workload)) {
+        int checks = idleChecks.merge(workload, 1, Integer::sum);
+        if (checks >= shrinkAfterChecks) {
+          int shrunk = Math.max(size - step, floors.get(workload));
+          pool.setMaximumPoolSize(shrunk);
+          total -= size - shrunk;
+          idleChecks.put(workload, 0);
+          logger.info("Shrank {} pool to {} connections", workload, shrunk);
+        }
+      } else {
+        idleChecks.put(workload, 0);
+      }
+    }
+  }
+}
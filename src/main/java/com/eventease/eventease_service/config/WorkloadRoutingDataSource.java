@@ -0,0 +1,46 @@
+package com.eventease.eventease_service.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Routes each connection request to the pool of the {@link Workload} bound to the current thread,
+ * or to the {@link Workload.Type#TRANSACTIONAL} pool when none is. Like the replica router it must
+ * sit behind a lazy connection proxy, so that the workload is bound before a connection is taken.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+  private static final ThreadLocal<Workload.Type> CURRENT = new ThreadLocal<>();
+
+  public WorkloadRoutingDataSource(Map<Workload.Type, DataSource> pools) {
+    setTargetDataSources(new HashMap<>(pools));
+    setDefaultTargetDataSource(pools.get(Workload.Type.TRANSACTIONAL));
+    afterPropertiesSet();
+  }
+
+  /**
+   * Returns the workload bound to the current thread, or null if none is.
+   */
+  public static Workload.Type currentWorkload() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Binds a workload to the current thread; pass the previous value back to restore it.
+   */
+  static void bind(Workload.Type workload) {
+    if (workload == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(workload);
+    }
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    Workload.Type workload = CURRENT.get();
+    return workload != null ? workload : Workload.Type.TRANSACTIONAL;
+  }
+}
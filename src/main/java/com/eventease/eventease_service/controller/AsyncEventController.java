@@ -0,0 +1,244 @@
+package com.eventease.eventease_service.controller;
+
+import com.eventease.eventease_service.exception.EventFullException;
+import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.exception.RSVPExistsException;
+import com.eventease.eventease_service.exception.RSVPOverlapException;
+import com.eventease.eventease_service.exception.UserNotExistException;
+import com.eventease.eventease_service.model.AttendeeSummary;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.RSVP;
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.service.EventService;
+import com.eventease.eventease_service.service.RSVPService;
+import com.eventease.eventease_service.service.ResourceValidator;
+import com.eventease.eventease_service.service.ResourceVersionService;
+import com.eventease.eventease_service.service.UserService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Asynchronous variants of the highest-traffic event and RSVP endpoints, enabled with the
+ * {@code async-api} profile and served under {@code /api/async/events} next to the regular ones.
+ * The container thread is released while the work runs on the bounded async API executor, and the
+ * responses are the same as those of {@link EventController} and {@link RSVPController}. Anything
+ * that needs the request, such as conditional request handling, is done on the container thread
+ * before the work is handed off. When the executor is saturated a request is answered with 503
+ * right away.
+ */
+@RestController
+@RequestMapping("/api/async/events")
+@Profile("async-api")
+public class AsyncEventController {
+
+  private final EventService eventService;
+  private final RSVPService rsvpService;
+  private final UserService userService;
+  private final ResourceVersionService resourceVersionService;
+  private final ObjectMapper objectMapper;
+  private final Executor asyncApiExecutor;
+  private final int attendeePageSize;
+
+  @Autowired
+  public AsyncEventController(EventService eventService,
+                              RSVPService rsvpService,
+                              UserService userService,
+                              ResourceVersionService resourceVersionService,
+                              ObjectMapper objectMapper,
+                              @Qualifier("asyncApiExecutor") Executor asyncApiExecutor,
+                              @Value("${async-api.attendee-page-size:500}") int attendeePageSize) {
+    this.eventService = eventService;
+    this.rsvpService = rsvpService;
+    this.userService = userService;
+    this.resourceVersionService = resourceVersionService;
+    this.objectMapper = objectMapper;
+    this.asyncApiExecutor = asyncApiExecutor;
+    this.attendeePageSize = attendeePageSize;
+  }
+
+  /**
+   * Asynchronous {@code GET /api/events/{eventId}}. The conditional request is checked against the
+   * cached validator on the container thread, so a 304 never reaches the executor.
+   */
+  @GetMapping("/{eventId}")
+  public CompletableFuture<ResponseEntity<Map<String, Object>>> getEventById(@PathVariable Long eventId,
+                                                                             WebRequest webRequest) {
+    ResourceValidator validator = resourceVersionService.eventValidator(eventId);
+    if (validator != null && webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return CompletableFuture.supplyAsync(() -> findEvent(eventId), asyncApiExecutor);
+  }
+
+  /**
+   * Asynchronous {@code POST /api/events/{eventId}/rsvp/{userId}}.
+   */
+  @PostMapping("/{eventId}/rsvp/{userId}")
+  public CompletableFuture<ResponseEntity<?>> createRSVP(@PathVariable String eventId, @PathVariable String userId,
+                                                         @RequestBody RSVP rsvp) {
+    return CompletableFuture.supplyAsync(() -> rsvp(eventId, userId, rsvp), asyncApiExecutor);
+  }
+
+  /**
+   * Asynchronous one-click RSVP ({@code GET /api/events/1c/{userId}/{eventId}}).
+   */
+  @GetMapping("/1c/{userId}/{eventId}")
+  public CompletableFuture<ResponseEntity<?>> oneClickRsvp(@PathVariable String userId, @PathVariable String eventId) {
+    return CompletableFuture.supplyAsync(() -> acceptInvitation(userId, eventId), asyncApiExecutor);
+  }
+
+  /**
+   * Streams an event's attendees in the same shape as {@code GET /api/events/{eventId}/attendees/stream}.
+   * Lean attendee rows are read one keyset page at a time and each page is flushed before the next
+   * one is read, so a slow client holds back the database reads instead of the listing piling up
+   * in memory. Archived events are streamed from the archive.
+   */
+  @GetMapping("/{eventId}/attendees")
+  public ResponseEntity<?> streamAttendees(@PathVariable Long eventId) {
+    boolean archived;
+    try {
+      archived = isArchived(eventId);
+    } catch (EventNotExistException e) {
+      Map<String, Object> response = new HashMap<>();
+      response.put("success", false);
+      response.put("data", Collections.emptyList());
+      response.put("message", e.getMessage());
+      return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+    StreamingResponseBody body = out -> writeAttendees(eventId, archived, out);
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+  }
+
+  @ExceptionHandler(RejectedExecutionException.class)
+  public ResponseEntity<Map<String, Object>> handleSaturation(RejectedExecutionException e) {
+    Map<String, Object> response = new HashMap<>();
+    response.put("success", false);
+    response.put("data", Collections.emptyList());
+    response.put("message", "Server is busy, please retry");
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").body(response);
+  }
+
+  private ResponseEntity<Map<String, Object>> findEvent(Long eventId) {
+    Map<String, Object> response = new HashMap<>();
+    try {
+      Event event;
+      try {
+        event = eventService.findById(eventId);
+      } catch (EventNotExistException e) {
+        event = eventService.findArchivedById(eventId);
+        if (event == null) {
+          throw e;
+        }
+      }
+      response.put("success", true);
+      response.put("data", List.of(event));
+      return ResponseEntity.ok(response);
+    } catch (EventNotExistException e) {
+      response.put("success", false);
+      response.put("data", Collections.emptyList());
+      response.put("message", "Event not found");
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    } catch (Exception e) {
+      response.put("success", false);
+      response.put("data", Collections.emptyList());
+      response.put("message", "An unexpected error occurred");
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+    }
+  }
+
+  private ResponseEntity<?> rsvp(String eventId, String userId, RSVP rsvp) {
+    Map<String, Object> response = new HashMap<>();
+    try {
+      RSVP createdRSVP = rsvpService.createRSVP(eventId, userId, rsvp);
+      response.put("success", true);
+      response.put("data", List.of(createdRSVP));
+      return new ResponseEntity<>(response, HttpStatus.CREATED);
+    } catch (EventNotExistException | UserNotExistException error) {
+      return new ResponseEntity<>(error.getMessage(), HttpStatus.NOT_FOUND);
+    } catch (RSVPExistsException | RSVPOverlapException | EventFullException error) {
+      response.put("success", false);
+      response.put("data", new ArrayList<>());
+      response.put("message", error.getMessage());
+      return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+  }
+
+  private ResponseEntity<?> acceptInvitation(String userId, String eventId) {
+    Event event = eventService.findById(Long.parseLong(eventId));
+    User user = userService.findUserById(Long.parseLong(userId));
+
+    RSVP rsvp = new RSVP();
+    rsvp.setUser(user);
+    rsvp.setEvent(event);
+    rsvp.setStatus("ATTENDING");
+    rsvp.setEventRole("PARTICIPANT");
+    try {
+      rsvpService.createRSVP(eventId, userId, rsvp);
+    } catch (Exception e) {
+      return ResponseEntity.badRequest().body("Failed to create RSVP.");
+    }
+    return ResponseEntity.ok(String.format("Successfully accepted invitation to event: %s", event.getName()));
+  }
+
+  // Whether the event has been archived; throws if it is neither live nor archived
+  private boolean isArchived(Long eventId) {
+    try {
+      eventService.findById(eventId);
+      return false;
+    } catch (EventNotExistException e) {
+      if (eventService.findArchivedById(eventId) == null) {
+        throw e;
+      }
+      return true;
+    }
+  }
+
+  private void writeAttendees(Long eventId, boolean archived, OutputStream out) throws IOException {
+    JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    generator.writeStartObject();
+    generator.writeBooleanField("success", true);
+    generator.writeArrayFieldStart("data");
+    long afterUserId = 0;
+    List<AttendeeSummary> page;
+    do {
+      page = rsvpService.getAttendeeSummaries(eventId, archived, null, afterUserId, attendeePageSize);
+      for (AttendeeSummary attendee : page) {
+        generator.writeObject(attendee);
+      }
+      generator.flush();
+      if (!page.isEmpty()) {
+        afterUserId = page.get(page.size() - 1).userId();
+      }
+    } while (page.size() == attendeePageSize);
+    generator.writeEndArray();
+    generator.writeEndObject();
+    generator.close();
+  }
+}
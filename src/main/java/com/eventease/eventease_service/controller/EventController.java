@@ -5,7 +5,10 @@ import com.eventease.eventease_service.exception.GCSUploadException;
 import com.eventease.eventease_service.exception.UserNotExistException;
 import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.service.EventCountStreamService;
 import com.eventease.eventease_service.service.EventService;
+import com.eventease.eventease_service.service.ResourceValidator;
+import com.eventease.eventease_service.service.ResourceVersionService;
 import com.eventease.eventease_service.service.UserService;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -25,18 +28,26 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/events")
 public class EventController {
   private final EventService eventService;
   private final UserService userService;
+  private final EventCountStreamService eventCountStreamService;
+  private final ResourceVersionService resourceVersionService;
 
   @Autowired
-  public EventController(EventService eventService, UserService userService) {
+  public EventController(EventService eventService, UserService userService,
+                         EventCountStreamService eventCountStreamService,
+                         ResourceVersionService resourceVersionService) {
     this.eventService = eventService;
     this.userService = userService;
+    this.eventCountStreamService = eventCountStreamService;
+    this.resourceVersionService = resourceVersionService;
   }
 
   @PostMapping
@@ -97,11 +108,28 @@ public class EventController {
     }
   }
 
+  /**
+   * Returns an event, reading it from the archive once it has been archived. Responses carry an
+   * ETag, and a request whose If-None-Match still matches is answered with 304 Not Modified without
+   * loading the event.
+   */
   @GetMapping(value = "/{eventId}")
-  public ResponseEntity<Map<String, Object>> getEventById(@PathVariable Long eventId) {
+  public ResponseEntity<Map<String, Object>> getEventById(@PathVariable Long eventId, WebRequest webRequest) {
     Map<String, Object> response = new HashMap<>();
     try {
-      Event event = eventService.findById(eventId);
+      ResourceValidator validator = resourceVersionService.eventValidator(eventId);
+      if (validator != null && webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+        return null;
+      }
+      Event event;
+      try {
+        event = eventService.findById(eventId);
+      } catch (EventNotExistException e) {
+        event = eventService.findArchivedById(eventId);
+        if (event == null) {
+          throw e;
+        }
+      }
       response.put("success", true);
       response.put("data", List.of(event));
       return ResponseEntity.ok(response);
@@ -118,6 +146,24 @@ public class EventController {
     }
   }
 
+  /**
+   * Streams the RSVP and attendance counts of an event as Server-Sent Events named "counts".
+   * The current counts are sent on connect, followed by coalesced updates as they change.
+   */
+  @GetMapping(value = "/{eventId}/stream")
+  public ResponseEntity<?> streamEventCounts(@PathVariable Long eventId) {
+    try {
+      SseEmitter emitter = eventCountStreamService.subscribe(eventId);
+      return ResponseEntity.ok(emitter);
+    } catch (EventNotExistException e) {
+      Map<String, Object> response = new HashMap<>();
+      response.put("success", false);
+      response.put("data", Collections.emptyList());
+      response.put("message", "Event not found");
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+  }
+
   @GetMapping
   public ResponseEntity<Map<String, Object>> getEvents(
       @RequestParam(value = "startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
@@ -0,0 +1,137 @@
+package com.eventease.eventease_service.controller;
+
+import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.service.EventExportService;
+import com.eventease.eventease_service.service.EventService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Bulk exports of an event's attendees and tasks as CSV downloads. Rows are written to the
+ * response as they are read from the database, optionally gzip-compressed into a {@code .csv.gz}
+ * file, so exports of large events neither page through the JSON listings nor build up in memory.
+ * Archived events are exported from the archive tables.
+ */
+@RestController
+@RequestMapping("/api/events")
+public class EventExportController {
+  private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+  private static final MediaType APPLICATION_GZIP = new MediaType("application", "gzip");
+  private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+  private final EventExportService eventExportService;
+  private final EventService eventService;
+
+  @Autowired
+  public EventExportController(EventExportService eventExportService, EventService eventService) {
+    this.eventExportService = eventExportService;
+    this.eventService = eventService;
+  }
+
+  @GetMapping("/{eventId}/export/attendees")
+  public ResponseEntity<?> exportAttendees(
+      @PathVariable Long eventId,
+      @RequestParam(value = "format", defaultValue = "csv") String format,
+      @RequestParam(value = "columns", required = false) String columns,
+      @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+    List<String> selected;
+    boolean archived;
+    try {
+      checkFormat(format);
+      selected = eventExportService.attendeeColumns(columns);
+      archived = isArchived(eventId);
+    } catch (IllegalArgumentException e) {
+      return error(HttpStatus.BAD_REQUEST, e.getMessage());
+    } catch (EventNotExistException e) {
+      return error(HttpStatus.NOT_FOUND, "Event not found");
+    }
+    return download("event-" + eventId + "-attendees", gzip,
+        out -> eventExportService.exportAttendees(eventId, archived, selected, out));
+  }
+
+  @GetMapping("/{eventId}/export/tasks")
+  public ResponseEntity<?> exportTasks(
+      @PathVariable Long eventId,
+      @RequestParam(value = "format", defaultValue = "csv") String format,
+      @RequestParam(value = "columns", required = false) String columns,
+      @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+    List<String> selected;
+    boolean archived;
+    try {
+      checkFormat(format);
+      selected = eventExportService.taskColumns(columns);
+      archived = isArchived(eventId);
+    } catch (IllegalArgumentException e) {
+      return error(HttpStatus.BAD_REQUEST, e.getMessage());
+    } catch (EventNotExistException e) {
+      return error(HttpStatus.NOT_FOUND, "Event not found");
+    }
+    return download("event-" + eventId + "-tasks", gzip,
+        out -> eventExportService.exportTasks(eventId, archived, selected, out));
+  }
+
+  // Whether the event has been archived; throws if it is neither live nor archived
+  private boolean isArchived(Long eventId) {
+    try {
+      eventService.findById(eventId);
+      return false;
+    } catch (EventNotExistException e) {
+      if (eventService.findArchivedById(eventId) == null) {
+        throw e;
+      }
+      return true;
+    }
+  }
+
+  private interface Export {
+    void writeTo(OutputStream out) throws IOException;
+  }
+
+  private static ResponseEntity<StreamingResponseBody> download(String baseName, boolean gzip, Export export) {
+    String fileName = baseName + (gzip ? ".csv.gz" : ".csv");
+    StreamingResponseBody body = out -> {
+      if (!gzip) {
+        export.writeTo(out);
+        return;
+      }
+      GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+      export.writeTo(compressed);
+      compressed.finish();
+    };
+    return ResponseEntity.ok()
+        .contentType(gzip ? APPLICATION_GZIP : TEXT_CSV)
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+        .body(body);
+  }
+
+  private static void checkFormat(String format) {
+    if (!"csv".equalsIgnoreCase(format)) {
+      throw new IllegalArgumentException("Unsupported export format: " + format + "; only csv is available");
+    }
+  }
+
+  private static ResponseEntity<Map<String, Object>> error(HttpStatus status, String message) {
+    Map<String, Object> response = new HashMap<>();
+    response.put("success", false);
+    response.put("data", Collections.emptyList());
+    response.put("message", message);
+    return ResponseEntity.status(status).body(response);
+  }
+}
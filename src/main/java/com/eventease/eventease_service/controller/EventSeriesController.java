@@ -0,0 +1,200 @@
+package com.eventease.eventease_service.controller;
+
+import com.eventease.eventease_service.exception.EventFullException;
+import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.exception.EventSeriesNotExistException;
+import com.eventease.eventease_service.exception.RSVPExistsException;
+import com.eventease.eventease_service.exception.RSVPOverlapException;
+import com.eventease.eventease_service.exception.UserNotExistException;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.EventSeries;
+import com.eventease.eventease_service.model.RSVP;
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.service.EventSeriesService;
+import com.eventease.eventease_service.service.RSVPService;
+import com.eventease.eventease_service.service.UserService;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Recurring event series. A series is created once and its occurrences show up in
+ * {@code GET /api/events}; an occurrence is addressed here by series and date until it has an
+ * event ID of its own, which it gets on its first RSVP or when written explicitly.
+ */
+@RestController
+@RequestMapping("/api/series")
+public class EventSeriesController {
+  private final EventSeriesService eventSeriesService;
+  private final UserService userService;
+  private final RSVPService rsvpService;
+
+  @Autowired
+  public EventSeriesController(EventSeriesService eventSeriesService, UserService userService,
+                               RSVPService rsvpService) {
+    this.eventSeriesService = eventSeriesService;
+    this.userService = userService;
+    this.rsvpService = rsvpService;
+  }
+
+  @PostMapping
+  public ResponseEntity<Map<String, Object>> addSeries(
+      @RequestParam("organizerId") Long organizerId,
+      @RequestParam("name") String name,
+      @RequestParam("time") String time,
+      @RequestParam("endTime") String endTime,
+      @RequestParam("startDate") String startDate,
+      @RequestParam(value = "untilDate", required = false) String untilDate,
+      @RequestParam("frequency") String frequency,
+      @RequestParam(value = "interval", defaultValue = "1") int interval,
+      @RequestParam("location") String location,
+      @RequestParam("description") String description,
+      @RequestParam("capacity") String capacity,
+      @RequestParam("budget") String budget
+  ) {
+    Map<String, Object> response = new HashMap<>();
+    try {
+      User organizer = userService.findUserById(organizerId);
+
+      EventSeries series = new EventSeries();
+      series.setName(name);
+      series.setTime(LocalTime.parse(time));
+      series.setEndTime(LocalTime.parse(endTime));
+      series.setStartDate(LocalDate.parse(startDate));
+      series.setUntilDate(untilDate != null ? LocalDate.parse(untilDate) : null);
+      series.setFrequency(EventSeries.Frequency.valueOf(frequency.toUpperCase()));
+      series.setRepeatInterval(interval);
+      series.setLocation(location);
+      series.setDescription(description);
+      series.setCapacity(Integer.parseInt(capacity));
+      series.setBudget(Integer.parseInt(budget));
+      series.setHost(organizer);
+      eventSeriesService.add(series);
+
+      response.put("success", true);
+      response.put("data", List.of(Map.of("organizerId", organizer.getId(), "seriesId", series.getId())));
+      return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    } catch (UserNotExistException e) {
+      response.put("success", false);
+      response.put("data", Collections.emptyList());
+      response.put("message", "Organizer not found");
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    } catch (IllegalArgumentException e) {
+      response.put("success", false);
+      response.put("data", Collections.emptyList());
+      response.put("message", "Invalid recurrence: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    } catch (Exception e) {
+      response.put("success", false);
+      response.put("data", Collections.emptyList());
+      response.put("message", "Error creating event series: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+    }
+  }
+
+  @GetMapping("/{seriesId}")
+  public ResponseEntity<Map<String, Object>> getSeriesById(@PathVariable Long seriesId) {
+    Map<String, Object> response = new HashMap<>();
+    try {
+      EventSeries series = eventSeriesService.findById(seriesId);
+      response.put("success", true);
+      response.put("data", List.of(series));
+      return ResponseEntity.ok(response);
+    } catch (EventSeriesNotExistException e) {
+      return notFound(e.getMessage());
+    }
+  }
+
+  /**
+   * Returns one occurrence of a series: its event once it has one, otherwise the occurrence as
+   * expanded from the series, without an ID.
+   */
+  @GetMapping("/{seriesId}/occurrences/{date}")
+  public ResponseEntity<Map<String, Object>> getOccurrence(
+      @PathVariable Long seriesId,
+      @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+    Map<String, Object> response = new HashMap<>();
+    try {
+      Event event = eventSeriesService.findOccurrence(seriesId, date);
+      response.put("success", true);
+      response.put("data", List.of(event));
+      return ResponseEntity.ok(response);
+    } catch (EventSeriesNotExistException | EventNotExistException e) {
+      return notFound(e.getMessage());
+    }
+  }
+
+  /**
+   * Gives an occurrence its own event, so it can be updated through {@code PATCH /api/events/{eventId}}
+   * (for example to change its capacity) without affecting the rest of the series.
+   */
+  @PostMapping("/{seriesId}/occurrences/{date}")
+  public ResponseEntity<Map<String, Object>> materializeOccurrence(
+      @PathVariable Long seriesId,
+      @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+    Map<String, Object> response = new HashMap<>();
+    try {
+      Event event = eventSeriesService.materializeOccurrence(seriesId, date);
+      response.put("success", true);
+      response.put("data", List.of(event));
+      return ResponseEntity.ok(response);
+    } catch (EventSeriesNotExistException | EventNotExistException e) {
+      return notFound(e.getMessage());
+    }
+  }
+
+  /**
+   * RSVPs a user to an occurrence, giving the occurrence its own event first if needed. Responses
+   * are those of {@code POST /api/events/{eventId}/rsvp/{userId}}.
+   */
+  @PostMapping("/{seriesId}/occurrences/{date}/rsvp/{userId}")
+  public ResponseEntity<?> createRSVP(
+      @PathVariable Long seriesId,
+      @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+      @PathVariable String userId,
+      @RequestBody RSVP rsvp) {
+    Event event;
+    try {
+      event = eventSeriesService.materializeOccurrence(seriesId, date);
+    } catch (EventSeriesNotExistException | EventNotExistException e) {
+      return notFound(e.getMessage());
+    }
+    Map<String, Object> response = new HashMap<>();
+    try {
+      RSVP createdRSVP = rsvpService.createRSVP(String.valueOf(event.getId()), userId, rsvp);
+      response.put("success", true);
+      response.put("data", List.of(createdRSVP));
+      return new ResponseEntity<>(response, HttpStatus.CREATED);
+    } catch (EventNotExistException | UserNotExistException e) {
+      return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+    } catch (RSVPExistsException | RSVPOverlapException | EventFullException e) {
+      response.put("success", false);
+      response.put("data", new ArrayList<>());
+      response.put("message", e.getMessage());
+      return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+  }
+
+  private static ResponseEntity<Map<String, Object>> notFound(String message) {
+    Map<String, Object> response = new HashMap<>();
+    response.put("success", false);
+    response.put("data", Collections.emptyList());
+    response.put("message", message);
+    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+  }
+}
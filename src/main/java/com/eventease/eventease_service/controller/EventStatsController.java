@@ -0,0 +1,61 @@
+package com.eventease.eventease_service.controller;
+
+import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.model.EventStatsReport;
+import com.eventease.eventease_service.service.EventAnalyticsService;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Event dashboards, served from the analytics rollups rather than from the event's RSVPs and tasks.
+ */
+@RestController
+@RequestMapping("/api/events")
+public class EventStatsController {
+  private final EventAnalyticsService eventAnalyticsService;
+
+  @Autowired
+  public EventStatsController(EventAnalyticsService eventAnalyticsService) {
+    this.eventAnalyticsService = eventAnalyticsService;
+  }
+
+  /**
+   * Returns an event's RSVP, check-in, cancellation and task figures, with its RSVP activity per
+   * day between the optional from and to dates.
+   */
+  @GetMapping("/{eventId}/stats")
+  public ResponseEntity<Map<String, Object>> getEventStats(
+      @PathVariable Long eventId,
+      @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+    Map<String, Object> response = new HashMap<>();
+    try {
+      EventStatsReport report = eventAnalyticsService.getStats(eventId, from, to);
+      response.put("success", true);
+      response.put("data", List.of(report));
+      return ResponseEntity.ok(response);
+    } catch (EventNotExistException e) {
+      response.put("success", false);
+      response.put("data", Collections.emptyList());
+      response.put("message", "Event not found");
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    } catch (Exception e) {
+      response.put("success", false);
+      response.put("data", Collections.emptyList());
+      response.put("message", "Error retrieving event stats: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+    }
+  }
+}
@@ -8,6 +8,8 @@ import com.eventease.eventease_service.service.EmailService;
 import com.eventease.eventease_service.service.EventService;
 import com.eventease.eventease_service.service.TwilioService;
 import com.eventease.eventease_service.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -21,6 +23,9 @@ import java.util.regex.Pattern;
 @RestController
 @RequestMapping("/api")
 public class NotificationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationController.class);
+
     private final TwilioService twilioService;
     private final EmailService emailService;
     private final UserService userService;
@@ -76,7 +81,7 @@ public class NotificationController {
             } catch (EventNotExistException e) {
                 return ResponseEntity.badRequest().body("Event does not exist: " + e.getMessage());
             }
-            System.out.println(event);
+            logger.debug("Sending SMS invite for event {} to user {}", eventId, userId);
 
             String formattedMessage = String.format("You have been invited to the event: %s - click the link below to accept!",
                     event.getName());
@@ -142,7 +147,7 @@ public class NotificationController {
             } catch (EventNotExistException e) {
                 return ResponseEntity.badRequest().body("Event does not exist: " + e.getMessage());
             }
-            System.out.println(event);
+            logger.debug("Sending email invite for event {} to user {}", eventId, userId);
 
             // check user email format is valid
             if (user.getEmail() == null || !EMAIL_PATTERN.matcher(user.getEmail()).matches()) {
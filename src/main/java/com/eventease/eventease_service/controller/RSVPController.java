@@ -1,17 +1,28 @@
 package com.eventease.eventease_service.controller;
 
 import com.eventease.eventease_service.exception.*;
+import com.eventease.eventease_service.model.AttendeeSummary;
 import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.model.RSVP;
 import com.eventease.eventease_service.model.User;
 import com.eventease.eventease_service.service.EventService;
 import com.eventease.eventease_service.service.RSVPService;
+import com.eventease.eventease_service.service.ResourceValidator;
+import com.eventease.eventease_service.service.ResourceVersionService;
 import com.eventease.eventease_service.service.UserService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +43,15 @@ public class RSVPController {
   @Autowired
   private UserService userService;
 
+  @Autowired
+  private ResourceVersionService resourceVersionService;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Value("${attendees.max-page-size:1000}")
+  private int maxPageSize = 1000;
+
   /**
    * Endpoint for creating an RSVP for a user to an event
    * This method handles POST requests to create the RSVP for a user to an event;
@@ -75,19 +95,95 @@ public class RSVPController {
   }
 
 
+  /**
+   * Endpoint for joining the waitlist of a full event
+   * This method handles POST requests to queue a user for the next seat that frees up;
+   * the seat is granted automatically when an RSVP to the event is cancelled.
+   *
+   * @param eventId                 the ID of the event
+   * @param userId                  the ID of the user joining the waitlist
+   *
+   * @return                          a ResponseEntity with the user's position in the waitlist
+   *                                  or an error message if the event or user is not found
+   *                                  or an error message if the user already has an RSVP or the event is not full
+   */
+  @RequestMapping(value = "{eventId}/waitlist/{userId}", method = RequestMethod.POST)
+  public ResponseEntity<?> joinWaitlist(@PathVariable String eventId, @PathVariable String userId) {
+    Map<String, Object> response = new HashMap<>();
+    try {
+      long position = rsvpService.joinWaitlist(eventId, userId);
+
+      response.put("success", true);
+      response.put("data", List.of(Map.of("position", position)));
+
+      return new ResponseEntity<>(response, HttpStatus.CREATED);
+
+    } catch (EventNotExistException | UserNotExistException error) {
+      response.put("success", false);
+      response.put("data", new ArrayList<>());
+      response.put("message", error.getMessage());
+
+      return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+
+    } catch (RSVPExistsException | IllegalStateException error) {
+      response.put("success", false);
+      response.put("data", new ArrayList<>());
+      response.put("message", error.getMessage());
+
+      return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+  }
+
+  /**
+   * Endpoint for looking up a user's position in an event's waitlist
+   * This method handles GET requests and is answered from memory in constant time,
+   * so clients can poll it instead of retrying the RSVP endpoint.
+   *
+   * @param eventId                 the ID of the event
+   * @param userId                  the ID of the waiting user
+   *
+   * @return                          a ResponseEntity with the user's 1-based position
+   *                                  or an error message if the user is not on the waitlist
+   */
+  @RequestMapping(value = "{eventId}/waitlist/{userId}", method = RequestMethod.GET)
+  public ResponseEntity<?> getWaitlistPosition(@PathVariable String eventId, @PathVariable String userId) {
+    Map<String, Object> response = new HashMap<>();
+    try {
+      long position = rsvpService.getWaitlistPosition(eventId, userId);
+
+      response.put("success", true);
+      response.put("data", List.of(Map.of("position", position)));
+
+      return new ResponseEntity<>(response, HttpStatus.OK);
+
+    } catch (WaitlistEntryNotExistException error) {
+      response.put("success", false);
+      response.put("data", new ArrayList<>());
+      response.put("message", error.getMessage());
+
+      return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+  }
+
   /**
    * Endpoint for creating an RSVP for a user to an event
    * This method handles GET requests to retrieve the list of RSVPs to an event;
+   * a request whose If-None-Match still matches the listing's ETag gets 304 Not Modified
    *
    * @param eventId                 the ID of the event
+   * @param webRequest              the request, checked for a matching If-None-Match
    *
    * @return                          a ResponseEntity with successful message
    *                                  or an error message if the event is not found
    */
   @RequestMapping(value = "{eventId}/attendees", method = RequestMethod.GET)
-  public ResponseEntity<?> getAttendee(@PathVariable String eventId) {
+  public ResponseEntity<?> getAttendee(@PathVariable String eventId, WebRequest webRequest) {
     Map<String, Object> response = new HashMap<>();
     try {
+      ResourceValidator validator = resourceVersionService.eventRsvpsValidator(Long.parseLong(eventId));
+      if (validator != null && webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+        return null;
+      }
       List<RSVP> attendees = rsvpService.getAttendeesByEvent(eventId);
 
       response.put("success", true);
@@ -107,6 +203,84 @@ public class RSVPController {
     }
   }
 
+  /**
+   * Endpoint for paging through the attendees of an event
+   * This method handles GET requests for one keyset page of an event's attendees as lean rows,
+   * ordered by user ID; pass the returned nextAfterUserId to get the next page. Archived events
+   * are paged from the archive.
+   *
+   * @param eventId                 the ID of the event
+   * @param status                  only list RSVPs with this status, e.g. ATTENDING or CheckedIn
+   * @param afterUserId             the user ID the page starts after, 0 for the first page
+   * @param limit                   the page size, at most attendees.max-page-size
+   *
+   * @return                          a ResponseEntity with the page, the total number of matching
+   *                                  attendees and the next cursor (null on the last page)
+   *                                  or an error message if the event is not found
+   */
+  @RequestMapping(value = "{eventId}/attendees/page", method = RequestMethod.GET)
+  public ResponseEntity<?> getAttendeePage(@PathVariable Long eventId,
+                                           @RequestParam(value = "status", required = false) String status,
+                                           @RequestParam(value = "afterUserId", defaultValue = "0") long afterUserId,
+                                           @RequestParam(value = "limit", defaultValue = "100") int limit) {
+    Map<String, Object> response = new HashMap<>();
+    if (limit < 1) {
+      response.put("success", false);
+      response.put("data", new ArrayList<>());
+      response.put("message", "limit must be at least 1");
+      return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+    boolean archived;
+    try {
+      archived = isArchived(eventId);
+    } catch (EventNotExistException error) {
+      response.put("success", false);
+      response.put("data", new ArrayList<>());
+      response.put("message", error.getMessage());
+      return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+    int pageSize = Math.min(limit, maxPageSize);
+    List<AttendeeSummary> page = rsvpService.getAttendeeSummaries(eventId, archived, status, afterUserId, pageSize);
+
+    response.put("success", true);
+    response.put("data", page);
+    response.put("total", archived
+        ? rsvpService.countArchivedAttendees(eventId, status)
+        : resourceVersionService.attendeeCount(eventId, status));
+    response.put("nextAfterUserId", page.size() == pageSize ? page.get(page.size() - 1).userId() : null);
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
+  /**
+   * Endpoint for streaming all attendees of an event
+   * This method handles GET requests for an event's attendees as lean rows, optionally filtered by
+   * status. The rows are read one keyset page at a time and each page is written out before the
+   * next one is read, so the listing never sits in memory whole. Archived events are streamed
+   * from the archive.
+   *
+   * @param eventId                 the ID of the event
+   * @param status                  only list RSVPs with this status, e.g. ATTENDING or CheckedIn
+   *
+   * @return                          a ResponseEntity streaming the attendees
+   *                                  or an error message if the event is not found
+   */
+  @RequestMapping(value = "{eventId}/attendees/stream", method = RequestMethod.GET)
+  public ResponseEntity<?> streamAttendees(@PathVariable Long eventId,
+                                           @RequestParam(value = "status", required = false) String status) {
+    boolean archived;
+    try {
+      archived = isArchived(eventId);
+    } catch (EventNotExistException error) {
+      Map<String, Object> response = new HashMap<>();
+      response.put("success", false);
+      response.put("data", new ArrayList<>());
+      response.put("message", error.getMessage());
+      return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+    StreamingResponseBody body = out -> writeAttendees(eventId, archived, status, out);
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+  }
+
   /**
    * Endpoint for delete an RSVP for a user to an event
    * This method handles DELETE requests to delete an RSVP of a user to an event;
@@ -209,14 +383,21 @@ public class RSVPController {
    * Endpoint for retrieving all RSVPs for a specific user.
    * This method handles GET requests to fetch all RSVPs (both checked-in and not checked-in) for a user.
    *
+   * A request whose If-None-Match still matches the listing's ETag gets 304 Not Modified.
+   *
    * @param userId The ID of the user whose RSVPs are to be retrieved.
+   * @param webRequest The request, checked for a matching If-None-Match.
    * @return A ResponseEntity containing a list of RSVPs for the user, sorted by date in ascending order.
    *         Returns an error message if the user does not exist.
    */
   @RequestMapping(value = "/rsvp/user/{userId}", method = RequestMethod.GET)
-  public ResponseEntity<?> getAllRSVPsForUser(@PathVariable String userId) {
+  public ResponseEntity<?> getAllRSVPsForUser(@PathVariable String userId, WebRequest webRequest) {
     Map<String, Object> response = new HashMap<>();
     try {
+      ResourceValidator validator = resourceVersionService.userRsvpsValidator(Long.parseLong(userId));
+      if (validator != null && webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+        return null;
+      }
       List<RSVP> rsvps = rsvpService.getAllRSVPsByUser(userId);
 
       response.put("success", true);
@@ -237,14 +418,21 @@ public class RSVPController {
    * Endpoint for retrieving all checked-in RSVPs for a specific user.
    * This method processes GET requests to fetch RSVPs where the user has checked in.
    *
+   * It shares the ETag of the full listing, which changes whenever any of the user's RSVPs does.
+   *
    * @param userId The ID of the user whose checked-in RSVPs are to be retrieved.
+   * @param webRequest The request, checked for a matching If-None-Match.
    * @return A ResponseEntity containing a list of checked-in RSVPs for the user, sorted by date in ascending order.
    *         Returns an error message if the user does not exist.
    */
   @RequestMapping(value = "/rsvp/user/{userId}/checkedin", method = RequestMethod.GET)
-  public ResponseEntity<?> getCheckedInRSVPsForUser(@PathVariable String userId) {
+  public ResponseEntity<?> getCheckedInRSVPsForUser(@PathVariable String userId, WebRequest webRequest) {
     Map<String, Object> response = new HashMap<>();
     try {
+      ResourceValidator validator = resourceVersionService.userRsvpsValidator(Long.parseLong(userId));
+      if (validator != null && webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+        return null;
+      }
       List<RSVP> checkedInRSVPs = rsvpService.getCheckedInRSVPsByUser(userId);
 
       response.put("success", true);
@@ -293,4 +481,40 @@ public class RSVPController {
       return ResponseEntity.badRequest().body("Failed to create RSVP.");
     }
   }
+
+  // Whether the event has been archived; throws if it is neither live nor archived
+  private boolean isArchived(Long eventId) {
+    try {
+      eventService.findById(eventId);
+      return false;
+    } catch (EventNotExistException e) {
+      if (eventService.findArchivedById(eventId) == null) {
+        throw e;
+      }
+      return true;
+    }
+  }
+
+  private void writeAttendees(Long eventId, boolean archived, String status, OutputStream out) throws IOException {
+    JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    generator.writeStartObject();
+    generator.writeBooleanField("success", true);
+    generator.writeArrayFieldStart("data");
+    long afterUserId = 0;
+    List<AttendeeSummary> page;
+    do {
+      page = rsvpService.getAttendeeSummaries(eventId, archived, status, afterUserId, maxPageSize);
+      for (AttendeeSummary attendee : page) {
+        generator.writeObject(attendee);
+      }
+      generator.flush();
+      if (!page.isEmpty()) {
+        afterUserId = page.get(page.size() - 1).userId();
+      }
+    } while (page.size() == maxPageSize);
+    generator.writeEndArray();
+    generator.writeEndObject();
+    generator.close();
+  }
 }
@@ -3,7 +3,11 @@ package com.eventease.eventease_service.controller;
 import com.eventease.eventease_service.exception.*;
 import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.model.Task;
+import com.eventease.eventease_service.model.TaskBatchResult;
+import com.eventease.eventease_service.model.TaskBoard;
 import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.service.ResourceValidator;
+import com.eventease.eventease_service.service.ResourceVersionService;
 import com.eventease.eventease_service.service.TaskService;
 import com.eventease.eventease_service.service.UserService;
 import com.eventease.eventease_service.service.EventService;
@@ -11,9 +15,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -34,6 +41,9 @@ public class TaskController {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
     @PostMapping
     public ResponseEntity<Map<String, Object>> createTask(@RequestParam Long eventId,
                                                           @RequestParam Long userId,
@@ -124,10 +134,52 @@ public class TaskController {
         }
     }
 
+    /**
+     * Retrieves the planning board of an event: a lightweight card per task and the number of
+     * tasks in each status.
+     *
+     * @param eventId the ID of the event
+     * @return ResponseEntity containing the task board or error message
+     */
+    @GetMapping("/event/{eventId}/board")
+    public ResponseEntity<Map<String, Object>> getTaskBoard(@PathVariable Long eventId) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            if (eventId == null || eventId <= 0) {
+                response.put("success", false);
+                response.put("message", "Invalid event ID. Event ID must be a positive number.");
+                return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+            }
+
+            TaskBoard board = taskService.getTaskBoard(eventId);
+            response.put("success", true);
+            response.put("data", board);
+            return new ResponseEntity<>(response, HttpStatus.OK);
+        } catch (EventNotExistException e) {
+            response.put("success", false);
+            response.put("data", null);
+            response.put("message", e.getMessage());
+            return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("data", null);
+            response.put("message", "Error fetching task board: " + e.getMessage());
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Returns a task. Responses carry an ETag, and a request whose If-None-Match still matches is
+     * answered with 304 Not Modified without loading the task.
+     */
     @GetMapping("/{taskId}")
-    public ResponseEntity<Map<String, Object>> getTask(@PathVariable Long taskId) {
+    public ResponseEntity<Map<String, Object>> getTask(@PathVariable Long taskId, WebRequest webRequest) {
         Map<String, Object> response = new HashMap<>();
         try {
+            ResourceValidator validator = resourceVersionService.taskValidator(taskId);
+            if (validator != null && webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+                return null;
+            }
             Task task = taskService.getTaskById(taskId);
 
             Map<String, Object> taskData = new HashMap<>();
@@ -243,6 +295,167 @@ public class TaskController {
         }
     }
 
+    /**
+     * Creates many tasks for an event in one request.
+     * Body: {"tasks": [{"name": ..., "description": ..., "status": ..., "userId": ...}, ...]}
+     *
+     * @param eventId the ID of the event the tasks belong to
+     * @param request the tasks to create
+     * @return ResponseEntity containing one {id, result} entry per task, in request order
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<String, Object>> createTasks(@RequestParam Long eventId,
+                                                           @RequestBody Map<String, Object> request) {
+        try {
+            List<Task> tasks = new ArrayList<>();
+            for (Map<String, Object> item : batchItems(request)) {
+                if (item.get("name") == null || item.get("name").toString().trim().isEmpty()) {
+                    throw new IllegalArgumentException("Task name is required");
+                }
+                Task task = new Task();
+                task.setName(item.get("name").toString().trim());
+                task.setDescription(item.get("description") != null ? item.get("description").toString() : "");
+                task.setStatus(item.get("status") != null ? parseStatus(item.get("status")) : Task.TaskStatus.PENDING);
+                User assignedUser = new User();
+                assignedUser.setId(parseId(item.get("userId"), "userId"));
+                task.setAssignedUser(assignedUser);
+                tasks.add(task);
+            }
+            return batchResponse(taskService.createTasks(eventId, tasks), HttpStatus.CREATED);
+        } catch (Exception e) {
+            return batchErrorResponse(e, "Error creating tasks: ");
+        }
+    }
+
+    /**
+     * Updates the status of many tasks of an event in one request.
+     * Body: {"tasks": [{"id": ..., "status": ...}, ...]}
+     *
+     * @param eventId the ID of the event the tasks belong to
+     * @param request the tasks and their new statuses
+     * @return ResponseEntity containing one {id, result} entry per task, in request order
+     */
+    @PatchMapping("/batch/status")
+    public ResponseEntity<Map<String, Object>> updateTaskStatuses(@RequestParam Long eventId,
+                                                                  @RequestBody Map<String, Object> request) {
+        try {
+            Map<Long, Task.TaskStatus> statusByTaskId = new LinkedHashMap<>();
+            for (Map<String, Object> item : batchItems(request)) {
+                if (item.get("status") == null) {
+                    throw new IllegalArgumentException("Status is required");
+                }
+                statusByTaskId.put(parseId(item.get("id"), "id"), parseStatus(item.get("status")));
+            }
+            return batchResponse(taskService.updateTaskStatuses(eventId, statusByTaskId), HttpStatus.OK);
+        } catch (Exception e) {
+            return batchErrorResponse(e, "Error updating task statuses: ");
+        }
+    }
+
+    /**
+     * Reassigns many tasks of an event in one request.
+     * Body: {"tasks": [{"id": ..., "userId": ...}, ...]}
+     *
+     * @param eventId the ID of the event the tasks belong to
+     * @param request the tasks and their new assigned users
+     * @return ResponseEntity containing one {id, result} entry per task, in request order
+     */
+    @PatchMapping("/batch/user")
+    public ResponseEntity<Map<String, Object>> updateTaskAssignedUsers(@RequestParam Long eventId,
+                                                                       @RequestBody Map<String, Object> request) {
+        try {
+            Map<Long, Long> userIdByTaskId = new LinkedHashMap<>();
+            for (Map<String, Object> item : batchItems(request)) {
+                userIdByTaskId.put(parseId(item.get("id"), "id"), parseId(item.get("userId"), "userId"));
+            }
+            return batchResponse(taskService.updateTaskAssignedUsers(eventId, userIdByTaskId), HttpStatus.OK);
+        } catch (Exception e) {
+            return batchErrorResponse(e, "Error updating assigned users: ");
+        }
+    }
+
+    /**
+     * Deletes many tasks of an event in one request.
+     * Body: {"taskIds": [...]}
+     *
+     * @param eventId the ID of the event the tasks belong to
+     * @param request the IDs of the tasks to delete
+     * @return ResponseEntity containing one {id, result} entry per task, in request order
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<Map<String, Object>> deleteTasks(@RequestParam Long eventId,
+                                                           @RequestBody Map<String, Object> request) {
+        try {
+            if (!(request.get("taskIds") instanceof List<?> rawIds)) {
+                throw new IllegalArgumentException("Request must contain a 'taskIds' array");
+            }
+            List<Long> taskIds = new ArrayList<>(rawIds.size());
+            for (Object rawId : rawIds) {
+                taskIds.add(parseId(rawId, "taskIds"));
+            }
+            return batchResponse(taskService.deleteTasks(eventId, taskIds), HttpStatus.OK);
+        } catch (Exception e) {
+            return batchErrorResponse(e, "Error deleting tasks: ");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> batchItems(Map<String, Object> request) {
+        if (!(request.get("tasks") instanceof List<?> items)) {
+            throw new IllegalArgumentException("Request must contain a 'tasks' array");
+        }
+        for (Object item : items) {
+            if (!(item instanceof Map)) {
+                throw new IllegalArgumentException("Each task must be a valid object");
+            }
+        }
+        return (List<Map<String, Object>>) items;
+    }
+
+    private static Task.TaskStatus parseStatus(Object status) {
+        String statusStr = status.toString().toUpperCase();
+        try {
+            return Task.TaskStatus.valueOf(statusStr);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid task status: " + statusStr);
+        }
+    }
+
+    private static Long parseId(Object id, String field) {
+        if (id == null) {
+            throw new IllegalArgumentException("'" + field + "' is required");
+        }
+        try {
+            return Long.parseLong(id.toString());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid '" + field + "': " + id);
+        }
+    }
+
+    private static ResponseEntity<Map<String, Object>> batchResponse(List<TaskBatchResult> results,
+                                                                     HttpStatus status) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", results);
+        return new ResponseEntity<>(response, status);
+    }
+
+    private static ResponseEntity<Map<String, Object>> batchErrorResponse(Exception e, String prefix) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("data", null);
+        if (e instanceof EventNotExistException) {
+            response.put("message", e.getMessage());
+            return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+        }
+        if (e instanceof IllegalArgumentException) {
+            response.put("message", e.getMessage());
+            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+        }
+        response.put("message", prefix + e.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     /**
      * Retrieves all tasks assigned to a specific user.
      *
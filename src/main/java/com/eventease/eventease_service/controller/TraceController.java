@@ -0,0 +1,127 @@
+package com.eventease.eventease_service.controller;
+
+import com.eventease.eventease_service.config.InMemorySpanReporter;
+import com.eventease.eventease_service.config.InMemorySpanReporter.RecordedSpan;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Serves the spans kept by {@link InMemorySpanReporter} under {@code /api/traces}, enabled with the
+ * {@code local-tracing} profile. The trace list shows the slowest recent requests first, and a
+ * single trace lists its spans in start order so the time spent in controllers, services,
+ * repositories and outbound providers can be read off directly.
+ */
+@RestController
+@RequestMapping("/api/traces")
+@Profile("local-tracing")
+public class TraceController {
+
+  private final InMemorySpanReporter spanReporter;
+
+  @Autowired
+  public TraceController(InMemorySpanReporter spanReporter) {
+    this.spanReporter = spanReporter;
+  }
+
+  /**
+   * Lists the retained traces that took at least {@code minDurationMs}, slowest first.
+   */
+  @GetMapping
+  public ResponseEntity<Map<String, Object>> getTraces(@RequestParam(defaultValue = "0") long minDurationMs,
+                                                       @RequestParam(defaultValue = "50") int limit) {
+    Map<String, List<RecordedSpan>> byTrace = new LinkedHashMap<>();
+    for (RecordedSpan span : spanReporter.snapshot()) {
+      byTrace.computeIfAbsent(span.traceId(), id -> new ArrayList<>()).add(span);
+    }
+
+    List<Map<String, Object>> traces = new ArrayList<>();
+    for (Map.Entry<String, List<RecordedSpan>> trace : byTrace.entrySet()) {
+      RecordedSpan root = rootOf(trace.getValue());
+      if (root.duration().toMillis() < minDurationMs) {
+        continue;
+      }
+      Map<String, Object> summary = new LinkedHashMap<>();
+      summary.put("traceId", trace.getKey());
+      summary.put("name", root.name());
+      summary.put("start", root.start());
+      summary.put("durationMs", millis(root));
+      summary.put("spanCount", trace.getValue().size());
+      traces.add(summary);
+    }
+    traces.sort(Comparator.comparingDouble(summary -> -(double) summary.get("durationMs")));
+
+    Map<String, Object> response = new HashMap<>();
+    response.put("success", true);
+    response.put("data", traces.subList(0, Math.min(Math.max(limit, 0), traces.size())));
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
+  /**
+   * Returns the spans of one trace in start order.
+   */
+  @GetMapping("/{traceId}")
+  public ResponseEntity<Map<String, Object>> getTrace(@PathVariable String traceId) {
+    Map<String, Object> response = new HashMap<>();
+    List<RecordedSpan> spans = spanReporter.getTrace(traceId);
+    if (spans.isEmpty()) {
+      response.put("success", false);
+      response.put("data", Collections.emptyList());
+      response.put("message", "Trace not found or no longer retained");
+      return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
+    List<Map<String, Object>> data = new ArrayList<>();
+    for (RecordedSpan span : spans) {
+      Map<String, Object> entry = new LinkedHashMap<>();
+      entry.put("spanId", span.spanId());
+      entry.put("parentId", span.parentId());
+      entry.put("name", span.name());
+      entry.put("start", span.start());
+      entry.put("durationMs", millis(span));
+      entry.put("tags", span.tags());
+      entry.put("error", span.error());
+      data.add(entry);
+    }
+    response.put("success", true);
+    response.put("data", data);
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
+  // The root is the span whose parent is not part of the trace, or the longest one if it was overwritten
+  private static RecordedSpan rootOf(List<RecordedSpan> spans) {
+    Set<String> spanIds = new HashSet<>();
+    for (RecordedSpan span : spans) {
+      spanIds.add(span.spanId());
+    }
+    RecordedSpan longest = spans.get(0);
+    for (RecordedSpan span : spans) {
+      if (span.parentId() == null || !spanIds.contains(span.parentId())) {
+        return span;
+      }
+      if (span.duration().compareTo(longest.duration()) > 0) {
+        longest = span;
+      }
+    }
+    return longest;
+  }
+
+  private static double millis(RecordedSpan span) {
+    return span.duration().toNanos() / 1e6;
+  }
+}
@@ -2,12 +2,17 @@ package com.eventease.eventease_service.controller;
 
 
 import com.eventease.eventease_service.exception.UserNotExistException;
+import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.service.ResourceValidator;
+import com.eventease.eventease_service.service.ResourceVersionService;
 import com.eventease.eventease_service.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -19,6 +24,9 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
     @PostMapping("/add")
     public ResponseEntity<?> addNewUser(@RequestBody User user) {
         Map<String, Object> response = new HashMap<>();
@@ -38,10 +46,18 @@ public class UserController {
         }
     }
 
+    /**
+     * Returns a user. Responses carry an ETag and Last-Modified, and a request whose validators
+     * still match is answered with 304 Not Modified without loading the user.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<?> getUserById(@PathVariable Long id) {
+    public ResponseEntity<?> getUserById(@PathVariable Long id, WebRequest webRequest) {
         Map<String, Object> response = new HashMap<>();
         try {
+            ResourceValidator validator = resourceVersionService.userValidator(id);
+            if (validator != null && webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+                return null;
+            }
             User user = userService.findUserById(id);
             response.put("success", true);
             response.put("data", user);
@@ -57,6 +73,56 @@ public class UserController {
         }
     }
 
+    @GetMapping("/{id}/events/created")
+    public ResponseEntity<?> getCreatedEvents(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return eventPageResponse(userService.getCreatedEvents(id, page, size));
+        } catch (UserNotExistException e) {
+            return errorResponse(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return errorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return errorResponse(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("/{id}/events/attended")
+    public ResponseEntity<?> getAttendedEvents(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return eventPageResponse(userService.getAttendedEvents(id, page, size));
+        } catch (UserNotExistException e) {
+            return errorResponse(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return errorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return errorResponse(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private ResponseEntity<?> eventPageResponse(Page<Event> events) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", events.getContent());
+        response.put("page", events.getNumber());
+        response.put("size", events.getSize());
+        response.put("totalElements", events.getTotalElements());
+        response.put("totalPages", events.getTotalPages());
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    private ResponseEntity<?> errorResponse(String message, HttpStatus status) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("error", message);
+        return new ResponseEntity<>(response, status);
+    }
+
     @GetMapping("/list")
     public ResponseEntity<?> getUsersByFilter(
             @RequestParam(required = false) String firstName,
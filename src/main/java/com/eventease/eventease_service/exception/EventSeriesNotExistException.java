@@ -0,0 +1,7 @@
+package com.eventease.eventease_service.exception;
+
+public class EventSeriesNotExistException extends RuntimeException {
+  public EventSeriesNotExistException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,7 @@
+package com.eventease.eventease_service.exception;
+
+public class WaitlistEntryNotExistException extends RuntimeException {
+  public WaitlistEntryNotExistException(String message) {
+    super(message);
+  }
+}
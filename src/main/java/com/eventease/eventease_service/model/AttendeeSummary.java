@@ -0,0 +1,11 @@
+package com.eventease.eventease_service.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * One attendee of an event as listed by the paged attendee endpoints: the RSVP's own columns and
+ * the user's name and email, without the user's or event's full graph.
+ */
+public record AttendeeSummary(Long userId, String firstName, String lastName, String email, String status,
+                              String eventRole, LocalDateTime startTime, LocalDateTime endTime) {
+}
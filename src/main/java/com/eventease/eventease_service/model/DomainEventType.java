@@ -0,0 +1,34 @@
+package com.eventease.eventease_service.model;
+
+/**
+ * The kinds of change recorded in the outbox. Each names the aggregate it belongs to, whose ID is
+ * stored alongside the event; for RSVPs and task batches that is the ID of the event.
+ */
+public enum DomainEventType {
+  EVENT_CREATED("Event"),
+  EVENT_UPDATED("Event"),
+  EVENT_DELETED("Event"),
+  RSVP_CREATED("RSVP"),
+  RSVP_UPDATED("RSVP"),
+  RSVP_CANCELLED("RSVP"),
+  RSVP_CHECKED_IN("RSVP"),
+  TASK_CREATED("Task"),
+  TASK_UPDATED("Task"),
+  TASK_DELETED("Task"),
+  TASKS_CREATED("Event"),
+  TASKS_UPDATED("Event"),
+  TASKS_DELETED("Event"),
+  USER_CREATED("User"),
+  USER_UPDATED("User"),
+  USER_DELETED("User");
+
+  private final String aggregate;
+
+  DomainEventType(String aggregate) {
+    this.aggregate = aggregate;
+  }
+
+  public String getAggregate() {
+    return aggregate;
+  }
+}
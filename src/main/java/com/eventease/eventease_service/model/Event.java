@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -15,6 +16,8 @@ import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import java.io.Serial;
 import java.io.Serializable;
 import java.time.LocalDate;
@@ -30,7 +33,7 @@ import java.util.Set;
  * name, description, location, date, time, organizer ID, capacity and budget.
  */
 @Entity
-@Table(name = "event")
+@Table(name = "event", uniqueConstraints = @UniqueConstraint(columnNames = {"series_id", "date"}))
 @JsonDeserialize(builder = Event.Builder.class)
 public class Event implements Serializable {
 
@@ -49,9 +52,28 @@ public class Event implements Serializable {
   private LocalTime endTime;
   private int capacity;
   private int budget;
+
+  // Counters are only ever written through relative UPDATEs (see EventCounterService),
+  // so saving the entity must never overwrite them with a stale in-memory value
+  @Column(updatable = false)
   private int rsvpCount = 0;
+
+  @Column(updatable = false)
   private int attendanceCount = 0;
 
+  // Seats held by RSVPs, taken and given back by conditional UPDATEs inside the RSVP transactions
+  // (see EventRepositoryCustom#reserveSeat), so every instance checks capacity against the same
+  // committed value. Null on events created before the column existed until their next RSVP
+  @Column(updatable = false)
+  @JsonIgnore
+  private Integer seatsReserved = 0;
+
+  // Optimistic lock: concurrent updates of the same event fail fast instead of overwriting each other
+  @Version
+  @Column(columnDefinition = "bigint default 0")
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  private Long version;
+
   // Many-to-One relationship to represent the host (creator) of the event
   @ManyToOne
   @JoinColumn(name = "user_id", nullable = false)
@@ -70,6 +92,11 @@ public class Event implements Serializable {
   @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
   private List<EventImage> images;
 
+  // Set on an occurrence of a recurring series; at most one event per series and date
+  @Column(name = "series_id", updatable = false)
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  private Long seriesId;
+
   public Event() {
 
   }
@@ -159,6 +186,14 @@ public class Event implements Serializable {
     this.budget = budget;
   }
 
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+
   public User getHost() {
     return host;
   }
@@ -184,6 +219,14 @@ public class Event implements Serializable {
     return this;
   }
   
+  public Long getSeriesId() {
+    return seriesId;
+  }
+
+  public void setSeriesId(Long seriesId) {
+    this.seriesId = seriesId;
+  }
+
   public void setRsvpCount(int rsvpCount){
     this.rsvpCount = rsvpCount;
   }
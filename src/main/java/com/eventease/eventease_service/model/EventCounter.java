@@ -0,0 +1,21 @@
+package com.eventease.eventease_service.model;
+
+/**
+ * The aggregate counters kept on an {@link Event} row.
+ * Each counter maps to the column it is stored in so that deltas can be applied
+ * with a single relative UPDATE instead of a read-modify-write of the entity.
+ */
+public enum EventCounter {
+  RSVP_COUNT("rsvp_count"),
+  ATTENDANCE_COUNT("attendance_count");
+
+  private final String column;
+
+  EventCounter(String column) {
+    this.column = column;
+  }
+
+  public String getColumn() {
+    return column;
+  }
+}
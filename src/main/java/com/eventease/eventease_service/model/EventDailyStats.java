@@ -0,0 +1,34 @@
+package com.eventease.eventease_service.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * One event's RSVP activity on one day (UTC), as rolled up from its RSVP writes. Hibernate orders
+ * the key columns of an {@code @IdClass} by name, so the primary key is (day, event_id); reads and
+ * deletes by event go through the (event_id, day) index instead.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "event_daily_stats", indexes = @Index(name = "idx_event_daily_stats_event_day", columnList = "event_id, day"))
+@IdClass(EventDailyStatsKey.class)
+public class EventDailyStats {
+  @Id
+  @Column(name = "event_id")
+  private Long eventId;
+
+  @Id
+  private LocalDate day;
+
+  private int rsvps;
+
+  private int cancellations;
+
+  private int checkIns;
+}
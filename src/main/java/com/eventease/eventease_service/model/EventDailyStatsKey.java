@@ -0,0 +1,32 @@
+package com.eventease.eventease_service.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventDailyStatsKey implements Serializable {
+  private Long eventId;
+  private LocalDate day;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    EventDailyStatsKey key = (EventDailyStatsKey) o;
+    return Objects.equals(eventId, key.eventId) && Objects.equals(day, key.day);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(eventId, day);
+  }
+}
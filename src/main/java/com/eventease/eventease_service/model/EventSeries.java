@@ -0,0 +1,119 @@
+package com.eventease.eventease_service.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A recurring event: one row holding the details shared by every occurrence and a recurrence rule
+ * (every {@code repeatInterval} days, weeks or months from {@code startDate}, until
+ * {@code untilDate} or indefinitely). Occurrences are expanded on demand and only become
+ * {@link Event} rows, linked back through {@link Event#getSeriesId()}, once they need state of
+ * their own such as RSVPs or a changed capacity.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "event_series")
+public class EventSeries {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  private String name;
+  private String description;
+  private String location;
+  private LocalTime time;
+  private LocalTime endTime;
+  private int capacity;
+  private int budget;
+
+  @ManyToOne
+  @JoinColumn(name = "user_id", nullable = false)
+  private User host;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private Frequency frequency;
+
+  @Column(nullable = false)
+  private int repeatInterval = 1;
+
+  @Column(nullable = false)
+  private LocalDate startDate;
+
+  // Null for a series without an end
+  private LocalDate untilDate;
+
+  @Version
+  @Column(columnDefinition = "bigint default 0")
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  private Long version;
+
+  public enum Frequency {
+    DAILY(ChronoUnit.DAYS), WEEKLY(ChronoUnit.WEEKS), MONTHLY(ChronoUnit.MONTHS);
+
+    private final ChronoUnit unit;
+
+    Frequency(ChronoUnit unit) {
+      this.unit = unit;
+    }
+  }
+
+  /**
+   * Returns the dates of the occurrences between from and to, both inclusive, in order. Only the
+   * occurrences inside the window are generated, however long the series has been running.
+   * Monthly occurrences keep the day of month of the start date, or the month's last day if shorter.
+   */
+  public List<LocalDate> occurrencesBetween(LocalDate from, LocalDate to) {
+    List<LocalDate> dates = new ArrayList<>();
+    LocalDate first = from.isAfter(startDate) ? from : startDate;
+    LocalDate last = untilDate != null && untilDate.isBefore(to) ? untilDate : to;
+    if (first.isAfter(last)) {
+      return dates;
+    }
+    // Start at the last occurrence on or before the window; each occurrence is computed from the
+    // start date, so clamped month ends never drift
+    long index = frequency.unit.between(startDate, first) / repeatInterval;
+    for (LocalDate date = occurrence(index); !date.isAfter(last); date = occurrence(++index)) {
+      if (!date.isBefore(first)) {
+        dates.add(date);
+      }
+    }
+    return dates;
+  }
+
+  public boolean occursOn(LocalDate date) {
+    return !occurrencesBetween(date, date).isEmpty();
+  }
+
+  /**
+   * Builds the occurrence on the given date as an unsaved event carrying the series' details.
+   */
+  public Event occurrenceOn(LocalDate date) {
+    Event event = new Event.Builder()
+        .setName(name)
+        .setDescription(description)
+        .setLocation(location)
+        .setDate(date)
+        .setTime(time)
+        .setEndTime(endTime)
+        .setCapacity(capacity)
+        .setBudget(budget)
+        .setHost(host)
+        .build();
+    event.setSeriesId(id);
+    return event;
+  }
+
+  private LocalDate occurrence(long index) {
+    return startDate.plus(index * repeatInterval, frequency.unit);
+  }
+}
@@ -0,0 +1,31 @@
+package com.eventease.eventease_service.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.sql.Timestamp;
+
+/**
+ * Running totals of an event kept by the analytics rollup: cancelled RSVPs and the event's tasks
+ * by completion. RSVP and check-in totals are the event's own counters.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "event_stats")
+public class EventStats {
+  @Id
+  @Column(name = "event_id")
+  private Long eventId;
+
+  private int cancellationCount;
+
+  private int taskCount;
+
+  private int tasksCompleted;
+
+  private Timestamp updatedAt;
+}
@@ -0,0 +1,15 @@
+package com.eventease.eventease_service.model;
+
+import java.time.LocalDate;
+
+/**
+ * Changes to add to an event's rollups for one day.
+ *
+ * @param eventId the ID of the event
+ * @param day the day (UTC) the changes happened on
+ * @param rsvps RSVPs created
+ * @param cancellations RSVPs cancelled
+ * @param checkIns attendees checked in
+ */
+public record EventStatsDelta(Long eventId, LocalDate day, int rsvps, int cancellations, int checkIns) {
+}
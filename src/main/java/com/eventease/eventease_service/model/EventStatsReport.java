@@ -0,0 +1,23 @@
+package com.eventease.eventease_service.model;
+
+import java.util.List;
+
+/**
+ * The dashboard figures of an event, served from its counters and rollups.
+ *
+ * @param eventId the ID of the event
+ * @param capacity the event's capacity
+ * @param budget the event's budget
+ * @param rsvpCount current RSVPs
+ * @param checkInCount attendees checked in
+ * @param checkInRate checked-in share of current RSVPs, 0 without RSVPs
+ * @param cancellationCount RSVPs cancelled so far
+ * @param taskCount the event's tasks
+ * @param tasksCompleted tasks in status COMPLETED
+ * @param taskCompletionRate completed share of the tasks, 0 without tasks
+ * @param daily RSVP activity per day, oldest first; days without activity are left out
+ */
+public record EventStatsReport(Long eventId, int capacity, int budget, long rsvpCount, long checkInCount,
+                               double checkInRate, int cancellationCount, int taskCount, int tasksCompleted,
+                               double taskCompletionRate, List<EventDailyStats> daily) {
+}
@@ -0,0 +1,49 @@
+package com.eventease.eventease_service.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.sql.Timestamp;
+
+/**
+ * A row of the transactional outbox. It is written in the same transaction as the change it
+ * describes. Once it has committed the relay gives it a sequence number, which is the offset
+ * subscribers of the domain event bus consume from.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "outbox_event")
+public class OutboxEvent {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  // Position in commit order, null until the relay has seen the row committed
+  @Column(unique = true)
+  private Long seq;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 32)
+  private DomainEventType eventType;
+
+  @Column(nullable = false)
+  private Long aggregateId;
+
+  // Small JSON object with the IDs and fields a subscriber needs to react to the change
+  @Column(columnDefinition = "TEXT")
+  private String payload;
+
+  @Column(nullable = false)
+  private Timestamp createdAt;
+
+  public OutboxEvent(DomainEventType eventType, Long aggregateId, String payload) {
+    this.eventType = eventType;
+    this.aggregateId = aggregateId;
+    this.payload = payload;
+    this.createdAt = new Timestamp(System.currentTimeMillis());
+  }
+}
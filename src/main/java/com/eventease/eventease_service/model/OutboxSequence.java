@@ -0,0 +1,23 @@
+package com.eventease.eventease_service.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The last sequence number the relay has given to an outbox row, shared by all instances. The
+ * table holds a single row; the instance holding its lock is the one numbering rows.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "outbox_sequence")
+public class OutboxSequence {
+  @Id
+  private Integer id;
+
+  @Column(nullable = false)
+  private long lastSeq;
+}
@@ -1,8 +1,10 @@
 package com.eventease.eventease_service.model;
 
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -10,7 +12,6 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 @Table(name = "RSVP")
 @IdClass(RSVPKey.class)
 public class RSVP {
@@ -36,4 +37,25 @@ public class RSVP {
 
   private String eventRole;
 
+  @Version
+  @Column(columnDefinition = "bigint default 0")
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  private Long version;
+
+  // Set on every insert and update; lets listings derive an ETag without loading the RSVPs
+  @UpdateTimestamp
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  private LocalDateTime updatedAt;
+
+  public RSVP(User user, Event event, String status, LocalDateTime startTime, LocalDateTime endTime,
+              String notes, boolean reminderSent, String eventRole) {
+    this.user = user;
+    this.event = event;
+    this.status = status;
+    this.startTime = startTime;
+    this.endTime = endTime;
+    this.notes = notes;
+    this.reminderSent = reminderSent;
+    this.eventRole = eventRole;
+  }
 }
@@ -0,0 +1,35 @@
+package com.eventease.eventease_service.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.sql.Timestamp;
+
+/**
+ * The last outbox offset a domain event subscriber has processed on one instance, stored under
+ * {@code <subscriber>@<instance>}. Delivery resumes after it on restart, and it can be moved back
+ * to replay events.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "outbox_subscriber_offset")
+public class SubscriberOffset {
+  @Id
+  @Column(length = 100)
+  private String subscriber;
+
+  @Column(nullable = false)
+  private long lastOffset;
+
+  private Timestamp updatedAt;
+
+  public SubscriberOffset(String subscriber, long lastOffset) {
+    this.subscriber = subscriber;
+    this.lastOffset = lastOffset;
+    this.updatedAt = new Timestamp(System.currentTimeMillis());
+  }
+}
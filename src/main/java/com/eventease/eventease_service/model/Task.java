@@ -51,6 +51,11 @@ public class Task implements Serializable {
     @JsonProperty("userID")
     private User assignedUser;
 
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    @JsonProperty(value = "version", access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     public Task() {}
 
     public enum TaskStatus {
@@ -0,0 +1,14 @@
+package com.eventease.eventease_service.model;
+
+/**
+ * The outcome of one item in a batch task request.
+ *
+ * @param id the task ID, or null when a task could not be created
+ * @param result what happened to the task
+ */
+public record TaskBatchResult(Long id, Outcome result) {
+
+  public enum Outcome {
+    CREATED, UPDATED, DELETED, NOT_FOUND, USER_NOT_FOUND
+  }
+}
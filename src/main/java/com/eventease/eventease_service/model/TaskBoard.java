@@ -0,0 +1,15 @@
+package com.eventease.eventease_service.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The read model behind an event's planning board: its tasks as board cards plus the number of
+ * tasks in each status, with every status present.
+ *
+ * @param eventId the event ID
+ * @param counts the number of tasks per status
+ * @param tasks the board cards, in task ID order
+ */
+public record TaskBoard(Long eventId, Map<Task.TaskStatus, Long> counts, List<TaskBoardItem> tasks) {
+}
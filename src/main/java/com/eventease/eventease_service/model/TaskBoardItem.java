@@ -0,0 +1,29 @@
+package com.eventease.eventease_service.model;
+
+/**
+ * One card on an event's task board: the task fields a planning board shows, without the event
+ * and user graphs of the full {@link Task} entity.
+ *
+ * @param id the task ID
+ * @param name the task name
+ * @param status the task status
+ * @param assigneeId the ID of the assigned user
+ * @param assigneeName the full name of the assigned user
+ */
+public record TaskBoardItem(Long id, String name, Task.TaskStatus status, Long assigneeId, String assigneeName) {
+
+  /**
+   * Used by the board projection query, which selects the assignee's first and last name.
+   */
+  public TaskBoardItem(Long id, String name, Task.TaskStatus status, Long assigneeId,
+                       String assigneeFirstName, String assigneeLastName) {
+    this(id, name, status, assigneeId, fullName(assigneeFirstName, assigneeLastName));
+  }
+
+  private static String fullName(String firstName, String lastName) {
+    if (firstName == null) {
+      return lastName;
+    }
+    return lastName == null ? firstName : firstName + " " + lastName;
+  }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -64,12 +65,15 @@ public class User implements Serializable {
   @JsonProperty("updatedAt")
   private Timestamp updatedAt;
 
-  @OneToMany(mappedBy = "host", cascade = CascadeType.ALL, orphanRemoval = true)
+  // Both collections stay lazy and out of the JSON body so that reading a user is a
+  // single-row lookup; they are served as paged sub-resources under /api/users/{id}/events
+  @OneToMany(mappedBy = "host", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
   @JsonIgnore
   private Set<Event> createdEvents = new HashSet<>();
 
   // Many-to-Many relationship: a user can attend many events
-  @ManyToMany
+  @ManyToMany(fetch = FetchType.LAZY)
+  @JsonIgnore
   @JoinTable(
       name = "event_participants",  // Name of the join table
       joinColumns = @JoinColumn(name = "user_id"),  // Column for the user
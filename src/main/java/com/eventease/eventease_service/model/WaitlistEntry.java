@@ -0,0 +1,48 @@
+package com.eventease.eventease_service.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user waiting for a seat at a full event. Entries of an event are served in ticket order;
+ * tickets are handed out consecutively, so a user's place in line is their ticket minus the head's.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "event_waitlist", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"event_id", "ticket"}),
+    @UniqueConstraint(columnNames = {"event_id", "user_id"})
+})
+public class WaitlistEntry {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "event_id", nullable = false)
+  @OnDelete(action = OnDeleteAction.CASCADE)
+  private Event event;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  @OnDelete(action = OnDeleteAction.CASCADE)
+  private User user;
+
+  @Column(nullable = false)
+  private long ticket;
+
+  private LocalDateTime createdAt;
+
+  public WaitlistEntry(Event event, User user, long ticket) {
+    this.event = event;
+    this.user = user;
+    this.ticket = ticket;
+    this.createdAt = LocalDateTime.now();
+  }
+}
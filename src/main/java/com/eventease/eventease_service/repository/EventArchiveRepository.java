@@ -0,0 +1,363 @@
+package com.eventease.eventease_service.repository;
+
+import com.eventease.eventease_service.model.AttendeeSummary;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.EventImage;
+import com.eventease.eventease_service.model.RSVP;
+import com.eventease.eventease_service.model.Task;
+import com.eventease.eventease_service.model.User;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Moves old events, with their images, participants, RSVPs and tasks, from the hot tables into
+ * {@code *_archive} twins and reads them back. The archiving job creates the archive tables with
+ * {@code CREATE TABLE ... LIKE}, which copies columns and indexes but not foreign keys, and adds any
+ * column later added to their hot table before each run. Reads never change the schema: until the
+ * job has created the tables, they find nothing archived. Archived rows are returned as detached
+ * entities that are never written back.
+ */
+@Repository
+public class EventArchiveRepository {
+
+  // Archived in this order and deleted in reverse, so no foreign key is ever left dangling.
+  // Each entry is (hot table, column holding the event ID)
+  // SQL state of a query on a table that does not exist, on MySQL as on H2
+  private static final String TABLE_NOT_FOUND = "42S02";
+
+  private static final String[][] TABLES = {
+      {"event", "id"},
+      {"event_image", "event_id"},
+      {"event_participants", "event_id"},
+      {"rsvp", "event_id"},
+      {"tasks", "event_id"}
+  };
+
+  private final JdbcTemplate jdbcTemplate;
+  private final UserRepository userRepository;
+  // Serializes syncs; a lock rather than a monitor, so a virtual scheduler thread waiting on the
+  // database does not pin its carrier
+  private final ReentrantLock syncLock = new ReentrantLock();
+  // The columns copied from each hot table, as of the last sync; null until the tables are synced
+  private volatile Map<String, String> copiedColumns;
+
+  @Autowired
+  public EventArchiveRepository(JdbcTemplate jdbcTemplate, UserRepository userRepository) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.userRepository = userRepository;
+  }
+
+  /**
+   * Creates the archive tables if needed and adds the columns their hot tables have gained since.
+   * Runs DDL, which MySQL cannot roll back and which commits any open transaction, so it must be
+   * called outside a transaction, where it runs on the primary.
+   */
+  public void syncTables() {
+    syncLock.lock();
+    try {
+      syncTablesLocked();
+    } finally {
+      syncLock.unlock();
+    }
+  }
+
+  private void syncTablesLocked() {
+    Map<String, String> columnsByTable = new HashMap<>();
+    for (String[] table : TABLES) {
+      String hot = table[0];
+      String archive = hot + "_archive";
+      jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + archive + " LIKE " + hot);
+      Set<String> archived = new HashSet<>(columnTypes(archive).keySet());
+      Map<String, String> columns = columnTypes(hot);
+      columns.forEach((column, type) -> {
+        if (!archived.contains(column)) {
+          jdbcTemplate.execute("ALTER TABLE " + archive + " ADD COLUMN `" + column + "` " + type + " NULL");
+        }
+      });
+      columnsByTable.put(hot, columns.keySet().stream().map(column -> "`" + column + "`")
+          .collect(Collectors.joining(", ")));
+    }
+    copiedColumns = columnsByTable;
+  }
+
+  /**
+   * Archives up to limit events dated before the given day, oldest IDs first, in one transaction:
+   * the event rows are locked, every row of theirs is copied to the archive tables and then deleted
+   * from the hot ones, waitlist entries included. Events locked by another archiver are skipped.
+   * {@link #syncTables} must have run first.
+   *
+   * @return the IDs of the archived events; fewer than limit once nothing is left to archive
+   */
+  @Transactional
+  public List<Long> archiveBatch(LocalDate before, int limit) {
+    if (copiedColumns == null) {
+      throw new IllegalStateException("Archive tables have not been synced");
+    }
+    List<Long> eventIds = jdbcTemplate.queryForList(
+        "SELECT id FROM event WHERE date < ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+        Long.class, Date.valueOf(before), limit);
+    if (eventIds.isEmpty()) {
+      return eventIds;
+    }
+    String in = placeholders(eventIds.size());
+    Object[] args = eventIds.toArray();
+
+    // Under the default REPEATABLE READ isolation, INSERT ... SELECT share-locks the rows it copies,
+    // so a row cannot change between being copied and being deleted
+    for (String[] table : TABLES) {
+      String columns = copiedColumns.get(table[0]);
+      jdbcTemplate.update("INSERT INTO " + table[0] + "_archive (" + columns + ") SELECT " + columns
+          + " FROM " + table[0] + " WHERE " + table[1] + " IN (" + in + ")", args);
+    }
+    jdbcTemplate.update("DELETE FROM event_waitlist WHERE event_id IN (" + in + ")", args);
+    for (int i = TABLES.length - 1; i >= 0; i--) {
+      jdbcTemplate.update("DELETE FROM " + TABLES[i][0] + " WHERE " + TABLES[i][1] + " IN (" + in + ")", args);
+    }
+    return eventIds;
+  }
+
+  /**
+   * Returns the date of the newest archived event, or null if nothing has been archived.
+   */
+  public LocalDate findLatestArchivedDate() {
+    Date latest = readArchive(() -> jdbcTemplate.queryForObject("SELECT MAX(date) FROM event_archive", Date.class),
+        null);
+    return latest == null ? null : latest.toLocalDate();
+  }
+
+  /**
+   * Returns an archived event, or null if the event is not in the archive.
+   */
+  public Event findEventById(long id) {
+    List<Event> events = readArchive(() -> findEvents("WHERE id = ?", id), Collections.emptyList());
+    return events.isEmpty() ? null : events.get(0);
+  }
+
+  public List<Event> findEventsByDateRange(LocalDate startDate, LocalDate endDate) {
+    return readArchive(() -> findEvents("WHERE date BETWEEN ? AND ?", Date.valueOf(startDate), Date.valueOf(endDate)),
+        Collections.emptyList());
+  }
+
+  /**
+   * Returns the archived RSVPs of an event, ordered by user ID.
+   */
+  public List<RSVP> findRsvpsByEventId(long eventId) {
+    return readArchive(() -> findRsvps("SELECT r.* FROM rsvp_archive r WHERE r.event_id = ? ORDER BY r.user_id",
+        eventId), Collections.emptyList());
+  }
+
+  /**
+   * Returns up to limit of an archived event's attendees as lean rows, ordered by user ID and
+   * starting after afterUserId, optionally only those with the given status. Users are not
+   * archived, so RSVPs of users deleted since are left out.
+   */
+  public List<AttendeeSummary> findAttendeeSummaryPage(long eventId, long afterUserId, String status, int limit) {
+    String sql = "SELECT u.id, u.first_name, u.last_name, u.email, r.status, r.event_role, r.start_time, "
+        + "r.end_time FROM rsvp_archive r JOIN user u ON u.id = r.user_id WHERE r.event_id = ? AND r.user_id > ?";
+    Object[] args = status == null
+        ? new Object[] {eventId, afterUserId, limit}
+        : new Object[] {eventId, afterUserId, status, limit};
+    String filtered = status == null ? sql : sql + " AND r.status = ?";
+    return readArchive(() -> jdbcTemplate.query(filtered + " ORDER BY r.user_id LIMIT ?",
+        (rs, rowNum) -> new AttendeeSummary(rs.getLong("id"), rs.getString("first_name"),
+            rs.getString("last_name"), rs.getString("email"), rs.getString("status"), rs.getString("event_role"),
+            localDateTime(rs.getTimestamp("start_time")), localDateTime(rs.getTimestamp("end_time"))), args),
+        Collections.emptyList());
+  }
+
+  /**
+   * Counts an archived event's attendees, optionally only those with the given status, leaving out
+   * users deleted since like {@link #findAttendeeSummaryPage}.
+   */
+  public long countAttendees(long eventId, String status) {
+    String sql = "SELECT COUNT(*) FROM rsvp_archive r JOIN user u ON u.id = r.user_id WHERE r.event_id = ?";
+    Long count = status == null
+        ? readArchive(() -> jdbcTemplate.queryForObject(sql, Long.class, eventId), 0L)
+        : readArchive(() -> jdbcTemplate.queryForObject(sql + " AND r.status = ?", Long.class, eventId, status), 0L);
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * Returns a user's archived RSVPs, optionally only those with the given status, ordered by event date.
+   */
+  public List<RSVP> findRsvpsByUserId(long userId, String status) {
+    String sql = "SELECT r.* FROM rsvp_archive r JOIN event_archive e ON e.id = r.event_id WHERE r.user_id = ?";
+    if (status == null) {
+      return readArchive(() -> findRsvps(sql + " ORDER BY e.date", userId), Collections.emptyList());
+    }
+    return readArchive(() -> findRsvps(sql + " AND r.status = ? ORDER BY e.date", userId, status),
+        Collections.emptyList());
+  }
+
+  public List<Task> findTasksByEventId(long eventId) {
+    return readArchive(() -> findTasks(eventId), Collections.emptyList());
+  }
+
+  private List<Task> findTasks(long eventId) {
+    List<Object[]> rows = jdbcTemplate.query("SELECT * FROM tasks_archive WHERE event_id = ? ORDER BY id",
+        (rs, rowNum) -> {
+          Task task = new Task();
+          task.setId(rs.getLong("id"));
+          task.setName(rs.getString("name"));
+          task.setDescription(rs.getString("description"));
+          task.setStatus(Task.TaskStatus.valueOf(rs.getString("status")));
+          task.setVersion(nullableLong(rs, "version"));
+          return new Object[] {task, rs.getLong("event_id"), nullableLong(rs, "assigned_user_id")};
+        }, eventId);
+    if (rows.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Event event = findEventById(eventId);
+    Map<Long, User> users = findUsers(rows.stream().map(row -> (Long) row[2]).toList());
+    List<Task> tasks = new ArrayList<>(rows.size());
+    for (Object[] row : rows) {
+      Task task = (Task) row[0];
+      task.setEvent(event);
+      task.setAssignedUser(users.get((Long) row[2]));
+      tasks.add(task);
+    }
+    return tasks;
+  }
+
+  private List<Event> findEvents(String where, Object... args) {
+    List<Object[]> rows = jdbcTemplate.query("SELECT * FROM event_archive " + where + " ORDER BY date, id",
+        (rs, rowNum) -> new Object[] {mapEvent(rs), nullableLong(rs, "user_id")}, args);
+    if (rows.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Map<Long, User> hosts = findUsers(rows.stream().map(row -> (Long) row[1]).toList());
+    Map<Long, Event> events = new LinkedHashMap<>();
+    for (Object[] row : rows) {
+      Event event = (Event) row[0];
+      event.setHost(hosts.get((Long) row[1]));
+      event.setImages(new ArrayList<>());
+      events.put(event.getId(), event);
+    }
+    jdbcTemplate.query("SELECT url, event_id FROM event_image_archive WHERE event_id IN ("
+        + placeholders(events.size()) + ")", rs -> {
+          Event event = events.get(rs.getLong("event_id"));
+          event.getImages().add(new EventImage(rs.getString("url"), event));
+        }, events.keySet().toArray());
+    return new ArrayList<>(events.values());
+  }
+
+  private List<RSVP> findRsvps(String sql, Object... args) {
+    List<Object[]> rows = jdbcTemplate.query(sql, (rs, rowNum) -> {
+      RSVP rsvp = new RSVP();
+      rsvp.setStatus(rs.getString("status"));
+      rsvp.setStartTime(localDateTime(rs.getTimestamp("start_time")));
+      rsvp.setEndTime(localDateTime(rs.getTimestamp("end_time")));
+      rsvp.setNotes(rs.getString("notes"));
+      rsvp.setReminderSent(rs.getBoolean("reminder_sent"));
+      rsvp.setEventRole(rs.getString("event_role"));
+      rsvp.setVersion(nullableLong(rs, "version"));
+      rsvp.setUpdatedAt(localDateTime(rs.getTimestamp("updated_at")));
+      return new Object[] {rsvp, rs.getLong("event_id"), rs.getLong("user_id")};
+    }, args);
+    if (rows.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Set<Long> eventIds = rows.stream().map(row -> (Long) row[1]).collect(Collectors.toSet());
+    Map<Long, Event> events = findEvents("WHERE id IN (" + placeholders(eventIds.size()) + ")", eventIds.toArray())
+        .stream().collect(Collectors.toMap(Event::getId, Function.identity()));
+    Map<Long, User> users = findUsers(rows.stream().map(row -> (Long) row[2]).toList());
+    List<RSVP> rsvps = new ArrayList<>(rows.size());
+    for (Object[] row : rows) {
+      RSVP rsvp = (RSVP) row[0];
+      rsvp.setEvent(events.get((Long) row[1]));
+      rsvp.setUser(users.get((Long) row[2]));
+      rsvps.add(rsvp);
+    }
+    return rsvps;
+  }
+
+  // Users are not archived; one who has since been deleted is left out (null)
+  private Map<Long, User> findUsers(Collection<Long> userIds) {
+    Map<Long, User> users = new HashMap<>();
+    userRepository.findAllById(userIds.stream().filter(id -> id != null).collect(Collectors.toSet()))
+        .forEach(user -> users.put(user.getId(), user));
+    return users;
+  }
+
+  private static Event mapEvent(ResultSet rs) throws SQLException {
+    Event event = new Event();
+    event.setId(rs.getLong("id"));
+    event.setName(rs.getString("name"));
+    event.setDescription(rs.getString("description"));
+    event.setLocation(rs.getString("location"));
+    Date date = rs.getDate("date");
+    event.setDate(date == null ? null : date.toLocalDate());
+    event.setTime(localTime(rs.getTime("time")));
+    event.setEndTime(localTime(rs.getTime("end_time")));
+    event.setCapacity(rs.getInt("capacity"));
+    event.setBudget(rs.getInt("budget"));
+    event.setRsvpCount(rs.getInt("rsvp_count"));
+    event.setAttendanceCount(rs.getInt("attendance_count"));
+    event.setVersion(nullableLong(rs, "version"));
+    event.setSeriesId(nullableLong(rs, "series_id"));
+    return event;
+  }
+
+  private Map<String, String> columnTypes(String table) {
+    Map<String, String> columns = new LinkedHashMap<>();
+    jdbcTemplate.query("SELECT COLUMN_NAME, COLUMN_TYPE FROM information_schema.COLUMNS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? ORDER BY ORDINAL_POSITION",
+        rs -> {
+          columns.put(rs.getString(1), rs.getString(2));
+        }, table);
+    return columns;
+  }
+
+  // Runs a read of the archive tables, answering ifNotArchived while they have not been created
+  private static <T> T readArchive(Supplier<T> read, T ifNotArchived) {
+    try {
+      return read.get();
+    } catch (DataAccessException e) {
+      if (e.getMostSpecificCause() instanceof SQLException cause && TABLE_NOT_FOUND.equals(cause.getSQLState())) {
+        return ifNotArchived;
+      }
+      throw e;
+    }
+  }
+
+  private static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+
+  private static Long nullableLong(ResultSet rs, String column) throws SQLException {
+    long value = rs.getLong(column);
+    return rs.wasNull() ? null : value;
+  }
+
+  private static LocalTime localTime(Time time) {
+    return time == null ? null : time.toLocalTime();
+  }
+
+  private static LocalDateTime localDateTime(Timestamp timestamp) {
+    return timestamp == null ? null : timestamp.toLocalDateTime();
+  }
+}
@@ -0,0 +1,14 @@
+package com.eventease.eventease_service.repository;
+
+import com.eventease.eventease_service.model.EventDailyStats;
+import com.eventease.eventease_service.model.EventDailyStatsKey;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EventDailyStatsRepository extends JpaRepository<EventDailyStats, EventDailyStatsKey> {
+  // A range read on the (event_id, day) index: the rows of one event between two days
+  List<EventDailyStats> findByEventIdAndDayBetweenOrderByDay(Long eventId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,101 @@
+package com.eventease.eventease_service.repository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads an event's attendees and tasks for export as flat rows of the requested columns, handing
+ * each row to a callback as it arrives from MySQL. Nothing is mapped to entities and the result set
+ * is streamed rather than buffered, so memory stays flat however large the event is. Archived
+ * events are read from the {@code *_archive} tables, which have the same columns as the hot ones.
+ */
+@Repository
+public class EventExportRepository {
+
+  // Export column name -> SQL expression, in default export order
+  public static final Map<String, String> ATTENDEE_COLUMNS = columns(
+      "userId", "u.id",
+      "firstName", "u.first_name",
+      "lastName", "u.last_name",
+      "email", "u.email",
+      "phoneNumber", "u.phone_number",
+      "status", "r.status",
+      "eventRole", "r.event_role",
+      "startTime", "r.start_time",
+      "endTime", "r.end_time",
+      "notes", "r.notes");
+
+  public static final Map<String, String> TASK_COLUMNS = columns(
+      "taskId", "t.id",
+      "name", "t.name",
+      "description", "t.description",
+      "status", "t.status",
+      "assignedUserId", "t.assigned_user_id",
+      "assignedUserFirstName", "u.first_name",
+      "assignedUserLastName", "u.last_name",
+      "assignedUserEmail", "u.email");
+
+  private final JdbcTemplate streamingJdbcTemplate;
+
+  @Autowired
+  public EventExportRepository(JdbcTemplate jdbcTemplate) {
+    this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+    // Connector/J streams a forward-only, read-only result set row by row for this fetch size
+    // instead of reading it into memory whole
+    this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+  }
+
+  /**
+   * Streams the given columns of an event's RSVPs joined with their users, ordered by user ID.
+   * Users are not archived, so RSVPs of users deleted since are left out.
+   *
+   * @param archived whether the event has been moved to the archive tables
+   * @param columns keys of {@link #ATTENDEE_COLUMNS}
+   */
+  public void streamAttendees(long eventId, boolean archived, List<String> columns, RowCallbackHandler handler) {
+    streamingJdbcTemplate.query("SELECT " + select(ATTENDEE_COLUMNS, columns)
+        + " FROM " + table("rsvp", archived) + " r JOIN user u ON u.id = r.user_id WHERE r.event_id = ? "
+        + "ORDER BY r.user_id", handler, eventId);
+  }
+
+  /**
+   * Streams the given columns of an event's tasks joined with their assignees, ordered by task ID.
+   *
+   * @param archived whether the event has been moved to the archive tables
+   * @param columns keys of {@link #TASK_COLUMNS}
+   */
+  public void streamTasks(long eventId, boolean archived, List<String> columns, RowCallbackHandler handler) {
+    streamingJdbcTemplate.query("SELECT " + select(TASK_COLUMNS, columns)
+        + " FROM " + table("tasks", archived) + " t LEFT JOIN user u ON u.id = t.assigned_user_id "
+        + "WHERE t.event_id = ? ORDER BY t.id", handler, eventId);
+  }
+
+  private static String table(String hot, boolean archived) {
+    return archived ? hot + "_archive" : hot;
+  }
+
+  private static String select(Map<String, String> available, List<String> columns) {
+    return columns.stream().map(column -> {
+      String expression = available.get(column);
+      if (expression == null) {
+        throw new IllegalArgumentException("Unknown export column: " + column);
+      }
+      return expression;
+    }).collect(Collectors.joining(", "));
+  }
+
+  private static Map<String, String> columns(String... pairs) {
+    Map<String, String> columns = new LinkedHashMap<>();
+    for (int i = 0; i < pairs.length; i += 2) {
+      columns.put(pairs[i], pairs[i + 1]);
+    }
+    return Collections.unmodifiableMap(columns);
+  }
+}
@@ -3,15 +3,34 @@ package com.eventease.eventease_service.repository;
 import com.eventease.eventease_service.model.Event;
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryCustom {
   Event findById(long id);
 
+  Event findBySeriesIdAndDate(Long seriesId, LocalDate date);
+
   @Query("SELECT e FROM Event e WHERE e.date BETWEEN :startDate AND :endDate")
   List<Event> findEventsByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+  // Each row is (rsvpCount, attendanceCount, capacity)
+  @Query("SELECT e.rsvpCount, e.attendanceCount, e.capacity FROM Event e WHERE e.id = :eventId")
+  List<Object[]> findCountsById(@Param("eventId") long eventId);
+
+  // Each row is (version, rsvpCount, attendanceCount, host updatedAt): everything the event's JSON changes with
+  @Query("SELECT e.version, e.rsvpCount, e.attendanceCount, h.updatedAt FROM Event e JOIN e.host h "
+      + "WHERE e.id = :eventId")
+  List<Object[]> findValidatorById(@Param("eventId") long eventId);
+
+  Page<Event> findByHostId(Long hostId, Pageable pageable);
+
+  @Query(value = "SELECT e FROM Event e JOIN e.participants p WHERE p.id = :userId",
+      countQuery = "SELECT COUNT(e) FROM Event e JOIN e.participants p WHERE p.id = :userId")
+  Page<Event> findAttendedByUserId(@Param("userId") Long userId, Pageable pageable);
 }
@@ -0,0 +1,45 @@
+package com.eventease.eventease_service.repository;
+
+import com.eventease.eventease_service.model.EventCounter;
+import java.util.Map;
+
+/**
+ * Event persistence operations that bypass the entity and write counter columns directly.
+ */
+public interface EventRepositoryCustom {
+
+  /**
+   * Adds each delta to the given counter column of its event in one JDBC batch.
+   *
+   * @param counter the counter column to update
+   * @param deltasByEventId the delta to add, keyed by event ID
+   */
+  void addToCounter(EventCounter counter, Map<Long, Long> deltasByEventId);
+
+  /**
+   * Recomputes every event's RSVP and attendance counters, and its reserved seats, from the RSVP
+   * table.
+   *
+   * @return the number of event rows updated
+   */
+  int recomputeCounters();
+
+  /**
+   * Takes a seat of an event if one is left. The check and the increment are one conditional
+   * UPDATE, and the event row stays locked until the calling transaction ends, so reservations
+   * from any number of instances can never take more seats than the capacity.
+   *
+   * @return true if a seat was taken, false if the event is full or does not exist
+   */
+  boolean reserveSeat(long eventId);
+
+  /**
+   * Gives back a seat taken by {@link #reserveSeat} in the calling transaction.
+   */
+  void releaseSeat(long eventId);
+
+  /**
+   * Returns whether an event has a seat left, as of the last committed reservation.
+   */
+  boolean hasFreeSeat(long eventId);
+}
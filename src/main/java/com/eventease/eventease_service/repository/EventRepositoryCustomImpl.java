@@ -0,0 +1,70 @@
+package com.eventease.eventease_service.repository;
+
+import com.eventease.eventease_service.model.EventCounter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public EventRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  @Transactional
+  public void addToCounter(EventCounter counter, Map<Long, Long> deltasByEventId) {
+    if (deltasByEventId.isEmpty()) {
+      return;
+    }
+    String column = counter.getColumn();
+    String sql = "UPDATE event SET " + column + " = " + column + " + ? WHERE id = ?";
+
+    // Rows are always locked in ascending ID order so concurrent flushes cannot deadlock
+    List<Object[]> batchArgs = new ArrayList<>(deltasByEventId.size());
+    new TreeMap<>(deltasByEventId).forEach((eventId, delta) -> batchArgs.add(new Object[] {delta, eventId}));
+    jdbcTemplate.batchUpdate(sql, batchArgs);
+  }
+
+  @Override
+  @Transactional
+  public int recomputeCounters() {
+    return jdbcTemplate.update(
+        "UPDATE event e SET "
+            + "e.rsvp_count = (SELECT COUNT(*) FROM rsvp r WHERE r.event_id = e.id), "
+            + "e.attendance_count = (SELECT COUNT(*) FROM rsvp r WHERE r.event_id = e.id AND r.status = 'CheckedIn'), "
+            + "e.seats_reserved = (SELECT COUNT(*) FROM rsvp r WHERE r.event_id = e.id)");
+  }
+
+  // Events created before seats_reserved existed have it null and count their RSVPs instead
+  private static final String RESERVED_SEATS =
+      "COALESCE(seats_reserved, (SELECT COUNT(*) FROM rsvp r WHERE r.event_id = event.id))";
+
+  @Override
+  @Transactional
+  public boolean reserveSeat(long eventId) {
+    return jdbcTemplate.update("UPDATE event SET seats_reserved = " + RESERVED_SEATS + " + 1 "
+        + "WHERE id = ? AND " + RESERVED_SEATS + " < capacity", eventId) == 1;
+  }
+
+  @Override
+  @Transactional
+  public void releaseSeat(long eventId) {
+    jdbcTemplate.update("UPDATE event SET seats_reserved = seats_reserved - 1 WHERE id = ? AND seats_reserved > 0",
+        eventId);
+  }
+
+  @Override
+  public boolean hasFreeSeat(long eventId) {
+    Integer free = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM event WHERE id = ? AND " + RESERVED_SEATS + " < capacity", Integer.class, eventId);
+    return free != null && free > 0;
+  }
+}
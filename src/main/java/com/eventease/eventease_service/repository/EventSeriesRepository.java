@@ -0,0 +1,19 @@
+package com.eventease.eventease_service.repository;
+
+import com.eventease.eventease_service.model.EventSeries;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EventSeriesRepository extends JpaRepository<EventSeries, Long> {
+  EventSeries findById(long id);
+
+  // Series that can have an occurrence between the two dates, with their hosts in the same query
+  @Query("SELECT s FROM EventSeries s JOIN FETCH s.host WHERE s.startDate <= :endDate "
+      + "AND (s.untilDate IS NULL OR s.untilDate >= :startDate)")
+  List<EventSeries> findActiveBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,9 @@
+package com.eventease.eventease_service.repository;
+
+import com.eventease.eventease_service.model.EventStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EventStatsRepository extends JpaRepository<EventStats, Long>, EventStatsRepositoryCustom {
+}
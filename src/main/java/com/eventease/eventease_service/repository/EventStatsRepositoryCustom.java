@@ -0,0 +1,33 @@
+package com.eventease.eventease_service.repository;
+
+import com.eventease.eventease_service.model.EventStatsDelta;
+import java.util.Collection;
+
+/**
+ * Rollup writes that add to the stored figures in place instead of loading and saving entities.
+ */
+public interface EventStatsRepositoryCustom {
+
+  /**
+   * Locks the outbox offset a rollup has been applied up to, for the rest of the transaction.
+   *
+   * @param name the name the offset is stored under
+   * @return the offset, 0 if the rollup has never been applied
+   */
+  long lockAppliedOffset(String name);
+
+  void updateAppliedOffset(String name, long offset);
+
+  /**
+   * Adds each delta to its event's daily row, and the cancellations to the event's totals, in
+   * one JDBC batch per table. Missing rows are created.
+   */
+  void addDeltas(Collection<EventStatsDelta> deltas);
+
+  /**
+   * Recounts the tasks of the given events, and how many of them are completed.
+   */
+  void refreshTaskCounts(Collection<Long> eventIds);
+
+  void deleteByEventIds(Collection<Long> eventIds);
+}
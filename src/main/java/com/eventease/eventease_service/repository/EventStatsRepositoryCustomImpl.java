@@ -0,0 +1,102 @@
+package com.eventease.eventease_service.repository;
+
+import com.eventease.eventease_service.model.EventStatsDelta;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+public class EventStatsRepositoryCustomImpl implements EventStatsRepositoryCustom {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public EventStatsRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  // The offset is kept next to the subscriber offsets but under its own name, so that it commits
+  // with the rollup instead of after it
+  @Override
+  @Transactional
+  public long lockAppliedOffset(String name) {
+    jdbcTemplate.update("INSERT IGNORE INTO outbox_subscriber_offset (subscriber, last_offset, updated_at) "
+        + "VALUES (?, 0, CURRENT_TIMESTAMP)", name);
+    Long offset = jdbcTemplate.queryForObject(
+        "SELECT last_offset FROM outbox_subscriber_offset WHERE subscriber = ? FOR UPDATE", Long.class, name);
+    return offset == null ? 0 : offset;
+  }
+
+  @Override
+  @Transactional
+  public void updateAppliedOffset(String name, long offset) {
+    jdbcTemplate.update("UPDATE outbox_subscriber_offset SET last_offset = ?, updated_at = CURRENT_TIMESTAMP "
+        + "WHERE subscriber = ?", offset, name);
+  }
+
+  @Override
+  @Transactional
+  public void addDeltas(Collection<EventStatsDelta> deltas) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+    // Rows are always written in ascending primary key order, (day, event_id), so concurrent
+    // rollups cannot deadlock
+    List<EventStatsDelta> ordered = new ArrayList<>(deltas);
+    ordered.sort((a, b) -> a.day().equals(b.day())
+        ? a.eventId().compareTo(b.eventId()) : a.day().compareTo(b.day()));
+    List<Object[]> dailyArgs = new ArrayList<>(ordered.size());
+    Map<Long, Integer> cancellations = new TreeMap<>();
+    for (EventStatsDelta delta : ordered) {
+      dailyArgs.add(new Object[] {delta.eventId(), Date.valueOf(delta.day()), delta.rsvps(), delta.cancellations(),
+          delta.checkIns()});
+      cancellations.merge(delta.eventId(), delta.cancellations(), Integer::sum);
+    }
+    jdbcTemplate.batchUpdate("INSERT INTO event_daily_stats (event_id, day, rsvps, cancellations, check_ins) "
+        + "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE rsvps = rsvps + VALUES(rsvps), "
+        + "cancellations = cancellations + VALUES(cancellations), check_ins = check_ins + VALUES(check_ins)",
+        dailyArgs);
+
+    List<Object[]> totalArgs = new ArrayList<>(cancellations.size());
+    cancellations.forEach((eventId, count) -> totalArgs.add(new Object[] {eventId, count}));
+    jdbcTemplate.batchUpdate("INSERT INTO event_stats (event_id, cancellation_count, task_count, tasks_completed, "
+        + "updated_at) VALUES (?, ?, 0, 0, CURRENT_TIMESTAMP) ON DUPLICATE KEY UPDATE "
+        + "cancellation_count = cancellation_count + VALUES(cancellation_count), updated_at = VALUES(updated_at)",
+        totalArgs);
+  }
+
+  @Override
+  @Transactional
+  public void refreshTaskCounts(Collection<Long> eventIds) {
+    if (eventIds.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.update("INSERT INTO event_stats (event_id, cancellation_count, task_count, tasks_completed, updated_at) "
+        + "SELECT * FROM (SELECT e.id, 0, COUNT(t.id) AS task_count, "
+        + "COALESCE(SUM(t.status = 'COMPLETED'), 0) AS tasks_completed, CURRENT_TIMESTAMP "
+        + "FROM event e LEFT JOIN tasks t ON t.event_id = e.id WHERE e.id IN (" + placeholders(eventIds.size())
+        + ") GROUP BY e.id) AS counts ON DUPLICATE KEY UPDATE task_count = VALUES(task_count), "
+        + "tasks_completed = VALUES(tasks_completed), updated_at = VALUES(updated_at)", eventIds.toArray());
+  }
+
+  @Override
+  @Transactional
+  public void deleteByEventIds(Collection<Long> eventIds) {
+    if (eventIds.isEmpty()) {
+      return;
+    }
+    String in = placeholders(eventIds.size());
+    jdbcTemplate.update("DELETE FROM event_daily_stats WHERE event_id IN (" + in + ")", eventIds.toArray());
+    jdbcTemplate.update("DELETE FROM event_stats WHERE event_id IN (" + in + ")", eventIds.toArray());
+  }
+
+  private static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+}
@@ -0,0 +1,35 @@
+package com.eventease.eventease_service.repository;
+
+import com.eventease.eventease_service.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>, OutboxEventRepositoryCustom {
+
+  @Query("SELECT COALESCE(MAX(o.seq), 0) FROM OutboxEvent o")
+  long findMaxSeq();
+
+  @Query("SELECT o FROM OutboxEvent o WHERE o.seq > :afterSeq ORDER BY o.seq")
+  List<OutboxEvent> findAfter(@Param("afterSeq") long afterSeq, Pageable pageable);
+
+  @Query("SELECT o FROM OutboxEvent o WHERE o.seq > :afterSeq AND o.seq <= :upToSeq ORDER BY o.seq")
+  List<OutboxEvent> findBetween(@Param("afterSeq") long afterSeq, @Param("upToSeq") long upToSeq, Pageable pageable);
+
+  // Rows are deleted in chunks from the low end of the sequence so each statement stays short;
+  // rows not numbered yet are never deleted
+  @Modifying
+  @Transactional
+  @Query(value = "DELETE FROM outbox_event WHERE seq <= :maxSeq AND created_at < :createdBefore ORDER BY seq LIMIT :chunk",
+      nativeQuery = true)
+  int deleteConsumed(@Param("maxSeq") long maxSeq, @Param("createdBefore") Timestamp createdBefore,
+                     @Param("chunk") int chunk);
+}
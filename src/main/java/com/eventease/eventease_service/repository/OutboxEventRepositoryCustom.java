@@ -0,0 +1,25 @@
+package com.eventease.eventease_service.repository;
+
+/**
+ * Numbers outbox rows in the order their transactions committed. IDs are allocated at insert time
+ * and become visible at commit, so they can show up out of order or never; the sequence number
+ * is given to a row only once it is visible, so subscribers reading in sequence order never see
+ * a gap and never miss a late commit.
+ */
+public interface OutboxEventRepositoryCustom {
+
+  /**
+   * Creates the row holding the last sequence number handed out, if it does not exist yet,
+   * continuing after every number already in the outbox or consumed by a subscriber.
+   */
+  void createSequence();
+
+  /**
+   * Numbers up to {@code limit} committed rows that have no sequence number yet, in ID order,
+   * continuing after the last number handed out. One instance numbers at a time; while another
+   * holds the sequence this returns without waiting.
+   *
+   * @return the number of rows numbered
+   */
+  int assignSequence(int limit);
+}
@@ -0,0 +1,55 @@
+package com.eventease.eventease_service.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+public class OutboxEventRepositoryCustomImpl implements OutboxEventRepositoryCustom {
+
+  // Earlier versions kept the sequence as a pseudo subscriber offset under this name
+  private static final String LEGACY_SEQUENCE = "outbox.sequence";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public OutboxEventRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  @Transactional
+  public void createSequence() {
+    // Starts after every number already handed out, even once the outbox has been purged empty
+    jdbcTemplate.update("INSERT IGNORE INTO outbox_sequence (id, last_seq) SELECT 1, GREATEST("
+        + "COALESCE((SELECT MAX(seq) FROM outbox_event), 0), "
+        + "COALESCE((SELECT MAX(last_offset) FROM outbox_subscriber_offset), 0))");
+    jdbcTemplate.update("DELETE FROM outbox_subscriber_offset WHERE subscriber = ?", LEGACY_SEQUENCE);
+  }
+
+  // The sequence row is locked before the unnumbered rows are read, so the read sees every row
+  // the previous holder numbered, and the numbers it hands out continue without a gap
+  @Override
+  @Transactional
+  public int assignSequence(int limit) {
+    List<Long> last = jdbcTemplate.queryForList(
+        "SELECT last_seq FROM outbox_sequence WHERE id = 1 FOR UPDATE SKIP LOCKED", Long.class);
+    if (last.isEmpty()) {
+      return 0;
+    }
+    List<Long> ids = jdbcTemplate.queryForList(
+        "SELECT id FROM outbox_event WHERE seq IS NULL ORDER BY id LIMIT ?", Long.class, limit);
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    long seq = last.get(0);
+    List<Object[]> args = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      args.add(new Object[] {++seq, id});
+    }
+    jdbcTemplate.batchUpdate("UPDATE outbox_event SET seq = ? WHERE id = ?", args);
+    jdbcTemplate.update("UPDATE outbox_sequence SET last_seq = ? WHERE id = 1", seq);
+    return ids.size();
+  }
+}
@@ -1,9 +1,11 @@
 package com.eventease.eventease_service.repository;
 
+import com.eventease.eventease_service.model.AttendeeSummary;
 import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.model.RSVP;
 import com.eventease.eventease_service.model.RSVPKey;
 import com.eventease.eventease_service.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
@@ -19,6 +21,18 @@ public interface RSVPRepository extends JpaRepository<RSVP, RSVPKey> {
   Optional<RSVP> findByUserAndEvent(User user, Event event);
 
   List<RSVP> findByEvent(Event event);
+
+  // Keyset page of an event's attendees as lean rows, optionally only those with the given status
+  @Query("SELECT new com.eventease.eventease_service.model.AttendeeSummary(u.id, u.firstName, u.lastName, "
+          + "u.email, r.status, r.eventRole, r.startTime, r.endTime) FROM RSVP r JOIN r.user u "
+          + "WHERE r.event.id = :eventId AND u.id > :afterUserId AND (:status IS NULL OR r.status = :status) "
+          + "ORDER BY u.id")
+  List<AttendeeSummary> findSummaryPageByEventId(@Param("eventId") Long eventId,
+                                                 @Param("afterUserId") Long afterUserId,
+                                                 @Param("status") String status, Pageable pageable);
+
+  @Query("SELECT COUNT(r) FROM RSVP r WHERE r.event.id = :eventId AND (:status IS NULL OR r.status = :status)")
+  long countByEventIdAndStatus(@Param("eventId") Long eventId, @Param("status") String status);
   
   List<RSVP> findAllByUserOrderByEventDate(User user);
 
@@ -31,4 +45,15 @@ public interface RSVPRepository extends JpaRepository<RSVP, RSVPKey> {
   List<RSVP> findOverlappingRSVPs(@Param("userId") Long userId,
                                   @Param("startTime") LocalDateTime startTime,
                                   @Param("endTime") LocalDateTime endTime);
+
+  // A single row (count, latest RSVP write, version sum, latest user write) fingerprinting an event's RSVPs
+  @Query("SELECT COUNT(u.id), MAX(r.updatedAt), SUM(r.version), MAX(u.updatedAt) FROM RSVP r JOIN r.user u "
+          + "WHERE r.event.id = :eventId")
+  List<Object[]> findValidatorByEventId(@Param("eventId") Long eventId);
+
+  // A single row fingerprinting a user's RSVPs and the events embedded in them
+  @Query("SELECT COUNT(e.id), MAX(r.updatedAt), SUM(r.version), SUM(e.version), SUM(e.rsvpCount), "
+          + "SUM(e.attendanceCount), MAX(h.updatedAt), MAX(u.updatedAt) "
+          + "FROM RSVP r JOIN r.user u JOIN r.event e JOIN e.host h WHERE u.id = :userId")
+  List<Object[]> findValidatorByUserId(@Param("userId") Long userId);
 }
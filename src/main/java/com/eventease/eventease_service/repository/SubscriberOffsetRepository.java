@@ -0,0 +1,33 @@
+package com.eventease.eventease_service.repository;
+
+import com.eventease.eventease_service.model.SubscriberOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+
+@Repository
+public interface SubscriberOffsetRepository extends JpaRepository<SubscriberOffset, String> {
+
+  @Modifying
+  @Transactional
+  @Query("UPDATE SubscriberOffset s SET s.lastOffset = :offset, s.updatedAt = CURRENT_TIMESTAMP "
+      + "WHERE s.subscriber = :subscriber")
+  int updateOffset(@Param("subscriber") String subscriber, @Param("offset") long offset);
+
+  // Marks the offsets as belonging to a live instance even when no events arrive
+  @Modifying
+  @Transactional
+  @Query("UPDATE SubscriberOffset s SET s.updatedAt = CURRENT_TIMESTAMP WHERE s.subscriber IN :subscribers")
+  int touch(@Param("subscribers") Collection<String> subscribers);
+
+  // The lowest offset matching the pattern across the instances that were live since the given time
+  @Query("SELECT MIN(s.lastOffset) FROM SubscriberOffset s WHERE s.subscriber LIKE :pattern "
+      + "AND s.updatedAt >= :activeSince")
+  Long findMinOffset(@Param("pattern") String pattern, @Param("activeSince") Timestamp activeSince);
+}
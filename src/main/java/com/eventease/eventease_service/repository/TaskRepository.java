@@ -1,6 +1,7 @@
 package com.eventease.eventease_service.repository;
 
 import com.eventease.eventease_service.model.Task;
+import com.eventease.eventease_service.model.TaskBoardItem;
 import com.eventease.eventease_service.model.User;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,11 +9,12 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 
     Optional<Task> findById(Long id);
 
@@ -20,15 +22,35 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByEventId(Long eventId);
 
 
-    @Modifying
+    @Query("SELECT new com.eventease.eventease_service.model.TaskBoardItem("
+            + "t.id, t.name, t.status, u.id, u.firstName, u.lastName) "
+            + "FROM Task t JOIN t.assignedUser u WHERE t.event.id = :eventId ORDER BY t.id")
+    List<TaskBoardItem> findBoardItemsByEventId(Long eventId);
+
+    // Each row is (status, count)
+    @Query("SELECT t.status, COUNT(t) FROM Task t WHERE t.event.id = :eventId GROUP BY t.status")
+    List<Object[]> countByStatusForEvent(Long eventId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.event.id = :eventId AND t.id IN :taskIds")
+    List<Long> findIdsByEventIdAndIdIn(Long eventId, Collection<Long> taskIds);
+
+    // Bulk updates bypass @Version, so they bump it themselves to fail any concurrent entity update
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Transactional
-    @Query("UPDATE Task t SET t.status = :status WHERE t.id = :taskId AND t.event.id = :eventId")
-    int updateTaskStatus(Long taskId, Long eventId, Task.TaskStatus status);
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1 "
+            + "WHERE t.event.id = :eventId AND t.id IN :taskIds")
+    int updateStatusByEventIdAndIdIn(Long eventId, Collection<Long> taskIds, Task.TaskStatus status);
 
-    @Modifying
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Task t SET t.assignedUser = :user, t.version = t.version + 1 "
+            + "WHERE t.event.id = :eventId AND t.id IN :taskIds")
+    int updateAssignedUserByEventIdAndIdIn(Long eventId, Collection<Long> taskIds, User user);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Transactional
-    @Query("UPDATE Task t SET t.assignedUser = :user WHERE t.id = :taskId AND t.event.id = :eventId")
-    int updateTaskAssignedUser(Long taskId, User user);
+    @Query("DELETE FROM Task t WHERE t.event.id = :eventId AND t.id IN :taskIds")
+    int deleteByEventIdAndIdIn(Long eventId, Collection<Long> taskIds);
 
 
     @Modifying
@@ -38,4 +60,8 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     @Query("SELECT t FROM Task t WHERE t.assignedUser.id = :userId")
     List<Task> findByAssignedUserId(Long userId);
+
+    // Each row is (id, version); the task's JSON only refers to its event and user by ID
+    @Query("SELECT t.id, t.version FROM Task t WHERE t.id = :taskId")
+    List<Object[]> findValidatorById(Long taskId);
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.eventease.eventease_service.repository;
+
+import com.eventease.eventease_service.model.Task;
+import java.util.List;
+
+/**
+ * Task persistence operations that write through JDBC batches instead of the entity manager.
+ */
+public interface TaskRepositoryCustom {
+
+  /**
+   * Inserts the tasks for one event in a single JDBC batch. Each task must have a name, a status
+   * and an assigned user with an ID; the event of the task is ignored.
+   *
+   * @param eventId the ID of the event the tasks belong to
+   * @param tasks the tasks to insert
+   * @return the generated task IDs, in the order of the given tasks
+   */
+  List<Long> insertAll(Long eventId, List<Task> tasks);
+}
@@ -0,0 +1,66 @@
+package com.eventease.eventease_service.repository;
+
+import com.eventease.eventease_service.model.Task;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO tasks (name, description, status, event_id, assigned_user_id, version) VALUES (?, ?, ?, ?, ?, 0)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public TaskRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Task IDs are IDENTITY columns, which stops Hibernate from batching inserts, so the rows are
+   * written here as one JDBC batch that still returns the generated keys.
+   */
+  @Override
+  @Transactional
+  public List<Long> insertAll(Long eventId, List<Task> tasks) {
+    if (tasks.isEmpty()) {
+      return List.of();
+    }
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.batchUpdate(
+        connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            Task task = tasks.get(i);
+            ps.setString(1, task.getName());
+            ps.setString(2, task.getDescription());
+            ps.setString(3, task.getStatus().name());
+            ps.setLong(4, eventId);
+            ps.setLong(5, task.getAssignedUser().getId());
+          }
+
+          @Override
+          public int getBatchSize() {
+            return tasks.size();
+          }
+        },
+        keyHolder);
+
+    List<Long> ids = new ArrayList<>(tasks.size());
+    for (Map<String, Object> keys : keyHolder.getKeyList()) {
+      ids.add(((Number) keys.values().iterator().next()).longValue());
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,21 @@
+package com.eventease.eventease_service.repository;
+
+import com.eventease.eventease_service.model.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+
+  @Query("SELECT w.user.id, w.ticket FROM WaitlistEntry w WHERE w.event.id = :eventId ORDER BY w.ticket")
+  List<Object[]> findTicketsByEventId(@Param("eventId") Long eventId);
+
+  @Modifying
+  @Query("DELETE FROM WaitlistEntry w WHERE w.event.id = :eventId AND w.user.id = :userId")
+  int deleteByEventIdAndUserId(@Param("eventId") Long eventId, @Param("userId") Long userId);
+}
@@ -0,0 +1,116 @@
+package com.eventease.eventease_service.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ConflictRetryExecutor runs a read-modify-write operation in its own transaction and retries it when
+ * it loses a concurrent update, as detected by {@code @Version} optimistic locking or a lock timeout.
+ * Retries back off exponentially with full jitter so that writers colliding on a hot row spread out
+ * instead of colliding again. Attempts, conflicts and calls that gave up are counted per operation
+ * name as {@code retry.conflict.attempts}, {@code retry.conflict.conflicts} and
+ * {@code retry.conflict.exhausted}, tagged with {@code operation}; the conflict rate is
+ * {@code conflicts / attempts}.
+ */
+@Service
+public class ConflictRetryExecutor {
+
+  private static final Logger logger = LoggerFactory.getLogger(ConflictRetryExecutor.class);
+
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+  private final int maxAttempts;
+  private final long baseBackoffMillis;
+  private final long maxBackoffMillis;
+  private final Map<String, ConflictMeters> meters = new ConcurrentHashMap<>();
+
+  @Autowired
+  public ConflictRetryExecutor(PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${retry.conflict.max-attempts:5}") int maxAttempts,
+                               @Value("${retry.conflict.base-backoff-ms:10}") long baseBackoffMillis,
+                               @Value("${retry.conflict.max-backoff-ms:200}") long maxBackoffMillis) {
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.meterRegistry = meterRegistry;
+    this.maxAttempts = maxAttempts;
+    this.baseBackoffMillis = baseBackoffMillis;
+    this.maxBackoffMillis = maxBackoffMillis;
+  }
+
+  /**
+   * Runs an operation in a new transaction, retrying it on concurrency conflicts. The operation must
+   * re-read everything it modifies, since each attempt starts from a clean persistence context.
+   * When a transaction is already active the operation simply joins it and is not retried, because
+   * a conflict has already doomed the enclosing transaction.
+   *
+   * @param operation the name under which attempts and conflicts are counted
+   * @param action the operation to run
+   * @return the result of the first successful attempt
+   * @throws ConcurrencyFailureException if every attempt conflicted
+   */
+  public <T> T execute(String operation, Supplier<T> action) {
+    ConflictMeters operationMeters = meters.computeIfAbsent(operation, this::registerMeters);
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      operationMeters.attempts().increment();
+      return action.get();
+    }
+
+    for (int attempt = 1; ; attempt++) {
+      operationMeters.attempts().increment();
+      try {
+        return transactionTemplate.execute(status -> action.get());
+      } catch (ConcurrencyFailureException e) {
+        operationMeters.conflicts().increment();
+        if (attempt >= maxAttempts) {
+          operationMeters.exhausted().increment();
+          logger.warn("{} still conflicting after {} attempts", operation, attempt);
+          throw e;
+        }
+        logger.debug("{} conflicted on attempt {}, retrying", operation, attempt);
+        backOff(attempt);
+      }
+    }
+  }
+
+  public void run(String operation, Runnable action) {
+    execute(operation, () -> {
+      action.run();
+      return null;
+    });
+  }
+
+  private void backOff(int attempt) {
+    long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20));
+    long sleepMillis = ThreadLocalRandom.current().nextLong(ceiling + 1);
+    try {
+      Thread.sleep(sleepMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while backing off from a write conflict", e);
+    }
+  }
+
+  // Looked up once per operation, so a call only increments counters it already holds
+  private ConflictMeters registerMeters(String operation) {
+    return new ConflictMeters(
+        meterRegistry.counter("retry.conflict.attempts", "operation", operation),
+        meterRegistry.counter("retry.conflict.conflicts", "operation", operation),
+        meterRegistry.counter("retry.conflict.exhausted", "operation", operation));
+  }
+
+  private record ConflictMeters(Counter attempts, Counter conflicts, Counter exhausted) {
+  }
+}
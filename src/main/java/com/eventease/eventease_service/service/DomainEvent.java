@@ -0,0 +1,16 @@
+package com.eventease.eventease_service.service;
+
+import com.eventease.eventease_service.model.DomainEventType;
+import java.time.Instant;
+
+/**
+ * A committed change delivered by the {@link DomainEventBus}.
+ *
+ * @param offset the outbox offset of the event, increasing in commit order
+ * @param type what changed
+ * @param aggregateId the ID of the changed aggregate
+ * @param payload the JSON payload written with the event
+ * @param occurredAt when the change was made
+ */
+public record DomainEvent(long offset, DomainEventType type, Long aggregateId, String payload, Instant occurredAt) {
+}
@@ -0,0 +1,404 @@
+package com.eventease.eventease_service.service;
+
+import com.eventease.eventease_service.model.DomainEventType;
+import com.eventease.eventease_service.model.OutboxEvent;
+import com.eventease.eventease_service.model.SubscriberOffset;
+import com.eventease.eventease_service.repository.OutboxEventRepository;
+import com.eventease.eventease_service.repository.SubscriberOffsetRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * DomainEventBus delivers the changes made by the service layer to in-process subscribers.
+ * Writers {@link #publish} into the outbox table inside their own transaction, so an event exists
+ * exactly when its change committed. A relay numbers committed rows in commit order, then polls
+ * the outbox in that order and hands new rows to a single dispatcher thread through a lock-free
+ * single-producer/single-consumer ring buffer; the dispatcher delivers them to every subscriber in
+ * batches and records each subscriber's offset after the batch succeeds. A subscriber that fails,
+ * is behind at startup, or is asked to {@link #replay} is caught up from the table on the
+ * dispatcher thread until it rejoins the live stream. Every instance delivers every event to its
+ * own subscribers and keeps its own offsets; rows the subscribers of all live instances have
+ * consumed are purged once they are older than the retention.
+ */
+@Service
+public class DomainEventBus {
+
+  private static final Logger logger = LoggerFactory.getLogger(DomainEventBus.class);
+
+  private static final int PURGE_CHUNK = 10_000;
+  private static final long MAX_RETRY_BACKOFF_MILLIS = 60_000;
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final SubscriberOffsetRepository subscriberOffsetRepository;
+  private final ObjectProvider<DomainEventSubscriber> subscriberProvider;
+  private final ObjectMapper objectMapper;
+  private final SpscRingBuffer<DomainEvent> ringBuffer;
+  private final int relayBatchSize;
+  private final int dispatchBatchSize;
+  private final String instanceId;
+  private final long retryBackoffMillis;
+  private final long retentionMillis;
+
+  // Serializes start and relay, which query the outbox while holding it; a lock rather than a
+  // monitor, so a virtual scheduler thread waiting on the database does not pin its carrier
+  private final ReentrantLock relayLock = new ReentrantLock();
+
+  // Relay state, guarded by relayLock; the relay is the ring buffer's only producer
+  private long relayCursor;
+
+  // Dispatcher state, only touched by the dispatcher thread once it is running
+  private final Map<String, SubscriberState> subscribers = new LinkedHashMap<>();
+  private long lastDispatched;
+
+  private final ConcurrentLinkedQueue<ReplayRequest> replayRequests = new ConcurrentLinkedQueue<>();
+  private volatile boolean started;
+  private volatile boolean running;
+  private volatile Thread dispatcher;
+
+  @Autowired
+  public DomainEventBus(OutboxEventRepository outboxEventRepository,
+                        SubscriberOffsetRepository subscriberOffsetRepository,
+                        ObjectProvider<DomainEventSubscriber> subscriberProvider,
+                        ObjectMapper objectMapper,
+                        @Value("${outbox.ring-buffer-size:8192}") int ringBufferSize,
+                        @Value("${outbox.relay-batch-size:1000}") int relayBatchSize,
+                        @Value("${outbox.dispatch-batch-size:500}") int dispatchBatchSize,
+                        @Value("${outbox.instance-id:${HOSTNAME:local}}") String instanceId,
+                        @Value("${outbox.retry-backoff-ms:1000}") long retryBackoffMillis,
+                        @Value("${outbox.retention-ms:86400000}") long retentionMillis) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.subscriberOffsetRepository = subscriberOffsetRepository;
+    this.subscriberProvider = subscriberProvider;
+    this.objectMapper = objectMapper;
+    this.ringBuffer = new SpscRingBuffer<>(ringBufferSize);
+    this.relayBatchSize = relayBatchSize;
+    this.dispatchBatchSize = dispatchBatchSize;
+    this.instanceId = instanceId;
+    this.retryBackoffMillis = retryBackoffMillis;
+    this.retentionMillis = retentionMillis;
+  }
+
+  /**
+   * Records a change in the outbox. Called inside a transaction, the row commits or rolls back with
+   * the change; without one it is written in its own transaction right after the caller's write.
+   *
+   * @param type what changed
+   * @param aggregateId the ID of the changed aggregate
+   * @param payload the fields subscribers need, serialized as JSON
+   */
+  public void publish(DomainEventType type, Long aggregateId, Map<String, Object> payload) {
+    String json;
+    try {
+      json = objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Domain event payload is not serializable", e);
+    }
+    outboxEventRepository.save(new OutboxEvent(type, aggregateId, json));
+  }
+
+  /**
+   * Loads this instance's subscriber offsets and starts the relay and dispatcher. Subscribers seen
+   * for the first time start at the current head of the outbox; the relay resumes after the furthest
+   * one, and any subscriber behind it starts out catching up from the table. Without subscribers
+   * the relay still numbers rows, so that they can be purged, but no dispatcher is started.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    relayLock.lock();
+    try {
+      startLocked();
+    } finally {
+      relayLock.unlock();
+    }
+  }
+
+  private void startLocked() {
+    if (started) {
+      return;
+    }
+    outboxEventRepository.createSequence();
+    List<DomainEventSubscriber> registered = subscriberProvider.orderedStream().toList();
+    if (registered.isEmpty()) {
+      running = true;
+      started = true;
+      logger.info("No domain event subscribers registered on {}, relaying without a dispatcher", instanceId);
+      return;
+    }
+
+    long head = outboxEventRepository.findMaxSeq();
+    long resumeFrom = 0;
+    for (DomainEventSubscriber subscriber : registered) {
+      String key = subscriber.getName() + "@" + instanceId;
+      long offset = subscriberOffsetRepository.findById(key)
+          .orElseGet(() -> subscriberOffsetRepository.save(new SubscriberOffset(key, head)))
+          .getLastOffset();
+      subscribers.put(subscriber.getName(), new SubscriberState(subscriber, key, offset));
+      resumeFrom = Math.max(resumeFrom, offset);
+    }
+    for (SubscriberState state : subscribers.values()) {
+      state.catchingUp = state.offset < resumeFrom;
+    }
+    relayCursor = resumeFrom;
+    lastDispatched = resumeFrom;
+
+    running = true;
+    started = true;
+    dispatcher = new Thread(this::dispatchLoop, "domain-event-dispatcher");
+    dispatcher.setDaemon(true);
+    dispatcher.start();
+    logger.info("Domain event bus started at offset {} for {} subscribers on {}", resumeFrom, subscribers.size(),
+        instanceId);
+  }
+
+  /**
+   * Numbers newly committed outbox rows and moves them into the ring buffer in offset order. A
+   * transaction that commits late simply gets a later number, so nothing waits on rows still in
+   * flight and none of them is skipped.
+   *
+   * @return the number of events handed to the dispatcher
+   */
+  @Scheduled(fixedDelayString = "${outbox.relay-interval-ms:100}")
+  public int relay() {
+    relayLock.lock();
+    try {
+      return relayLocked();
+    } finally {
+      relayLock.unlock();
+    }
+  }
+
+  private int relayLocked() {
+    if (!running) {
+      return 0;
+    }
+    outboxEventRepository.assignSequence(relayBatchSize);
+    if (subscribers.isEmpty()) {
+      return 0;
+    }
+    int room = ringBuffer.remainingCapacity();
+    if (room == 0) {
+      return 0;
+    }
+
+    int relayed = 0;
+    List<OutboxEvent> rows = outboxEventRepository.findAfter(relayCursor, PageRequest.of(0, Math.min(room, relayBatchSize)));
+    for (OutboxEvent row : rows) {
+      ringBuffer.offer(toDomainEvent(row));
+      relayCursor = row.getSeq();
+      relayed++;
+    }
+    if (relayed > 0) {
+      LockSupport.unpark(dispatcher);
+    }
+    return relayed;
+  }
+
+  /**
+   * Rewinds a subscriber so that every event after {@code offset} is delivered to it again.
+   *
+   * @param subscriber the subscriber name
+   * @param offset the last offset to treat as processed
+   */
+  public void replay(String subscriber, long offset) {
+    if (!running || !subscribers.containsKey(subscriber)) {
+      throw new IllegalArgumentException("Unknown domain event subscriber: " + subscriber);
+    }
+    if (offset < 0) {
+      throw new IllegalArgumentException("Offset must not be negative");
+    }
+    replayRequests.add(new ReplayRequest(subscriber, offset));
+    LockSupport.unpark(dispatcher);
+  }
+
+  /**
+   * Deletes outbox rows that every subscriber on every live instance has consumed and that are
+   * older than the retention, which is how far back a replay can reach. An instance counts as live
+   * while its offsets were written or touched by a purge within the retention; while no instance
+   * has live subscribers, every numbered row past the retention is deleted.
+   *
+   * @return the number of rows deleted
+   */
+  @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}")
+  public int purge() {
+    if (!started) {
+      return 0;
+    }
+    Timestamp cutoff = new Timestamp(System.currentTimeMillis() - retentionMillis);
+    if (!subscribers.isEmpty()) {
+      subscriberOffsetRepository.touch(subscribers.values().stream().map(state -> state.key).toList());
+    }
+    // Subscribers of other instances count too, including ones this instance does not have
+    Long minOffset = subscriberOffsetRepository.findMinOffset("%@%", cutoff);
+    long consumed;
+    if (minOffset != null) {
+      consumed = minOffset;
+    } else {
+      consumed = subscribers.isEmpty() ? Long.MAX_VALUE : 0;
+    }
+
+    int total = 0;
+    int deleted;
+    do {
+      deleted = outboxEventRepository.deleteConsumed(consumed, cutoff, PURGE_CHUNK);
+      total += deleted;
+    } while (deleted == PURGE_CHUNK);
+    if (total > 0) {
+      logger.info("Purged {} consumed outbox events", total);
+    }
+    return total;
+  }
+
+  /**
+   * Returns the offset each subscriber has processed up to.
+   */
+  public Map<String, Long> getOffsets() {
+    Map<String, Long> offsets = new LinkedHashMap<>();
+    subscribers.forEach((name, state) -> offsets.put(name, state.offset));
+    return offsets;
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    Thread thread = dispatcher;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+      thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+  }
+
+  private void dispatchLoop() {
+    List<DomainEvent> batch = new ArrayList<>(dispatchBatchSize);
+    while (running) {
+      try {
+        boolean busy = dispatchOnce(batch);
+        if (!busy) {
+          LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+      } catch (RuntimeException e) {
+        logger.error("Domain event dispatcher failed, continuing", e);
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(retryBackoffMillis));
+      }
+    }
+  }
+
+  // One pass of the dispatcher: apply replays, deliver live events, then advance catching-up subscribers
+  private boolean dispatchOnce(List<DomainEvent> batch) {
+    boolean busy = false;
+    ReplayRequest request;
+    while ((request = replayRequests.poll()) != null) {
+      SubscriberState state = subscribers.get(request.subscriber());
+      state.offset = request.offset();
+      state.catchingUp = true;
+      state.retryAt = 0;
+      subscriberOffsetRepository.updateOffset(state.key, request.offset());
+      logger.info("Replaying {} after offset {}", request.subscriber(), request.offset());
+    }
+
+    batch.clear();
+    if (ringBuffer.drainTo(batch, dispatchBatchSize) > 0) {
+      busy = true;
+      lastDispatched = batch.get(batch.size() - 1).offset();
+      for (SubscriberState state : subscribers.values()) {
+        if (!state.catchingUp) {
+          deliver(state, batch);
+        }
+      }
+    }
+
+    long now = System.currentTimeMillis();
+    for (SubscriberState state : subscribers.values()) {
+      if (state.catchingUp && now >= state.retryAt) {
+        busy |= catchUp(state);
+      }
+    }
+    return busy;
+  }
+
+  // Delivers the events after the subscriber's offset; on failure the subscriber falls back to catching up
+  private void deliver(SubscriberState state, List<DomainEvent> events) {
+    int from = 0;
+    while (from < events.size() && events.get(from).offset() <= state.offset) {
+      from++;
+    }
+    if (from == events.size()) {
+      return;
+    }
+    List<DomainEvent> pending = events.subList(from, events.size());
+    long lastOffset = pending.get(pending.size() - 1).offset();
+    try {
+      state.subscriber.onEvents(pending);
+      subscriberOffsetRepository.updateOffset(state.key, lastOffset);
+      state.offset = lastOffset;
+      state.failures = 0;
+    } catch (RuntimeException e) {
+      state.failures++;
+      state.catchingUp = true;
+      long backoff = Math.min(MAX_RETRY_BACKOFF_MILLIS, retryBackoffMillis << Math.min(state.failures - 1, 16));
+      state.retryAt = System.currentTimeMillis() + backoff;
+      logger.warn("Subscriber {} failed after offset {}, retrying in {} ms",
+          state.subscriber.getName(), state.offset, backoff, e);
+    }
+  }
+
+  // Reads the next page the subscriber missed from the table, or returns it to the live stream
+  private boolean catchUp(SubscriberState state) {
+    List<OutboxEvent> rows = outboxEventRepository.findBetween(state.offset, lastDispatched,
+        PageRequest.of(0, dispatchBatchSize));
+    if (rows.isEmpty()) {
+      state.catchingUp = false;
+      state.offset = Math.max(state.offset, lastDispatched);
+      return false;
+    }
+    List<DomainEvent> events = new ArrayList<>(rows.size());
+    for (OutboxEvent row : rows) {
+      events.add(toDomainEvent(row));
+    }
+    deliver(state, events);
+    return true;
+  }
+
+  private static DomainEvent toDomainEvent(OutboxEvent row) {
+    return new DomainEvent(row.getSeq(), row.getEventType(), row.getAggregateId(), row.getPayload(),
+        row.getCreatedAt().toInstant());
+  }
+
+  private static final class SubscriberState {
+    private final DomainEventSubscriber subscriber;
+    private final String key;
+    private volatile long offset;
+    private boolean catchingUp;
+    private long retryAt;
+    private int failures;
+
+    private SubscriberState(DomainEventSubscriber subscriber, String key, long offset) {
+      this.subscriber = subscriber;
+      this.key = key;
+      this.offset = offset;
+    }
+  }
+
+  private record ReplayRequest(String subscriber, long offset) {
+  }
+}
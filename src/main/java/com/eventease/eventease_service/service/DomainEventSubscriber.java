@@ -0,0 +1,24 @@
+package com.eventease.eventease_service.service;
+
+import java.util.List;
+
+/**
+ * A consumer of the domain event bus. Any Spring bean implementing this interface is subscribed at
+ * startup. Delivery is at least once: a batch whose handling throws is delivered again later, and
+ * so may be a batch handled just before a crash, so handlers must be idempotent.
+ */
+public interface DomainEventSubscriber {
+
+  /**
+   * The name the subscriber's offset is stored under. Renaming a subscriber restarts it from the
+   * head of the outbox.
+   */
+  String getName();
+
+  /**
+   * Handles a batch of events in offset order.
+   *
+   * @param events the events, never empty
+   */
+  void onEvents(List<DomainEvent> events);
+}
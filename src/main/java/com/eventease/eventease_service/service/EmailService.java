@@ -1,6 +1,8 @@
 package com.eventease.eventease_service.service;
 
 import com.eventease.eventease_service.config.EmailConfig;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -11,6 +13,7 @@ public class EmailService {
 
     private final EmailConfig emailConfig;
     private JavaMailSender mailSender;
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
     @Value("${spring.mail.username}")
     private String fromEmail;
@@ -20,6 +23,11 @@ public class EmailService {
         initializeMailSender();
     }
 
+    @Autowired(required = false)
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
     private void initializeMailSender() {
         this.mailSender = emailConfig.getJavaMailSender();
     }
@@ -40,7 +48,8 @@ public class EmailService {
 
         for (int i = 0; i < maxRetries; i++) {
             try {
-                mailSender.send(message);
+                OutboundCalls.observation(observationRegistry, "smtp", "send-email")
+                        .observe(() -> mailSender.send(message));
                 return;
             } catch (Exception e) {
                 lastException = e;
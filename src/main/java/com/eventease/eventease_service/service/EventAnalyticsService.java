@@ -0,0 +1,154 @@
+package com.eventease.eventease_service.service;
+
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.EventCounter;
+import com.eventease.eventease_service.model.EventDailyStats;
+import com.eventease.eventease_service.model.EventDailyStatsKey;
+import com.eventease.eventease_service.model.EventStats;
+import com.eventease.eventease_service.model.EventStatsDelta;
+import com.eventease.eventease_service.model.EventStatsReport;
+import com.eventease.eventease_service.repository.EventDailyStatsRepository;
+import com.eventease.eventease_service.repository.EventStatsRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * EventAnalyticsService maintains the per-event and per-day rollups behind the event dashboards.
+ * It consumes RSVP, check-in and task changes from the {@link DomainEventBus} and adds each batch
+ * to the rollup tables in one transaction, together with the offset the rollups now include, so a
+ * batch delivered twice is applied once. Task totals are recounted from the tasks of every event a
+ * batch touches rather than derived from the changes, since a task update does not say which
+ * status it left; that is one grouped, indexed query per batch. Reading a dashboard is a key
+ * lookup on the rollups plus the event's own counters, whatever the event's size.
+ */
+@Service
+public class EventAnalyticsService implements DomainEventSubscriber {
+
+  private static final String NAME = "event-analytics";
+  private static final String APPLIED_OFFSET = NAME + ".applied";
+
+  private final EventStatsRepository eventStatsRepository;
+  private final EventDailyStatsRepository eventDailyStatsRepository;
+  private final EventService eventService;
+  private final EventCounterService eventCounterService;
+  private final ObjectMapper objectMapper;
+
+  @Autowired
+  public EventAnalyticsService(EventStatsRepository eventStatsRepository,
+                               EventDailyStatsRepository eventDailyStatsRepository,
+                               EventService eventService,
+                               EventCounterService eventCounterService,
+                               ObjectMapper objectMapper) {
+    this.eventStatsRepository = eventStatsRepository;
+    this.eventDailyStatsRepository = eventDailyStatsRepository;
+    this.eventService = eventService;
+    this.eventCounterService = eventCounterService;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  @Transactional
+  public void onEvents(List<DomainEvent> events) {
+    long applied = eventStatsRepository.lockAppliedOffset(APPLIED_OFFSET);
+    Map<EventDailyStatsKey, int[]> daily = new LinkedHashMap<>();
+    Set<Long> taskEvents = new HashSet<>();
+    Set<Long> deletedEvents = new HashSet<>();
+    long lastOffset = applied;
+
+    for (DomainEvent event : events) {
+      if (event.offset() <= applied) {
+        continue;
+      }
+      lastOffset = event.offset();
+      switch (event.type()) {
+        case RSVP_CREATED -> count(daily, event, 0);
+        case RSVP_CANCELLED -> count(daily, event, 1);
+        case RSVP_CHECKED_IN -> count(daily, event, 2);
+        case TASK_CREATED, TASK_UPDATED, TASK_DELETED -> taskEvents.add(payloadEventId(event));
+        case TASKS_CREATED, TASKS_UPDATED, TASKS_DELETED -> taskEvents.add(event.aggregateId());
+        case EVENT_DELETED -> deletedEvents.add(event.aggregateId());
+        default -> {
+        }
+      }
+    }
+    if (lastOffset == applied) {
+      return;
+    }
+
+    List<EventStatsDelta> deltas = new ArrayList<>(daily.size());
+    daily.forEach((key, counts) -> {
+      if (!deletedEvents.contains(key.getEventId())) {
+        deltas.add(new EventStatsDelta(key.getEventId(), key.getDay(), counts[0], counts[1], counts[2]));
+        taskEvents.add(key.getEventId());
+      }
+    });
+    taskEvents.removeAll(deletedEvents);
+    taskEvents.remove(null);
+    eventStatsRepository.addDeltas(deltas);
+    eventStatsRepository.refreshTaskCounts(taskEvents);
+    eventStatsRepository.deleteByEventIds(deletedEvents);
+    eventStatsRepository.updateAppliedOffset(APPLIED_OFFSET, lastOffset);
+  }
+
+  /**
+   * Returns the dashboard figures of an event. An event whose tasks have not changed since the
+   * rollups started has its tasks counted once on first read.
+   *
+   * @param eventId the ID of the event
+   * @param from the first day of the daily activity, or null for no lower bound
+   * @param to the last day of the daily activity, or null for no upper bound
+   * @throws com.eventease.eventease_service.exception.EventNotExistException if the event is not found
+   */
+  @Transactional
+  public EventStatsReport getStats(long eventId, LocalDate from, LocalDate to) {
+    Event event = eventService.findById(eventId);
+    EventStats stats = eventStatsRepository.findById(eventId).orElse(null);
+    if (stats == null) {
+      eventStatsRepository.refreshTaskCounts(List.of(eventId));
+      stats = eventStatsRepository.findById(eventId).orElseGet(EventStats::new);
+    }
+    List<EventDailyStats> days = eventDailyStatsRepository.findByEventIdAndDayBetweenOrderByDay(eventId,
+        from != null ? from : LocalDate.of(1970, 1, 1), to != null ? to : LocalDate.of(9999, 12, 31));
+
+    long rsvps = event.getRsvpCount() + eventCounterService.pending(eventId, EventCounter.RSVP_COUNT);
+    long checkIns = event.getAttendanceCount() + eventCounterService.pending(eventId, EventCounter.ATTENDANCE_COUNT);
+    return new EventStatsReport(eventId, event.getCapacity(), event.getBudget(), rsvps, checkIns,
+        rate(checkIns, rsvps), stats.getCancellationCount(), stats.getTaskCount(), stats.getTasksCompleted(),
+        rate(stats.getTasksCompleted(), stats.getTaskCount()), days);
+  }
+
+  private static void count(Map<EventDailyStatsKey, int[]> daily, DomainEvent event, int column) {
+    LocalDate day = LocalDate.ofInstant(event.occurredAt(), ZoneOffset.UTC);
+    daily.computeIfAbsent(new EventDailyStatsKey(event.aggregateId(), day), key -> new int[3])[column]++;
+  }
+
+  private Long payloadEventId(DomainEvent event) {
+    try {
+      JsonNode eventId = objectMapper.readTree(event.payload()).get("eventId");
+      return eventId == null || eventId.isNull() ? null : eventId.asLong();
+    } catch (JsonProcessingException e) {
+      return null;
+    }
+  }
+
+  private static double rate(long part, long whole) {
+    return whole == 0 ? 0 : (double) part / whole;
+  }
+}
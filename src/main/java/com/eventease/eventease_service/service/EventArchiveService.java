@@ -0,0 +1,168 @@
+package com.eventease.eventease_service.service;
+
+import com.eventease.eventease_service.config.Workload;
+import com.eventease.eventease_service.model.AttendeeSummary;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.RSVP;
+import com.eventease.eventease_service.model.Task;
+import com.eventease.eventease_service.repository.EventArchiveRepository;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * EventArchiveService keeps the hot tables small by moving events older than
+ * {@code archive.after-days}, with their images, participants, RSVPs and tasks, into the archive
+ * tables. A nightly job archives them in batches of {@code archive.batch-size} events, one short
+ * transaction per batch with a pause in between, so a backlog never holds long locks. History
+ * reads fall through to the archive; date-range listings skip it when no event in the range can
+ * have been archived, which keeps reads of current events at one query, and RSVP histories skip it
+ * while it is empty. The newest archived date is re-read every {@code archive.refresh-interval-ms},
+ * bounding how long RSVPs archived by another instance are left out of those histories.
+ */
+@Service
+public class EventArchiveService {
+
+  private static final Logger logger = LoggerFactory.getLogger(EventArchiveService.class);
+
+  private final EventArchiveRepository archiveRepository;
+  private final ResourceVersionService resourceVersionService;
+  private final TaskBoardService taskBoardService;
+  private final boolean enabled;
+  private final int afterDays;
+  private final int batchSize;
+  private final long batchPauseMillis;
+  private final long refreshIntervalMillis;
+
+  // Date of the newest archived event (LocalDate.MIN while the archive is empty); null until read
+  private volatile LatestArchivedDate latestArchivedDate;
+
+  @Autowired
+  public EventArchiveService(EventArchiveRepository archiveRepository,
+                             ResourceVersionService resourceVersionService,
+                             TaskBoardService taskBoardService,
+                             @Value("${archive.enabled:true}") boolean enabled,
+                             @Value("${archive.after-days:365}") int afterDays,
+                             @Value("${archive.batch-size:500}") int batchSize,
+                             @Value("${archive.batch-pause-ms:200}") long batchPauseMillis,
+                             @Value("${archive.refresh-interval-ms:600000}") long refreshIntervalMillis) {
+    this.archiveRepository = archiveRepository;
+    this.resourceVersionService = resourceVersionService;
+    this.taskBoardService = taskBoardService;
+    this.enabled = enabled;
+    this.afterDays = afterDays;
+    this.batchSize = batchSize;
+    this.batchPauseMillis = batchPauseMillis;
+    this.refreshIntervalMillis = refreshIntervalMillis;
+  }
+
+  /**
+   * Archives every event dated more than {@code archive.after-days} days ago, batch by batch.
+   * A failed batch is rolled back and left for the next run.
+   *
+   * @return the number of events archived
+   */
+  @Scheduled(cron = "${archive.cron:0 30 3 * * *}")
+  @Workload(Workload.Type.BULK)
+  public int archiveOldEvents() {
+    if (!enabled) {
+      return 0;
+    }
+    LocalDate before = LocalDate.now().minusDays(afterDays);
+    int archived = 0;
+    try {
+      archiveRepository.syncTables();
+      List<Long> eventIds;
+      do {
+        eventIds = archiveRepository.archiveBatch(before, batchSize);
+        for (Long eventId : eventIds) {
+          resourceVersionService.evictEvent(eventId);
+          taskBoardService.evict(eventId);
+        }
+        archived += eventIds.size();
+        if (eventIds.size() == batchSize) {
+          Thread.sleep(batchPauseMillis);
+        }
+      } while (eventIds.size() == batchSize);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      logger.warn("Archiving stopped after {} events, will resume on the next run", archived, e);
+    }
+    if (archived > 0) {
+      latestArchivedDate = null;
+      logger.info("Archived {} events dated before {}", archived, before);
+    }
+    return archived;
+  }
+
+  /**
+   * Returns an archived event, or null if the event is not in the archive. Meant as the fallback
+   * of a lookup that missed the hot table, so the archive is always checked.
+   */
+  public Event findArchivedEvent(long eventId) {
+    return archiveRepository.findEventById(eventId);
+  }
+
+  public List<Event> findArchivedEvents(LocalDate startDate, LocalDate endDate) {
+    // Nothing dated after the newest archived event, or inside the retention window, can be archived
+    LocalDate newest = latestArchivedDate();
+    LocalDate retained = LocalDate.now().minusDays(afterDays);
+    if (startDate.isAfter(newest) && !startDate.isBefore(retained)) {
+      return Collections.emptyList();
+    }
+    return archiveRepository.findEventsByDateRange(startDate, endDate);
+  }
+
+  public List<RSVP> findArchivedRsvpsByEvent(long eventId) {
+    return archiveRepository.findRsvpsByEventId(eventId);
+  }
+
+  /**
+   * Returns up to pageSize of an archived event's attendees as lean rows, ordered by user ID and
+   * starting after afterUserId, optionally only those with the given status.
+   */
+  public List<AttendeeSummary> findArchivedAttendeeSummaries(long eventId, String status, long afterUserId,
+                                                             int pageSize) {
+    return archiveRepository.findAttendeeSummaryPage(eventId, afterUserId, status, pageSize);
+  }
+
+  public long countArchivedAttendees(long eventId, String status) {
+    return archiveRepository.countAttendees(eventId, status);
+  }
+
+  /**
+   * Returns a user's archived RSVPs, optionally only those with the given status, ordered by event date.
+   */
+  public List<RSVP> findArchivedRsvpsByUser(Long userId, String status) {
+    return hasArchive() ? archiveRepository.findRsvpsByUserId(userId, status) : Collections.emptyList();
+  }
+
+  public List<Task> findArchivedTasksByEvent(long eventId) {
+    return archiveRepository.findTasksByEventId(eventId);
+  }
+
+  private boolean hasArchive() {
+    return !LocalDate.MIN.equals(latestArchivedDate());
+  }
+
+  private LocalDate latestArchivedDate() {
+    LatestArchivedDate latest = latestArchivedDate;
+    long now = System.currentTimeMillis();
+    if (latest == null || now >= latest.expiresAt) {
+      LocalDate found = archiveRepository.findLatestArchivedDate();
+      latest = new LatestArchivedDate(found == null ? LocalDate.MIN : found, now + refreshIntervalMillis);
+      latestArchivedDate = latest;
+    }
+    return latest.date;
+  }
+
+  private record LatestArchivedDate(LocalDate date, long expiresAt) {
+  }
+}
@@ -0,0 +1,14 @@
+package com.eventease.eventease_service.service;
+
+import com.eventease.eventease_service.model.EventCounter;
+
+/**
+ * Published whenever an RSVP or check-in changes one of an event's counters, before the change is
+ * flushed to the database.
+ *
+ * @param eventId the ID of the event
+ * @param counter the counter that changed
+ * @param delta the amount added, may be negative
+ */
+public record EventCountChangedEvent(Long eventId, EventCounter counter, long delta) {
+}
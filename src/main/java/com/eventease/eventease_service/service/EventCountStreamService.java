@@ -0,0 +1,224 @@
+package com.eventease.eventease_service.service;
+
+import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.model.EventCounter;
+import com.eventease.eventease_service.repository.EventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * EventCountStreamService pushes an event's RSVP and attendance counts to its open dashboards over
+ * Server-Sent Events. The counts of a watched event are read from the database once, when its first
+ * watcher connects, and then kept current by applying every {@link EventCountChangedEvent}; changes
+ * are coalesced and pushed to all watchers at most once per push interval, serialized once per push.
+ * A watched event is re-read periodically to pick up writes made by other instances, and that
+ * resync push doubles as a keep-alive.
+ */
+@Service
+public class EventCountStreamService {
+
+  private static final Logger logger = LoggerFactory.getLogger(EventCountStreamService.class);
+
+  private static final String EVENT_NAME = "counts";
+
+  private final EventRepository eventRepository;
+  private final EventCounterService eventCounterService;
+  private final ObjectMapper objectMapper;
+  private final long emitterTimeoutMillis;
+  private final long resyncIntervalMillis;
+  private final ConcurrentHashMap<Long, EventCountStream> streams = new ConcurrentHashMap<>();
+
+  @Autowired
+  public EventCountStreamService(EventRepository eventRepository,
+                                 EventCounterService eventCounterService,
+                                 ObjectMapper objectMapper,
+                                 @Value("${stream.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                                 @Value("${stream.resync-interval-ms:30000}") long resyncIntervalMillis) {
+    this.eventRepository = eventRepository;
+    this.eventCounterService = eventCounterService;
+    this.objectMapper = objectMapper;
+    this.emitterTimeoutMillis = emitterTimeoutMillis;
+    this.resyncIntervalMillis = resyncIntervalMillis;
+  }
+
+  /**
+   * Opens a stream of count updates for an event. The current counts are sent right away.
+   *
+   * @param eventId the ID of the event to watch
+   * @return the emitter to return from the controller
+   * @throws EventNotExistException if the event is not found
+   */
+  public SseEmitter subscribe(Long eventId) {
+    SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+    EventCountStream stream = null;
+    while (stream == null) {
+      // The counts are read before compute, so the query never holds the map's bin lock; if two
+      // first watchers race, the stream stored first wins and the other snapshot is dropped
+      EventCountStream opened = streams.containsKey(eventId) ? null : open(eventId);
+      stream = streams.compute(eventId, (id, existing) -> {
+        EventCountStream watched = existing != null ? existing : opened;
+        if (watched != null) {
+          watched.emitters.add(emitter);
+        }
+        // Null only when the stream seen above was closed in the meantime; it is then opened again
+        return watched;
+      });
+    }
+
+    Runnable remove = () -> unsubscribe(eventId, emitter);
+    emitter.onCompletion(remove);
+    emitter.onTimeout(remove);
+    emitter.onError(e -> remove.run());
+
+    send(eventId, emitter, stream.toJson(eventId));
+    return emitter;
+  }
+
+  /**
+   * Applies a counter change to the event's stream, if anyone is watching it.
+   */
+  @EventListener
+  public void onCountChanged(EventCountChangedEvent change) {
+    EventCountStream stream = streams.get(change.eventId());
+    if (stream != null) {
+      stream.apply(change.counter(), change.delta());
+    }
+  }
+
+  /**
+   * Sends the current counts of every changed stream to its watchers, resyncing streams whose
+   * snapshot is older than the resync interval.
+   */
+  @Scheduled(fixedDelayString = "${stream.push-interval-ms:500}")
+  public void push() {
+    long now = System.currentTimeMillis();
+    streams.forEach((eventId, stream) -> {
+      if (now - stream.syncedAt >= resyncIntervalMillis && !resync(eventId, stream, now)) {
+        return;
+      }
+      if (!stream.dirty) {
+        return;
+      }
+      stream.dirty = false;
+      String json = stream.toJson(eventId);
+      for (SseEmitter emitter : stream.emitters) {
+        send(eventId, emitter, json);
+      }
+    });
+  }
+
+  /**
+   * Returns the counts currently served for a watched event, or null if nobody is watching it.
+   */
+  public Map<String, Object> getCounts(Long eventId) {
+    EventCountStream stream = streams.get(eventId);
+    return stream == null ? null : stream.toMap(eventId);
+  }
+
+  public int getWatcherCount(Long eventId) {
+    EventCountStream stream = streams.get(eventId);
+    return stream == null ? 0 : stream.emitters.size();
+  }
+
+  private EventCountStream open(Long eventId) {
+    EventCountStream stream = new EventCountStream();
+    if (!load(eventId, stream)) {
+      throw new EventNotExistException("Event not found");
+    }
+    stream.syncedAt = System.currentTimeMillis();
+    return stream;
+  }
+
+  // Reads the persisted counts plus this instance's unflushed deltas; false if the event is gone
+  private boolean load(Long eventId, EventCountStream stream) {
+    List<Object[]> rows = eventRepository.findCountsById(eventId);
+    if (rows.isEmpty()) {
+      return false;
+    }
+    Object[] row = rows.get(0);
+    stream.rsvpCount.set(((Number) row[0]).longValue()
+        + eventCounterService.pending(eventId, EventCounter.RSVP_COUNT));
+    stream.attendanceCount.set(((Number) row[1]).longValue()
+        + eventCounterService.pending(eventId, EventCounter.ATTENDANCE_COUNT));
+    stream.capacity = ((Number) row[2]).intValue();
+    return true;
+  }
+
+  private boolean resync(Long eventId, EventCountStream stream, long now) {
+    try {
+      if (!load(eventId, stream)) {
+        streams.remove(eventId);
+        stream.emitters.forEach(SseEmitter::complete);
+        return false;
+      }
+    } catch (RuntimeException e) {
+      logger.warn("Failed to resync counts of event {}", eventId, e);
+    }
+    stream.syncedAt = now;
+    stream.dirty = true;
+    return true;
+  }
+
+  private void send(Long eventId, SseEmitter emitter, String json) {
+    try {
+      emitter.send(SseEmitter.event().name(EVENT_NAME).data(json, MediaType.APPLICATION_JSON));
+    } catch (IOException | IllegalStateException e) {
+      // The client went away; the container may not report it, so drop the emitter here
+      unsubscribe(eventId, emitter);
+    }
+  }
+
+  private void unsubscribe(Long eventId, SseEmitter emitter) {
+    streams.computeIfPresent(eventId, (id, stream) -> {
+      stream.emitters.remove(emitter);
+      return stream.emitters.isEmpty() ? null : stream;
+    });
+  }
+
+  private final class EventCountStream {
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final AtomicLong rsvpCount = new AtomicLong();
+    private final AtomicLong attendanceCount = new AtomicLong();
+    private volatile int capacity;
+    private volatile boolean dirty;
+    private volatile long syncedAt;
+
+    private void apply(EventCounter counter, long delta) {
+      (counter == EventCounter.RSVP_COUNT ? rsvpCount : attendanceCount).addAndGet(delta);
+      dirty = true;
+    }
+
+    private Map<String, Object> toMap(Long eventId) {
+      Map<String, Object> counts = new LinkedHashMap<>();
+      counts.put("eventId", eventId);
+      counts.put("rsvpCount", rsvpCount.get());
+      counts.put("attendanceCount", attendanceCount.get());
+      counts.put("capacity", capacity);
+      return counts;
+    }
+
+    private String toJson(Long eventId) {
+      try {
+        return objectMapper.writeValueAsString(toMap(eventId));
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException("Event counts are not serializable", e);
+      }
+    }
+  }
+}
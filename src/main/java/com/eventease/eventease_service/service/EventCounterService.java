@@ -0,0 +1,153 @@
+package com.eventease.eventease_service.service;
+
+import com.eventease.eventease_service.model.EventCounter;
+import com.eventease.eventease_service.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * EventCounterService accumulates changes to the per-event counters in memory and writes them
+ * behind in batches. Writers only touch a striped {@link LongAdder}, so concurrent RSVPs to the same
+ * event no longer contend on its row lock; the accumulated deltas are flushed periodically as
+ * relative {@code UPDATE event SET counter = counter + ?} statements, and a slower reconciliation
+ * pass recomputes the counters from the RSVP table to repair any drift (e.g. deltas lost in a crash).
+ */
+@Service
+public class EventCounterService {
+
+  private static final Logger logger = LoggerFactory.getLogger(EventCounterService.class);
+
+  private final EventRepository eventRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  // One adder per (counter, event) holding the delta not yet written to the database
+  private final Map<EventCounter, ConcurrentHashMap<Long, LongAdder>> pending = new HashMap<>();
+
+  // Serializes flushes and reconciliations; a lock rather than a monitor, so a virtual scheduler
+  // thread waiting on the database does not pin its carrier
+  private final ReentrantLock flushLock = new ReentrantLock();
+
+  @Autowired
+  public EventCounterService(EventRepository eventRepository, ApplicationEventPublisher eventPublisher) {
+    this.eventRepository = eventRepository;
+    this.eventPublisher = eventPublisher;
+    for (EventCounter counter : EventCounter.values()) {
+      pending.put(counter, new ConcurrentHashMap<>());
+    }
+  }
+
+  public void increment(Long eventId, EventCounter counter) {
+    add(eventId, counter, 1);
+  }
+
+  public void decrement(Long eventId, EventCounter counter) {
+    add(eventId, counter, -1);
+  }
+
+  /**
+   * Records a change to an event counter. The change is visible through {@link #pending} and
+   * announced as an {@link EventCountChangedEvent} immediately, and reaches the database on the
+   * next flush.
+   *
+   * @param eventId the ID of the event
+   * @param counter the counter to change
+   * @param delta the amount to add, may be negative
+   */
+  public void add(Long eventId, EventCounter counter, long delta) {
+    if (eventId == null || delta == 0) {
+      return;
+    }
+    addPending(eventId, counter, delta);
+    eventPublisher.publishEvent(new EventCountChangedEvent(eventId, counter, delta));
+  }
+
+  /**
+   * Returns the delta recorded for an event counter that has not been flushed yet.
+   * Adding it to the persisted counter value gives the current count.
+   *
+   * @param eventId the ID of the event
+   * @param counter the counter to read
+   * @return the unflushed delta
+   */
+  public long pending(Long eventId, EventCounter counter) {
+    if (eventId == null) {
+      return 0;
+    }
+    LongAdder adder = pending.get(counter).get(eventId);
+    return adder == null ? 0 : adder.sum();
+  }
+
+  /**
+   * Writes all accumulated deltas to the database, one JDBC batch per counter column.
+   * Deltas of a failed batch are added back so they are retried on the next flush.
+   */
+  @Scheduled(fixedDelayString = "${counters.flush-interval-ms:1000}")
+  public void flush() {
+    flushLock.lock();
+    try {
+      for (EventCounter counter : EventCounter.values()) {
+        Map<Long, Long> deltas = drain(counter);
+        if (deltas.isEmpty()) {
+          continue;
+        }
+        try {
+          eventRepository.addToCounter(counter, deltas);
+        } catch (RuntimeException e) {
+          logger.warn("Failed to flush {} deltas for {} events, will retry", counter, deltas.size(), e);
+          deltas.forEach((eventId, delta) -> addPending(eventId, counter, delta));
+        }
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * Flushes pending deltas and then recomputes every counter from the RSVP table.
+   * RSVPs written while the recomputation runs can be off by their in-flight delta until the next pass.
+   */
+  @Scheduled(fixedDelayString = "${counters.reconcile-interval-ms:600000}",
+      initialDelayString = "${counters.reconcile-interval-ms:600000}")
+  public void reconcile() {
+    flushLock.lock();
+    try {
+      flush();
+      int updated = eventRepository.recomputeCounters();
+      logger.info("Reconciled counters for {} events", updated);
+    } catch (RuntimeException e) {
+      logger.warn("Failed to reconcile event counters", e);
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flush();
+  }
+
+  private void addPending(Long eventId, EventCounter counter, long delta) {
+    pending.get(counter).computeIfAbsent(eventId, id -> new LongAdder()).add(delta);
+  }
+
+  private Map<Long, Long> drain(EventCounter counter) {
+    Map<Long, Long> deltas = new HashMap<>();
+    pending.get(counter).forEach((eventId, adder) -> {
+      long delta = adder.sumThenReset();
+      if (delta != 0) {
+        deltas.put(eventId, delta);
+      }
+    });
+    return deltas;
+  }
+}
@@ -0,0 +1,160 @@
+package com.eventease.eventease_service.service;
+
+import com.eventease.eventease_service.config.Workload;
+import com.eventease.eventease_service.repository.EventExportRepository;
+import io.micrometer.observation.annotation.Observed;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * EventExportService writes an event's attendee list and task sheet as CSV (RFC 4180), one row per
+ * database row as it is read, so an export holds a single row in memory whatever the event's size.
+ */
+@Service
+@Observed(name = "service.calls")
+public class EventExportService {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final EventExportRepository eventExportRepository;
+
+  @Autowired
+  public EventExportService(EventExportRepository eventExportRepository) {
+    this.eventExportRepository = eventExportRepository;
+  }
+
+  /**
+   * Resolves a comma-separated list of attendee export columns, or all of them when none are given.
+   *
+   * @throws IllegalArgumentException if a column is unknown
+   */
+  public List<String> attendeeColumns(String requested) {
+    return resolveColumns(EventExportRepository.ATTENDEE_COLUMNS, requested);
+  }
+
+  /**
+   * Resolves a comma-separated list of task export columns, or all of them when none are given.
+   *
+   * @throws IllegalArgumentException if a column is unknown
+   */
+  public List<String> taskColumns(String requested) {
+    return resolveColumns(EventExportRepository.TASK_COLUMNS, requested);
+  }
+
+  /**
+   * Writes the event's RSVPs as CSV with a header row, without closing the stream.
+   *
+   * @param archived whether the event has been moved to the archive
+   * @return the number of rows written, header excluded
+   */
+  @Workload(Workload.Type.BULK)
+  @Transactional(readOnly = true)
+  public long exportAttendees(long eventId, boolean archived, List<String> columns, OutputStream out)
+      throws IOException {
+    CsvRowWriter writer = new CsvRowWriter(out, columns);
+    try {
+      eventExportRepository.streamAttendees(eventId, archived, columns, writer::writeRow);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return writer.finish();
+  }
+
+  /**
+   * Writes the event's tasks as CSV with a header row, without closing the stream.
+   *
+   * @param archived whether the event has been moved to the archive
+   * @return the number of rows written, header excluded
+   */
+  @Workload(Workload.Type.BULK)
+  @Transactional(readOnly = true)
+  public long exportTasks(long eventId, boolean archived, List<String> columns, OutputStream out)
+      throws IOException {
+    CsvRowWriter writer = new CsvRowWriter(out, columns);
+    try {
+      eventExportRepository.streamTasks(eventId, archived, columns, writer::writeRow);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return writer.finish();
+  }
+
+  private static List<String> resolveColumns(Map<String, String> available, String requested) {
+    if (requested == null || requested.isBlank()) {
+      return List.copyOf(available.keySet());
+    }
+    List<String> columns = new ArrayList<>();
+    for (String column : requested.split(",")) {
+      String name = column.trim();
+      if (!available.containsKey(name)) {
+        throw new IllegalArgumentException("Unknown export column: " + name);
+      }
+      if (!columns.contains(name)) {
+        columns.add(name);
+      }
+    }
+    return columns;
+  }
+
+  private static final class CsvRowWriter {
+    private final Writer writer;
+    private final int columnCount;
+    private long rows;
+
+    CsvRowWriter(OutputStream out, List<String> columns) throws IOException {
+      this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+      this.columnCount = columns.size();
+      for (int i = 0; i < columnCount; i++) {
+        writeField(i, columns.get(i));
+      }
+      writer.write("\r\n");
+    }
+
+    void writeRow(ResultSet rs) throws SQLException {
+      try {
+        for (int i = 0; i < columnCount; i++) {
+          writeField(i, rs.getString(i + 1));
+        }
+        writer.write("\r\n");
+        rows++;
+      } catch (IOException e) {
+        // The client went away; stop reading rows
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    long finish() throws IOException {
+      writer.flush();
+      return rows;
+    }
+
+    private void writeField(int index, String value) throws IOException {
+      if (index > 0) {
+        writer.write(',');
+      }
+      if (value == null) {
+        return;
+      }
+      if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+        writer.write(value);
+        return;
+      }
+      writer.write('"');
+      writer.write(value.replace("\"", "\"\""));
+      writer.write('"');
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package com.eventease.eventease_service.service;
+
+import com.eventease.eventease_service.config.Workload;
+import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.exception.EventSeriesNotExistException;
+import com.eventease.eventease_service.model.DomainEventType;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.EventSeries;
+import com.eventease.eventease_service.repository.EventRepository;
+import com.eventease.eventease_service.repository.EventSeriesRepository;
+import io.micrometer.observation.annotation.Observed;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * EventSeriesService manages recurring events. A series is stored once and its occurrences are
+ * expanded only for the date window being read; an occurrence is written as an {@link Event} row
+ * the first time it needs state of its own (an RSVP, a changed capacity), and from then on that
+ * row, with its own capacity and counters, stands in for the expanded occurrence.
+ */
+@Service
+@Observed(name = "service.calls")
+public class EventSeriesService {
+
+  private final EventSeriesRepository eventSeriesRepository;
+  private final EventRepository eventRepository;
+  private final DomainEventBus domainEventBus;
+  private final TransactionTemplate newTransaction;
+  private final int maxOccurrencesPerSeries;
+
+  @Autowired
+  public EventSeriesService(EventSeriesRepository eventSeriesRepository, EventRepository eventRepository,
+                            DomainEventBus domainEventBus, PlatformTransactionManager transactionManager,
+                            @Value("${series.max-occurrences-per-query:1000}") int maxOccurrencesPerSeries) {
+    this.eventSeriesRepository = eventSeriesRepository;
+    this.eventRepository = eventRepository;
+    this.domainEventBus = domainEventBus;
+    this.newTransaction = new TransactionTemplate(transactionManager);
+    this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.maxOccurrencesPerSeries = maxOccurrencesPerSeries;
+  }
+
+  // Saves a new series after checking its recurrence rule
+  public EventSeries add(EventSeries series) {
+    if (series.getFrequency() == null || series.getStartDate() == null) {
+      throw new IllegalArgumentException("Frequency and start date are required");
+    }
+    if (series.getRepeatInterval() < 1) {
+      throw new IllegalArgumentException("Interval must be at least 1");
+    }
+    if (series.getUntilDate() != null && series.getUntilDate().isBefore(series.getStartDate())) {
+      throw new IllegalArgumentException("Until date must not be before the start date");
+    }
+    return eventSeriesRepository.save(series);
+  }
+
+  // Finds a series by its ID and throws an exception if it doesn't exist
+  @Workload(Workload.Type.HOT_READ)
+  public EventSeries findById(long id) {
+    EventSeries series = eventSeriesRepository.findById(id);
+    if (series == null) {
+      throw new EventSeriesNotExistException("Event series not found");
+    }
+    return series;
+  }
+
+  /**
+   * Returns the occurrence of a series on a date: its event if it has been written, otherwise an
+   * unsaved event built from the series.
+   *
+   * @throws EventSeriesNotExistException if the series is not found
+   * @throws EventNotExistException if the series has no occurrence on the date
+   */
+  @Workload(Workload.Type.HOT_READ)
+  public Event findOccurrence(long seriesId, LocalDate date) {
+    EventSeries series = findOccurringSeries(seriesId, date);
+    Event event = eventRepository.findBySeriesIdAndDate(seriesId, date);
+    return event != null ? event : series.occurrenceOn(date);
+  }
+
+  /**
+   * Returns the event of an occurrence, writing it first if needed, so that RSVPs and updates can
+   * address it by event ID. Concurrent calls for the same occurrence all get the same event. The
+   * event row and its EVENT_CREATED outbox row are committed together in a transaction of their
+   * own, so a lost race rolls back only that transaction and never a caller's.
+   *
+   * @throws EventSeriesNotExistException if the series is not found
+   * @throws EventNotExistException if the series has no occurrence on the date
+   */
+  public Event materializeOccurrence(long seriesId, LocalDate date) {
+    EventSeries series = findOccurringSeries(seriesId, date);
+    Event event = eventRepository.findBySeriesIdAndDate(seriesId, date);
+    if (event != null) {
+      return event;
+    }
+    try {
+      return newTransaction.execute(status -> {
+        Event saved = eventRepository.save(series.occurrenceOn(date));
+        domainEventBus.publish(DomainEventType.EVENT_CREATED, saved.getId(), Map.of("seriesId", seriesId));
+        return saved;
+      });
+    } catch (DataIntegrityViolationException e) {
+      // Another request wrote the occurrence first; the unique (series_id, date) key kept it single.
+      // It is read in a fresh transaction, whose snapshot includes the winner's commit
+      Event winner = newTransaction.execute(status -> eventRepository.findBySeriesIdAndDate(seriesId, date));
+      if (winner == null) {
+        throw e;
+      }
+      return winner;
+    }
+  }
+
+  /**
+   * Expands the occurrences of every series between the two dates, both inclusive, leaving out
+   * those already among the stored events. At most {@code series.max-occurrences-per-query}
+   * occurrences are expanded per series.
+   *
+   * @param startDate the first day of the window
+   * @param endDate the last day of the window
+   * @param storedEvents the events of the window read from the database
+   * @return the unsaved occurrences, ordered by series and date
+   */
+  @Workload(Workload.Type.BULK)
+  public List<Event> expandOccurrences(LocalDate startDate, LocalDate endDate, Collection<Event> storedEvents) {
+    Map<Long, Set<LocalDate>> storedDates = new HashMap<>();
+    for (Event event : storedEvents) {
+      if (event.getSeriesId() != null) {
+        storedDates.computeIfAbsent(event.getSeriesId(), id -> new HashSet<>()).add(event.getDate());
+      }
+    }
+    List<Event> occurrences = new ArrayList<>();
+    for (EventSeries series : eventSeriesRepository.findActiveBetween(startDate, endDate)) {
+      Set<LocalDate> stored = storedDates.getOrDefault(series.getId(), Set.of());
+      List<LocalDate> dates = series.occurrencesBetween(startDate, endDate);
+      for (LocalDate date : dates.subList(0, Math.min(dates.size(), maxOccurrencesPerSeries))) {
+        if (!stored.contains(date)) {
+          occurrences.add(series.occurrenceOn(date));
+        }
+      }
+    }
+    return occurrences;
+  }
+
+  private EventSeries findOccurringSeries(long seriesId, LocalDate date) {
+    EventSeries series = findById(seriesId);
+    if (!series.occursOn(date)) {
+      throw new EventNotExistException("Event series has no occurrence on " + date);
+    }
+    return series;
+  }
+}
@@ -1,47 +1,80 @@
 package com.eventease.eventease_service.service;
 
+import com.eventease.eventease_service.config.Workload;
 import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.model.DomainEventType;
 import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.model.EventImage;
 import com.eventease.eventease_service.repository.EventRepository;
+import io.micrometer.observation.annotation.Observed;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
+@Observed(name = "service.calls")
 public class EventService {
 
   private final EventRepository eventRepository;
   private final ImageStorageService imageStorageService;
+  private final ConflictRetryExecutor conflictRetryExecutor;
+  private final DomainEventBus domainEventBus;
+  private final ResourceVersionService resourceVersionService;
+  private final EventArchiveService eventArchiveService;
+  private final EventSeriesService eventSeriesService;
+  private final Executor outboundIoExecutor;
+  private final TransactionTemplate transactionTemplate;
 
   // @Autowired is used to inject dependencies automatically by Spring
   @Autowired
-  public EventService(EventRepository eventRepository, ImageStorageService imageStorageService) {
+  public EventService(EventRepository eventRepository, ImageStorageService imageStorageService,
+                      ConflictRetryExecutor conflictRetryExecutor, DomainEventBus domainEventBus,
+                      ResourceVersionService resourceVersionService, EventArchiveService eventArchiveService,
+                      EventSeriesService eventSeriesService,
+                      @Qualifier("outboundIoExecutor") Executor outboundIoExecutor,
+                      PlatformTransactionManager transactionManager) {
     this.eventRepository = eventRepository;
     this.imageStorageService = imageStorageService;
+    this.conflictRetryExecutor = conflictRetryExecutor;
+    this.domainEventBus = domainEventBus;
+    this.resourceVersionService = resourceVersionService;
+    this.eventArchiveService = eventArchiveService;
+    this.eventSeriesService = eventSeriesService;
+    this.outboundIoExecutor = outboundIoExecutor;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
   }
 
-  // Saves a new event to the database
+  // Saves a new event to the database. Images are uploaded first, outside the transaction; the
+  // event row and its EVENT_CREATED outbox row are then committed together
   public void add(Event event, MultipartFile[] images) {
-    List<String> mediaLinks = Arrays.stream(images).parallel().map(image -> imageStorageService.save(image)).collect(
-        Collectors.toList());
+    List<String> mediaLinks = uploadImages(images);
     List<EventImage> eventImages = new ArrayList<>();
     for (String mediaLink : mediaLinks) {
       eventImages.add(new EventImage(mediaLink, event));
     }
     event.setImages(eventImages);
 
-    eventRepository.save(event);
+    transactionTemplate.executeWithoutResult(status -> {
+      eventRepository.save(event);
+      domainEventBus.publish(DomainEventType.EVENT_CREATED, event.getId(), Map.of());
+    });
   }
 
   // Finds an event by its ID and throws an exception if it doesn't exist
+  @Workload(Workload.Type.HOT_READ)
   public Event findById(long id) {
     Event event = eventRepository.findById(id);
     if (event == null) {
@@ -50,70 +83,125 @@ public class EventService {
     return event;
   }
 
-  // @Transactional with readOnly = true marks this method as transactional, optimized for read operations
+  /**
+   * Takes a seat of the event for an RSVP written in the current transaction. Unlike the
+   * write-behind rsvpCount, the seat count is the same on every instance.
+   *
+   * @return false if the event has no seat left
+   */
+  public boolean reserveSeat(Long eventId) {
+    return eventRepository.reserveSeat(eventId);
+  }
+
+  // Gives back a seat when an RSVP is deleted in the current transaction
+  public void releaseSeat(Long eventId) {
+    eventRepository.releaseSeat(eventId);
+  }
+
+  // Whether the event has a seat left on any instance
+  public boolean hasFreeSeat(Long eventId) {
+    return eventRepository.hasFreeSeat(eventId);
+  }
+
+  // Finds an event moved to the archive, or returns null; archived events are read-only, so this is
+  // only a fallback for reads that missed the hot table and never for lookups that precede a write
+  @Workload(Workload.Type.HOT_READ)
+  public Event findArchivedById(long id) {
+    return eventArchiveService.findArchivedEvent(id);
+  }
+
+  // @Transactional with readOnly = true marks this method as transactional, optimized for read operations.
+  // Occurrences of recurring series that have no event row yet are expanded for the range and
+  // returned without an ID
+  @Workload(Workload.Type.BULK)
   @Transactional(readOnly = true)
   public List<Event> findByDateBetween(LocalDate startDate, LocalDate endDate) {
-    List<Event> events = eventRepository.findEventsByDateRange(startDate, endDate);
+    List<Event> events = new ArrayList<>(eventRepository.findEventsByDateRange(startDate, endDate));
+    events.addAll(eventArchiveService.findArchivedEvents(startDate, endDate));
+    events.addAll(eventSeriesService.expandOccurrences(startDate, endDate, events));
     return events;
   }
 
-  // Updates an existing event using the Builder pattern to ensure immutability
+  // Updates an existing event using the Builder pattern to ensure immutability.
+  // Images are uploaded once up front; the read-modify-write is retried if a concurrent
+  // update bumps the event's version first.
   public void updateEvent(long id, Event updatedEvent, MultipartFile[] images) {
-    Event existingEvent = eventRepository.findById(id);
-    if (existingEvent == null) {
-      throw new EventNotExistException("Event not found");
-    }
-
-    // Update fields of the existing event
-    existingEvent.setName(updatedEvent.getName() != null ? updatedEvent.getName() : existingEvent.getName());
-    existingEvent.setDescription(updatedEvent.getDescription() != null ? updatedEvent.getDescription() : existingEvent.getDescription());
-    existingEvent.setLocation(updatedEvent.getLocation() != null ? updatedEvent.getLocation() : existingEvent.getLocation());
-    existingEvent.setDate(updatedEvent.getDate() != null ? updatedEvent.getDate() : existingEvent.getDate());
-    existingEvent.setTime(updatedEvent.getTime() != null ? updatedEvent.getTime() : existingEvent.getTime());
-    existingEvent.setCapacity(updatedEvent.getCapacity() > 0 ? updatedEvent.getCapacity() : existingEvent.getCapacity());
-    existingEvent.setBudget(updatedEvent.getBudget() > 0 ? updatedEvent.getBudget() : existingEvent.getBudget());
-    existingEvent.setHost(existingEvent.getHost()); // Retain original host
-    existingEvent.setParticipants(existingEvent.getParticipants()); // Retain original participants
-
-    if (images != null && images.length > 0) {
-      // Clear existing images
-      existingEvent.getImages().clear();
-
-      // Save the new images
-      List<String> mediaLinks = Arrays.stream(images)
-          .parallel()
-          .map(imageStorageService::save)
-          .collect(Collectors.toList());
-
-      List<EventImage> eventImages = mediaLinks.stream()
-          .map(mediaLink -> new EventImage(mediaLink, existingEvent))
-          .collect(Collectors.toList());
-
-      existingEvent.getImages().addAll(eventImages);
-    }
-
-    // Save the updated event back to the repository
-    eventRepository.save(existingEvent);
+    findById(id);
+    List<String> mediaLinks = images != null && images.length > 0 ? uploadImages(images) : null;
+
+    conflictRetryExecutor.run("event.update", () -> {
+      Event existingEvent = eventRepository.findById(id);
+      if (existingEvent == null) {
+        throw new EventNotExistException("Event not found");
+      }
+
+      // Update fields of the existing event
+      existingEvent.setName(updatedEvent.getName() != null ? updatedEvent.getName() : existingEvent.getName());
+      existingEvent.setDescription(updatedEvent.getDescription() != null ? updatedEvent.getDescription() : existingEvent.getDescription());
+      existingEvent.setLocation(updatedEvent.getLocation() != null ? updatedEvent.getLocation() : existingEvent.getLocation());
+      // An occurrence of a series keeps its date, which identifies it within the series
+      if (existingEvent.getSeriesId() == null && updatedEvent.getDate() != null) {
+        existingEvent.setDate(updatedEvent.getDate());
+      }
+      existingEvent.setTime(updatedEvent.getTime() != null ? updatedEvent.getTime() : existingEvent.getTime());
+      existingEvent.setCapacity(updatedEvent.getCapacity() > 0 ? updatedEvent.getCapacity() : existingEvent.getCapacity());
+      existingEvent.setBudget(updatedEvent.getBudget() > 0 ? updatedEvent.getBudget() : existingEvent.getBudget());
+      existingEvent.setHost(existingEvent.getHost()); // Retain original host
+      existingEvent.setParticipants(existingEvent.getParticipants()); // Retain original participants
+
+      if (mediaLinks != null) {
+        // Replace the existing images with the uploaded ones
+        existingEvent.getImages().clear();
+        List<EventImage> eventImages = mediaLinks.stream()
+            .map(mediaLink -> new EventImage(mediaLink, existingEvent))
+            .collect(Collectors.toList());
+        existingEvent.getImages().addAll(eventImages);
+      }
+
+      // Save the updated event back to the repository
+      eventRepository.save(existingEvent);
+      resourceVersionService.evictEvent(id);
+      domainEventBus.publish(DomainEventType.EVENT_UPDATED, id, Map.of());
+    });
   }
 
-  // @Transactional with Isolation.SERIALIZABLE ensures the highest level of isolation
-  // to avoid concurrency issues during the delete operation
-  @Transactional(isolation = Isolation.SERIALIZABLE)
+  // Deletes the event in a plain transaction; the @Version check on the row replaces the
+  // SERIALIZABLE isolation this used to need, and a lost race is retried
+  @Workload(Workload.Type.BULK)
   public void delete(long id) {
-    Event event = eventRepository.findById(id);
-    if (event == null) {
-      throw new EventNotExistException("Event doesn't exist");
-    }
-
-    // Delete the event by its ID
-    eventRepository.deleteById(id);
+    conflictRetryExecutor.run("event.delete", () -> {
+      Event event = eventRepository.findById(id);
+      if (event == null) {
+        throw new EventNotExistException("Event doesn't exist");
+      }
+
+      // Delete the event by its ID
+      eventRepository.deleteById(id);
+      resourceVersionService.evictEvent(id);
+      domainEventBus.publish(DomainEventType.EVENT_DELETED, id, Map.of());
+    });
   }
 
+  @Workload(Workload.Type.BULK)
+  @Transactional(readOnly = true)
   public List<Event> findAllEvents() {
     return eventRepository.findAll();
   }
-  
-  public void saveEvent(Event event) {
+
+  // Uploads the images concurrently on the outbound I/O executor rather than the common fork-join
+  // pool, whose few platform threads would all block on GCS; links keep the order of the images
+  private List<String> uploadImages(MultipartFile[] images) {
+    List<CompletableFuture<String>> uploads = Arrays.stream(images)
+        .map(image -> CompletableFuture.supplyAsync(() -> imageStorageService.save(image), outboundIoExecutor))
+        .collect(Collectors.toList());
+    try {
+      return uploads.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
   }
 
 }
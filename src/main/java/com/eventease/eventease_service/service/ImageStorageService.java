@@ -4,6 +4,7 @@ import com.eventease.eventease_service.exception.GCSUploadException;
 import com.google.cloud.storage.Acl;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import io.micrometer.observation.ObservationRegistry;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -19,23 +20,30 @@ public class ImageStorageService {
   private String bucketName;
 
   private final Storage storage;
+  private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
   @Autowired
   public ImageStorageService(Storage storage) {
     this.storage = storage;
   }
 
+  @Autowired(required = false)
+  public void setObservationRegistry(ObservationRegistry observationRegistry) {
+    this.observationRegistry = observationRegistry;
+  }
+
   public String save(MultipartFile file) throws GCSUploadException {
     String filename = UUID.randomUUID().toString();
     BlobInfo blobInfo = null;
     try {
-      blobInfo = storage.createFrom(
-          BlobInfo
-              .newBuilder(bucketName, filename)
-              .setContentType("image/jpeg")
-              .setAcl(new ArrayList<>(Arrays.asList(Acl.of(Acl.User.ofAllUsers(), Acl.Role.READER))))
-              .build(),
-          file.getInputStream());
+      blobInfo = OutboundCalls.observation(observationRegistry, "gcs", "upload-image")
+          .observeChecked(() -> storage.createFrom(
+              BlobInfo
+                  .newBuilder(bucketName, filename)
+                  .setContentType("image/jpeg")
+                  .setAcl(new ArrayList<>(Arrays.asList(Acl.of(Acl.User.ofAllUsers(), Acl.Role.READER))))
+                  .build(),
+              file.getInputStream()));
     } catch (IOException exception) {
       throw new GCSUploadException("Failed to upload file to GCS");
     }
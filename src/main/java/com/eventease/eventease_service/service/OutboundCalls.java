@@ -0,0 +1,24 @@
+package com.eventease.eventease_service.service;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Names the observation recorded around every call to an external service. With the actuator's
+ * meter handler each one becomes an {@code outbound.calls} timer tagged with the {@code service},
+ * the {@code operation} and the {@code error} it failed with ({@code none} on success). Only
+ * low-cardinality tags are used, so recipients and file names never become time series.
+ */
+final class OutboundCalls {
+
+  static final String NAME = "outbound.calls";
+
+  private OutboundCalls() {
+  }
+
+  static Observation observation(ObservationRegistry registry, String service, String operation) {
+    return Observation.createNotStarted(NAME, registry)
+        .lowCardinalityKeyValue("service", service)
+        .lowCardinalityKeyValue("operation", operation);
+  }
+}
@@ -1,20 +1,31 @@
 package com.eventease.eventease_service.service;
 
+import com.eventease.eventease_service.config.Workload;
 import com.eventease.eventease_service.exception.*;
+import com.eventease.eventease_service.model.AttendeeSummary;
+import com.eventease.eventease_service.model.DomainEventType;
 import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.EventCounter;
 import com.eventease.eventease_service.model.RSVP;
 import com.eventease.eventease_service.model.User;
 import com.eventease.eventease_service.repository.RSVPRepository;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 @Service
+@Observed(name = "service.calls")
 public class RSVPService {
 
   @Autowired
@@ -26,15 +37,32 @@ public class RSVPService {
   @Autowired
   EventService eventService;
 
+  @Autowired
+  EventCounterService eventCounterService;
+
+  @Autowired
+  WaitlistService waitlistService;
+
+  @Autowired
+  ConflictRetryExecutor conflictRetryExecutor;
+
+  @Autowired
+  DomainEventBus domainEventBus;
+
+  @Autowired
+  ResourceVersionService resourceVersionService;
+
+  @Autowired
+  EventArchiveService eventArchiveService;
+
+  @Autowired
+  ApplicationEventPublisher eventPublisher;
+
+  @Transactional
   public RSVP createRSVP(String eventId, String userId, RSVP rsvp) {
     Event event = eventService.findById(Long.parseLong(eventId));
     User user = userService.findUserById(Long.parseLong(userId));
 
-    // check if the event is full;
-    if (event.getRsvpCount() >= event.getCapacity()) {
-      throw new EventFullException("Event is already at full capacity");
-    }
-
     // check duplicate RSVP
     Optional<RSVP> rsvpCheck= rsvpRepository.findByUserAndEvent(user, event);
     if(rsvpCheck.isPresent()) {
@@ -66,56 +94,178 @@ public class RSVPService {
       throw new RSVPOverlapException("RSVP overlaps with an existing RSVP");
     }
 
-    event.setRsvpCount(event.getRsvpCount() + 1);
-    return rsvpRepository.save(rsvp);
+    // The seat is taken against the count shared by all instances, not the write-behind
+    // rsvpCount, and the event row stays locked until this RSVP commits
+    if (!eventService.reserveSeat(event.getId())) {
+      throw new EventFullException("Event is already at full capacity");
+    }
+
+    RSVP savedRSVP = rsvpRepository.save(rsvp);
+    eventCounterService.increment(event.getId(), EventCounter.RSVP_COUNT);
+    resourceVersionService.evictRsvps(event.getId(), user.getId());
+    domainEventBus.publish(DomainEventType.RSVP_CREATED, event.getId(), rsvpPayload(user));
+    return savedRSVP;
   }
 
 
+  @Workload(Workload.Type.BULK)
+  @Transactional(readOnly = true)
   public List<RSVP> getAttendeesByEvent(String eventId) {
-    Event event = eventService.findById(Long.parseLong(eventId));
+    Event event;
+    try {
+      event = eventService.findById(Long.parseLong(eventId));
+    } catch (EventNotExistException e) {
+      if (eventService.findArchivedById(Long.parseLong(eventId)) == null) {
+        throw e;
+      }
+      return eventArchiveService.findArchivedRsvpsByEvent(Long.parseLong(eventId));
+    }
     return rsvpRepository.findByEvent(event);
   }
 
+  /**
+   * Returns up to pageSize of an event's attendees as lean rows, ordered by user ID and starting
+   * after afterUserId, optionally only those with the given status. The event is not checked.
+   * Pass 0 for the first page and the last user ID of a page for the next one.
+   *
+   * @param archived whether the event has been moved to the archive
+   */
+  @Workload(Workload.Type.BULK)
+  @Transactional(readOnly = true)
+  public List<AttendeeSummary> getAttendeeSummaries(Long eventId, boolean archived, String status, long afterUserId,
+                                                    int pageSize) {
+    if (archived) {
+      return eventArchiveService.findArchivedAttendeeSummaries(eventId, status, afterUserId, pageSize);
+    }
+    return rsvpRepository.findSummaryPageByEventId(eventId, afterUserId, status, PageRequest.of(0, pageSize));
+  }
+
+  /**
+   * Counts an archived event's attendees, optionally only those with the given status. Live
+   * events are counted through ResourceVersionService, whose cached counts archived events never need.
+   */
+  @Workload(Workload.Type.BULK)
+  @Transactional(readOnly = true)
+  public long countArchivedAttendees(Long eventId, String status) {
+    return eventArchiveService.countArchivedAttendees(eventId, status);
+  }
+
 
+  /**
+   * Cancels a user's RSVP and, in the same transaction, gives the freed seat to the head of the
+   * event's waitlist. The promoted user is notified asynchronously after commit.
+   */
+  @Transactional
   public void cancelRSVP(String eventId, String userId) {
     Event event = eventService.findById(Long.parseLong(eventId));
     User user = userService.findUserById(Long.parseLong(userId));
     Optional<RSVP> optionalRSVP = rsvpRepository.findByUserAndEvent(user, event);
     if (optionalRSVP.isPresent()) {
       RSVP rsvp = optionalRSVP.get();
+      // Event row before RSVP row, the lock order of createRSVP
+      eventService.releaseSeat(event.getId());
       rsvpRepository.delete(rsvp);
-      event.setRsvpCount(event.getRsvpCount() - 1);
+      eventCounterService.decrement(event.getId(), EventCounter.RSVP_COUNT);
+      resourceVersionService.evictRsvps(event.getId(), user.getId());
+      domainEventBus.publish(DomainEventType.RSVP_CANCELLED, event.getId(), rsvpPayload(user));
+      promoteFromWaitlist(event);
     } else {
       throw new RSVPNotExistException("RSVP not found");
     }
   }
 
-  public RSVP updateRSVP(String eventId, String userId, Map<String, Object> rsvpUpdates){
-
+  /**
+   * Adds a user to the waitlist of a full event.
+   *
+   * @return the user's 1-based position in the waitlist
+   */
+  public long joinWaitlist(String eventId, String userId) {
     Event event = eventService.findById(Long.parseLong(eventId));
     User user = userService.findUserById(Long.parseLong(userId));
 
-    Optional<RSVP> optionalRSVP = rsvpRepository.findByUserAndEvent(user, event);
-    if (optionalRSVP.isEmpty()) {
-      throw new RSVPNotExistException("RSVP does not exist for this event and user");
+    if (rsvpRepository.findByUserAndEvent(user, event).isPresent()) {
+      throw new RSVPExistsException("RSVP Already Exists");
     }
+    if (eventService.hasFreeSeat(event.getId())) {
+      throw new IllegalStateException("Event still has open seats, RSVP instead");
+    }
+    return waitlistService.join(event, user);
+  }
 
-    RSVP rsvp = optionalRSVP.get();
+  /**
+   * Looks up a user's position in an event's waitlist from the in-memory mirror.
+   *
+   * @return the user's 1-based position in the waitlist
+   */
+  public long getWaitlistPosition(String eventId, String userId) {
+    return waitlistService.position(Long.parseLong(eventId), Long.parseLong(userId))
+        .orElseThrow(() -> new WaitlistEntryNotExistException("User is not on the waitlist for this event"));
+  }
 
-    if (rsvpUpdates.containsKey("status")) {
-      rsvp.setStatus((String) rsvpUpdates.get("status"));
+  // Hands a freed seat to the first waiting user who can still take it
+  private void promoteFromWaitlist(Event event) {
+    if (!eventService.hasFreeSeat(event.getId())) {
+      return;
     }
-    if (rsvpUpdates.containsKey("notes")) {
-      rsvp.setNotes((String) rsvpUpdates.get("notes"));
-    }
-    if (rsvpUpdates.containsKey("reminderSent")) {
-      rsvp.setReminderSent((Boolean) rsvpUpdates.get("reminderSent"));
-    }
-    if (rsvpUpdates.containsKey("eventRole")) {
-      rsvp.setEventRole((String) rsvpUpdates.get("eventRole"));
+    Optional<WaitlistService.Ticket> head;
+    while ((head = waitlistService.pollHead(event.getId())).isPresent()) {
+      WaitlistService.Ticket ticket = head.get();
+      User user;
+      try {
+        user = userService.findUserById(ticket.userId());
+      } catch (UserNotExistException e) {
+        continue;
+      }
+
+      RSVP rsvp = new RSVP();
+      rsvp.setStatus("ATTENDING");
+      rsvp.setEventRole("PARTICIPANT");
+      try {
+        createRSVP(String.valueOf(event.getId()), String.valueOf(user.getId()), rsvp);
+      } catch (RSVPExistsException | RSVPOverlapException e) {
+        continue;
+      } catch (EventFullException e) {
+        // The seat was taken concurrently; keep this user first in line
+        waitlistService.restoreHead(event, user, ticket);
+        return;
+      }
+      eventPublisher.publishEvent(new WaitlistPromotedEvent(event.getId(), user.getId()));
+      return;
     }
+  }
+
+  private static Map<String, Object> rsvpPayload(User user) {
+    return Collections.singletonMap("userId", user.getId());
+  }
+
+  public RSVP updateRSVP(String eventId, String userId, Map<String, Object> rsvpUpdates){
+
+    Event event = eventService.findById(Long.parseLong(eventId));
+    User user = userService.findUserById(Long.parseLong(userId));
+
+    // Retried if a concurrent update of the same RSVP commits first
+    return conflictRetryExecutor.execute("rsvp.update", () -> {
+      RSVP rsvp = rsvpRepository.findByUserAndEvent(user, event)
+              .orElseThrow(() -> new RSVPNotExistException("RSVP does not exist for this event and user"));
 
-    return rsvpRepository.save(rsvp);
+      if (rsvpUpdates.containsKey("status")) {
+        rsvp.setStatus((String) rsvpUpdates.get("status"));
+      }
+      if (rsvpUpdates.containsKey("notes")) {
+        rsvp.setNotes((String) rsvpUpdates.get("notes"));
+      }
+      if (rsvpUpdates.containsKey("reminderSent")) {
+        rsvp.setReminderSent((Boolean) rsvpUpdates.get("reminderSent"));
+      }
+      if (rsvpUpdates.containsKey("eventRole")) {
+        rsvp.setEventRole((String) rsvpUpdates.get("eventRole"));
+      }
+
+      RSVP savedRSVP = rsvpRepository.save(rsvp);
+      resourceVersionService.evictRsvps(event.getId(), user.getId());
+      domainEventBus.publish(DomainEventType.RSVP_UPDATED, event.getId(), rsvpPayload(user));
+      return savedRSVP;
+    });
   }
 
   public void checkInUser(String eventId, String userId) {
@@ -129,34 +279,48 @@ public class RSVPService {
       throw new UserNotExistException("User does not exist.");
     }
 
-    RSVP rsvp = rsvpRepository.findByUserAndEvent(user, event)
-            .orElseThrow(() -> new RSVPNotExistException("No RSVP found for this user at the event."));
+    // A concurrent check-in of the same RSVP loses the version check, and its retry then
+    // sees the RSVP as already checked in, so attendance is counted once
+    conflictRetryExecutor.run("rsvp.checkin", () -> {
+      RSVP rsvp = rsvpRepository.findByUserAndEvent(user, event)
+              .orElseThrow(() -> new RSVPNotExistException("No RSVP found for this user at the event."));
 
-    // Check if the user is already checked in
-    if (rsvp.getStatus().equals("CheckedIn")) {
-      throw new IllegalArgumentException("User has already been checked in.");
-    }
+      // Check if the user is already checked in
+      if (rsvp.getStatus().equals("CheckedIn")) {
+        throw new IllegalArgumentException("User has already been checked in.");
+      }
 
-    rsvp.setStatus("CheckedIn");
-    rsvpRepository.save(rsvp);
+      rsvp.setStatus("CheckedIn");
+      rsvpRepository.save(rsvp);
+      resourceVersionService.evictRsvps(event.getId(), user.getId());
+      domainEventBus.publish(DomainEventType.RSVP_CHECKED_IN, event.getId(), rsvpPayload(user));
+    });
 
-    event.setAttendanceCount(event.getAttendanceCount() + 1);
-    eventService.saveEvent(event);
+    eventCounterService.increment(event.getId(), EventCounter.ATTENDANCE_COUNT);
   }
 
+  @Workload(Workload.Type.BULK)
+  @Transactional(readOnly = true)
   public List<RSVP> getAllRSVPsByUser(String userId) {
     User user = userService.findUserById(Long.parseLong(userId));
     if (user == null) {
       throw new UserNotExistException("User does not exist.");
     }
-    return rsvpRepository.findAllByUserOrderByEventDate(user);
+    // Archived events are all older than current ones, so their RSVPs go first
+    List<RSVP> rsvps = new ArrayList<>(eventArchiveService.findArchivedRsvpsByUser(user.getId(), null));
+    rsvps.addAll(rsvpRepository.findAllByUserOrderByEventDate(user));
+    return rsvps;
   }
 
+  @Workload(Workload.Type.BULK)
+  @Transactional(readOnly = true)
   public List<RSVP> getCheckedInRSVPsByUser(String userId) {
     User user = userService.findUserById(Long.parseLong(userId));
     if (user == null) {
       throw new UserNotExistException("User does not exist.");
     }
-    return rsvpRepository.findAllByUserAndStatusOrderByEventDate(user, "CheckedIn");
+    List<RSVP> rsvps = new ArrayList<>(eventArchiveService.findArchivedRsvpsByUser(user.getId(), "CheckedIn"));
+    rsvps.addAll(rsvpRepository.findAllByUserAndStatusOrderByEventDate(user, "CheckedIn"));
+    return rsvps;
   }
 }
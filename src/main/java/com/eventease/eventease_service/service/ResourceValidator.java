@@ -0,0 +1,10 @@
+package com.eventease.eventease_service.service;
+
+/**
+ * The validators of a readable resource, for answering conditional GETs.
+ *
+ * @param etag a weak entity tag that changes whenever the resource's JSON does
+ * @param lastModified when the resource last changed in epoch milliseconds, or -1 if unknown
+ */
+public record ResourceValidator(String etag, long lastModified) {
+}
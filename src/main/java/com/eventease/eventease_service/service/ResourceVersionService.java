@@ -0,0 +1,246 @@
+package com.eventease.eventease_service.service;
+
+import com.eventease.eventease_service.repository.EventRepository;
+import com.eventease.eventease_service.repository.RSVPRepository;
+import com.eventease.eventease_service.repository.TaskRepository;
+import com.eventease.eventease_service.repository.UserRepository;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ResourceVersionService answers "has this resource changed?" for the conditional GET endpoints.
+ * A validator is derived from a single-row probe of the resource's version columns and those of
+ * the rows embedded in its JSON, so a matching request is answered without loading or serializing
+ * the resource. Validators are cached for a short TTL and evicted when this instance writes the
+ * resource; changes made through other instances, to embedded rows, or by counter flushes become
+ * visible once the cached validator expires. Attendee counts of the paged attendee listing are
+ * cached the same way and dropped together with the event's RSVP listing validator.
+ */
+@Service
+public class ResourceVersionService {
+
+  private static final String EVENT = "event:";
+  private static final String USER = "user:";
+  private static final String TASK = "task:";
+  private static final String EVENT_RSVPS = "event-rsvps:";
+  private static final String USER_RSVPS = "user-rsvps:";
+
+  private final EventRepository eventRepository;
+  private final UserRepository userRepository;
+  private final TaskRepository taskRepository;
+  private final RSVPRepository rsvpRepository;
+  private final long cacheTtlMillis;
+  private final ConcurrentHashMap<String, CachedValidator> validators = new ConcurrentHashMap<>();
+  // Event RSVP listing key -> status filter ("" for none) -> count
+  private final ConcurrentHashMap<String, ConcurrentHashMap<String, CachedCount>> counts = new ConcurrentHashMap<>();
+
+  // Bumped on every eviction, so a validator probed concurrently with a write is never cached
+  private final AtomicLong evictions = new AtomicLong();
+
+  @Autowired
+  public ResourceVersionService(EventRepository eventRepository,
+                                UserRepository userRepository,
+                                TaskRepository taskRepository,
+                                RSVPRepository rsvpRepository,
+                                @Value("${etag.cache-ttl-ms:5000}") long cacheTtlMillis) {
+    this.eventRepository = eventRepository;
+    this.userRepository = userRepository;
+    this.taskRepository = taskRepository;
+    this.rsvpRepository = rsvpRepository;
+    this.cacheTtlMillis = cacheTtlMillis;
+  }
+
+  /**
+   * Returns the validator of an event, or null if the event does not exist.
+   */
+  public ResourceValidator eventValidator(Long eventId) {
+    return validator(EVENT + eventId, () -> fromRow(EVENT + eventId, eventRepository.findValidatorById(eventId), -1));
+  }
+
+  /**
+   * Returns the validator of a user, or null if the user does not exist. Users also carry a
+   * Last-Modified time, taken from their update or creation timestamp.
+   */
+  public ResourceValidator userValidator(Long userId) {
+    return validator(USER + userId, () -> {
+      List<Object[]> rows = userRepository.findValidatorById(userId);
+      if (rows.isEmpty()) {
+        return null;
+      }
+      Date modified = (Date) (rows.get(0)[1] != null ? rows.get(0)[1] : rows.get(0)[0]);
+      return fromRow(USER + userId, rows, modified == null ? -1 : modified.getTime());
+    });
+  }
+
+  /**
+   * Returns the validator of a task, or null if the task does not exist.
+   */
+  public ResourceValidator taskValidator(Long taskId) {
+    return validator(TASK + taskId, () -> fromRow(TASK + taskId, taskRepository.findValidatorById(taskId), -1));
+  }
+
+  /**
+   * Returns the validator of an event's RSVP listing, or null if the event does not exist.
+   */
+  public ResourceValidator eventRsvpsValidator(Long eventId) {
+    return validator(EVENT_RSVPS + eventId, () -> {
+      ResourceValidator event = eventValidator(eventId);
+      if (event == null) {
+        return null;
+      }
+      ResourceValidator rsvps = fromRow(EVENT_RSVPS + eventId, rsvpRepository.findValidatorByEventId(eventId), -1);
+      return new ResourceValidator(tag(EVENT_RSVPS + eventId, untag(rsvps), untag(event)), -1);
+    });
+  }
+
+  /**
+   * Returns the validator of a user's RSVP listings, or null if the user does not exist.
+   */
+  public ResourceValidator userRsvpsValidator(Long userId) {
+    return validator(USER_RSVPS + userId, () -> userValidator(userId) == null ? null
+        : fromRow(USER_RSVPS + userId, rsvpRepository.findValidatorByUserId(userId), -1));
+  }
+
+  /**
+   * Returns the number of an event's RSVPs, or of those with the given status, without checking
+   * that the event exists.
+   */
+  public long attendeeCount(Long eventId, String status) {
+    String filter = status == null ? "" : status;
+    Map<String, CachedCount> byStatus = counts.get(EVENT_RSVPS + eventId);
+    CachedCount cached = byStatus == null ? null : byStatus.get(filter);
+    long now = System.currentTimeMillis();
+    if (cached != null && now < cached.expiresAt) {
+      return cached.count;
+    }
+
+    long evictionsBefore = evictions.get();
+    long count = rsvpRepository.countByEventIdAndStatus(eventId, status);
+    if (evictions.get() == evictionsBefore) {
+      counts.computeIfAbsent(EVENT_RSVPS + eventId, key -> new ConcurrentHashMap<>())
+          .put(filter, new CachedCount(count, now + cacheTtlMillis));
+    }
+    return count;
+  }
+
+  public void evictEvent(Long eventId) {
+    evict(EVENT + eventId, EVENT_RSVPS + eventId);
+  }
+
+  public void evictUser(Long userId) {
+    evict(USER + userId, USER_RSVPS + userId);
+  }
+
+  public void evictTask(Long taskId) {
+    evict(TASK + taskId);
+  }
+
+  public void evictTasks(Collection<Long> taskIds) {
+    evict(taskIds.stream().map(taskId -> TASK + taskId).toArray(String[]::new));
+  }
+
+  public void evictRsvps(Long eventId, Long userId) {
+    evict(EVENT_RSVPS + eventId, USER_RSVPS + userId);
+  }
+
+  /**
+   * Drops expired validators, so resources that are no longer read do not stay cached.
+   */
+  @Scheduled(fixedDelayString = "${etag.purge-interval-ms:60000}")
+  public void purgeExpired() {
+    long now = System.currentTimeMillis();
+    validators.values().removeIf(cached -> now >= cached.expiresAt);
+    counts.values().forEach(byStatus -> byStatus.values().removeIf(cached -> now >= cached.expiresAt));
+    counts.values().removeIf(Map::isEmpty);
+  }
+
+  private ResourceValidator validator(String key, Supplier<ResourceValidator> probe) {
+    CachedValidator cached = validators.get(key);
+    long now = System.currentTimeMillis();
+    if (cached != null && now < cached.expiresAt) {
+      return cached.validator;
+    }
+
+    long evictionsBefore = evictions.get();
+    ResourceValidator validator = probe.get();
+    if (validator != null && evictions.get() == evictionsBefore) {
+      validators.put(key, new CachedValidator(validator, now + cacheTtlMillis));
+    }
+    return validator;
+  }
+
+  // Inside a transaction the keys are dropped again after commit, so a reader cannot cache the
+  // validator from before the write in between
+  private void evict(String... keys) {
+    evictNow(keys);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          evictNow(keys);
+        }
+      });
+    }
+  }
+
+  private void evictNow(String... keys) {
+    evictions.incrementAndGet();
+    for (String key : keys) {
+      validators.remove(key);
+      counts.remove(key);
+    }
+  }
+
+  private static ResourceValidator fromRow(String key, List<Object[]> rows, long lastModified) {
+    if (rows.isEmpty()) {
+      return null;
+    }
+    Object[] row = rows.get(0);
+    String[] parts = new String[row.length];
+    for (int i = 0; i < row.length; i++) {
+      parts[i] = part(row[i]);
+    }
+    return new ResourceValidator(tag(key, parts), lastModified);
+  }
+
+  // Entity tags may not contain spaces or quotes, so SQL timestamps are written as epoch millis
+  private static String part(Object value) {
+    if (value == null) {
+      return "0";
+    }
+    if (value instanceof Date date) {
+      return Long.toString(date.getTime());
+    }
+    if (value instanceof Temporal) {
+      return value.toString();
+    }
+    return String.valueOf(value);
+  }
+
+  private static String tag(String key, String... parts) {
+    return "W/\"" + key.replace(':', '-') + "-" + String.join("-", parts) + "\"";
+  }
+
+  private static String untag(ResourceValidator validator) {
+    String etag = validator.etag();
+    return etag.substring(3, etag.length() - 1);
+  }
+
+  private record CachedValidator(ResourceValidator validator, long expiresAt) {
+  }
+
+  private record CachedCount(long count, long expiresAt) {
+  }
+}
@@ -0,0 +1,87 @@
+package com.eventease.eventease_service.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded lock-free queue for exactly one producer thread and one consumer thread. The producer
+ * only writes the tail and the consumer only writes the head, each published with an ordered store,
+ * so neither side ever blocks or retries a CAS. Each side also caches the last index it read from
+ * the other to avoid touching the other's cache line on every call.
+ *
+ * @param <E> the element type
+ */
+public final class SpscRingBuffer<E> {
+
+  private final Object[] buffer;
+  private final int mask;
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+
+  // Producer-local copy of head and consumer-local copy of tail
+  private long cachedHead;
+  private long cachedTail;
+
+  public SpscRingBuffer(int capacity) {
+    if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a positive power of two");
+    }
+    this.buffer = new Object[capacity];
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Appends an element. Must only be called from the producer thread.
+   *
+   * @return false if the buffer is full
+   */
+  public boolean offer(E element) {
+    long currentTail = tail.get();
+    if (currentTail - cachedHead >= buffer.length) {
+      cachedHead = head.get();
+      if (currentTail - cachedHead >= buffer.length) {
+        return false;
+      }
+    }
+    buffer[(int) currentTail & mask] = element;
+    tail.lazySet(currentTail + 1);
+    return true;
+  }
+
+  /**
+   * Moves up to {@code max} elements, oldest first, into {@code sink}. Must only be called from the
+   * consumer thread.
+   *
+   * @return the number of elements moved
+   */
+  @SuppressWarnings("unchecked")
+  public int drainTo(List<? super E> sink, int max) {
+    long currentHead = head.get();
+    if (currentHead >= cachedTail) {
+      cachedTail = tail.get();
+      if (currentHead >= cachedTail) {
+        return 0;
+      }
+    }
+    int count = (int) Math.min(cachedTail - currentHead, max);
+    for (int i = 0; i < count; i++) {
+      int index = (int) (currentHead + i) & mask;
+      sink.add((E) buffer[index]);
+      buffer[index] = null;
+    }
+    head.lazySet(currentHead + count);
+    return count;
+  }
+
+  /**
+   * Returns how many elements can be offered without failing. Exact on the producer thread,
+   * approximate elsewhere.
+   */
+  public int remainingCapacity() {
+    return buffer.length - (int) (tail.get() - head.get());
+  }
+
+  public int size() {
+    return (int) (tail.get() - head.get());
+  }
+}
@@ -0,0 +1,106 @@
+package com.eventease.eventease_service.service;
+
+import com.eventease.eventease_service.model.Task;
+import com.eventease.eventease_service.model.TaskBoard;
+import com.eventease.eventease_service.model.TaskBoardItem;
+import com.eventease.eventease_service.repository.TaskRepository;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * TaskBoardService serves the planning board of an event: a projection of its tasks and the number
+ * of tasks per status. Boards are cached per event and evicted whenever a task of the event is
+ * written; entries also expire after a TTL, which bounds how long writes made by other instances
+ * stay invisible.
+ */
+@Service
+public class TaskBoardService {
+
+  private final TaskRepository taskRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final long cacheTtlMillis;
+  private final ConcurrentHashMap<Long, CachedBoard> boards = new ConcurrentHashMap<>();
+
+  // Bumped on every eviction, so a board loaded concurrently with a write is never cached
+  private final AtomicLong evictions = new AtomicLong();
+
+  @Autowired
+  public TaskBoardService(TaskRepository taskRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${task-board.cache-ttl-ms:60000}") long cacheTtlMillis) {
+    this.taskRepository = taskRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.cacheTtlMillis = cacheTtlMillis;
+  }
+
+  /**
+   * Returns the task board of an event. The caller is responsible for checking that the event exists.
+   *
+   * @param eventId the ID of the event
+   * @return the tasks of the event as board cards, with counts per status
+   */
+  public TaskBoard getBoard(Long eventId) {
+    CachedBoard cached = boards.get(eventId);
+    long now = System.currentTimeMillis();
+    if (cached != null && now < cached.expiresAt) {
+      return cached.board;
+    }
+
+    long evictionsBefore = evictions.get();
+    TaskBoard board = readOnlyTransaction.execute(status -> load(eventId));
+    if (evictions.get() == evictionsBefore) {
+      boards.put(eventId, new CachedBoard(board, now + cacheTtlMillis));
+    }
+    return board;
+  }
+
+  /**
+   * Drops the cached board of an event. Inside a transaction the board is dropped again after
+   * commit, so a reader cannot cache the state from before the write in between.
+   *
+   * @param eventId the ID of the event whose tasks changed
+   */
+  public void evict(Long eventId) {
+    evictNow(eventId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          evictNow(eventId);
+        }
+      });
+    }
+  }
+
+  private void evictNow(Long eventId) {
+    evictions.incrementAndGet();
+    boards.remove(eventId);
+  }
+
+  private TaskBoard load(Long eventId) {
+    List<TaskBoardItem> items = taskRepository.findBoardItemsByEventId(eventId);
+    Map<Task.TaskStatus, Long> counts = new EnumMap<>(Task.TaskStatus.class);
+    for (Task.TaskStatus status : Task.TaskStatus.values()) {
+      counts.put(status, 0L);
+    }
+    for (Object[] row : taskRepository.countByStatusForEvent(eventId)) {
+      counts.put((Task.TaskStatus) row[0], ((Number) row[1]).longValue());
+    }
+    return new TaskBoard(eventId, Collections.unmodifiableMap(counts), List.copyOf(items));
+  }
+
+  private record CachedBoard(TaskBoard board, long expiresAt) {
+  }
+}
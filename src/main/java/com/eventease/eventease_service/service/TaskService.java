@@ -1,24 +1,46 @@
 package com.eventease.eventease_service.service;
 
+import com.eventease.eventease_service.config.Workload;
 import com.eventease.eventease_service.exception.TaskNotExistException;
 import com.eventease.eventease_service.exception.UserNotExistException;
+import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.model.DomainEventType;
 import com.eventease.eventease_service.model.Task;
+import com.eventease.eventease_service.model.TaskBatchResult;
+import com.eventease.eventease_service.model.TaskBoard;
 import com.eventease.eventease_service.model.User;
 import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.repository.TaskRepository;
+import io.micrometer.observation.annotation.Observed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * TaskService is responsible for managing tasks in the system, including creating, updating, retrieving,
  * and deleting tasks. It also handles task-specific business logic such as verifying events and users.
  */
 @Service
+@Observed(name = "service.calls")
 public class TaskService {
 
+    private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
+
+    public static final int MAX_BATCH_SIZE = 500;
+
     @Autowired
     private TaskRepository taskRepository;
 
@@ -28,6 +50,21 @@ public class TaskService {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private ConflictRetryExecutor conflictRetryExecutor;
+
+    @Autowired
+    private TaskBoardService taskBoardService;
+
+    @Autowired
+    private DomainEventBus domainEventBus;
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
+    @Autowired
+    private EventArchiveService eventArchiveService;
+
     /**
      * Creates a new task associated with an event and a user.
      *
@@ -44,26 +81,52 @@ public class TaskService {
         task.setEvent(event);
         task.setAssignedUser(user);
 
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        taskBoardService.evict(eventId);
+        domainEventBus.publish(DomainEventType.TASK_CREATED, savedTask.getId(), Map.of("eventId", eventId));
+        return savedTask;
     }
 
     /**
-     * Retrieves a list of tasks for a specific event.
+     * Retrieves a list of tasks for a specific event, from the archive once the event has been archived.
      *
      * @param eventId the ID of the event
      * @return a list of tasks associated with the event
      */
+    @Workload(Workload.Type.BULK)
+    @Transactional(readOnly = true)
     public List<Task> getTasksByEvent(Long eventId) {
         try {
             List<Task> tasks = taskRepository.findByEventId(eventId);
-            System.out.println("Fetched tasks: " + tasks);
-            return tasks;
+            if (!tasks.isEmpty()) {
+                return tasks;
+            }
+            // Only an event that has left the hot table can have archived tasks
+            try {
+                eventService.findById(eventId);
+                return tasks;
+            } catch (EventNotExistException e) {
+                return eventArchiveService.findArchivedTasksByEvent(eventId);
+            }
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Error fetching tasks for event {}", eventId, e);
             throw new RuntimeException("Error fetching tasks for event ID: " + eventId, e);
         }
     }
 
+    /**
+     * Retrieves the planning board of an event: its tasks as lightweight cards plus the number of
+     * tasks in each status. Boards are cached until a task of the event is written.
+     *
+     * @param eventId the ID of the event
+     * @return the task board of the event
+     * @throws EventNotExistException if the event is not found
+     */
+    public TaskBoard getTaskBoard(Long eventId) {
+        eventService.findById(eventId);
+        return taskBoardService.getBoard(eventId);
+    }
+
     /**
      * Updates the status of a specific task.
      *
@@ -72,40 +135,221 @@ public class TaskService {
      * @throws TaskNotExistException if the task is not found
      */
 
-    @Transactional
     public void updateTaskStatus(Long taskId, Task.TaskStatus newStatus) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new TaskNotExistException("Task not found with ID: " + taskId));
-        task.setStatus(newStatus);
-        taskRepository.save(task);
+        conflictRetryExecutor.run("task.status", () -> {
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new TaskNotExistException("Task not found with ID: " + taskId));
+            task.setStatus(newStatus);
+            taskRepository.save(task);
+            taskBoardService.evict(task.getEvent().getId());
+            resourceVersionService.evictTask(taskId);
+            domainEventBus.publish(DomainEventType.TASK_UPDATED, taskId, Map.of("eventId", task.getEvent().getId()));
+        });
     }
 
-    @Transactional
     public void updateTaskAssignedUser(Long taskId, Long userId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new TaskNotExistException("Task not found with ID: " + taskId));
+        conflictRetryExecutor.run("task.assign", () -> {
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new TaskNotExistException("Task not found with ID: " + taskId));
 
-        // Then check if user exists
-        User user = userService.findUserById(userId);
-        if (user == null) {
-            throw new UserNotExistException("User not found with ID: " + userId);
+            // Then check if user exists
+            User user = userService.findUserById(userId);
+            if (user == null) {
+                throw new UserNotExistException("User not found with ID: " + userId);
+            }
+
+            task.setAssignedUser(user);
+            taskRepository.save(task);
+            taskBoardService.evict(task.getEvent().getId());
+            resourceVersionService.evictTask(taskId);
+            domainEventBus.publish(DomainEventType.TASK_UPDATED, taskId, Map.of("eventId", task.getEvent().getId()));
+        });
+    }
+
+
+    /**
+     * Creates many tasks for an event in one transaction. The tasks are inserted as a single JDBC
+     * batch; a task whose assigned user does not exist is skipped and reported as USER_NOT_FOUND.
+     *
+     * @param eventId the ID of the event to associate with the tasks
+     * @param tasks the tasks to create, each with an assigned user carrying only its ID
+     * @return one result per task, in request order
+     * @throws EventNotExistException if the event is not found
+     */
+    @Transactional
+    public List<TaskBatchResult> createTasks(Long eventId, List<Task> tasks) {
+        checkBatchSize(tasks.size());
+        eventService.findById(eventId);
+
+        Set<Long> userIds = new HashSet<>();
+        for (Task task : tasks) {
+            userIds.add(task.getAssignedUser().getId());
         }
+        Set<Long> existingUserIds = userService.findUsersByIds(userIds).keySet();
 
-        task.setAssignedUser(user);
-        taskRepository.save(task);
+        List<Task> insertable = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            if (existingUserIds.contains(task.getAssignedUser().getId())) {
+                insertable.add(task);
+            }
+        }
+        List<Long> insertedIds = taskRepository.insertAll(eventId, insertable);
+        Iterator<Long> createdIds = insertedIds.iterator();
+        taskBoardService.evict(eventId);
+        if (!insertedIds.isEmpty()) {
+            domainEventBus.publish(DomainEventType.TASKS_CREATED, eventId, Map.of("taskIds", insertedIds));
+        }
+
+        List<TaskBatchResult> results = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            results.add(existingUserIds.contains(task.getAssignedUser().getId())
+                    ? new TaskBatchResult(createdIds.next(), TaskBatchResult.Outcome.CREATED)
+                    : new TaskBatchResult(null, TaskBatchResult.Outcome.USER_NOT_FOUND));
+        }
+        return results;
+    }
+
+    /**
+     * Sets the status of many tasks of an event in one transaction, with one bulk UPDATE per
+     * distinct status. Tasks that do not belong to the event are reported as NOT_FOUND.
+     *
+     * @param eventId the ID of the event the tasks belong to
+     * @param statusByTaskId the new status, keyed by task ID
+     * @return one result per task, in request order
+     * @throws EventNotExistException if the event is not found
+     */
+    @Transactional
+    public List<TaskBatchResult> updateTaskStatuses(Long eventId, Map<Long, Task.TaskStatus> statusByTaskId) {
+        checkBatchSize(statusByTaskId.size());
+        eventService.findById(eventId);
+
+        Set<Long> found = findTaskIds(eventId, statusByTaskId.keySet());
+        Map<Task.TaskStatus, List<Long>> taskIdsByStatus = new EnumMap<>(Task.TaskStatus.class);
+        statusByTaskId.forEach((taskId, status) -> {
+            if (found.contains(taskId)) {
+                taskIdsByStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(taskId);
+            }
+        });
+        taskIdsByStatus.forEach((status, taskIds) ->
+                taskRepository.updateStatusByEventIdAndIdIn(eventId, taskIds, status));
+        taskBoardService.evict(eventId);
+        resourceVersionService.evictTasks(found);
+        publishBatch(DomainEventType.TASKS_UPDATED, eventId, found);
+
+        return results(statusByTaskId.keySet(), found, TaskBatchResult.Outcome.UPDATED);
+    }
+
+    /**
+     * Reassigns many tasks of an event in one transaction, with one bulk UPDATE per distinct user.
+     * Tasks that do not belong to the event are reported as NOT_FOUND, and tasks whose new user does
+     * not exist as USER_NOT_FOUND.
+     *
+     * @param eventId the ID of the event the tasks belong to
+     * @param userIdByTaskId the ID of the new assigned user, keyed by task ID
+     * @return one result per task, in request order
+     * @throws EventNotExistException if the event is not found
+     */
+    @Transactional
+    public List<TaskBatchResult> updateTaskAssignedUsers(Long eventId, Map<Long, Long> userIdByTaskId) {
+        checkBatchSize(userIdByTaskId.size());
+        eventService.findById(eventId);
+
+        Set<Long> found = findTaskIds(eventId, userIdByTaskId.keySet());
+        Map<Long, User> usersById = userService.findUsersByIds(new HashSet<>(userIdByTaskId.values()));
+        Map<Long, List<Long>> taskIdsByUserId = new HashMap<>();
+        userIdByTaskId.forEach((taskId, userId) -> {
+            if (found.contains(taskId) && usersById.containsKey(userId)) {
+                taskIdsByUserId.computeIfAbsent(userId, id -> new ArrayList<>()).add(taskId);
+            }
+        });
+        taskIdsByUserId.forEach((userId, taskIds) ->
+                taskRepository.updateAssignedUserByEventIdAndIdIn(eventId, taskIds, usersById.get(userId)));
+        taskBoardService.evict(eventId);
+        List<Long> updatedIds = new ArrayList<>();
+        taskIdsByUserId.values().forEach(updatedIds::addAll);
+        resourceVersionService.evictTasks(updatedIds);
+        publishBatch(DomainEventType.TASKS_UPDATED, eventId, updatedIds);
+
+        List<TaskBatchResult> results = new ArrayList<>(userIdByTaskId.size());
+        userIdByTaskId.forEach((taskId, userId) -> {
+            TaskBatchResult.Outcome outcome = !found.contains(taskId) ? TaskBatchResult.Outcome.NOT_FOUND
+                    : usersById.containsKey(userId) ? TaskBatchResult.Outcome.UPDATED
+                    : TaskBatchResult.Outcome.USER_NOT_FOUND;
+            results.add(new TaskBatchResult(taskId, outcome));
+        });
+        return results;
+    }
+
+    /**
+     * Deletes many tasks of an event with one bulk DELETE. Tasks that do not belong to the event
+     * are reported as NOT_FOUND.
+     *
+     * @param eventId the ID of the event the tasks belong to
+     * @param taskIds the IDs of the tasks to delete
+     * @return one result per distinct task ID, in request order
+     * @throws EventNotExistException if the event is not found
+     */
+    @Transactional
+    public List<TaskBatchResult> deleteTasks(Long eventId, Collection<Long> taskIds) {
+        Set<Long> requested = new LinkedHashSet<>(taskIds);
+        checkBatchSize(requested.size());
+        eventService.findById(eventId);
+
+        Set<Long> found = findTaskIds(eventId, requested);
+        if (!found.isEmpty()) {
+            taskRepository.deleteByEventIdAndIdIn(eventId, found);
+            taskBoardService.evict(eventId);
+            resourceVersionService.evictTasks(found);
+            publishBatch(DomainEventType.TASKS_DELETED, eventId, found);
+        }
+        return results(requested, found, TaskBatchResult.Outcome.DELETED);
     }
 
+    private void publishBatch(DomainEventType type, Long eventId, Collection<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            domainEventBus.publish(type, eventId, Map.of("taskIds", List.copyOf(taskIds)));
+        }
+    }
+
+    private Set<Long> findTaskIds(Long eventId, Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(taskRepository.findIdsByEventIdAndIdIn(eventId, taskIds));
+    }
+
+    private static List<TaskBatchResult> results(Collection<Long> requested, Set<Long> found,
+                                                 TaskBatchResult.Outcome outcome) {
+        List<TaskBatchResult> results = new ArrayList<>(requested.size());
+        for (Long taskId : requested) {
+            results.add(new TaskBatchResult(taskId, found.contains(taskId) ? outcome : TaskBatchResult.Outcome.NOT_FOUND));
+        }
+        return results;
+    }
+
+    private static void checkBatchSize(int size) {
+        if (size == 0) {
+            throw new IllegalArgumentException("Batch must contain at least one task");
+        }
+        if (size > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must contain at most " + MAX_BATCH_SIZE + " tasks");
+        }
+    }
 
     /**
      * Deletes a specific task by its ID and associated event ID.
      *
      * @param taskId the ID of the task to delete
      */
+    @Transactional
     public void deleteTask(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotExistException("Task not found with ID: " + taskId));
 
         taskRepository.delete(task);
+        taskBoardService.evict(task.getEvent().getId());
+        resourceVersionService.evictTask(taskId);
+        domainEventBus.publish(DomainEventType.TASK_DELETED, taskId, Map.of("eventId", task.getEvent().getId()));
     }
 
     /**
@@ -114,6 +358,8 @@ public class TaskService {
      * @param userId the ID of the user
      * @return a list of tasks assigned to the user
      */
+    @Workload(Workload.Type.BULK)
+    @Transactional(readOnly = true)
     public List<Task> getTasksByUser(Long userId) {
         userService.findUserById(userId);
         
@@ -127,6 +373,7 @@ public class TaskService {
      * @return the task
      * @throws TaskNotExistException if the task is not found
      */
+    @Workload(Workload.Type.HOT_READ)
     public Task getTaskById(Long taskId) {
         if (taskId == null || taskId <= 0) {
             throw new IllegalArgumentException("Invalid task ID");
@@ -4,13 +4,19 @@ import com.eventease.eventease_service.config.TwilioConfig;
 import com.twilio.Twilio;
 import com.twilio.rest.api.v2010.account.Message;
 import com.twilio.type.PhoneNumber;
+import io.micrometer.observation.ObservationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
 public class TwilioService {
 
+    private static final Logger logger = LoggerFactory.getLogger(TwilioService.class);
+
     private final TwilioConfig twilioConfig;
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
     @Autowired
     public TwilioService(TwilioConfig twilioConfig) {
@@ -18,6 +24,11 @@ public class TwilioService {
         initializeTwilio();
     }
 
+    @Autowired(required = false)
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
     private void initializeTwilio() {
         if (twilioConfig.getAccountSid() != null && twilioConfig.getAuthToken() != null) {
             Twilio.init(twilioConfig.getAccountSid(), twilioConfig.getAuthToken());
@@ -32,12 +43,13 @@ public class TwilioService {
             throw new IllegalArgumentException("The message body cannot be null or empty.");
         }
 
-        Message message = Message.creator(
-                        new PhoneNumber(to),
-                        new PhoneNumber(twilioConfig.getPhoneNumber()),
-                        messageBody)
-                .create();
+        Message message = OutboundCalls.observation(observationRegistry, "twilio", "send-sms")
+                .observe(() -> Message.creator(
+                                new PhoneNumber(to),
+                                new PhoneNumber(twilioConfig.getPhoneNumber()),
+                                messageBody)
+                        .create());
 
-        System.out.println("SMS sent with SID: " + message.getSid());
+        logger.debug("SMS sent with SID: {}", message.getSid());
     }
 }
\ No newline at end of file
@@ -1,21 +1,47 @@
 package com.eventease.eventease_service.service;
 
+import com.eventease.eventease_service.config.Workload;
 import com.eventease.eventease_service.exception.UserExistsException;
 import com.eventease.eventease_service.exception.UserNotExistException;
+import com.eventease.eventease_service.model.DomainEventType;
+import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.repository.EventRepository;
 import com.eventease.eventease_service.repository.UserRepository;
+import io.micrometer.observation.annotation.Observed;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 
 @Service
+@Observed(name = "service.calls")
 public class UserService {
 
+    // Upper bound on the page size accepted by the created/attended event sub-resources
+    public static final int MAX_EVENT_PAGE_SIZE = 100;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private DomainEventBus domainEventBus;
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
+    @Transactional
     public User addUser(User user) {
         // check if user already exists
         if(userRepository.findById(user.getId()).isPresent()){
@@ -24,9 +50,12 @@ public class UserService {
 
         user.setCreatedAt(new Timestamp(System.currentTimeMillis()));
         User addedUser = userRepository.save(user);
+        domainEventBus.publish(DomainEventType.USER_CREATED, addedUser.getId(), Map.of());
         return addedUser;
     }
 
+    @Workload(Workload.Type.BULK)
+    @Transactional(readOnly = true)
     public Iterable<User> getUsersByFilter(
             String firstName, String lastName, String email,
             String phone, User.Role role)
@@ -43,6 +72,7 @@ public class UserService {
         });
     }
 
+    @Transactional
     public String updateUser(Long id, User updatedUser) {
         Optional<User> existingUserOptional = userRepository.findById(id);
 
@@ -62,12 +92,15 @@ public class UserService {
 
             // Save updated user to the database
             userRepository.save(existingUser);
+            resourceVersionService.evictUser(id);
+            domainEventBus.publish(DomainEventType.USER_UPDATED, id, Map.of());
             return "User updated successfully";
         } else {
             return "User not found";
         }
     }
   // This method retrieves a user by its ID. If the user is not found, it throws an exception
+  @Workload(Workload.Type.HOT_READ)
   public User findUserById(long id) {
       Optional<User> user = userRepository.findById(id);  // This line should be updated to use Optional
       if (!user.isPresent()) {
@@ -76,8 +109,71 @@ public class UserService {
       return user.get();
   }
 
+    /**
+     * Loads several users in one query. IDs that match no user are absent from the result.
+     *
+     * @param ids the IDs of the users to load
+     * @return the users found, keyed by ID
+     */
+    @Workload(Workload.Type.HOT_READ)
+    public Map<Long, User> findUsersByIds(Collection<Long> ids) {
+        Map<Long, User> usersById = new HashMap<>();
+        for (User user : userRepository.findAllById(ids)) {
+            usersById.put(user.getId(), user);
+        }
+        return usersById;
+    }
+
+    /**
+     * Retrieves one page of the events hosted by a user, most recent first.
+     *
+     * @param userId the ID of the host
+     * @param page the zero-based page index
+     * @param size the page size, capped at {@link #MAX_EVENT_PAGE_SIZE}
+     * @return the requested page of events
+     * @throws UserNotExistException if the user is not found
+     */
+    @Workload(Workload.Type.BULK)
+    @Transactional(readOnly = true)
+    public Page<Event> getCreatedEvents(long userId, int page, int size) {
+        assertUserExists(userId);
+        return eventRepository.findByHostId(userId, eventPage(page, size));
+    }
+
+    /**
+     * Retrieves one page of the events a user participates in, most recent first.
+     *
+     * @param userId the ID of the participant
+     * @param page the zero-based page index
+     * @param size the page size, capped at {@link #MAX_EVENT_PAGE_SIZE}
+     * @return the requested page of events
+     * @throws UserNotExistException if the user is not found
+     */
+    @Workload(Workload.Type.BULK)
+    @Transactional(readOnly = true)
+    public Page<Event> getAttendedEvents(long userId, int page, int size) {
+        assertUserExists(userId);
+        return eventRepository.findAttendedByUserId(userId, eventPage(page, size));
+    }
+
+    private void assertUserExists(long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotExistException("User is not found.");
+        }
+    }
+
+    private PageRequest eventPage(int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new IllegalArgumentException("Page must be non-negative and size must be positive");
+        }
+        return PageRequest.of(page, Math.min(size, MAX_EVENT_PAGE_SIZE), Sort.by(Sort.Direction.DESC, "date"));
+    }
+
+    @Transactional
     public void deleteUser(Long id) {
         userRepository.deleteById(id);
+        resourceVersionService.evictUser(id);
+        domainEventBus.publish(DomainEventType.USER_DELETED, id, Map.of());
   }
 
 }
@@ -0,0 +1,49 @@
+package com.eventease.eventease_service.service;
+
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Emails users promoted from a waitlist. Runs asynchronously once the promoting transaction has
+ * committed, so a slow or failing mail server never delays or rolls back the cancellation.
+ */
+@Service
+public class WaitlistNotifier {
+
+  private static final Logger logger = LoggerFactory.getLogger(WaitlistNotifier.class);
+
+  private final EmailService emailService;
+  private final EventService eventService;
+  private final UserService userService;
+
+  @Autowired
+  public WaitlistNotifier(EmailService emailService, EventService eventService, UserService userService) {
+    this.emailService = emailService;
+    this.eventService = eventService;
+    this.userService = userService;
+  }
+
+  @Async
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPromoted(WaitlistPromotedEvent promoted) {
+    try {
+      User user = userService.findUserById(promoted.userId());
+      Event event = eventService.findById(promoted.eventId());
+      if (user.getEmail() == null || user.getEmail().isBlank()) {
+        logger.info("User {} promoted from the waitlist of event {} has no email", user.getId(), event.getId());
+        return;
+      }
+      String text = String.format("Dear %s %s,\n\nA seat opened up and you are now registered for the event: %s.",
+          user.getFirstName(), user.getLastName(), event.getName());
+      emailService.sendEmail(user.getEmail(), "EventEase - You're off the waitlist", text);
+    } catch (RuntimeException e) {
+      logger.warn("Failed to notify user {} of promotion for event {}", promoted.userId(), promoted.eventId(), e);
+    }
+  }
+}
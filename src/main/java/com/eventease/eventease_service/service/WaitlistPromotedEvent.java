@@ -0,0 +1,10 @@
+package com.eventease.eventease_service.service;
+
+/**
+ * Published when a cancellation frees a seat and the head of the event's waitlist receives an RSVP.
+ *
+ * @param eventId the ID of the event
+ * @param userId the ID of the promoted user
+ */
+public record WaitlistPromotedEvent(Long eventId, Long userId) {
+}
@@ -0,0 +1,232 @@
+package com.eventease.eventease_service.service;
+
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.model.WaitlistEntry;
+import com.eventease.eventease_service.repository.WaitlistRepository;
+import io.micrometer.observation.annotation.Observed;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * WaitlistService keeps a FIFO waitlist per event. The queue is persisted in the event_waitlist table
+ * and mirrored in memory, so looking up a user's position or the head of the queue takes constant time
+ * without touching the database. A mirror is rebuilt from the table when it expires, which bounds how
+ * long changes made by other instances stay invisible.
+ */
+@Service
+@Observed(name = "service.calls")
+public class WaitlistService {
+
+  // Joining retries once after reloading the mirror if another instance took the same ticket
+  private static final int JOIN_ATTEMPTS = 2;
+
+  private final WaitlistRepository waitlistRepository;
+  private final long mirrorTtlMillis;
+  private final ConcurrentHashMap<Long, EventWaitlist> mirrors = new ConcurrentHashMap<>();
+
+  @Autowired
+  public WaitlistService(WaitlistRepository waitlistRepository,
+                         @Value("${waitlist.mirror-ttl-ms:30000}") long mirrorTtlMillis) {
+    this.waitlistRepository = waitlistRepository;
+    this.mirrorTtlMillis = mirrorTtlMillis;
+  }
+
+  /**
+   * Appends a user to the end of an event's waitlist. Joining twice keeps the original place.
+   *
+   * @param event the full event
+   * @param user the user to queue
+   * @return the user's 1-based position in the queue
+   */
+  public long join(Event event, User user) {
+    DataIntegrityViolationException conflict = null;
+    for (int attempt = 0; attempt < JOIN_ATTEMPTS; attempt++) {
+      EventWaitlist waitlist = mirror(event.getId());
+      waitlist.lock.lock();
+      try {
+        Long position = waitlist.position(user.getId());
+        if (position != null) {
+          return position;
+        }
+        long ticket = waitlist.lastTicket + 1;
+        try {
+          waitlistRepository.save(new WaitlistEntry(event, user, ticket));
+        } catch (DataIntegrityViolationException e) {
+          conflict = e;
+          mirrors.remove(event.getId(), waitlist);
+          continue;
+        }
+        waitlist.append(new Ticket(user.getId(), ticket));
+        return waitlist.position(user.getId());
+      } finally {
+        waitlist.lock.unlock();
+      }
+    }
+    throw conflict;
+  }
+
+  /**
+   * Looks up a user's place in an event's waitlist.
+   *
+   * @param eventId the ID of the event
+   * @param userId the ID of the user
+   * @return the 1-based position, or empty if the user is not waiting
+   */
+  public Optional<Long> position(Long eventId, Long userId) {
+    EventWaitlist waitlist = mirror(eventId);
+    waitlist.lock.lock();
+    try {
+      return Optional.ofNullable(waitlist.position(userId));
+    } finally {
+      waitlist.lock.unlock();
+    }
+  }
+
+  public int size(Long eventId) {
+    EventWaitlist waitlist = mirror(eventId);
+    waitlist.lock.lock();
+    try {
+      return waitlist.queue.size();
+    } finally {
+      waitlist.lock.unlock();
+    }
+  }
+
+  /**
+   * Removes and returns the head of an event's waitlist. When called inside a transaction the
+   * removal is part of it, and the mirror is rebuilt if that transaction rolls back.
+   *
+   * @param eventId the ID of the event
+   * @return the removed head, or empty if nobody is waiting
+   */
+  public Optional<Ticket> pollHead(Long eventId) {
+    EventWaitlist waitlist = mirror(eventId);
+    waitlist.lock.lock();
+    try {
+      Ticket head;
+      while ((head = waitlist.poll()) != null) {
+        // Zero rows means another instance already served this entry; skip it
+        if (waitlistRepository.deleteByEventIdAndUserId(eventId, head.userId()) > 0) {
+          evictOnRollback(eventId, waitlist);
+          return Optional.of(head);
+        }
+      }
+      return Optional.empty();
+    } finally {
+      waitlist.lock.unlock();
+    }
+  }
+
+  /**
+   * Puts a ticket taken by {@link #pollHead} back at the front of the queue, e.g. when the seat it
+   * was polled for is no longer available.
+   *
+   * @param event the event
+   * @param user the user of the ticket
+   * @param ticket the ticket to restore
+   */
+  public void restoreHead(Event event, User user, Ticket ticket) {
+    EventWaitlist waitlist = mirror(event.getId());
+    waitlist.lock.lock();
+    try {
+      waitlistRepository.save(new WaitlistEntry(event, user, ticket.ticket()));
+      waitlist.pushFront(ticket);
+    } finally {
+      waitlist.lock.unlock();
+    }
+  }
+
+  private EventWaitlist mirror(Long eventId) {
+    long now = System.currentTimeMillis();
+    EventWaitlist waitlist = mirrors.get(eventId);
+    if (waitlist != null && now - waitlist.loadedAt < mirrorTtlMillis) {
+      return waitlist;
+    }
+    return mirrors.compute(eventId, (id, current) ->
+        current != null && now - current.loadedAt < mirrorTtlMillis ? current : load(id));
+  }
+
+  private EventWaitlist load(Long eventId) {
+    EventWaitlist waitlist = new EventWaitlist(System.currentTimeMillis());
+    for (Object[] row : waitlistRepository.findTicketsByEventId(eventId)) {
+      waitlist.append(new Ticket((Long) row[0], (Long) row[1]));
+    }
+    return waitlist;
+  }
+
+  private void evictOnRollback(Long eventId, EventWaitlist waitlist) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status != STATUS_COMMITTED) {
+          mirrors.remove(eventId, waitlist);
+        }
+      }
+    });
+  }
+
+  /**
+   * A queued user and the persisted ticket that orders them in the queue.
+   */
+  public record Ticket(Long userId, long ticket) {
+  }
+
+  /**
+   * In-memory mirror of one event's queue. Positions come from mirror-local ranks rather than
+   * tickets, so gaps left by deleted rows never skew them. Callers hold its lock, which is a
+   * ReentrantLock rather than a monitor so that a virtual thread blocked on the database while
+   * holding it does not pin its carrier thread.
+   */
+  private static final class EventWaitlist {
+    private final long loadedAt;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Ticket> queue = new ArrayDeque<>();
+    private final Map<Long, Long> rankByUser = new HashMap<>();
+    private long headRank = 0;
+    private long nextRank = 0;
+    private long lastTicket = 0;
+
+    private EventWaitlist(long loadedAt) {
+      this.loadedAt = loadedAt;
+    }
+
+    private Long position(Long userId) {
+      Long rank = rankByUser.get(userId);
+      return rank == null ? null : rank - headRank + 1;
+    }
+
+    private void append(Ticket ticket) {
+      queue.addLast(ticket);
+      rankByUser.put(ticket.userId(), nextRank++);
+      lastTicket = Math.max(lastTicket, ticket.ticket());
+    }
+
+    private void pushFront(Ticket ticket) {
+      queue.addFirst(ticket);
+      rankByUser.put(ticket.userId(), --headRank);
+    }
+
+    private Ticket poll() {
+      Ticket head = queue.pollFirst();
+      if (head != null) {
+        rankByUser.remove(head.userId());
+        headRank++;
+      }
+      return head;
+    }
+  }
+}
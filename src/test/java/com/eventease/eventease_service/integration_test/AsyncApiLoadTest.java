@@ -0,0 +1,141 @@
+package com.eventease.eventease_service.integration_test;
+
+import com.eventease.eventease_service.EventeaseServiceApplication;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.repository.EventRepository;
+import com.eventease.eventease_service.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures throughput against the number of concurrent client connections for the blocking
+ * {@code GET /api/events/{eventId}} and its asynchronous twin {@code GET /api/async/events/{eventId}}.
+ * The application is booted once with the {@code async-api} profile against the test database and
+ * each connection count is held for a fixed number of requests with non-blocking clients. Rejected
+ * (503) responses are counted separately from errors, since shedding load is the intended behavior.
+ *
+ * <p>Run with {@code mvn test -Dtest=AsyncApiLoadTest -Dloadtest=true}; tune with
+ * {@code -Dloadtest.connections=100,1000,10000} and {@code -Dloadtest.requests}. At 10,000
+ * connections the client and server share the machine's file descriptor limit ({@code ulimit -n}).
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+public class AsyncApiLoadTest {
+
+  private static final String CONNECTIONS = System.getProperty("loadtest.connections", "100,1000,10000");
+  private static final int REQUESTS = Integer.getInteger("loadtest.requests", 20000);
+
+  @Test
+  public void throughputByConnectionCount() throws Exception {
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EventeaseServiceApplication.class)
+        .profiles("test", "async-api")
+        .properties("server.port=0", "spring.jpa.show-sql=false")
+        .run()) {
+      String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+      User host = new User();
+      host.setFirstName("Load");
+      host.setLastName("Host");
+      host.setEmail("load-host-" + System.nanoTime() + "@example.com");
+      host.setRole(User.Role.ORGANIZER);
+      host = context.getBean(UserRepository.class).save(host);
+      Event event = context.getBean(EventRepository.class).save(new Event.Builder()
+          .setName("Async load test")
+          .setLocation("Test Location")
+          .setDate(LocalDate.now().plusDays(7))
+          .setTime(LocalTime.of(10, 0))
+          .setCapacity(100)
+          .setHost(host)
+          .build());
+
+      List<String> rows = new ArrayList<>();
+      int errors = 0;
+      for (String count : CONNECTIONS.split(",")) {
+        int connections = Integer.parseInt(count.trim());
+        for (String path : List.of("/api/events/", "/api/async/events/")) {
+          Result result = drive(URI.create(baseUrl + path + event.getId()), connections);
+          errors += result.errors;
+          rows.add(String.format("%-22s %12d %10.1f %10.1f %10.1f %8d %8d", path + "{id}", connections,
+              result.throughput, result.p50Millis, result.p99Millis, result.rejected, result.errors));
+        }
+      }
+
+      System.out.printf("%-22s %12s %10s %10s %10s %8s %8s%n",
+          "endpoint", "connections", "req/s", "p50 ms", "p99 ms", "503s", "errors");
+      rows.forEach(System.out::println);
+      assertTrue(errors == 0, errors + " requests failed");
+    }
+  }
+
+  private Result drive(URI uri, int connections) throws Exception {
+    HttpClient http = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(30))
+        .build();
+    HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+    Semaphore inFlight = new Semaphore(connections);
+    long[] latencies = new long[REQUESTS];
+    AtomicInteger completed = new AtomicInteger();
+    AtomicInteger rejected = new AtomicInteger();
+    AtomicInteger errors = new AtomicInteger();
+    List<CompletableFuture<Void>> calls = new ArrayList<>(REQUESTS);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < REQUESTS; i++) {
+      inFlight.acquire();
+      long sent = System.nanoTime();
+      calls.add(http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+          .handle((response, failure) -> {
+            long elapsed = System.nanoTime() - sent;
+            if (failure != null) {
+              errors.incrementAndGet();
+            } else if (response.statusCode() == 503) {
+              rejected.incrementAndGet();
+            } else if (response.statusCode() != 200) {
+              errors.incrementAndGet();
+            } else {
+              int slot = completed.getAndIncrement();
+              latencies[slot] = elapsed;
+            }
+            inFlight.release();
+            return null;
+          }));
+    }
+    CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).join();
+    double seconds = (System.nanoTime() - start) / 1e9;
+
+    long[] sorted = Arrays.copyOf(latencies, completed.get());
+    Arrays.sort(sorted);
+    return new Result(completed.get() / seconds, percentile(sorted, 0.50), percentile(sorted, 0.99),
+        rejected.get(), errors.get());
+  }
+
+  private static double percentile(long[] sorted, double quantile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(quantile * sorted.length) - 1;
+    return sorted[Math.max(index, 0)] / 1e6;
+  }
+
+  private record Result(double throughput, double p50Millis, double p99Millis, int rejected, int errors) {
+  }
+}
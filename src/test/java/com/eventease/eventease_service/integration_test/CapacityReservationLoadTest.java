@@ -0,0 +1,207 @@
+package com.eventease.eventease_service.integration_test;
+
+import com.eventease.eventease_service.EventeaseServiceApplication;
+import com.eventease.eventease_service.exception.EventFullException;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.RSVP;
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.repository.EventRepository;
+import com.eventease.eventease_service.repository.UserRepository;
+import com.eventease.eventease_service.service.EventCounterService;
+import com.eventease.eventease_service.service.RSVPService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that RSVPs sent to several application instances at once never take more seats than an
+ * event has. The test creates one event and more guests than seats, then starts separate JVMs,
+ * each a full application context against the test database like an instance behind the load
+ * balancer. Once every instance is up they all RSVP their share of the guests concurrently, and
+ * the RSVPs written are compared with the capacity.
+ *
+ * <p>Run with {@code mvn test -Dtest=CapacityReservationLoadTest -Dloadtest=true}; the load can be
+ * tuned with {@code -Dloadtest.nodes}, {@code -Dloadtest.threads}, {@code -Dloadtest.capacity}
+ * and {@code -Dloadtest.guests}.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+public class CapacityReservationLoadTest {
+
+  private static final int NODES = Integer.getInteger("loadtest.nodes", 4);
+  private static final int THREADS = Integer.getInteger("loadtest.threads", 32);
+  private static final int CAPACITY = Integer.getInteger("loadtest.capacity", 100);
+  private static final int GUESTS = Integer.getInteger("loadtest.guests", 800);
+
+  @Test
+  public void concurrentRsvpsAcrossInstancesNeverOversell() throws Exception {
+    try (ConfigurableApplicationContext context = start()) {
+      UserRepository userRepository = context.getBean(UserRepository.class);
+      List<User> users = new ArrayList<>();
+      for (int i = 0; i < GUESTS + 1; i++) {
+        User user = new User();
+        user.setFirstName("Capacity");
+        user.setLastName("Guest" + i);
+        user.setEmail("capacity-" + i + "-" + System.nanoTime() + "@example.com");
+        user.setPhoneNumber("2125550100");
+        user.setRole(User.Role.ORGANIZER);
+        users.add(userRepository.save(user));
+      }
+      Event event = context.getBean(EventRepository.class).save(new Event.Builder()
+          .setName("Capacity test")
+          .setLocation("Test Location")
+          .setDate(LocalDate.now().plusDays(7))
+          .setTime(LocalTime.of(10, 0))
+          .setEndTime(LocalTime.of(11, 0))
+          .setCapacity(CAPACITY)
+          .setHost(users.get(0))
+          .build());
+
+      // Each instance gets every NODES-th guest, so all of them compete for the same seats
+      List<Process> nodes = new ArrayList<>();
+      for (int node = 0; node < NODES; node++) {
+        StringBuilder guestIds = new StringBuilder();
+        for (int i = 1 + node; i < users.size(); i += NODES) {
+          guestIds.append(guestIds.length() == 0 ? "" : ",").append(users.get(i).getId());
+        }
+        nodes.add(launch(event.getId(), guestIds.toString()));
+      }
+      List<BufferedReader> outputs = new ArrayList<>();
+      for (Process node : nodes) {
+        BufferedReader output = new BufferedReader(new InputStreamReader(node.getInputStream(), StandardCharsets.UTF_8));
+        awaitLine(output, "READY");
+        outputs.add(output);
+      }
+      for (Process node : nodes) {
+        OutputStream input = node.getOutputStream();
+        input.write("GO\n".getBytes(StandardCharsets.UTF_8));
+        input.flush();
+      }
+
+      int accepted = 0;
+      int full = 0;
+      for (int node = 0; node < NODES; node++) {
+        String[] result = awaitLine(outputs.get(node), "RESULT").split(" ");
+        accepted += Integer.parseInt(result[1]);
+        full += Integer.parseInt(result[2]);
+        assertTrue(nodes.get(node).waitFor(2, TimeUnit.MINUTES), "instance " + node + " did not exit");
+        assertEquals(0, nodes.get(node).exitValue(), "instance " + node + " failed");
+      }
+
+      JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+      Integer written = jdbcTemplate.queryForObject(
+          "SELECT COUNT(*) FROM rsvp WHERE event_id = ?", Integer.class, event.getId());
+      Integer reserved = jdbcTemplate.queryForObject(
+          "SELECT seats_reserved FROM event WHERE id = ?", Integer.class, event.getId());
+      System.out.printf("instances=%d guests=%d capacity=%d accepted=%d full=%d written=%d reserved=%d%n",
+          NODES, GUESTS, CAPACITY, accepted, full, written, reserved);
+
+      assertEquals(CAPACITY, accepted, "RSVPs accepted");
+      assertEquals(CAPACITY, written, "RSVP rows written");
+      assertEquals(CAPACITY, reserved, "seats reserved");
+      assertEquals(GUESTS - CAPACITY, full, "RSVPs refused as full");
+    }
+  }
+
+  /**
+   * One application instance: boots, reports READY, waits for GO on stdin, RSVPs its guests from a
+   * pool of threads and reports {@code RESULT <accepted> <full>}.
+   *
+   * @param args the event ID and the comma-separated guest IDs
+   */
+  public static void main(String[] args) throws Exception {
+    long eventId = Long.parseLong(args[0]);
+    String[] guestIds = args[1].split(",");
+    int exitCode = 0;
+    try (ConfigurableApplicationContext context = start()) {
+      RSVPService rsvpService = context.getBean(RSVPService.class);
+      System.out.println("READY");
+      System.out.flush();
+      new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)).readLine();
+
+      AtomicInteger accepted = new AtomicInteger();
+      AtomicInteger full = new AtomicInteger();
+      ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+      List<Future<?>> calls = new ArrayList<>();
+      for (String guestId : guestIds) {
+        calls.add(threads.submit(() -> {
+          RSVP rsvp = new RSVP();
+          rsvp.setStatus("ATTENDING");
+          rsvp.setEventRole("PARTICIPANT");
+          try {
+            rsvpService.createRSVP(String.valueOf(eventId), guestId, rsvp);
+            accepted.incrementAndGet();
+          } catch (EventFullException e) {
+            full.incrementAndGet();
+          }
+        }));
+      }
+      for (Future<?> call : calls) {
+        try {
+          call.get();
+        } catch (Exception e) {
+          e.printStackTrace();
+          exitCode = 1;
+        }
+      }
+      threads.shutdown();
+      context.getBean(EventCounterService.class).flush();
+      System.out.println("RESULT " + accepted.get() + " " + full.get());
+      System.out.flush();
+    }
+    System.exit(exitCode);
+  }
+
+  private static ConfigurableApplicationContext start() {
+    return new SpringApplicationBuilder(EventeaseServiceApplication.class)
+        .web(WebApplicationType.NONE)
+        .profiles("test")
+        .properties("spring.jpa.show-sql=false")
+        .run();
+  }
+
+  private static Process launch(Long eventId, String guestIds) throws Exception {
+    String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    // Instances log only warnings, so their READY and RESULT lines are not buried in startup output
+    List<String> command = new ArrayList<>(List.of(java, "-cp", System.getProperty("java.class.path"),
+        "-Dlogging.level.root=WARN", "-Dspring.main.banner-mode=off"));
+    for (String property : List.of("loadtest.threads")) {
+      if (System.getProperty(property) != null) {
+        command.add("-D" + property + "=" + System.getProperty(property));
+      }
+    }
+    command.addAll(List.of(CapacityReservationLoadTest.class.getName(), String.valueOf(eventId), guestIds));
+    return new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+  }
+
+  // Skips the instance's log lines up to the one starting with the given marker
+  private static String awaitLine(BufferedReader output, String marker) throws Exception {
+    String line;
+    while ((line = output.readLine()) != null) {
+      if (line.startsWith(marker)) {
+        return line;
+      }
+    }
+    throw new IllegalStateException("Instance exited before " + marker);
+  }
+}
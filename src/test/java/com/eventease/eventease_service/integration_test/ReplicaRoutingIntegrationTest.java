@@ -0,0 +1,114 @@
+package com.eventease.eventease_service.integration_test;
+
+import com.eventease.eventease_service.config.ReplicaLagMonitor;
+import com.eventease.eventease_service.config.ReplicaRoutingDataSource;
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks replica routing against two independent local MySQL instances: the test database as the
+ * primary and {@code -Dreplica.url} as the replica. There is no replication between them, so a
+ * user inserted only on the replica shows which instance served a read, and the test plays the
+ * replication stream by writing the replica's heartbeat itself.
+ *
+ * <p>Run with {@code mvn test -Dtest=ReplicaRoutingIntegrationTest
+ * -Dreplica.url=jdbc:mysql://localhost:3307/test}; the replica needs the primary's credentials.
+ */
+@SpringBootTest(properties = {
+    "datasource.replica.urls=${replica.url}",
+    "datasource.replica.check-interval-ms=3600000"
+})
+@ActiveProfiles({"test", "read-replicas"})
+@EnabledIfSystemProperty(named = "replica.url", matches = ".+")
+public class ReplicaRoutingIntegrationTest {
+
+  @Autowired
+  private ReplicaRoutingDataSource routingDataSource;
+
+  @Autowired
+  private ReplicaLagMonitor replicaLagMonitor;
+
+  @Autowired
+  private UserService userService;
+
+  private JdbcTemplate replica;
+  private String replicaOnlyEmail;
+
+  @BeforeEach
+  public void setUp() {
+    JdbcTemplate primary = new JdbcTemplate(routingDataSource.getResolvedDefaultDataSource());
+    replica = new JdbcTemplate(routingDataSource.getReplicas().get("replica-0"));
+    String userTable = primary.queryForMap("SHOW CREATE TABLE user").get("Create Table").toString();
+    replica.execute(userTable.replaceFirst("CREATE TABLE", "CREATE TABLE IF NOT EXISTS"));
+    replica.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id TINYINT PRIMARY KEY, beat_at DATETIME(6) NOT NULL)");
+
+    replicaOnlyEmail = "replica-" + System.nanoTime() + "@example.com";
+    replica.update("INSERT INTO user (first_name, last_name, email, role) VALUES ('Replica', 'Only', ?, 'ORGANIZER')",
+        replicaOnlyEmail);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    replica.update("DELETE FROM user WHERE email = ?", replicaOnlyEmail);
+  }
+
+  @Test
+  public void readOnlyQueriesUseReplicaWithinLag() {
+    replicateHeartbeat(0);
+
+    assertEquals(1, usersWithReplicaOnlyEmail());
+  }
+
+  @Test
+  public void laggingReplicaFallsBackToPrimary() {
+    replicateHeartbeat(3600);
+
+    assertEquals(0, usersWithReplicaOnlyEmail());
+  }
+
+  @Test
+  public void readsAfterWriteInSameRequestUsePrimary() {
+    replicateHeartbeat(0);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    assertEquals(1, usersWithReplicaOnlyEmail());
+
+    User user = new User();
+    user.setFirstName("Sticky");
+    user.setLastName("Writer");
+    user.setEmail("sticky-" + System.nanoTime() + "@example.com");
+    user.setRole(User.Role.ORGANIZER);
+    userService.addUser(user);
+
+    assertEquals(0, usersWithReplicaOnlyEmail());
+  }
+
+  // Stamps the replica's heartbeat as if replication were the given number of seconds behind, then checks lag
+  private void replicateHeartbeat(int secondsBehind) {
+    replica.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, UTC_TIMESTAMP(6) - INTERVAL ? SECOND) "
+        + "ON DUPLICATE KEY UPDATE beat_at = VALUES(beat_at)", secondsBehind);
+    replicaLagMonitor.check();
+  }
+
+  private int usersWithReplicaOnlyEmail() {
+    List<User> users = new ArrayList<>();
+    userService.getUsersByFilter(null, null, replicaOnlyEmail, null, null).forEach(users::add);
+    return users.size();
+  }
+}
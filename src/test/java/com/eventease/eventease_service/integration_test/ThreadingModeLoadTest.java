@@ -0,0 +1,201 @@
+package com.eventease.eventease_service.integration_test;
+
+import com.eventease.eventease_service.EventeaseServiceApplication;
+import com.eventease.eventease_service.config.TwilioConfig;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.repository.EventRepository;
+import com.eventease.eventease_service.repository.UserRepository;
+import com.eventease.eventease_service.service.TwilioService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares request handling on Tomcat's platform worker pool with the virtual-threads profile for
+ * the RSVP and notification endpoints. Each mode boots the application against the test database
+ * with a deliberately small worker pool ({@code server.tomcat.threads.max=50}) and a Twilio stub
+ * that sleeps like a real SMS call, then drives the endpoints with more concurrent clients than
+ * there are workers. Virtual threads are only measured on Java 21+.
+ *
+ * <p>Run with {@code mvn test -Dtest=ThreadingModeLoadTest -Dloadtest=true}; the load can be tuned
+ * with {@code -Dloadtest.clients}, {@code -Dloadtest.requests} and {@code -Dloadtest.sms-latency-ms}.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+public class ThreadingModeLoadTest {
+
+  private static final int CLIENTS = Integer.getInteger("loadtest.clients", 200);
+  private static final int REQUESTS = Integer.getInteger("loadtest.requests", 2000);
+  private static final long SMS_LATENCY_MS = Long.getLong("loadtest.sms-latency-ms", 100);
+
+  @Test
+  public void comparePlatformAndVirtualThreads() throws Exception {
+    List<Result> results = new ArrayList<>(run("platform", "test"));
+    if (Runtime.version().feature() >= 21) {
+      results.addAll(run("virtual", "test", "virtual-threads"));
+    } else {
+      System.out.println("Skipping virtual threads: Java " + Runtime.version().feature() + " < 21");
+    }
+
+    System.out.printf("%-10s %-14s %10s %10s %10s %8s%n", "mode", "endpoint", "req/s", "p50 ms", "p99 ms", "errors");
+    for (Result result : results) {
+      System.out.printf("%-10s %-14s %10.1f %10.1f %10.1f %8d%n", result.mode, result.endpoint,
+          result.throughput, result.p50Millis, result.p99Millis, result.errors);
+    }
+    for (Result result : results) {
+      assertEquals(0, result.errors, result.mode + " " + result.endpoint + " had failed requests");
+    }
+  }
+
+  private List<Result> run(String mode, String... profiles) throws Exception {
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+        EventeaseServiceApplication.class, SlowTwilioConfig.class)
+        .profiles(profiles)
+        .properties("server.port=0", "server.tomcat.threads.max=50", "spring.jpa.show-sql=false")
+        .run()) {
+      String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+      // Fresh users per mode, so every RSVP is a first RSVP to a fresh event
+      UserRepository userRepository = context.getBean(UserRepository.class);
+      List<User> users = new ArrayList<>();
+      for (int i = 0; i < REQUESTS + 1; i++) {
+        User user = new User();
+        user.setFirstName("Load");
+        user.setLastName(mode + i);
+        user.setEmail("load-" + mode + "-" + i + "-" + System.nanoTime() + "@example.com");
+        user.setPhoneNumber("2125550100");
+        user.setRole(User.Role.ORGANIZER);
+        users.add(userRepository.save(user));
+      }
+
+      Event event = new Event.Builder()
+          .setName("Load test " + mode)
+          .setLocation("Test Location")
+          .setDate(LocalDate.now().plusDays(7))
+          .setTime(LocalTime.of(10, 0))
+          .setEndTime(LocalTime.of(11, 0))
+          .setCapacity(REQUESTS + 1)
+          .setHost(users.get(0))
+          .build();
+      event = context.getBean(EventRepository.class).save(event);
+      Long eventId = event.getId();
+      List<User> guests = users.subList(1, users.size());
+
+      Result rsvp = drive(mode, "rsvp", 201, i -> HttpRequest.newBuilder(
+              URI.create(baseUrl + "/api/events/" + eventId + "/rsvp/" + guests.get(i).getId()))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString("{\"status\":\"ATTENDING\",\"eventRole\":\"PARTICIPANT\"}"))
+          .build());
+      Result notify = drive(mode, "send-message", 200, i -> HttpRequest.newBuilder(
+              URI.create(baseUrl + "/api/send-message"))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(
+              "{\"userId\":\"" + guests.get(i).getId() + "\",\"eventId\":\"" + eventId + "\"}"))
+          .build());
+      return List.of(rsvp, notify);
+    }
+  }
+
+  private Result drive(String mode, String endpoint, int expectedStatus,
+                       Function<Integer, HttpRequest> requests) throws Exception {
+    // One blocking client thread per simulated user; the HTTP client keeps its own internal executor
+    ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+    HttpClient http = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+    try {
+      List<Future<Long>> calls = new ArrayList<>();
+      long start = System.nanoTime();
+      for (int i = 0; i < REQUESTS; i++) {
+        HttpRequest request = requests.apply(i);
+        calls.add(clients.submit(() -> {
+          long sent = System.nanoTime();
+          HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+          long elapsed = System.nanoTime() - sent;
+          return response.statusCode() == expectedStatus ? elapsed : -1L;
+        }));
+      }
+
+      long[] latencies = new long[REQUESTS];
+      int completed = 0;
+      int errors = 0;
+      for (Future<Long> call : calls) {
+        long elapsed;
+        try {
+          elapsed = call.get();
+        } catch (Exception e) {
+          elapsed = -1L;
+        }
+        if (elapsed < 0) {
+          errors++;
+        } else {
+          latencies[completed++] = elapsed;
+        }
+      }
+      double seconds = (System.nanoTime() - start) / 1e9;
+
+      long[] sorted = Arrays.copyOf(latencies, completed);
+      Arrays.sort(sorted);
+      return new Result(mode, endpoint, completed / seconds,
+          percentile(sorted, 0.50), percentile(sorted, 0.99), errors);
+    } finally {
+      clients.shutdownNow();
+    }
+  }
+
+  private static double percentile(long[] sorted, double quantile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(quantile * sorted.length) - 1;
+    return sorted[Math.max(index, 0)] / 1e6;
+  }
+
+  private record Result(String mode, String endpoint, double throughput, double p50Millis, double p99Millis,
+                        int errors) {
+  }
+
+  /**
+   * Replaces the Twilio client with one that blocks for a fixed time instead of calling the API,
+   * so the notification endpoint spends its time waiting on I/O like it does in production.
+   */
+  @TestConfiguration
+  static class SlowTwilioConfig {
+    @Bean
+    @Primary
+    public TwilioService slowTwilioService(TwilioConfig twilioConfig) {
+      return new TwilioService(twilioConfig) {
+        @Override
+        public void sendSms(String to, String messageBody) {
+          try {
+            Thread.sleep(SMS_LATENCY_MS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,213 @@
+package com.eventease.eventease_service.unit_test.controller;
+
+import com.eventease.eventease_service.controller.AsyncEventController;
+import com.eventease.eventease_service.exception.EventFullException;
+import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.model.AttendeeSummary;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.RSVP;
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.service.EventService;
+import com.eventease.eventease_service.service.RSVPService;
+import com.eventease.eventease_service.service.ResourceValidator;
+import com.eventease.eventease_service.service.ResourceVersionService;
+import com.eventease.eventease_service.service.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the AsyncEventController class.
+ */
+@ActiveProfiles("test")
+class AsyncEventControllerUnitTest {
+
+  @Mock
+  private EventService eventService;
+
+  @Mock
+  private RSVPService rsvpService;
+
+  @Mock
+  private UserService userService;
+
+  @Mock
+  private ResourceVersionService resourceVersionService;
+
+  @Mock
+  private WebRequest webRequest;
+
+  private AsyncEventController asyncEventController;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    asyncEventController = new AsyncEventController(eventService, rsvpService, userService, resourceVersionService,
+        new ObjectMapper(), Runnable::run, 2);
+  }
+
+  @Test
+  void getEventById_NotModifiedAnsweredOnRequestThread() throws Exception {
+    List<Runnable> handedOff = new ArrayList<>();
+    AsyncEventController controller = new AsyncEventController(eventService, rsvpService, userService,
+        resourceVersionService, new ObjectMapper(), handedOff::add, 2);
+    when(resourceVersionService.eventValidator(1L)).thenReturn(new ResourceValidator("\"e1\"", 1000L));
+    when(webRequest.checkNotModified("\"e1\"", 1000L)).thenReturn(true);
+
+    CompletableFuture<ResponseEntity<Map<String, Object>>> result = controller.getEventById(1L, webRequest);
+
+    assertTrue(result.isDone());
+    assertNull(result.get());
+    assertTrue(handedOff.isEmpty());
+    verifyNoInteractions(eventService);
+  }
+
+  @Test
+  void getEventById_LoadsEventOnExecutorWithoutRequest() throws Exception {
+    List<Runnable> handedOff = new ArrayList<>();
+    AsyncEventController controller = new AsyncEventController(eventService, rsvpService, userService,
+        resourceVersionService, new ObjectMapper(), handedOff::add, 2);
+    Event event = new Event();
+    when(resourceVersionService.eventValidator(1L)).thenReturn(new ResourceValidator("\"e1\"", 1000L));
+    when(eventService.findById(1L)).thenReturn(event);
+
+    CompletableFuture<ResponseEntity<Map<String, Object>>> result = controller.getEventById(1L, webRequest);
+    verify(webRequest).checkNotModified("\"e1\"", 1000L);
+    assertFalse(result.isDone());
+    handedOff.forEach(Runnable::run);
+
+    assertEquals(HttpStatus.OK, result.get().getStatusCode());
+    assertEquals(List.of(event), result.get().getBody().get("data"));
+    verifyNoMoreInteractions(webRequest);
+  }
+
+  @Test
+  void getEventById_UnknownEventReturnsNotFound() throws Exception {
+    when(eventService.findById(4L)).thenThrow(new EventNotExistException("Event not found"));
+    when(eventService.findArchivedById(4L)).thenReturn(null);
+
+    ResponseEntity<Map<String, Object>> response = asyncEventController.getEventById(4L, webRequest).get();
+
+    assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    assertEquals("Event not found", response.getBody().get("message"));
+  }
+
+  @Test
+  void createRSVP_CompletesWithCreatedRsvp() throws Exception {
+    RSVP rsvp = new RSVP();
+    when(rsvpService.createRSVP("1", "2", rsvp)).thenReturn(rsvp);
+
+    ResponseEntity<?> result = asyncEventController.createRSVP("1", "2", rsvp).get();
+
+    assertEquals(HttpStatus.CREATED, result.getStatusCode());
+    assertEquals(List.of(rsvp), ((Map<?, ?>) result.getBody()).get("data"));
+  }
+
+  @Test
+  void createRSVP_FullEventReturnsBadRequest() throws Exception {
+    RSVP rsvp = new RSVP();
+    when(rsvpService.createRSVP("1", "2", rsvp)).thenThrow(new EventFullException("Event is full"));
+
+    ResponseEntity<?> result = asyncEventController.createRSVP("1", "2", rsvp).get();
+
+    assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+    assertEquals("Event is full", ((Map<?, ?>) result.getBody()).get("message"));
+  }
+
+  @Test
+  void oneClickRsvp_AcceptsInvitation() throws Exception {
+    Event event = new Event();
+    event.setName("Launch");
+    when(eventService.findById(1L)).thenReturn(event);
+    when(userService.findUserById(2L)).thenReturn(new User());
+
+    ResponseEntity<?> result = asyncEventController.oneClickRsvp("2", "1").get();
+
+    assertEquals(HttpStatus.OK, result.getStatusCode());
+    assertEquals("Successfully accepted invitation to event: Launch", result.getBody());
+    verify(rsvpService).createRSVP(eq("1"), eq("2"), any(RSVP.class));
+  }
+
+  @Test
+  void saturatedExecutor_AnsweredWithServiceUnavailable() {
+    Executor saturated = task -> {
+      throw new RejectedExecutionException("queue full");
+    };
+    AsyncEventController controller = new AsyncEventController(eventService, rsvpService, userService,
+        resourceVersionService, new ObjectMapper(), saturated, 2);
+
+    RejectedExecutionException e = assertThrows(RejectedExecutionException.class,
+        () -> controller.oneClickRsvp("2", "1"));
+    ResponseEntity<Map<String, Object>> response = controller.handleSaturation(e);
+
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+    assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+    verifyNoInteractions(rsvpService);
+  }
+
+  @Test
+  void streamAttendees_WritesAllKeysetPages() throws Exception {
+    when(rsvpService.getAttendeeSummaries(1L, false, null, 0L, 2)).thenReturn(List.of(attendee(3L), attendee(5L)));
+    when(rsvpService.getAttendeeSummaries(1L, false, null, 5L, 2)).thenReturn(List.of(attendee(8L)));
+
+    ResponseEntity<?> response = asyncEventController.streamAttendees(1L);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ((StreamingResponseBody) response.getBody()).writeTo(out);
+
+    JsonNode json = new ObjectMapper().readTree(out.toByteArray());
+    assertTrue(json.get("success").asBoolean());
+    assertEquals(3, json.get("data").size());
+    assertEquals(8L, json.get("data").get(2).get("userId").asLong());
+    assertEquals("ATTENDING", json.get("data").get(2).get("status").asText());
+    verify(rsvpService, times(2)).getAttendeeSummaries(eq(1L), eq(false), isNull(), anyLong(), eq(2));
+  }
+
+  @Test
+  void streamAttendees_ReadsArchivedEventFromArchive() throws Exception {
+    when(eventService.findById(1L)).thenThrow(new EventNotExistException("Event not found"));
+    when(eventService.findArchivedById(1L)).thenReturn(new Event());
+    when(rsvpService.getAttendeeSummaries(1L, true, null, 0L, 2)).thenReturn(List.of(attendee(3L)));
+
+    ResponseEntity<?> response = asyncEventController.streamAttendees(1L);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ((StreamingResponseBody) response.getBody()).writeTo(out);
+
+    JsonNode json = new ObjectMapper().readTree(out.toByteArray());
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(3L, json.get("data").get(0).get("userId").asLong());
+  }
+
+  @Test
+  void streamAttendees_UnknownEventReturnsNotFound() {
+    when(eventService.findById(4L)).thenThrow(new EventNotExistException("Event not found"));
+
+    ResponseEntity<?> response = asyncEventController.streamAttendees(4L);
+
+    assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    verify(rsvpService, never()).getAttendeeSummaries(any(), anyBoolean(), any(), anyLong(), anyInt());
+  }
+
+  private static AttendeeSummary attendee(Long userId) {
+    return new AttendeeSummary(userId, "Ada", "Lovelace", "ada@example.com", "ATTENDING", "PARTICIPANT", null, null);
+  }
+}
@@ -21,7 +21,10 @@ import com.eventease.eventease_service.exception.UserNotExistException;
 import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.model.User;
 import com.eventease.eventease_service.repository.EventRepository;
+import com.eventease.eventease_service.service.EventCountStreamService;
 import com.eventease.eventease_service.service.EventService;
+import com.eventease.eventease_service.service.ResourceValidator;
+import com.eventease.eventease_service.service.ResourceVersionService;
 import com.eventease.eventease_service.service.UserService;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -53,6 +56,12 @@ public class EventControllerUnitTest {
   @MockBean
   private UserService userService;
 
+  @MockBean
+  private EventCountStreamService eventCountStreamService;
+
+  @MockBean
+  private ResourceVersionService resourceVersionService;
+
 
   @Test
   public void addEventSuccessTest() throws Exception {
@@ -232,6 +241,28 @@ public class EventControllerUnitTest {
   }
 
 
+  @Test
+  public void getEventByIdSetsETagTest() throws Exception {
+    Event event = new Event();
+    event.setId(123L);
+    when(resourceVersionService.eventValidator(123L)).thenReturn(new ResourceValidator("W/\"event-123-2-5-1-0\"", -1));
+    when(eventService.findById(123L)).thenReturn(event);
+
+    mockMvc.perform(get("/api/events/123"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "W/\"event-123-2-5-1-0\""));
+  }
+
+  @Test
+  public void getEventByIdNotModifiedTest() throws Exception {
+    when(resourceVersionService.eventValidator(123L)).thenReturn(new ResourceValidator("W/\"event-123-2-5-1-0\"", -1));
+
+    mockMvc.perform(get("/api/events/123").header("If-None-Match", "W/\"event-123-2-5-1-0\""))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+    verify(eventService, never()).findById(123L);
+  }
+
   @Test
   public void getEventByIdFailTest() throws Exception {
     when(eventService.findById(123L)).thenThrow(new EventNotExistException("Event not found"));
@@ -243,6 +274,16 @@ public class EventControllerUnitTest {
         .andExpect(jsonPath("$.message").value("Event not found"));
   }
 
+  @Test
+  public void streamEventCountsNotFoundTest() throws Exception {
+    when(eventCountStreamService.subscribe(123L)).thenThrow(new EventNotExistException("Event not found"));
+
+    mockMvc.perform(get("/api/events/123/stream"))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.success").value(false))
+        .andExpect(jsonPath("$.message").value("Event not found"));
+  }
+
   @Test
   public void getEventByIdGeneralExceptionTest() throws Exception {
     // Mocking eventService to throw a general exception
@@ -0,0 +1,106 @@
+package com.eventease.eventease_service.unit_test.controller;
+
+import com.eventease.eventease_service.controller.EventExportController;
+import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.service.EventExportService;
+import com.eventease.eventease_service.service.EventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the EventExportController class.
+ */
+@ActiveProfiles("test")
+class EventExportControllerUnitTest {
+
+  @Mock
+  private EventExportService eventExportService;
+
+  @Mock
+  private EventService eventService;
+
+  private EventExportController eventExportController;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    eventExportController = new EventExportController(eventExportService, eventService);
+  }
+
+  @Test
+  void exportAttendees_StreamsGzippedCsv() throws Exception {
+    when(eventExportService.attendeeColumns("email")).thenReturn(List.of("email"));
+    when(eventExportService.exportAttendees(eq(3L), eq(false), eq(List.of("email")), any())).thenAnswer(invocation -> {
+      OutputStream out = invocation.getArgument(3);
+      out.write("email\r\na@b.c\r\n".getBytes(StandardCharsets.UTF_8));
+      return 1L;
+    });
+
+    ResponseEntity<?> response = eventExportController.exportAttendees(3L, "csv", "email", true);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals("attachment; filename=\"event-3-attendees.csv.gz\"",
+        response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ((StreamingResponseBody) response.getBody()).writeTo(out);
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      assertEquals("email\r\na@b.c\r\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void exportTasks_UnsupportedFormat() throws Exception {
+    ResponseEntity<?> response = eventExportController.exportTasks(3L, "parquet", null, false);
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    assertTrue(((Map<String, Object>) response.getBody()).get("message").toString().contains("parquet"));
+    verify(eventExportService, never()).exportTasks(anyLong(), anyBoolean(), any(), any());
+  }
+
+  @Test
+  void exportTasks_EventNotFound() {
+    when(eventExportService.taskColumns(null)).thenReturn(List.of("name"));
+    when(eventService.findById(3L)).thenThrow(new EventNotExistException("Event not found"));
+    when(eventService.findArchivedById(3L)).thenReturn(null);
+
+    ResponseEntity<?> response = eventExportController.exportTasks(3L, "csv", null, false);
+
+    assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+  }
+
+  @Test
+  void exportTasks_ArchivedEventExportsFromArchive() throws Exception {
+    when(eventExportService.taskColumns(null)).thenReturn(List.of("name"));
+    when(eventService.findById(3L)).thenThrow(new EventNotExistException("Event not found"));
+    when(eventService.findArchivedById(3L)).thenReturn(new Event());
+
+    ResponseEntity<?> response = eventExportController.exportTasks(3L, "csv", null, false);
+    ((StreamingResponseBody) response.getBody()).writeTo(new ByteArrayOutputStream());
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    verify(eventExportService).exportTasks(eq(3L), eq(true), eq(List.of("name")), any());
+  }
+}
@@ -0,0 +1,133 @@
+package com.eventease.eventease_service.unit_test.controller;
+
+import com.eventease.eventease_service.controller.EventSeriesController;
+import com.eventease.eventease_service.exception.EventFullException;
+import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.exception.UserNotExistException;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.EventSeries;
+import com.eventease.eventease_service.model.RSVP;
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.service.EventSeriesService;
+import com.eventease.eventease_service.service.RSVPService;
+import com.eventease.eventease_service.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the EventSeriesController class.
+ */
+@ActiveProfiles("test")
+class EventSeriesControllerUnitTest {
+
+  private static final LocalDate DATE = LocalDate.of(2024, 1, 8);
+
+  @Mock
+  private EventSeriesService eventSeriesService;
+
+  @Mock
+  private UserService userService;
+
+  @Mock
+  private RSVPService rsvpService;
+
+  private EventSeriesController eventSeriesController;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    eventSeriesController = new EventSeriesController(eventSeriesService, userService, rsvpService);
+  }
+
+  @Test
+  void addSeries_CreatesWeeklySeries() {
+    User organizer = new User();
+    organizer.setId(1L);
+    when(userService.findUserById(1L)).thenReturn(organizer);
+    when(eventSeriesService.add(any())).thenAnswer(invocation -> {
+      EventSeries series = invocation.getArgument(0);
+      series.setId(5L);
+      return series;
+    });
+
+    ResponseEntity<Map<String, Object>> response = eventSeriesController.addSeries(1L, "Meetup", "18:00", "20:00",
+        "2024-01-01", null, "weekly", 2, "Hall", "Weekly meetup", "40", "100");
+
+    assertEquals(HttpStatus.CREATED, response.getStatusCode());
+    ArgumentCaptor<EventSeries> saved = ArgumentCaptor.forClass(EventSeries.class);
+    verify(eventSeriesService).add(saved.capture());
+    assertEquals(EventSeries.Frequency.WEEKLY, saved.getValue().getFrequency());
+    assertEquals(2, saved.getValue().getRepeatInterval());
+    assertNull(saved.getValue().getUntilDate());
+  }
+
+  @Test
+  void addSeries_UnknownOrganizer() {
+    when(userService.findUserById(1L)).thenThrow(new UserNotExistException("User is not found."));
+
+    ResponseEntity<Map<String, Object>> response = eventSeriesController.addSeries(1L, "Meetup", "18:00", "20:00",
+        "2024-01-01", null, "weekly", 1, "Hall", "Weekly meetup", "40", "100");
+
+    assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    verify(eventSeriesService, never()).add(any());
+  }
+
+  @Test
+  void addSeries_UnknownFrequency() {
+    when(userService.findUserById(1L)).thenReturn(new User());
+
+    ResponseEntity<Map<String, Object>> response = eventSeriesController.addSeries(1L, "Meetup", "18:00", "20:00",
+        "2024-01-01", null, "hourly", 1, "Hall", "Weekly meetup", "40", "100");
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+  }
+
+  @Test
+  void getOccurrence_NotInSeries() {
+    when(eventSeriesService.findOccurrence(5L, DATE)).thenThrow(new EventNotExistException("no occurrence"));
+
+    assertEquals(HttpStatus.NOT_FOUND, eventSeriesController.getOccurrence(5L, DATE).getStatusCode());
+  }
+
+  @Test
+  void createRSVP_MaterializesThenRsvps() {
+    Event occurrence = new Event();
+    occurrence.setId(12L);
+    RSVP rsvp = new RSVP();
+    when(eventSeriesService.materializeOccurrence(5L, DATE)).thenReturn(occurrence);
+    when(rsvpService.createRSVP("12", "3", rsvp)).thenReturn(rsvp);
+
+    ResponseEntity<?> response = eventSeriesController.createRSVP(5L, DATE, "3", rsvp);
+
+    assertEquals(HttpStatus.CREATED, response.getStatusCode());
+    assertEquals(List.of(rsvp), ((Map<?, ?>) response.getBody()).get("data"));
+  }
+
+  @Test
+  void createRSVP_FullOccurrenceReturnsBadRequest() {
+    Event occurrence = new Event();
+    occurrence.setId(12L);
+    RSVP rsvp = new RSVP();
+    when(eventSeriesService.materializeOccurrence(5L, DATE)).thenReturn(occurrence);
+    when(rsvpService.createRSVP("12", "3", rsvp)).thenThrow(new EventFullException("Event is full"));
+
+    ResponseEntity<?> response = eventSeriesController.createRSVP(5L, DATE, "3", rsvp);
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    assertEquals("Event is full", ((Map<?, ?>) response.getBody()).get("message"));
+  }
+}
@@ -0,0 +1,61 @@
+package com.eventease.eventease_service.unit_test.controller;
+
+import com.eventease.eventease_service.controller.EventStatsController;
+import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.model.EventStatsReport;
+import com.eventease.eventease_service.service.EventAnalyticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the EventStatsController class.
+ */
+@ActiveProfiles("test")
+class EventStatsControllerUnitTest {
+
+  @Mock
+  private EventAnalyticsService eventAnalyticsService;
+
+  private EventStatsController eventStatsController;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    eventStatsController = new EventStatsController(eventAnalyticsService);
+  }
+
+  @Test
+  void getEventStats_Success() {
+    LocalDate from = LocalDate.of(2024, 3, 1);
+    EventStatsReport report = new EventStatsReport(7L, 100, 500, 10, 5, 0.5, 3, 4, 1, 0.25, List.of());
+    when(eventAnalyticsService.getStats(7L, from, null)).thenReturn(report);
+
+    ResponseEntity<Map<String, Object>> response = eventStatsController.getEventStats(7L, from, null);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(true, response.getBody().get("success"));
+    assertEquals(List.of(report), response.getBody().get("data"));
+  }
+
+  @Test
+  void getEventStats_EventNotFound() {
+    when(eventAnalyticsService.getStats(7L, null, null)).thenThrow(new EventNotExistException("Event not found"));
+
+    ResponseEntity<Map<String, Object>> response = eventStatsController.getEventStats(7L, null, null);
+
+    assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    assertEquals("Event not found", response.getBody().get("message"));
+  }
+}
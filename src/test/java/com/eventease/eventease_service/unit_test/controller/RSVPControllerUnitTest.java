@@ -8,10 +8,13 @@ import com.eventease.eventease_service.controller.RSVPController;
 import com.eventease.eventease_service.exception.EventNotExistException;
 import com.eventease.eventease_service.exception.RSVPNotExistException;
 import com.eventease.eventease_service.exception.UserNotExistException;
+import com.eventease.eventease_service.exception.WaitlistEntryNotExistException;
+import com.eventease.eventease_service.model.AttendeeSummary;
 import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.model.RSVP;
 import com.eventease.eventease_service.model.User;
 import com.eventease.eventease_service.service.RSVPService;
+import com.eventease.eventease_service.service.ResourceVersionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -26,6 +29,8 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -50,6 +55,9 @@ public class RSVPControllerUnitTest {
   @MockBean
   private EventService eventService;
 
+  @MockBean
+  private ResourceVersionService resourceVersionService;
+
   private static RSVP rsvp;
 
   @BeforeEach
@@ -131,6 +139,48 @@ public class RSVPControllerUnitTest {
             .andExpect(jsonPath("$.message").value("Event Not Found"));
   }
 
+  @Test
+  public void getAttendeePageSuccess() throws Exception {
+    AttendeeSummary first = new AttendeeSummary(3L, "Ada", "Lovelace", "ada@example.com", "CheckedIn",
+            "Guest", null, null);
+    AttendeeSummary second = new AttendeeSummary(5L, "Alan", "Turing", "alan@example.com", "CheckedIn",
+            "Guest", null, null);
+    when(rsvpService.getAttendeeSummaries(1L, false, "CheckedIn", 0L, 2)).thenReturn(List.of(first, second));
+    when(resourceVersionService.attendeeCount(1L, "CheckedIn")).thenReturn(7L);
+
+    mockMvc.perform(get("/api/events/1/attendees/page?status=CheckedIn&limit=2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[1].email").value("alan@example.com"))
+            .andExpect(jsonPath("$.total").value(7))
+            .andExpect(jsonPath("$.nextAfterUserId").value(5));
+  }
+
+  @Test
+  public void getAttendeePageEventNotFound() throws Exception {
+    when(eventService.findById(1L)).thenThrow(new EventNotExistException("Event not found"));
+
+    mockMvc.perform(get("/api/events/1/attendees/page"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.success").value(false));
+  }
+
+  @Test
+  public void getAttendeePageArchivedEvent() throws Exception {
+    AttendeeSummary attendee = new AttendeeSummary(3L, "Ada", "Lovelace", "ada@example.com", "CheckedIn",
+            "Guest", null, null);
+    when(eventService.findById(1L)).thenThrow(new EventNotExistException("Event not found"));
+    when(eventService.findArchivedById(1L)).thenReturn(new Event());
+    when(rsvpService.getAttendeeSummaries(1L, true, null, 0L, 2)).thenReturn(List.of(attendee));
+    when(rsvpService.countArchivedAttendees(1L, null)).thenReturn(1L);
+
+    mockMvc.perform(get("/api/events/1/attendees/page?limit=2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].userId").value(3))
+            .andExpect(jsonPath("$.total").value(1))
+            .andExpect(jsonPath("$.nextAfterUserId").doesNotExist());
+    verify(resourceVersionService, never()).attendeeCount(any(), any());
+  }
+
   @Test
   public void updateRSVPSuccess() throws Exception {
     RSVP updatedRSVP = new RSVP();
@@ -295,4 +345,34 @@ public class RSVPControllerUnitTest {
         .andExpect(status().isBadRequest())
         .andExpect(jsonPath("$").value("Failed to create RSVP."));
   }
+
+  @Test
+  void joinWaitlistSuccess() throws Exception {
+    when(rsvpService.joinWaitlist("1", "2")).thenReturn(3L);
+
+    mockMvc.perform(post("/api/events/1/waitlist/2"))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.data[0].position").value(3));
+  }
+
+  @Test
+  void joinWaitlistEventNotFull() throws Exception {
+    when(rsvpService.joinWaitlist("1", "2"))
+        .thenThrow(new IllegalStateException("Event still has open seats, RSVP instead"));
+
+    mockMvc.perform(post("/api/events/1/waitlist/2"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false));
+  }
+
+  @Test
+  void getWaitlistPositionNotWaiting() throws Exception {
+    when(rsvpService.getWaitlistPosition("1", "2"))
+        .thenThrow(new WaitlistEntryNotExistException("User is not on the waitlist for this event"));
+
+    mockMvc.perform(get("/api/events/1/waitlist/2"))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.message").value("User is not on the waitlist for this event"));
+  }
 }
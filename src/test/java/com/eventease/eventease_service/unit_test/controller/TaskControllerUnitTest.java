@@ -4,8 +4,13 @@ import com.eventease.eventease_service.controller.TaskController;
 import com.eventease.eventease_service.exception.*;
 import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.model.Task;
+import com.eventease.eventease_service.model.TaskBatchResult;
+import com.eventease.eventease_service.model.TaskBoard;
+import com.eventease.eventease_service.model.TaskBoardItem;
 import com.eventease.eventease_service.model.User;
 import com.eventease.eventease_service.service.EventService;
+import com.eventease.eventease_service.service.ResourceValidator;
+import com.eventease.eventease_service.service.ResourceVersionService;
 import com.eventease.eventease_service.service.TaskService;
 import com.eventease.eventease_service.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,12 +20,16 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -40,6 +49,9 @@ class TaskControllerUnitTest {
     @Mock
     private EventService eventService;
 
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
     @InjectMocks
     private TaskController taskController;
 
@@ -51,6 +63,10 @@ class TaskControllerUnitTest {
         MockitoAnnotations.openMocks(this);
     }
 
+    private static ServletWebRequest getRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/tasks/1"), new MockHttpServletResponse());
+    }
+
     /**
      * Tests the successful creation of a task given valid parameters.
      *
@@ -188,7 +204,7 @@ class TaskControllerUnitTest {
 
         when(taskService.getTaskById(taskId)).thenReturn(mockTask);
 
-        ResponseEntity<Map<String, Object>> response = taskController.getTask(taskId);
+        ResponseEntity<Map<String, Object>> response = taskController.getTask(taskId, getRequest());
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         Map<String, Object> responseBody = response.getBody();
@@ -203,6 +219,25 @@ class TaskControllerUnitTest {
         assertEquals(1L, taskData.get("eventId"));
         assertEquals(1L, taskData.get("assignedUserId"));
     }
+    /**
+     * Tests that a request whose If-None-Match matches the task's ETag gets 304 without loading the task.
+     */
+    @Test
+    void getTask_NotModified() {
+        when(resourceVersionService.taskValidator(1L)).thenReturn(new ResourceValidator("W/\"task-1-1-3\"", -1));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/1");
+        request.addHeader("If-None-Match", "W/\"task-1-1-3\"");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        ResponseEntity<Map<String, Object>> response =
+                taskController.getTask(1L, new ServletWebRequest(request, servletResponse));
+
+        assertNull(response);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), servletResponse.getStatus());
+        assertEquals("W/\"task-1-1-3\"", servletResponse.getHeader("ETag"));
+        verify(taskService, never()).getTaskById(anyLong());
+    }
+
     /**
      * Tests the case where the task ID being retrieved does not exist.
      *
@@ -215,7 +250,7 @@ class TaskControllerUnitTest {
         when(taskService.getTaskById(taskId))
                 .thenThrow(new TaskNotExistException("Task not found"));
 
-        ResponseEntity<Map<String, Object>> response = taskController.getTask(taskId);
+        ResponseEntity<Map<String, Object>> response = taskController.getTask(taskId, getRequest());
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         Map<String, Object> responseBody = response.getBody();
@@ -793,4 +828,88 @@ class TaskControllerUnitTest {
         assertTrue((Boolean) responseBody.get("success"));
         assertEquals(Collections.singletonList(responseTask), responseBody.get("data"));
     }
+
+    /**
+     * Tests that a batch status update passes the parsed statuses through in request order.
+     */
+    @Test
+    void updateTaskStatuses_Success() {
+        Map<String, Object> request = new HashMap<>();
+        request.put("tasks", List.of(
+                Map.of("id", 1, "status", "completed"),
+                Map.of("id", 2, "status", "IN_PROGRESS")));
+        Map<Long, Task.TaskStatus> expected = new LinkedHashMap<>();
+        expected.put(1L, Task.TaskStatus.COMPLETED);
+        expected.put(2L, Task.TaskStatus.IN_PROGRESS);
+        List<TaskBatchResult> results = List.of(
+                new TaskBatchResult(1L, TaskBatchResult.Outcome.UPDATED),
+                new TaskBatchResult(2L, TaskBatchResult.Outcome.NOT_FOUND));
+        when(taskService.updateTaskStatuses(1L, expected)).thenReturn(results);
+
+        ResponseEntity<Map<String, Object>> response = taskController.updateTaskStatuses(1L, request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue((Boolean) response.getBody().get("success"));
+        assertEquals(results, response.getBody().get("data"));
+    }
+
+    /**
+     * Tests that one invalid entry rejects the whole batch before any task is written.
+     */
+    @Test
+    void createTasks_InvalidStatus() {
+        Map<String, Object> request = new HashMap<>();
+        request.put("tasks", List.of(Map.of("name", "Test Task", "status", "DONE", "userId", 1)));
+
+        ResponseEntity<Map<String, Object>> response = taskController.createTasks(1L, request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Invalid task status: DONE", response.getBody().get("message"));
+        verify(taskService, never()).createTasks(anyLong(), any());
+    }
+
+    /**
+     * Tests that a batch delete for a missing event returns 404.
+     */
+    @Test
+    void deleteTasks_EventNotFound() {
+        Map<String, Object> request = new HashMap<>();
+        request.put("taskIds", List.of(1, 2));
+        when(taskService.deleteTasks(1L, List.of(1L, 2L)))
+                .thenThrow(new EventNotExistException("Event not found"));
+
+        ResponseEntity<Map<String, Object>> response = taskController.deleteTasks(1L, request);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertFalse((Boolean) response.getBody().get("success"));
+    }
+
+    /**
+     * Tests that the task board of an event is returned as the response data.
+     */
+    @Test
+    void getTaskBoard_Success() {
+        TaskBoard board = new TaskBoard(1L, Map.of(Task.TaskStatus.PENDING, 1L),
+                List.of(new TaskBoardItem(1L, "Test Task", Task.TaskStatus.PENDING, 2L, "Test User")));
+        when(taskService.getTaskBoard(1L)).thenReturn(board);
+
+        ResponseEntity<Map<String, Object>> response = taskController.getTaskBoard(1L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue((Boolean) response.getBody().get("success"));
+        assertEquals(board, response.getBody().get("data"));
+    }
+
+    /**
+     * Tests that the task board of a missing event returns 404.
+     */
+    @Test
+    void getTaskBoard_EventNotFound() {
+        when(taskService.getTaskBoard(1L)).thenThrow(new EventNotExistException("Event not found"));
+
+        ResponseEntity<Map<String, Object>> response = taskController.getTaskBoard(1L);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("Event not found", response.getBody().get("message"));
+    }
 }
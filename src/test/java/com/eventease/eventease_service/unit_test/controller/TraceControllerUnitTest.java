@@ -0,0 +1,96 @@
+package com.eventease.eventease_service.unit_test.controller;
+
+import com.eventease.eventease_service.config.InMemorySpanReporter;
+import com.eventease.eventease_service.controller.TraceController;
+import io.micrometer.tracing.exporter.FinishedSpan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the TraceController class.
+ */
+@ActiveProfiles("test")
+class TraceControllerUnitTest {
+
+  private static final Instant START = Instant.parse("2026-01-01T10:00:00Z");
+
+  private InMemorySpanReporter spanReporter;
+  private TraceController traceController;
+
+  @BeforeEach
+  void setUp() {
+    spanReporter = new InMemorySpanReporter(4);
+    traceController = new TraceController(spanReporter);
+  }
+
+  @Test
+  void getTraces_SlowestFirstAndFilteredByDuration() {
+    spanReporter.report(span("fast", "f1", null, "http post /api/users", 0, 5));
+    spanReporter.report(span("slow", "s2", "s1", "repository.calls", 1, 40));
+    spanReporter.report(span("slow", "s1", null, "http post /api/events/{eventId}/rsvp/{userId}", 0, 120));
+
+    ResponseEntity<Map<String, Object>> response = traceController.getTraces(10, 50);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    @SuppressWarnings("unchecked")
+    List<Map<String, Object>> traces = (List<Map<String, Object>>) response.getBody().get("data");
+    assertEquals(1, traces.size());
+    assertEquals("slow", traces.get(0).get("traceId"));
+    assertEquals("http post /api/events/{eventId}/rsvp/{userId}", traces.get(0).get("name"));
+    assertEquals(120.0, traces.get(0).get("durationMs"));
+    assertEquals(2, traces.get(0).get("spanCount"));
+  }
+
+  @Test
+  void getTrace_ReturnsSpansInStartOrder() {
+    spanReporter.report(span("t", "child", "root", "outbound.calls", 30, 90));
+    spanReporter.report(span("t", "root", null, "http get /api/events/1c/{userId}/{eventId}", 0, 100));
+
+    ResponseEntity<Map<String, Object>> response = traceController.getTrace("t");
+
+    @SuppressWarnings("unchecked")
+    List<Map<String, Object>> spans = (List<Map<String, Object>>) response.getBody().get("data");
+    assertEquals(2, spans.size());
+    assertEquals("root", spans.get(0).get("spanId"));
+    assertEquals("child", spans.get(1).get("spanId"));
+    assertEquals(60.0, spans.get(1).get("durationMs"));
+    assertEquals("twilio", ((Map<?, ?>) spans.get(1).get("tags")).get("service"));
+  }
+
+  @Test
+  void getTrace_OverwrittenTraceReturnsNotFound() {
+    spanReporter.report(span("old", "o1", null, "http get /api/users", 0, 1));
+    for (int i = 0; i < 4; i++) {
+      spanReporter.report(span("new", "n" + i, null, "http get /api/events", 0, 1));
+    }
+
+    ResponseEntity<Map<String, Object>> response = traceController.getTrace("old");
+
+    assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    assertEquals(false, response.getBody().get("success"));
+    assertEquals(4, spanReporter.snapshot().size());
+  }
+
+  private static FinishedSpan span(String traceId, String spanId, String parentId, String name,
+                                   long startMillis, long endMillis) {
+    FinishedSpan span = mock(FinishedSpan.class);
+    when(span.getTraceId()).thenReturn(traceId);
+    when(span.getSpanId()).thenReturn(spanId);
+    when(span.getParentId()).thenReturn(parentId);
+    when(span.getName()).thenReturn(name);
+    when(span.getStartTimestamp()).thenReturn(START.plusMillis(startMillis));
+    when(span.getEndTimestamp()).thenReturn(START.plusMillis(endMillis));
+    when(span.getTags()).thenReturn(Map.of("service", "twilio"));
+    return span;
+  }
+}
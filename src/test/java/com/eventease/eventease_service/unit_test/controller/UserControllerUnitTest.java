@@ -2,9 +2,12 @@ package com.eventease.eventease_service.unit_test.controller;
 
 import com.eventease.eventease_service.controller.UserController;
 import com.eventease.eventease_service.exception.UserNotExistException;
+import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.service.ResourceVersionService;
 import com.eventease.eventease_service.service.UserService;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +20,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
@@ -24,6 +29,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 /**
@@ -42,6 +48,9 @@ public class UserControllerUnitTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private ResourceVersionService resourceVersionService;
+
     /**
      * Set up the test environment.
      */
@@ -166,5 +175,30 @@ public class UserControllerUnitTest {
                 .andExpect(jsonPath("$.success").value(false))
                 .andExpect(jsonPath("$.error").value("Unexpected error"));
     }
-}
 
+    @Test
+    @Order(7)
+    void testGetCreatedEventsPage() throws Exception {
+        Event event = new Event();
+        event.setName("Book Club");
+        when(userService.getCreatedEvents(1L, 0, 20))
+                .thenReturn(new PageImpl<>(List.of(event), PageRequest.of(0, 20), 1));
+
+        mockMvc.perform(get("/api/users/1/events/created"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].name").value("Book Club"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    @Order(8)
+    void testGetAttendedEventsUserNotFound() throws Exception {
+        when(userService.getAttendedEvents(1L, 0, 5))
+                .thenThrow(new UserNotExistException("User is not found."));
+
+        mockMvc.perform(get("/api/users/1/events/attended").param("size", "5"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+}
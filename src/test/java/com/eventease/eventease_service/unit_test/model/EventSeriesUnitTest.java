@@ -0,0 +1,83 @@
+package com.eventease.eventease_service.unit_test.model;
+
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.EventSeries;
+import com.eventease.eventease_service.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSeriesUnitTest {
+
+  @Test
+  void weeklyOccurrencesInsideWindowOnly() {
+    EventSeries series = series(EventSeries.Frequency.WEEKLY, 1, LocalDate.of(2024, 1, 1), null);
+
+    List<LocalDate> dates = series.occurrencesBetween(LocalDate.of(2030, 6, 1), LocalDate.of(2030, 6, 20));
+
+    // 2024-01-01 is a Monday
+    assertEquals(List.of(LocalDate.of(2030, 6, 3), LocalDate.of(2030, 6, 10), LocalDate.of(2030, 6, 17)), dates);
+  }
+
+  @Test
+  void intervalAndUntilDateBoundTheSeries() {
+    EventSeries series = series(EventSeries.Frequency.DAILY, 3, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 10));
+
+    List<LocalDate> dates = series.occurrencesBetween(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 12, 31));
+
+    assertEquals(List.of(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 7),
+        LocalDate.of(2024, 3, 10)), dates);
+  }
+
+  @Test
+  void monthlyOccurrencesClampToMonthEndWithoutDrift() {
+    EventSeries series = series(EventSeries.Frequency.MONTHLY, 1, LocalDate.of(2024, 1, 31), null);
+
+    List<LocalDate> dates = series.occurrencesBetween(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 4, 30));
+
+    assertEquals(List.of(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 31), LocalDate.of(2024, 4, 30)), dates);
+  }
+
+  @Test
+  void occursOnMatchesOnlyOccurrenceDates() {
+    EventSeries series = series(EventSeries.Frequency.WEEKLY, 2, LocalDate.of(2024, 1, 1), null);
+
+    assertTrue(series.occursOn(LocalDate.of(2024, 1, 15)));
+    assertFalse(series.occursOn(LocalDate.of(2024, 1, 8)));
+    assertFalse(series.occursOn(LocalDate.of(2023, 12, 18)));
+  }
+
+  @Test
+  void occurrenceCarriesSeriesDetails() {
+    EventSeries series = series(EventSeries.Frequency.WEEKLY, 1, LocalDate.of(2024, 1, 1), null);
+
+    Event event = series.occurrenceOn(LocalDate.of(2024, 1, 8));
+
+    assertNull(event.getId());
+    assertEquals(7L, event.getSeriesId());
+    assertEquals("Weekly meetup", event.getName());
+    assertEquals(LocalDate.of(2024, 1, 8), event.getDate());
+    assertEquals(LocalTime.of(18, 0), event.getTime());
+    assertEquals(40, event.getCapacity());
+    assertSame(series.getHost(), event.getHost());
+  }
+
+  private static EventSeries series(EventSeries.Frequency frequency, int interval, LocalDate start, LocalDate until) {
+    EventSeries series = new EventSeries();
+    series.setId(7L);
+    series.setName("Weekly meetup");
+    series.setTime(LocalTime.of(18, 0));
+    series.setEndTime(LocalTime.of(20, 0));
+    series.setCapacity(40);
+    series.setHost(new User());
+    series.setFrequency(frequency);
+    series.setRepeatInterval(interval);
+    series.setStartDate(start);
+    series.setUntilDate(until);
+    return series;
+  }
+}
@@ -0,0 +1,93 @@
+package com.eventease.eventease_service.unit_test.repository;
+
+import com.eventease.eventease_service.repository.EventArchiveRepository;
+import com.eventease.eventease_service.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the EventArchiveRepository class.
+ */
+@ActiveProfiles("test")
+public class EventArchiveRepositoryUnitTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private EventArchiveRepository archiveRepository;
+
+  @BeforeEach
+  public void setUp() {
+    jdbcTemplate = mock(JdbcTemplate.class);
+    archiveRepository = new EventArchiveRepository(jdbcTemplate, mock(UserRepository.class));
+  }
+
+  @Test
+  public void findEventById_NothingArchivedBeforeTablesExist() {
+    doThrow(sqlError("42S02")).when(jdbcTemplate).query(anyString(), any(RowMapper.class), any(Object[].class));
+
+    assertNull(archiveRepository.findEventById(1L));
+    assertTrue(archiveRepository.findRsvpsByUserId(1L, null).isEmpty());
+    assertTrue(archiveRepository.findEventsByDateRange(LocalDate.now(), LocalDate.now()).isEmpty());
+
+    // Reads run in read-only transactions, possibly on a replica, so they never create the tables
+    verify(jdbcTemplate, never()).execute(anyString());
+  }
+
+  @Test
+  public void findAttendeeSummaryPage_FiltersByStatusOnlyWhenGiven() {
+    archiveRepository.findAttendeeSummaryPage(1L, 5L, null, 100);
+    verify(jdbcTemplate).query(argThat((String sql) -> !sql.contains("r.status = ?")), any(RowMapper.class),
+        eq(1L), eq(5L), eq(100));
+
+    archiveRepository.findAttendeeSummaryPage(1L, 5L, "CheckedIn", 100);
+    verify(jdbcTemplate).query(argThat((String sql) -> sql.contains("r.status = ?")), any(RowMapper.class),
+        eq(1L), eq(5L), eq("CheckedIn"), eq(100));
+  }
+
+  @Test
+  public void countAttendees_ZeroBeforeTablesExist() {
+    when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(Object[].class))).thenThrow(sqlError("42S02"));
+
+    assertEquals(0, archiveRepository.countAttendees(1L, null));
+    assertTrue(archiveRepository.findAttendeeSummaryPage(1L, 0L, null, 100).isEmpty());
+  }
+
+  @Test
+  public void findLatestArchivedDate_NullBeforeTablesExist() {
+    when(jdbcTemplate.queryForObject(anyString(), eq(Date.class))).thenThrow(sqlError("42S02"));
+
+    assertNull(archiveRepository.findLatestArchivedDate());
+    verify(jdbcTemplate, never()).execute(anyString());
+  }
+
+  @Test
+  public void findEventById_OtherErrorsPropagate() {
+    doThrow(sqlError("42000")).when(jdbcTemplate).query(anyString(), any(RowMapper.class), any(Object[].class));
+
+    assertThrows(BadSqlGrammarException.class, () -> archiveRepository.findEventById(1L));
+  }
+
+  @Test
+  public void archiveBatch_RequiresSyncedTables() {
+    assertThrows(IllegalStateException.class, () -> archiveRepository.archiveBatch(LocalDate.now(), 10));
+
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  private static BadSqlGrammarException sqlError(String sqlState) {
+    return new BadSqlGrammarException("query", "SELECT * FROM event_archive", new SQLException("error", sqlState));
+  }
+}
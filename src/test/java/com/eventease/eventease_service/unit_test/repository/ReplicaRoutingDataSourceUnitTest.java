@@ -0,0 +1,115 @@
+package com.eventease.eventease_service.unit_test.repository;
+
+import com.eventease.eventease_service.config.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the ReplicaRoutingDataSource class.
+ */
+@ActiveProfiles("test")
+public class ReplicaRoutingDataSourceUnitTest {
+
+  private Connection primaryConnection;
+  private Connection replica0Connection;
+  private Connection replica1Connection;
+  private ReplicaRoutingDataSource routingDataSource;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    primaryConnection = mock(Connection.class);
+    replica0Connection = mock(Connection.class);
+    replica1Connection = mock(Connection.class);
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    replicas.put("replica-0", dataSourceFor(replica0Connection));
+    replicas.put("replica-1", dataSourceFor(replica1Connection));
+    routingDataSource = new ReplicaRoutingDataSource(dataSourceFor(primaryConnection), replicas);
+    routingDataSource.setHealthy("replica-0", true);
+    routingDataSource.setHealthy("replica-1", true);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    TransactionSynchronizationManager.setActualTransactionActive(false);
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  public void testReadOnlyTransactionsAlternateBetweenReplicas() throws Exception {
+    beginTransaction(true);
+
+    assertSame(replica0Connection, routingDataSource.getConnection());
+    assertSame(replica1Connection, routingDataSource.getConnection());
+    assertSame(replica0Connection, routingDataSource.getConnection());
+  }
+
+  @Test
+  public void testWritesAndNonTransactionalStatementsUsePrimary() throws Exception {
+    assertSame(primaryConnection, routingDataSource.getConnection());
+
+    beginTransaction(false);
+
+    assertSame(primaryConnection, routingDataSource.getConnection());
+  }
+
+  @Test
+  public void testLaggingReplicaIsSkipped() throws Exception {
+    routingDataSource.setHealthy("replica-0", false);
+    beginTransaction(true);
+
+    assertSame(replica1Connection, routingDataSource.getConnection());
+    assertSame(replica1Connection, routingDataSource.getConnection());
+  }
+
+  @Test
+  public void testNoHealthyReplicaFallsBackToPrimary() throws Exception {
+    routingDataSource.setHealthy("replica-0", false);
+    routingDataSource.setHealthy("replica-1", false);
+    beginTransaction(true);
+
+    assertSame(primaryConnection, routingDataSource.getConnection());
+    assertTrue(routingDataSource.getHealthyReplicas().isEmpty());
+  }
+
+  @Test
+  public void testReadsAfterWriteInSameRequestStayOnPrimary() throws Exception {
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    beginTransaction(true);
+    assertSame(replica0Connection, routingDataSource.getConnection());
+
+    beginTransaction(false);
+    routingDataSource.getConnection();
+    beginTransaction(true);
+
+    assertSame(primaryConnection, routingDataSource.getConnection());
+
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    assertNotSame(primaryConnection, routingDataSource.getConnection());
+  }
+
+  private static void beginTransaction(boolean readOnly) {
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+  }
+
+  private static DataSource dataSourceFor(Connection connection) throws Exception {
+    DataSource dataSource = mock(DataSource.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    return dataSource;
+  }
+}
@@ -0,0 +1,159 @@
+package com.eventease.eventease_service.unit_test.repository;
+
+import com.eventease.eventease_service.config.Workload;
+import com.eventease.eventease_service.config.WorkloadAspect;
+import com.eventease.eventease_service.config.WorkloadPoolSizer;
+import com.eventease.eventease_service.config.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the workload pools: routing by {@link Workload} and adaptive pool sizing.
+ */
+@ActiveProfiles("test")
+public class WorkloadRoutingUnitTest {
+
+  private Connection transactionalConnection;
+  private Connection hotReadConnection;
+  private Connection bulkConnection;
+  private Queries queries;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    transactionalConnection = mock(Connection.class);
+    hotReadConnection = mock(Connection.class);
+    bulkConnection = mock(Connection.class);
+    WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource(Map.of(
+        Workload.Type.TRANSACTIONAL, dataSourceFor(transactionalConnection),
+        Workload.Type.HOT_READ, dataSourceFor(hotReadConnection),
+        Workload.Type.BULK, dataSourceFor(bulkConnection)));
+    queries = proxy(new Queries(routing, proxy(new Queries(routing, null))));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    TransactionSynchronizationManager.setActualTransactionActive(false);
+  }
+
+  @Test
+  public void testAnnotatedMethodsUseTheirPool() throws Exception {
+    assertSame(hotReadConnection, queries.lookup());
+    assertSame(bulkConnection, queries.listing());
+    assertSame(transactionalConnection, queries.unannotated());
+    assertNull(WorkloadRoutingDataSource.currentWorkload());
+  }
+
+  @Test
+  public void testOutermostWorkloadWins() throws Exception {
+    assertSame(bulkConnection, queries.listingThenLookup());
+  }
+
+  @Test
+  public void testCallsWithinRunningTransactionKeepTheDefaultPool() throws Exception {
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+
+    assertSame(transactionalConnection, queries.listing());
+  }
+
+  @Test
+  public void testSizerGrowsWaitingPoolWithinBudget() {
+    HikariDataSource transactional = pool(10, 10, 3);
+    HikariDataSource hotRead = pool(6, 0, 0);
+    HikariDataSource bulk = pool(4, 4, 5);
+    WorkloadPoolSizer sizer = new WorkloadPoolSizer(Map.of(
+        Workload.Type.TRANSACTIONAL, transactional,
+        Workload.Type.HOT_READ, hotRead,
+        Workload.Type.BULK, bulk), 23, 2, 3);
+
+    sizer.resize();
+
+    assertEquals(12, transactional.getMaximumPoolSize());
+    assertEquals(6, hotRead.getMaximumPoolSize());
+    assertEquals(5, bulk.getMaximumPoolSize());
+  }
+
+  @Test
+  public void testSizerShrinksIdlePoolBackToConfiguredSize() {
+    HikariDataSource transactional = pool(10, 10, 1);
+    WorkloadPoolSizer sizer = new WorkloadPoolSizer(Map.of(Workload.Type.TRANSACTIONAL, transactional), 40, 2, 2);
+    sizer.resize();
+    assertEquals(12, transactional.getMaximumPoolSize());
+
+    HikariPoolMXBean idle = mock(HikariPoolMXBean.class);
+    when(idle.getActiveConnections()).thenReturn(1);
+    doReturn(idle).when(transactional).getHikariPoolMXBean();
+    sizer.resize();
+    assertEquals(12, transactional.getMaximumPoolSize());
+    sizer.resize();
+    assertEquals(10, transactional.getMaximumPoolSize());
+    sizer.resize();
+    sizer.resize();
+    assertEquals(10, transactional.getMaximumPoolSize());
+  }
+
+  private static Queries proxy(Queries target) {
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new WorkloadAspect());
+    return factory.getProxy();
+  }
+
+  private static HikariDataSource pool(int maxSize, int active, int waiting) {
+    HikariDataSource pool = spy(new HikariDataSource());
+    pool.setMaximumPoolSize(maxSize);
+    HikariPoolMXBean usage = mock(HikariPoolMXBean.class);
+    when(usage.getActiveConnections()).thenReturn(active);
+    when(usage.getThreadsAwaitingConnection()).thenReturn(waiting);
+    doReturn(usage).when(pool).getHikariPoolMXBean();
+    return pool;
+  }
+
+  private static DataSource dataSourceFor(Connection connection) throws Exception {
+    DataSource dataSource = mock(DataSource.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    return dataSource;
+  }
+
+  public static class Queries {
+    private final DataSource dataSource;
+    private final Queries delegate;
+
+    public Queries(DataSource dataSource, Queries delegate) {
+      this.dataSource = dataSource;
+      this.delegate = delegate;
+    }
+
+    @Workload(Workload.Type.HOT_READ)
+    public Connection lookup() throws SQLException {
+      return dataSource.getConnection();
+    }
+
+    @Workload(Workload.Type.BULK)
+    public Connection listing() throws SQLException {
+      return dataSource.getConnection();
+    }
+
+    @Workload(Workload.Type.BULK)
+    public Connection listingThenLookup() throws SQLException {
+      return delegate.lookup();
+    }
+
+    public Connection unannotated() throws SQLException {
+      return dataSource.getConnection();
+    }
+  }
+}
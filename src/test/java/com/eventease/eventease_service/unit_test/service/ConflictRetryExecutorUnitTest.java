@@ -0,0 +1,105 @@
+package com.eventease.eventease_service.unit_test.service;
+
+import com.eventease.eventease_service.service.ConflictRetryExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the ConflictRetryExecutor class.
+ * The transaction manager is mocked, so each attempt only exercises the retry loop.
+ */
+@ActiveProfiles("test")
+public class ConflictRetryExecutorUnitTest {
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private SimpleMeterRegistry meterRegistry;
+  private ConflictRetryExecutor conflictRetryExecutor;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    meterRegistry = new SimpleMeterRegistry();
+    conflictRetryExecutor = new ConflictRetryExecutor(transactionManager, meterRegistry, 3, 1, 2);
+  }
+
+  @Test
+  void execute_RetriesAfterConflict() {
+    AtomicInteger calls = new AtomicInteger();
+
+    String result = conflictRetryExecutor.execute("test.update", () -> {
+      if (calls.incrementAndGet() == 1) {
+        throw new ObjectOptimisticLockingFailureException("Event", 1L);
+      }
+      return "saved";
+    });
+
+    assertEquals("saved", result);
+    assertEquals(2, calls.get());
+    verify(transactionManager, times(1)).rollback(any());
+    verify(transactionManager, times(1)).commit(any());
+
+    assertEquals(2, count("retry.conflict.attempts", "test.update"));
+    assertEquals(1, count("retry.conflict.conflicts", "test.update"));
+    assertEquals(0, count("retry.conflict.exhausted", "test.update"));
+  }
+
+  @Test
+  void execute_GivesUpAfterMaxAttempts() {
+    AtomicInteger calls = new AtomicInteger();
+
+    assertThrows(ObjectOptimisticLockingFailureException.class, () ->
+        conflictRetryExecutor.run("test.update", () -> {
+          calls.incrementAndGet();
+          throw new ObjectOptimisticLockingFailureException("Event", 1L);
+        }));
+
+    assertEquals(3, calls.get());
+    assertEquals(3, count("retry.conflict.attempts", "test.update"));
+    assertEquals(3, count("retry.conflict.conflicts", "test.update"));
+    assertEquals(1, count("retry.conflict.exhausted", "test.update"));
+  }
+
+  @Test
+  void execute_DoesNotRetryOtherFailures() {
+    AtomicInteger calls = new AtomicInteger();
+
+    assertThrows(IllegalArgumentException.class, () ->
+        conflictRetryExecutor.run("test.update", () -> {
+          calls.incrementAndGet();
+          throw new IllegalArgumentException("User has already been checked in.");
+        }));
+
+    assertEquals(1, calls.get());
+    assertEquals(1, count("retry.conflict.attempts", "test.update"));
+    assertEquals(0, count("retry.conflict.conflicts", "test.update"));
+  }
+
+  @Test
+  void execute_CountsEachOperationSeparately() {
+    conflictRetryExecutor.execute("event.update", () -> "saved");
+    conflictRetryExecutor.execute("task.update", () -> "saved");
+    conflictRetryExecutor.execute("task.update", () -> "saved");
+
+    assertEquals(1, count("retry.conflict.attempts", "event.update"));
+    assertEquals(2, count("retry.conflict.attempts", "task.update"));
+  }
+
+  private double count(String meter, String operation) {
+    return meterRegistry.counter(meter, "operation", operation).count();
+  }
+}
@@ -0,0 +1,242 @@
+package com.eventease.eventease_service.unit_test.service;
+
+import com.eventease.eventease_service.model.DomainEventType;
+import com.eventease.eventease_service.model.OutboxEvent;
+import com.eventease.eventease_service.model.SubscriberOffset;
+import com.eventease.eventease_service.repository.OutboxEventRepository;
+import com.eventease.eventease_service.repository.SubscriberOffsetRepository;
+import com.eventease.eventease_service.service.DomainEvent;
+import com.eventease.eventease_service.service.DomainEventBus;
+import com.eventease.eventease_service.service.DomainEventSubscriber;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the DomainEventBus class. The dispatcher runs on its own thread, so delivery is
+ * checked with timeouts.
+ */
+@ActiveProfiles("test")
+public class DomainEventBusUnitTest {
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+
+  @Mock
+  private SubscriberOffsetRepository subscriberOffsetRepository;
+
+  @Mock
+  private ObjectProvider<DomainEventSubscriber> subscriberProvider;
+
+  private final RecordingSubscriber subscriber = new RecordingSubscriber();
+  private DomainEventBus domainEventBus;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(subscriberProvider.orderedStream()).thenAnswer(invocation -> Stream.of(subscriber));
+    when(outboxEventRepository.findMaxSeq()).thenReturn(0L);
+    when(subscriberOffsetRepository.findById("recorder@node-1"))
+        .thenReturn(Optional.of(new SubscriberOffset("recorder@node-1", 0)));
+    domainEventBus = new DomainEventBus(outboxEventRepository, subscriberOffsetRepository, subscriberProvider,
+        new ObjectMapper(), 16, 100, 100, "node-1", 10, 86400000);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    domainEventBus.stop();
+  }
+
+  @Test
+  void publish_WritesJsonPayloadToOutbox() {
+    domainEventBus.publish(DomainEventType.RSVP_CREATED, 7L, Map.of("userId", 3L));
+
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(outboxEventRepository).save(captor.capture());
+    assertEquals(DomainEventType.RSVP_CREATED, captor.getValue().getEventType());
+    assertEquals(7L, captor.getValue().getAggregateId());
+    assertEquals("{\"userId\":3}", captor.getValue().getPayload());
+  }
+
+  @Test
+  void start_KeepsOffsetsPerInstance() {
+    when(subscriberOffsetRepository.findById("recorder@node-1")).thenReturn(Optional.empty());
+    when(outboxEventRepository.findMaxSeq()).thenReturn(9L);
+    when(subscriberOffsetRepository.save(any(SubscriberOffset.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    domainEventBus.start();
+
+    ArgumentCaptor<SubscriberOffset> captor = ArgumentCaptor.forClass(SubscriberOffset.class);
+    verify(subscriberOffsetRepository).save(captor.capture());
+    assertEquals("recorder@node-1", captor.getValue().getSubscriber());
+    assertEquals(9L, captor.getValue().getLastOffset());
+    assertEquals(Map.of("recorder", 9L), domainEventBus.getOffsets());
+  }
+
+  @Test
+  void relay_DeliversInOrderAndCommitsOffset() {
+    when(outboxEventRepository.findAfter(eq(0L), any())).thenReturn(List.of(row(1), row(2), row(3)));
+
+    domainEventBus.start();
+    assertEquals(3, domainEventBus.relay());
+
+    InOrder inOrder = inOrder(outboxEventRepository);
+    inOrder.verify(outboxEventRepository).assignSequence(100);
+    inOrder.verify(outboxEventRepository).findAfter(eq(0L), any());
+    verify(subscriberOffsetRepository, timeout(2000)).updateOffset("recorder@node-1", 3L);
+    assertEquals(List.of(1L, 2L, 3L), subscriber.offsets());
+  }
+
+  @Test
+  void relay_DeliversLateCommitWithoutWaiting() {
+    // Row 2 committed after row 3, so it was numbered after it
+    when(outboxEventRepository.findAfter(eq(0L), any())).thenReturn(List.of(row(1, 1), row(3, 2)));
+    when(outboxEventRepository.findAfter(eq(2L), any())).thenReturn(List.of(row(2, 3)));
+
+    domainEventBus.start();
+    assertEquals(2, domainEventBus.relay());
+    assertEquals(1, domainEventBus.relay());
+
+    verify(subscriberOffsetRepository, timeout(2000)).updateOffset("recorder@node-1", 3L);
+    assertEquals(List.of(1L, 2L, 3L), subscriber.offsets());
+    assertEquals(List.of(1L, 3L, 2L), subscriber.aggregateIds());
+  }
+
+  @Test
+  void failedBatch_IsRedeliveredFromOutbox() {
+    subscriber.failNext.set(true);
+    when(outboxEventRepository.findAfter(eq(0L), any())).thenReturn(List.of(row(1), row(2)));
+    when(outboxEventRepository.findBetween(eq(0L), eq(2L), any())).thenReturn(List.of(row(1), row(2)));
+
+    domainEventBus.start();
+    domainEventBus.relay();
+
+    verify(subscriberOffsetRepository, timeout(2000)).updateOffset("recorder@node-1", 2L);
+    assertEquals(List.of(1L, 2L), subscriber.offsets());
+  }
+
+  @Test
+  void replay_RedeliversFromRequestedOffset() {
+    when(outboxEventRepository.findAfter(eq(0L), any())).thenReturn(List.of(row(1), row(2)));
+    when(outboxEventRepository.findBetween(eq(1L), eq(2L), any())).thenReturn(List.of(row(2)));
+
+    domainEventBus.start();
+    domainEventBus.relay();
+    verify(subscriberOffsetRepository, timeout(2000)).updateOffset("recorder@node-1", 2L);
+
+    domainEventBus.replay("recorder", 1L);
+
+    verify(subscriberOffsetRepository, timeout(2000).times(2)).updateOffset("recorder@node-1", 2L);
+    assertEquals(List.of(1L, 2L, 2L), subscriber.offsets());
+  }
+
+  @Test
+  void purge_KeepsEventsSubscribersHaveNotConsumed() {
+    when(subscriberOffsetRepository.findMinOffset(eq("%@%"), any())).thenReturn(42L);
+    when(outboxEventRepository.deleteConsumed(eq(42L), any(), anyInt())).thenReturn(5);
+
+    domainEventBus.start();
+
+    assertEquals(5, domainEventBus.purge());
+    verify(subscriberOffsetRepository).touch(List.of("recorder@node-1"));
+  }
+
+  @Test
+  void purge_KeepsEverythingWhenNoInstanceOffsetIsLive() {
+    when(subscriberOffsetRepository.findMinOffset(eq("%@%"), any())).thenReturn(null);
+
+    domainEventBus.start();
+
+    assertEquals(0, domainEventBus.purge());
+    verify(outboxEventRepository).deleteConsumed(eq(0L), any(), anyInt());
+  }
+
+  @Test
+  void relay_NumbersRowsWithoutSubscribers() {
+    when(subscriberProvider.orderedStream()).thenAnswer(invocation -> Stream.empty());
+
+    domainEventBus.start();
+
+    assertEquals(0, domainEventBus.relay());
+    verify(outboxEventRepository).createSequence();
+    verify(outboxEventRepository).assignSequence(100);
+    verify(outboxEventRepository, never()).findAfter(anyLong(), any());
+  }
+
+  @Test
+  void purge_DeletesNumberedRowsWhenNoInstanceHasSubscribers() {
+    when(subscriberProvider.orderedStream()).thenAnswer(invocation -> Stream.empty());
+    when(subscriberOffsetRepository.findMinOffset(eq("%@%"), any())).thenReturn(null);
+    when(outboxEventRepository.deleteConsumed(eq(Long.MAX_VALUE), any(), anyInt())).thenReturn(3);
+
+    domainEventBus.start();
+
+    assertEquals(3, domainEventBus.purge());
+    verify(subscriberOffsetRepository, never()).touch(any());
+  }
+
+  @Test
+  void purge_KeepsEventsSubscribersOfOtherInstancesHaveNotConsumed() {
+    when(subscriberProvider.orderedStream()).thenAnswer(invocation -> Stream.empty());
+    when(subscriberOffsetRepository.findMinOffset(eq("%@%"), any())).thenReturn(7L);
+
+    domainEventBus.start();
+    domainEventBus.purge();
+
+    verify(outboxEventRepository).deleteConsumed(eq(7L), any(), anyInt());
+  }
+
+  private static OutboxEvent row(long seq) {
+    return row(seq, seq);
+  }
+
+  private static OutboxEvent row(long id, long seq) {
+    OutboxEvent row = new OutboxEvent(DomainEventType.TASK_UPDATED, id, "{}");
+    row.setId(id);
+    row.setSeq(seq);
+    return row;
+  }
+
+  private static class RecordingSubscriber implements DomainEventSubscriber {
+    private final List<DomainEvent> received = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean failNext = new AtomicBoolean();
+
+    @Override
+    public String getName() {
+      return "recorder";
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+      if (failNext.getAndSet(false)) {
+        throw new IllegalStateException("Index unavailable");
+      }
+      received.addAll(events);
+    }
+
+    List<Long> offsets() {
+      return received.stream().map(DomainEvent::offset).toList();
+    }
+
+    List<Long> aggregateIds() {
+      return received.stream().map(DomainEvent::aggregateId).toList();
+    }
+  }
+}
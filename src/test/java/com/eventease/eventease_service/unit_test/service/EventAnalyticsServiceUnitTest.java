@@ -0,0 +1,153 @@
+package com.eventease.eventease_service.unit_test.service;
+
+import com.eventease.eventease_service.model.DomainEventType;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.EventCounter;
+import com.eventease.eventease_service.model.EventStats;
+import com.eventease.eventease_service.model.EventStatsDelta;
+import com.eventease.eventease_service.model.EventStatsReport;
+import com.eventease.eventease_service.repository.EventDailyStatsRepository;
+import com.eventease.eventease_service.repository.EventStatsRepository;
+import com.eventease.eventease_service.service.DomainEvent;
+import com.eventease.eventease_service.service.EventAnalyticsService;
+import com.eventease.eventease_service.service.EventCounterService;
+import com.eventease.eventease_service.service.EventService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the EventAnalyticsService class.
+ */
+@ActiveProfiles("test")
+public class EventAnalyticsServiceUnitTest {
+
+  private static final Instant DAY_ONE = Instant.parse("2024-03-01T10:00:00Z");
+  private static final Instant DAY_TWO = Instant.parse("2024-03-02T23:30:00Z");
+
+  @Mock
+  private EventStatsRepository eventStatsRepository;
+
+  @Mock
+  private EventDailyStatsRepository eventDailyStatsRepository;
+
+  @Mock
+  private EventService eventService;
+
+  @Mock
+  private EventCounterService eventCounterService;
+
+  private EventAnalyticsService eventAnalyticsService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    eventAnalyticsService = new EventAnalyticsService(eventStatsRepository, eventDailyStatsRepository,
+        eventService, eventCounterService, new ObjectMapper());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void onEvents_AddsDailyCountsAndRecountsTasks() {
+    when(eventStatsRepository.lockAppliedOffset(anyString())).thenReturn(0L);
+
+    eventAnalyticsService.onEvents(List.of(
+        new DomainEvent(1, DomainEventType.RSVP_CREATED, 7L, "{}", DAY_ONE),
+        new DomainEvent(2, DomainEventType.RSVP_CREATED, 7L, "{}", DAY_ONE),
+        new DomainEvent(3, DomainEventType.RSVP_CHECKED_IN, 7L, "{}", DAY_TWO),
+        new DomainEvent(4, DomainEventType.RSVP_CANCELLED, 7L, "{}", DAY_TWO),
+        new DomainEvent(5, DomainEventType.TASK_UPDATED, 30L, "{\"eventId\":8}", DAY_TWO),
+        new DomainEvent(6, DomainEventType.TASKS_CREATED, 9L, "{\"taskIds\":[31]}", DAY_TWO)));
+
+    ArgumentCaptor<Collection<EventStatsDelta>> deltas = ArgumentCaptor.forClass(Collection.class);
+    verify(eventStatsRepository).addDeltas(deltas.capture());
+    assertEquals(List.of(
+        new EventStatsDelta(7L, LocalDate.of(2024, 3, 1), 2, 0, 0),
+        new EventStatsDelta(7L, LocalDate.of(2024, 3, 2), 0, 1, 1)), List.copyOf(deltas.getValue()));
+    verify(eventStatsRepository).refreshTaskCounts(Set.of(7L, 8L, 9L));
+    verify(eventStatsRepository).updateAppliedOffset("event-analytics.applied", 6L);
+  }
+
+  @Test
+  void onEvents_SkipsAppliedOffsets() {
+    when(eventStatsRepository.lockAppliedOffset(anyString())).thenReturn(4L);
+
+    eventAnalyticsService.onEvents(List.of(
+        new DomainEvent(3, DomainEventType.RSVP_CREATED, 7L, "{}", DAY_ONE),
+        new DomainEvent(4, DomainEventType.RSVP_CREATED, 7L, "{}", DAY_ONE)));
+
+    verify(eventStatsRepository, never()).addDeltas(any());
+    verify(eventStatsRepository, never()).updateAppliedOffset(anyString(), anyLong());
+  }
+
+  @Test
+  void onEvents_DeletedEventDropsItsRollups() {
+    when(eventStatsRepository.lockAppliedOffset(anyString())).thenReturn(0L);
+
+    eventAnalyticsService.onEvents(List.of(
+        new DomainEvent(1, DomainEventType.RSVP_CREATED, 7L, "{}", DAY_ONE),
+        new DomainEvent(2, DomainEventType.EVENT_DELETED, 7L, "{}", DAY_ONE)));
+
+    verify(eventStatsRepository).addDeltas(List.of());
+    verify(eventStatsRepository).refreshTaskCounts(Set.of());
+    verify(eventStatsRepository).deleteByEventIds(Set.of(7L));
+    verify(eventStatsRepository).updateAppliedOffset("event-analytics.applied", 2L);
+  }
+
+  @Test
+  void getStats_CombinesCountersAndRollups() {
+    Event event = new Event.Builder().setCapacity(100).setBudget(500).build();
+    event.setRsvpCount(8);
+    event.setAttendanceCount(4);
+    EventStats stats = new EventStats();
+    stats.setEventId(7L);
+    stats.setCancellationCount(3);
+    stats.setTaskCount(4);
+    stats.setTasksCompleted(1);
+    when(eventService.findById(7L)).thenReturn(event);
+    when(eventStatsRepository.findById(7L)).thenReturn(Optional.of(stats));
+    when(eventCounterService.pending(7L, EventCounter.RSVP_COUNT)).thenReturn(2L);
+    when(eventCounterService.pending(7L, EventCounter.ATTENDANCE_COUNT)).thenReturn(1L);
+
+    EventStatsReport report = eventAnalyticsService.getStats(7L, null, null);
+
+    assertEquals(10, report.rsvpCount());
+    assertEquals(5, report.checkInCount());
+    assertEquals(0.5, report.checkInRate());
+    assertEquals(3, report.cancellationCount());
+    assertEquals(0.25, report.taskCompletionRate());
+    assertEquals(500, report.budget());
+    verify(eventStatsRepository, never()).refreshTaskCounts(any());
+  }
+
+  @Test
+  void getStats_CountsTasksOnFirstRead() {
+    when(eventService.findById(7L)).thenReturn(new Event.Builder().build());
+    when(eventStatsRepository.findById(7L)).thenReturn(Optional.empty());
+
+    EventStatsReport report = eventAnalyticsService.getStats(7L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+
+    verify(eventStatsRepository).refreshTaskCounts(List.of(7L));
+    verify(eventDailyStatsRepository).findByEventIdAndDayBetweenOrderByDay(7L,
+        LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+    assertEquals(0, report.taskCount());
+    assertEquals(0.0, report.checkInRate());
+  }
+}
@@ -0,0 +1,115 @@
+package com.eventease.eventease_service.unit_test.service;
+
+import com.eventease.eventease_service.repository.EventArchiveRepository;
+import com.eventease.eventease_service.service.EventArchiveService;
+import com.eventease.eventease_service.service.ResourceVersionService;
+import com.eventease.eventease_service.service.TaskBoardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the EventArchiveService class.
+ */
+@ActiveProfiles("test")
+public class EventArchiveServiceUnitTest {
+
+  @Mock
+  private EventArchiveRepository archiveRepository;
+
+  @Mock
+  private ResourceVersionService resourceVersionService;
+
+  @Mock
+  private TaskBoardService taskBoardService;
+
+  private EventArchiveService eventArchiveService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    eventArchiveService = archiveService(true);
+  }
+
+  @Test
+  void archiveOldEvents_ArchivesBatchesUntilAShortOne() {
+    LocalDate before = LocalDate.now().minusDays(365);
+    when(archiveRepository.archiveBatch(before, 2)).thenReturn(List.of(1L, 2L), List.of(3L));
+
+    assertEquals(3, eventArchiveService.archiveOldEvents());
+
+    verify(archiveRepository).syncTables();
+    verify(archiveRepository, times(2)).archiveBatch(before, 2);
+    verify(resourceVersionService).evictEvent(3L);
+    verify(taskBoardService).evict(3L);
+  }
+
+  @Test
+  void archiveOldEvents_FailedBatchStopsTheRun() {
+    when(archiveRepository.archiveBatch(any(), anyInt()))
+        .thenReturn(List.of(1L, 2L))
+        .thenThrow(new CannotAcquireLockException("lock wait timeout"));
+
+    assertEquals(2, eventArchiveService.archiveOldEvents());
+
+    verify(archiveRepository, times(2)).archiveBatch(any(), anyInt());
+    verify(resourceVersionService, times(2)).evictEvent(anyLong());
+  }
+
+  @Test
+  void archiveOldEvents_Disabled() {
+    assertEquals(0, archiveService(false).archiveOldEvents());
+
+    verifyNoInteractions(archiveRepository);
+  }
+
+  @Test
+  void findArchivedEvents_SkipsArchiveForRecentRanges() {
+    when(archiveRepository.findLatestArchivedDate()).thenReturn(LocalDate.now().minusDays(400));
+
+    List<?> result = eventArchiveService.findArchivedEvents(LocalDate.now().minusDays(30), LocalDate.now());
+
+    assertTrue(result.isEmpty());
+    verify(archiveRepository, never()).findEventsByDateRange(any(), any());
+  }
+
+  @Test
+  void findArchivedEvents_ReadsArchiveForOldRanges() {
+    LocalDate startDate = LocalDate.now().minusDays(500);
+    LocalDate endDate = LocalDate.now();
+    when(archiveRepository.findLatestArchivedDate()).thenReturn(LocalDate.now().minusDays(400));
+
+    eventArchiveService.findArchivedEvents(startDate, endDate);
+
+    verify(archiveRepository).findEventsByDateRange(startDate, endDate);
+  }
+
+  @Test
+  void findArchivedRsvpsByUser_SkipsEmptyArchive() {
+    when(archiveRepository.findLatestArchivedDate()).thenReturn(null);
+
+    assertEquals(Collections.emptyList(), eventArchiveService.findArchivedRsvpsByUser(1L, null));
+    assertEquals(Collections.emptyList(), eventArchiveService.findArchivedRsvpsByUser(2L, "CheckedIn"));
+
+    verify(archiveRepository, times(1)).findLatestArchivedDate();
+    verify(archiveRepository, never()).findRsvpsByUserId(anyLong(), any());
+  }
+
+  private EventArchiveService archiveService(boolean enabled) {
+    return new EventArchiveService(archiveRepository, resourceVersionService, taskBoardService,
+        enabled, 365, 2, 0, 600000);
+  }
+}
@@ -0,0 +1,112 @@
+package com.eventease.eventease_service.unit_test.service;
+
+import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.model.EventCounter;
+import com.eventease.eventease_service.repository.EventRepository;
+import com.eventease.eventease_service.service.EventCountChangedEvent;
+import com.eventease.eventease_service.service.EventCountStreamService;
+import com.eventease.eventease_service.service.EventCounterService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the EventCountStreamService class.
+ */
+@ActiveProfiles("test")
+public class EventCountStreamServiceUnitTest {
+
+  @Mock
+  private EventRepository eventRepository;
+
+  @Mock
+  private EventCounterService eventCounterService;
+
+  private EventCountStreamService eventCountStreamService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    eventCountStreamService = new EventCountStreamService(
+        eventRepository, eventCounterService, new ObjectMapper(), 60000, 60000);
+  }
+
+  @Test
+  void subscribe_LoadsSnapshotOncePerEvent() {
+    when(eventRepository.findCountsById(1L)).thenReturn(List.<Object[]>of(new Object[]{5, 2, 100}));
+    when(eventCounterService.pending(1L, EventCounter.RSVP_COUNT)).thenReturn(1L);
+
+    eventCountStreamService.subscribe(1L);
+    eventCountStreamService.subscribe(1L);
+
+    verify(eventRepository, times(1)).findCountsById(1L);
+    assertEquals(2, eventCountStreamService.getWatcherCount(1L));
+    Map<String, Object> counts = eventCountStreamService.getCounts(1L);
+    assertEquals(6L, counts.get("rsvpCount"));
+    assertEquals(2L, counts.get("attendanceCount"));
+    assertEquals(100, counts.get("capacity"));
+  }
+
+  @Test
+  void subscribe_DoesNotBlockOtherEventsWhileLoading() {
+    // Events 1 and 17 share a bin of the small stream map
+    when(eventRepository.findCountsById(17L)).thenReturn(List.<Object[]>of(new Object[]{0, 0, 10}));
+    AtomicBoolean otherSubscribed = new AtomicBoolean();
+    when(eventRepository.findCountsById(1L)).thenAnswer(invocation -> {
+      Thread other = new Thread(() -> {
+        eventCountStreamService.subscribe(17L);
+        otherSubscribed.set(true);
+      });
+      other.start();
+      other.join(2000);
+      return List.<Object[]>of(new Object[]{5, 2, 100});
+    });
+
+    eventCountStreamService.subscribe(1L);
+
+    assertTrue(otherSubscribed.get());
+    assertEquals(1, eventCountStreamService.getWatcherCount(17L));
+    assertEquals(1, eventCountStreamService.getWatcherCount(1L));
+  }
+
+  @Test
+  void onCountChanged_AppliesDeltaToWatchedEvent() {
+    when(eventRepository.findCountsById(1L)).thenReturn(List.<Object[]>of(new Object[]{5, 2, 100}));
+    eventCountStreamService.subscribe(1L);
+
+    eventCountStreamService.onCountChanged(new EventCountChangedEvent(1L, EventCounter.RSVP_COUNT, 1));
+    eventCountStreamService.onCountChanged(new EventCountChangedEvent(1L, EventCounter.ATTENDANCE_COUNT, 1));
+    eventCountStreamService.push();
+
+    Map<String, Object> counts = eventCountStreamService.getCounts(1L);
+    assertEquals(6L, counts.get("rsvpCount"));
+    assertEquals(3L, counts.get("attendanceCount"));
+  }
+
+  @Test
+  void onCountChanged_IgnoresUnwatchedEvent() {
+    eventCountStreamService.onCountChanged(new EventCountChangedEvent(2L, EventCounter.RSVP_COUNT, 1));
+
+    assertNull(eventCountStreamService.getCounts(2L));
+    verifyNoInteractions(eventRepository);
+  }
+
+  @Test
+  void subscribe_UnknownEventThrows() {
+    when(eventRepository.findCountsById(3L)).thenReturn(Collections.emptyList());
+
+    assertThrows(EventNotExistException.class, () -> eventCountStreamService.subscribe(3L));
+    assertEquals(0, eventCountStreamService.getWatcherCount(3L));
+  }
+}
@@ -0,0 +1,109 @@
+package com.eventease.eventease_service.unit_test.service;
+
+import com.eventease.eventease_service.model.EventCounter;
+import com.eventease.eventease_service.repository.EventRepository;
+import com.eventease.eventease_service.service.EventCountChangedEvent;
+import com.eventease.eventease_service.service.EventCounterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the EventCounterService class.
+ */
+@ActiveProfiles("test")
+public class EventCounterServiceUnitTest {
+
+  @Mock
+  private EventRepository eventRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private EventCounterService eventCounterService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+  }
+
+  @Test
+  void pendingReflectsUnflushedChanges() {
+    eventCounterService.increment(1L, EventCounter.RSVP_COUNT);
+    eventCounterService.increment(1L, EventCounter.RSVP_COUNT);
+    eventCounterService.decrement(1L, EventCounter.RSVP_COUNT);
+    eventCounterService.increment(1L, EventCounter.ATTENDANCE_COUNT);
+
+    assertEquals(1, eventCounterService.pending(1L, EventCounter.RSVP_COUNT));
+    assertEquals(1, eventCounterService.pending(1L, EventCounter.ATTENDANCE_COUNT));
+    assertEquals(0, eventCounterService.pending(2L, EventCounter.RSVP_COUNT));
+    verifyNoInteractions(eventRepository);
+  }
+
+  @Test
+  void changesArePublished() {
+    eventCounterService.add(1L, EventCounter.RSVP_COUNT, 2);
+    eventCounterService.add(1L, EventCounter.RSVP_COUNT, 0);
+
+    verify(eventPublisher).publishEvent(new EventCountChangedEvent(1L, EventCounter.RSVP_COUNT, 2));
+    verifyNoMoreInteractions(eventPublisher);
+  }
+
+  @Test
+  void flushWritesOneBatchPerCounterAndResets() {
+    eventCounterService.add(1L, EventCounter.RSVP_COUNT, 3);
+    eventCounterService.add(2L, EventCounter.RSVP_COUNT, -1);
+    eventCounterService.increment(1L, EventCounter.ATTENDANCE_COUNT);
+
+    eventCounterService.flush();
+
+    verify(eventRepository).addToCounter(EventCounter.RSVP_COUNT, Map.of(1L, 3L, 2L, -1L));
+    verify(eventRepository).addToCounter(EventCounter.ATTENDANCE_COUNT, Map.of(1L, 1L));
+    assertEquals(0, eventCounterService.pending(1L, EventCounter.RSVP_COUNT));
+  }
+
+  @Test
+  void flushSkipsCountersWithoutChanges() {
+    eventCounterService.increment(1L, EventCounter.RSVP_COUNT);
+    eventCounterService.decrement(1L, EventCounter.RSVP_COUNT);
+
+    eventCounterService.flush();
+
+    verify(eventRepository, never()).addToCounter(any(), anyMap());
+  }
+
+  @Test
+  void failedFlushKeepsDeltasForRetry() {
+    doThrow(new DataAccessResourceFailureException("down"))
+        .when(eventRepository).addToCounter(eq(EventCounter.RSVP_COUNT), anyMap());
+    eventCounterService.add(1L, EventCounter.RSVP_COUNT, 2);
+
+    eventCounterService.flush();
+
+    assertEquals(2, eventCounterService.pending(1L, EventCounter.RSVP_COUNT));
+    verify(eventPublisher, times(1)).publishEvent(any(EventCountChangedEvent.class));
+  }
+
+  @Test
+  void reconcileFlushesBeforeRecomputing() {
+    eventCounterService.increment(1L, EventCounter.RSVP_COUNT);
+
+    eventCounterService.reconcile();
+
+    var inOrder = inOrder(eventRepository);
+    inOrder.verify(eventRepository).addToCounter(EventCounter.RSVP_COUNT, Map.of(1L, 1L));
+    inOrder.verify(eventRepository).recomputeCounters();
+  }
+}
@@ -0,0 +1,94 @@
+package com.eventease.eventease_service.unit_test.service;
+
+import com.eventease.eventease_service.repository.EventExportRepository;
+import com.eventease.eventease_service.service.EventExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the EventExportService class.
+ */
+@ActiveProfiles("test")
+public class EventExportServiceUnitTest {
+
+  @Mock
+  private EventExportRepository eventExportRepository;
+
+  private EventExportService eventExportService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    eventExportService = new EventExportService(eventExportRepository);
+  }
+
+  @Test
+  void attendeeColumns_DefaultsToAllColumns() {
+    assertEquals(List.copyOf(EventExportRepository.ATTENDEE_COLUMNS.keySet()), eventExportService.attendeeColumns(null));
+    assertEquals(List.of("email", "status"), eventExportService.attendeeColumns("email, status,email"));
+  }
+
+  @Test
+  void taskColumns_RejectsUnknownColumn() {
+    assertThrows(IllegalArgumentException.class, () -> eventExportService.taskColumns("name,password"));
+  }
+
+  @Test
+  void exportAttendees_WritesCsvRows() throws Exception {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getString(1)).thenReturn("7", "8");
+    when(rs.getString(2)).thenReturn("Ada", "Lovelace, \"Countess\"");
+    when(rs.getString(3)).thenReturn("CheckedIn", null);
+    doAnswer(invocation -> {
+      RowCallbackHandler handler = invocation.getArgument(3);
+      handler.processRow(rs);
+      handler.processRow(rs);
+      return null;
+    }).when(eventExportRepository).streamAttendees(eq(3L), eq(false), any(), any());
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    long rows = eventExportService.exportAttendees(3L, false, List.of("userId", "firstName", "status"), out);
+
+    assertEquals(2, rows);
+    assertEquals("userId,firstName,status\r\n7,Ada,CheckedIn\r\n8,\"Lovelace, \"\"Countess\"\"\",\r\n",
+        out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void exportTasks_ClientDisconnectStopsExport() throws Exception {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getString(anyInt())).thenReturn("x".repeat(1024));
+    doAnswer(invocation -> {
+      RowCallbackHandler handler = invocation.getArgument(3);
+      for (int i = 0; i < 1000; i++) {
+        handler.processRow(rs);
+      }
+      return null;
+    }).when(eventExportRepository).streamTasks(eq(3L), eq(true), any(), any());
+    OutputStream closed = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("Broken pipe");
+      }
+    };
+
+    assertThrows(IOException.class, () -> eventExportService.exportTasks(3L, true, List.of("name"), closed));
+  }
+}
@@ -0,0 +1,151 @@
+package com.eventease.eventease_service.unit_test.service;
+
+import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.exception.EventSeriesNotExistException;
+import com.eventease.eventease_service.model.DomainEventType;
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.EventSeries;
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.repository.EventRepository;
+import com.eventease.eventease_service.repository.EventSeriesRepository;
+import com.eventease.eventease_service.service.DomainEventBus;
+import com.eventease.eventease_service.service.EventSeriesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the EventSeriesService class.
+ */
+@ActiveProfiles("test")
+public class EventSeriesServiceUnitTest {
+
+  private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+  @Mock
+  private EventSeriesRepository eventSeriesRepository;
+
+  @Mock
+  private EventRepository eventRepository;
+
+  @Mock
+  private DomainEventBus domainEventBus;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private EventSeriesService eventSeriesService;
+  private EventSeries series;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    eventSeriesService = new EventSeriesService(eventSeriesRepository, eventRepository, domainEventBus,
+        transactionManager, 3);
+    series = new EventSeries();
+    series.setId(1L);
+    series.setName("Weekly meetup");
+    series.setHost(new User());
+    series.setFrequency(EventSeries.Frequency.WEEKLY);
+    series.setStartDate(START);
+    when(eventSeriesRepository.findById(1L)).thenReturn(series);
+  }
+
+  @Test
+  void add_RejectsInvalidRecurrence() {
+    series.setRepeatInterval(0);
+
+    assertThrows(IllegalArgumentException.class, () -> eventSeriesService.add(series));
+    verify(eventSeriesRepository, never()).save(any());
+  }
+
+  @Test
+  void expandOccurrences_SkipsStoredOccurrencesAndCapsPerSeries() {
+    LocalDate end = START.plusWeeks(10);
+    Event stored = series.occurrenceOn(START.plusWeeks(1));
+    when(eventSeriesRepository.findActiveBetween(START, end)).thenReturn(List.of(series));
+
+    List<Event> occurrences = eventSeriesService.expandOccurrences(START, end, List.of(stored));
+
+    assertEquals(List.of(START, START.plusWeeks(2)), occurrences.stream().map(Event::getDate).toList());
+    assertTrue(occurrences.stream().allMatch(event -> event.getId() == null && event.getSeriesId() == 1L));
+  }
+
+  @Test
+  void findOccurrence_ReturnsStoredEventOrExpandedOne() {
+    Event stored = series.occurrenceOn(START);
+    stored.setId(10L);
+    when(eventRepository.findBySeriesIdAndDate(1L, START)).thenReturn(stored);
+
+    assertSame(stored, eventSeriesService.findOccurrence(1L, START));
+    assertNull(eventSeriesService.findOccurrence(1L, START.plusWeeks(1)).getId());
+  }
+
+  @Test
+  void findOccurrence_DateOutsideSeries() {
+    assertThrows(EventNotExistException.class, () -> eventSeriesService.findOccurrence(1L, START.plusDays(1)));
+    assertThrows(EventSeriesNotExistException.class, () -> eventSeriesService.findOccurrence(2L, START));
+  }
+
+  @Test
+  void materializeOccurrence_SavesOnce() {
+    when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> {
+      Event event = invocation.getArgument(0);
+      event.setId(10L);
+      return event;
+    });
+
+    Event event = eventSeriesService.materializeOccurrence(1L, START);
+
+    assertEquals(10L, event.getId());
+    assertEquals(1L, event.getSeriesId());
+    InOrder inOrder = inOrder(transactionManager, eventRepository, domainEventBus);
+    inOrder.verify(transactionManager).getTransaction(argThat(definition ->
+        definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    inOrder.verify(eventRepository).save(any(Event.class));
+    inOrder.verify(domainEventBus).publish(eq(DomainEventType.EVENT_CREATED), eq(10L), anyMap());
+    inOrder.verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void materializeOccurrence_FailedPublishRollsBackInsert() {
+    when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    doThrow(new IllegalStateException("outbox unavailable")).when(domainEventBus).publish(any(), any(), anyMap());
+
+    assertThrows(IllegalStateException.class, () -> eventSeriesService.materializeOccurrence(1L, START));
+
+    verify(transactionManager).rollback(any());
+    verify(transactionManager, never()).commit(any());
+  }
+
+  @Test
+  void materializeOccurrence_LostRaceReturnsWinner() {
+    Event winner = series.occurrenceOn(START);
+    winner.setId(11L);
+    when(eventRepository.findBySeriesIdAndDate(1L, START)).thenReturn(null, winner);
+    when(eventRepository.save(any(Event.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+    assertSame(winner, eventSeriesService.materializeOccurrence(1L, START));
+    verifyNoInteractions(domainEventBus);
+    // The insert's transaction is rolled back, and the winner is read in a transaction of its own
+    verify(transactionManager).rollback(any());
+    verify(transactionManager, times(2)).getTransaction(any());
+  }
+}
@@ -1,16 +1,23 @@
 package com.eventease.eventease_service.unit_test.service;
 
 import com.eventease.eventease_service.exception.EventNotExistException;
+import com.eventease.eventease_service.exception.GCSUploadException;
 import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.model.EventImage;
 import com.eventease.eventease_service.repository.EventRepository;
+import com.eventease.eventease_service.service.ConflictRetryExecutor;
+import com.eventease.eventease_service.service.DomainEventBus;
+import com.eventease.eventease_service.service.EventArchiveService;
+import com.eventease.eventease_service.service.ResourceVersionService;
 import com.eventease.eventease_service.service.EventService;
+import com.eventease.eventease_service.service.EventSeriesService;
 import com.eventease.eventease_service.service.ImageStorageService;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -20,9 +27,13 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 import org.springframework.web.multipart.MultipartFile;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,6 +52,27 @@ public class EventServiceUnitTest {
   @Mock
   private ImageStorageService imageStorageService;
 
+  @Mock
+  private ConflictRetryExecutor conflictRetryExecutor;
+
+  @Mock
+  private DomainEventBus domainEventBus;
+
+  @Mock
+  private ResourceVersionService resourceVersionService;
+
+  @Mock
+  private Executor outboundIoExecutor;
+
+  @Mock
+  private EventArchiveService eventArchiveService;
+
+  @Mock
+  private EventSeriesService eventSeriesService;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
   @InjectMocks
   private EventService eventService;
 
@@ -53,6 +85,17 @@ public class EventServiceUnitTest {
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArgument(1)).run();
+      return null;
+    }).when(conflictRetryExecutor).run(anyString(), any());
+    doAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get())
+        .when(conflictRetryExecutor).execute(anyString(), any());
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArgument(0)).run();
+      return null;
+    }).when(outboundIoExecutor).execute(any(Runnable.class));
+    when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
     testEvent = new Event();
     testEvent.setId(1L);
     testEvent.setName("Test Event");
@@ -81,6 +124,18 @@ public class EventServiceUnitTest {
     verify(eventRepository, times(1)).save(testEvent);
   }
 
+  /**
+   * Test the add method of EventService when an image upload fails.
+   * Verifies that the upload error surfaces unwrapped and the event is not saved.
+   */
+  @Test
+  void testAddEventUploadFailure() {
+    when(imageStorageService.save(testImage)).thenThrow(new GCSUploadException("Failed to upload file to GCS"));
+
+    assertThrows(GCSUploadException.class, () -> eventService.add(testEvent, new MultipartFile[]{testImage}));
+    verify(eventRepository, never()).save(any(Event.class));
+  }
+
   /**
    * Test the findById method of EventService when the event exists.
    * Verifies that the correct event is returned.
@@ -117,6 +172,22 @@ public class EventServiceUnitTest {
     assertEquals(expectedEvents, result);
   }
 
+  /**
+   * Test that findByDateBetween appends the archived events of the range to the current ones.
+   */
+  @Test
+  void testFindByDateBetweenIncludesArchivedEvents() {
+    LocalDate startDate = LocalDate.now().minusYears(3);
+    LocalDate endDate = LocalDate.now();
+    Event archivedEvent = new Event();
+    archivedEvent.setId(2L);
+    when(eventRepository.findEventsByDateRange(startDate, endDate)).thenReturn(Arrays.asList(testEvent));
+    when(eventArchiveService.findArchivedEvents(startDate, endDate)).thenReturn(Arrays.asList(archivedEvent));
+
+    List<Event> result = eventService.findByDateBetween(startDate, endDate);
+    assertEquals(Arrays.asList(testEvent, archivedEvent), result);
+  }
+
   /**
    * Test the updateEvent method of EventService with new data and images.
    * Verifies that the event is updated correctly and old images are cleared.
@@ -230,6 +301,20 @@ public class EventServiceUnitTest {
     verify(eventRepository, times(1)).findAll();
   }
 
+  @Test
+  void testAddEventRollsBackSaveWhenPublishFails() {
+    doThrow(new IllegalStateException("outbox unavailable")).when(domainEventBus).publish(any(), any(), any());
+
+    assertThrows(IllegalStateException.class, () -> eventService.add(testEvent, new MultipartFile[]{}));
+
+    InOrder inOrder = inOrder(transactionManager, eventRepository, domainEventBus);
+    inOrder.verify(transactionManager).getTransaction(any());
+    inOrder.verify(eventRepository).save(testEvent);
+    inOrder.verify(domainEventBus).publish(any(), any(), any());
+    inOrder.verify(transactionManager).rollback(any());
+    verify(transactionManager, never()).commit(any());
+  }
+
   @Test
   void testAddEventWithoutImages() {
     eventService.add(testEvent, new MultipartFile[]{});
@@ -1,24 +1,37 @@
 package com.eventease.eventease_service.unit_test.service;
 
 import com.eventease.eventease_service.exception.*;
+import com.eventease.eventease_service.model.AttendeeSummary;
 import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.EventCounter;
 import com.eventease.eventease_service.model.RSVP;
 import com.eventease.eventease_service.model.User;
 import com.eventease.eventease_service.repository.RSVPRepository;
+import com.eventease.eventease_service.service.ConflictRetryExecutor;
+import com.eventease.eventease_service.service.DomainEventBus;
+import com.eventease.eventease_service.service.EventArchiveService;
+import com.eventease.eventease_service.service.ResourceVersionService;
+import com.eventease.eventease_service.service.EventCounterService;
 import com.eventease.eventease_service.service.EventService;
 import com.eventease.eventease_service.service.RSVPService;
 import com.eventease.eventease_service.service.UserService;
+import com.eventease.eventease_service.service.WaitlistPromotedEvent;
+import com.eventease.eventease_service.service.WaitlistService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,12 +48,41 @@ public class RSVPServiceUnitTest {
   @Mock
   private EventService eventService;
 
+  @Mock
+  private EventCounterService eventCounterService;
+
+  @Mock
+  private WaitlistService waitlistService;
+
+  @Mock
+  private ConflictRetryExecutor conflictRetryExecutor;
+
+  @Mock
+  private DomainEventBus domainEventBus;
+
+  @Mock
+  private ResourceVersionService resourceVersionService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private EventArchiveService eventArchiveService;
+
   @InjectMocks
   private RSVPService rsvpService;
 
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArgument(1)).run();
+      return null;
+    }).when(conflictRetryExecutor).run(anyString(), any());
+    doAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get())
+        .when(conflictRetryExecutor).execute(anyString(), any());
+    when(eventService.reserveSeat(any())).thenReturn(true);
+    when(eventService.hasFreeSeat(any())).thenReturn(true);
   }
 
   @Test
@@ -63,6 +105,7 @@ public class RSVPServiceUnitTest {
     assertEquals(event, rsvp.getEvent());
     assertEquals(user, rsvp.getUser());
     verify(rsvpRepository).save(rsvp);
+    verify(eventCounterService).increment(event.getId(), EventCounter.RSVP_COUNT);
   }
 
   @Test
@@ -93,8 +136,29 @@ public class RSVPServiceUnitTest {
 
     when(eventService.findById(1L)).thenReturn(event);
     when(userService.findUserById(1L)).thenReturn(user);
+    when(eventService.reserveSeat(any())).thenReturn(false);
 
     assertThrows(EventFullException.class, () -> rsvpService.createRSVP(eventId, userId, rsvp));
+    verify(rsvpRepository, never()).save(any(RSVP.class));
+  }
+
+  @Test
+  void createRSVP_LocalCountsDoNotRefuseFreeSeat() {
+    // This instance's counts say full, but a seat was released elsewhere and is free in the database
+    Event event = new Event();
+    event.setId(1L);
+    event.setCapacity(2);
+    event.setRsvpCount(1);
+    User user = new User();
+    RSVP rsvp = new RSVP();
+
+    when(eventService.findById(1L)).thenReturn(event);
+    when(userService.findUserById(1L)).thenReturn(user);
+    when(eventCounterService.pending(1L, EventCounter.RSVP_COUNT)).thenReturn(1L);
+    when(rsvpRepository.save(rsvp)).thenReturn(rsvp);
+
+    assertSame(rsvp, rsvpService.createRSVP("1", "1", rsvp));
+    verify(eventService).reserveSeat(1L);
   }
 
   @Test
@@ -130,6 +194,27 @@ public class RSVPServiceUnitTest {
     verify(rsvpRepository).findByEvent(event);
   }
 
+  @Test
+  void getAttendeesByEvent_ArchivedEvent() {
+    List<RSVP> archivedRSVPs = Arrays.asList(new RSVP());
+
+    when(eventService.findById(1L)).thenThrow(new EventNotExistException("Event not found"));
+    when(eventService.findArchivedById(1L)).thenReturn(new Event());
+    when(eventArchiveService.findArchivedRsvpsByEvent(1L)).thenReturn(archivedRSVPs);
+
+    List<RSVP> result = rsvpService.getAttendeesByEvent("1");
+
+    assertEquals(archivedRSVPs, result);
+    verify(rsvpRepository, never()).findByEvent(any());
+  }
+
+  @Test
+  void getAttendeesByEvent_EventNotFound() {
+    when(eventService.findById(1L)).thenThrow(new EventNotExistException("Event not found"));
+
+    assertThrows(EventNotExistException.class, () -> rsvpService.getAttendeesByEvent("1"));
+  }
+
   @Test
   void cancelRSVP_Success() {
     String eventId = "1";
@@ -144,6 +229,59 @@ public class RSVPServiceUnitTest {
 
     assertDoesNotThrow(() -> rsvpService.cancelRSVP(eventId, userId));
     verify(rsvpRepository).delete(rsvp);
+    verify(eventCounterService).decrement(event.getId(), EventCounter.RSVP_COUNT);
+  }
+
+  @Test
+  void createRSVP_NoSeatLeftAcrossInstances() {
+    Event event = new Event();
+    event.setId(1L);
+    event.setCapacity(10);
+    User user = new User();
+
+    when(eventService.findById(1L)).thenReturn(event);
+    when(userService.findUserById(1L)).thenReturn(user);
+    when(rsvpRepository.findByUserAndEvent(user, event)).thenReturn(Optional.empty());
+    when(eventService.reserveSeat(1L)).thenReturn(false);
+
+    assertThrows(EventFullException.class, () -> rsvpService.createRSVP("1", "1", new RSVP()));
+    verify(rsvpRepository, never()).save(any());
+    verify(eventCounterService, never()).increment(any(), any());
+  }
+
+  @Test
+  void cancelRSVP_ReleasesSeatBeforeDeleting() {
+    Event event = new Event();
+    event.setId(1L);
+    User user = new User();
+    RSVP rsvp = new RSVP();
+
+    when(eventService.findById(1L)).thenReturn(event);
+    when(userService.findUserById(1L)).thenReturn(user);
+    when(rsvpRepository.findByUserAndEvent(user, event)).thenReturn(Optional.of(rsvp));
+
+    rsvpService.cancelRSVP("1", "1");
+
+    InOrder inOrder = inOrder(eventService, rsvpRepository);
+    inOrder.verify(eventService).releaseSeat(1L);
+    inOrder.verify(rsvpRepository).delete(rsvp);
+  }
+
+  @Test
+  void joinWaitlist_FullOnAnotherInstance() {
+    Event event = new Event();
+    event.setId(1L);
+    event.setCapacity(10);
+    User user = new User();
+
+    when(eventService.findById(1L)).thenReturn(event);
+    when(userService.findUserById(1L)).thenReturn(user);
+    when(rsvpRepository.findByUserAndEvent(user, event)).thenReturn(Optional.empty());
+    when(eventService.hasFreeSeat(1L)).thenReturn(false);
+
+    rsvpService.joinWaitlist("1", "1");
+
+    verify(waitlistService).join(event, user);
   }
 
   @Test
@@ -219,9 +357,8 @@ public class RSVPServiceUnitTest {
     assertDoesNotThrow(() -> rsvpService.checkInUser(eventId, userId));
 
     assertEquals("CheckedIn", rsvp.getStatus());
-    assertEquals(1, event.getAttendanceCount());
     verify(rsvpRepository).save(rsvp);
-    verify(eventService).saveEvent(event);
+    verify(eventCounterService).increment(event.getId(), EventCounter.ATTENDANCE_COUNT);
   }
 
 
@@ -300,6 +437,22 @@ public class RSVPServiceUnitTest {
     verify(rsvpRepository).findAllByUserOrderByEventDate(user);
   }
 
+  @Test
+  void getAllRSVPsByUser_ArchivedRSVPsFirst() {
+    User user = new User();
+    user.setId(1L);
+    RSVP archived = new RSVP();
+    RSVP current = new RSVP();
+
+    when(userService.findUserById(1L)).thenReturn(user);
+    when(eventArchiveService.findArchivedRsvpsByUser(1L, null)).thenReturn(Arrays.asList(archived));
+    when(rsvpRepository.findAllByUserOrderByEventDate(user)).thenReturn(Arrays.asList(current));
+
+    List<RSVP> result = rsvpService.getAllRSVPsByUser("1");
+
+    assertEquals(Arrays.asList(archived, current), result);
+  }
+
 
   @Test
   void getAllRSVPsByUser_UserNotFound() {
@@ -336,4 +489,136 @@ public class RSVPServiceUnitTest {
     assertThrows(UserNotExistException.class, () -> rsvpService.getCheckedInRSVPsByUser(userId));
   }
 
-}
\ No newline at end of file
+
+  @Test
+  void cancelRSVP_PromotesWaitlistHead() {
+    Event event = new Event();
+    event.setId(1L);
+    event.setCapacity(1);
+    event.setRsvpCount(1);
+    User user = new User();
+    user.setId(1L);
+    User waiting = new User();
+    waiting.setId(2L);
+    RSVP rsvp = new RSVP();
+
+    when(eventService.findById(1L)).thenReturn(event);
+    when(userService.findUserById(1L)).thenReturn(user);
+    when(userService.findUserById(2L)).thenReturn(waiting);
+    when(rsvpRepository.findByUserAndEvent(user, event)).thenReturn(Optional.of(rsvp));
+    when(rsvpRepository.findByUserAndEvent(waiting, event)).thenReturn(Optional.empty());
+    when(waitlistService.pollHead(1L)).thenReturn(Optional.of(new WaitlistService.Ticket(2L, 1L)));
+
+    rsvpService.cancelRSVP("1", "1");
+
+    verify(rsvpRepository).delete(rsvp);
+    verify(rsvpRepository).save(argThat(saved -> saved.getUser() == waiting && "ATTENDING".equals(saved.getStatus())));
+    verify(eventPublisher).publishEvent(new WaitlistPromotedEvent(1L, 2L));
+  }
+
+  @Test
+  void cancelRSVP_NoPromotionWithoutFreeSeat() {
+    // The freed seat was already taken by an RSVP on another instance
+    Event event = new Event();
+    event.setId(1L);
+    event.setCapacity(1);
+    User user = new User();
+    user.setId(1L);
+    RSVP rsvp = new RSVP();
+
+    when(eventService.findById(1L)).thenReturn(event);
+    when(userService.findUserById(1L)).thenReturn(user);
+    when(rsvpRepository.findByUserAndEvent(user, event)).thenReturn(Optional.of(rsvp));
+    when(eventService.hasFreeSeat(1L)).thenReturn(false);
+
+    rsvpService.cancelRSVP("1", "1");
+
+    verify(rsvpRepository).delete(rsvp);
+    verify(waitlistService, never()).pollHead(anyLong());
+  }
+
+  @Test
+  void cancelRSVP_SkipsWaitingUserWithOverlap() {
+    Event event = new Event();
+    event.setId(1L);
+    event.setCapacity(1);
+    User user = new User();
+    user.setId(1L);
+    User waiting = new User();
+    waiting.setId(2L);
+
+    when(eventService.findById(1L)).thenReturn(event);
+    when(userService.findUserById(1L)).thenReturn(user);
+    when(userService.findUserById(2L)).thenReturn(waiting);
+    when(rsvpRepository.findByUserAndEvent(user, event)).thenReturn(Optional.of(new RSVP()));
+    when(rsvpRepository.findByUserAndEvent(waiting, event)).thenReturn(Optional.empty());
+    when(rsvpRepository.findOverlappingRSVPs(any(), any(), any())).thenReturn(List.of(new RSVP()));
+    when(waitlistService.pollHead(1L))
+        .thenReturn(Optional.of(new WaitlistService.Ticket(2L, 1L)))
+        .thenReturn(Optional.empty());
+
+    rsvpService.cancelRSVP("1", "1");
+
+    verify(waitlistService, times(2)).pollHead(1L);
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  void joinWaitlist_EventNotFull() {
+    // This instance's counts say full, but the shared seat count has a seat left
+    Event event = new Event();
+    event.setCapacity(10);
+    event.setRsvpCount(10);
+    User user = new User();
+
+    when(eventService.findById(1L)).thenReturn(event);
+    when(userService.findUserById(1L)).thenReturn(user);
+    when(rsvpRepository.findByUserAndEvent(user, event)).thenReturn(Optional.empty());
+
+    assertThrows(IllegalStateException.class, () -> rsvpService.joinWaitlist("1", "1"));
+    verifyNoInteractions(waitlistService);
+  }
+
+  @Test
+  void joinWaitlist_Success() {
+    Event event = new Event();
+    event.setCapacity(1);
+    event.setRsvpCount(1);
+    User user = new User();
+
+    when(eventService.findById(1L)).thenReturn(event);
+    when(userService.findUserById(1L)).thenReturn(user);
+    when(rsvpRepository.findByUserAndEvent(user, event)).thenReturn(Optional.empty());
+    when(eventService.hasFreeSeat(any())).thenReturn(false);
+    when(waitlistService.join(event, user)).thenReturn(4L);
+
+    assertEquals(4L, rsvpService.joinWaitlist("1", "1"));
+  }
+
+  @Test
+  void getWaitlistPosition_NotWaiting() {
+    when(waitlistService.position(1L, 1L)).thenReturn(Optional.empty());
+
+    assertThrows(WaitlistEntryNotExistException.class, () -> rsvpService.getWaitlistPosition("1", "1"));
+  }
+
+  @Test
+  void getAttendeeSummaries_ReadsKeysetPage() {
+    AttendeeSummary attendee = new AttendeeSummary(9L, "Ada", "Lovelace", "ada@example.com", "ATTENDING",
+        "Guest", null, null);
+    when(rsvpRepository.findSummaryPageByEventId(1L, 5L, "ATTENDING", PageRequest.of(0, 50)))
+        .thenReturn(List.of(attendee));
+
+    assertEquals(List.of(attendee), rsvpService.getAttendeeSummaries(1L, false, "ATTENDING", 5L, 50));
+  }
+
+  @Test
+  void getAttendeeSummaries_ReadsArchivedEventFromArchive() {
+    AttendeeSummary attendee = new AttendeeSummary(9L, "Ada", "Lovelace", "ada@example.com", "ATTENDING",
+        "Guest", null, null);
+    when(eventArchiveService.findArchivedAttendeeSummaries(1L, "ATTENDING", 5L, 50)).thenReturn(List.of(attendee));
+
+    assertEquals(List.of(attendee), rsvpService.getAttendeeSummaries(1L, true, "ATTENDING", 5L, 50));
+    verifyNoInteractions(rsvpRepository);
+  }
+}
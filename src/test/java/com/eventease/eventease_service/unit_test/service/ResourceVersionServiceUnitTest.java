@@ -0,0 +1,137 @@
+package com.eventease.eventease_service.unit_test.service;
+
+import com.eventease.eventease_service.repository.EventRepository;
+import com.eventease.eventease_service.repository.RSVPRepository;
+import com.eventease.eventease_service.repository.TaskRepository;
+import com.eventease.eventease_service.repository.UserRepository;
+import com.eventease.eventease_service.service.ResourceValidator;
+import com.eventease.eventease_service.service.ResourceVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the ResourceVersionService class.
+ */
+@ActiveProfiles("test")
+public class ResourceVersionServiceUnitTest {
+
+  @Mock
+  private EventRepository eventRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private TaskRepository taskRepository;
+
+  @Mock
+  private RSVPRepository rsvpRepository;
+
+  private ResourceVersionService resourceVersionService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    resourceVersionService = new ResourceVersionService(eventRepository, userRepository, taskRepository,
+        rsvpRepository, 60000);
+  }
+
+  @Test
+  void eventValidator_CachedUntilEvicted() {
+    when(eventRepository.findValidatorById(1L))
+        .thenReturn(List.<Object[]>of(new Object[]{2L, 5, 1, null}))
+        .thenReturn(List.<Object[]>of(new Object[]{3L, 5, 1, null}));
+
+    ResourceValidator first = resourceVersionService.eventValidator(1L);
+    ResourceValidator cached = resourceVersionService.eventValidator(1L);
+    resourceVersionService.evictEvent(1L);
+    ResourceValidator reloaded = resourceVersionService.eventValidator(1L);
+
+    assertEquals("W/\"event-1-2-5-1-0\"", first.etag());
+    assertSame(first, cached);
+    assertEquals("W/\"event-1-3-5-1-0\"", reloaded.etag());
+    verify(eventRepository, times(2)).findValidatorById(1L);
+  }
+
+  @Test
+  void eventValidator_UnknownEventIsNotCached() {
+    when(eventRepository.findValidatorById(2L)).thenReturn(Collections.emptyList());
+
+    assertNull(resourceVersionService.eventValidator(2L));
+    assertNull(resourceVersionService.eventValidator(2L));
+    verify(eventRepository, times(2)).findValidatorById(2L);
+  }
+
+  @Test
+  void userValidator_UsesUpdateTimeAsLastModified() {
+    when(userRepository.findValidatorById(1L))
+        .thenReturn(List.<Object[]>of(new Object[]{new Timestamp(1000L), new Timestamp(5000L)}));
+
+    ResourceValidator validator = resourceVersionService.userValidator(1L);
+
+    assertEquals("W/\"user-1-1000-5000\"", validator.etag());
+    assertEquals(5000L, validator.lastModified());
+  }
+
+  @Test
+  void validatorProbedDuringEvictionIsNotCached() {
+    when(taskRepository.findValidatorById(1L)).thenAnswer(invocation -> {
+      resourceVersionService.evictTask(1L);
+      return List.<Object[]>of(new Object[]{1L, 4L});
+    });
+
+    resourceVersionService.taskValidator(1L);
+    resourceVersionService.taskValidator(1L);
+
+    verify(taskRepository, times(2)).findValidatorById(1L);
+  }
+
+  @Test
+  void eventRsvpsValidator_ChangesWithEventAndEvictedByRsvpWrites() {
+    when(eventRepository.findValidatorById(1L)).thenReturn(List.<Object[]>of(new Object[]{2L, 5, 1, null}));
+    when(rsvpRepository.findValidatorByEventId(1L))
+        .thenReturn(List.<Object[]>of(new Object[]{5L, null, 0L, null}))
+        .thenReturn(List.<Object[]>of(new Object[]{6L, null, 0L, null}));
+
+    ResourceValidator before = resourceVersionService.eventRsvpsValidator(1L);
+    resourceVersionService.evictRsvps(1L, 7L);
+    ResourceValidator after = resourceVersionService.eventRsvpsValidator(1L);
+
+    assertNotEquals(before.etag(), after.etag());
+    assertTrue(after.etag().contains("event-1-2-5-1-0"));
+    verify(rsvpRepository, times(2)).findValidatorByEventId(1L);
+  }
+
+  @Test
+  void attendeeCount_CachedPerStatusUntilRsvpWrite() {
+    when(rsvpRepository.countByEventIdAndStatus(1L, null)).thenReturn(20L, 21L);
+    when(rsvpRepository.countByEventIdAndStatus(1L, "CheckedIn")).thenReturn(4L);
+
+    assertEquals(20L, resourceVersionService.attendeeCount(1L, null));
+    assertEquals(20L, resourceVersionService.attendeeCount(1L, null));
+    assertEquals(4L, resourceVersionService.attendeeCount(1L, "CheckedIn"));
+    resourceVersionService.evictRsvps(1L, 7L);
+    assertEquals(21L, resourceVersionService.attendeeCount(1L, null));
+
+    verify(rsvpRepository, times(2)).countByEventIdAndStatus(1L, null);
+    verify(rsvpRepository, times(1)).countByEventIdAndStatus(1L, "CheckedIn");
+  }
+
+  @Test
+  void userRsvpsValidator_UnknownUserReturnsNull() {
+    when(userRepository.findValidatorById(3L)).thenReturn(Collections.emptyList());
+
+    assertNull(resourceVersionService.userRsvpsValidator(3L));
+    verifyNoInteractions(rsvpRepository);
+  }
+}
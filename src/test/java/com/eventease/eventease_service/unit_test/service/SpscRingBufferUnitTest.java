@@ -0,0 +1,65 @@
+package com.eventease.eventease_service.unit_test.service;
+
+import com.eventease.eventease_service.service.SpscRingBuffer;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SpscRingBuffer class.
+ */
+@ActiveProfiles("test")
+public class SpscRingBufferUnitTest {
+
+  @Test
+  void offer_RejectsWhenFull() {
+    SpscRingBuffer<Integer> ringBuffer = new SpscRingBuffer<>(4);
+    for (int i = 0; i < 4; i++) {
+      assertTrue(ringBuffer.offer(i));
+    }
+
+    assertFalse(ringBuffer.offer(4));
+    assertEquals(0, ringBuffer.remainingCapacity());
+
+    List<Integer> drained = new ArrayList<>();
+    assertEquals(3, ringBuffer.drainTo(drained, 3));
+    assertEquals(List.of(0, 1, 2), drained);
+    assertTrue(ringBuffer.offer(4));
+    assertEquals(2, ringBuffer.size());
+  }
+
+  @Test
+  void constructor_RejectsCapacityThatIsNotPowerOfTwo() {
+    assertThrows(IllegalArgumentException.class, () -> new SpscRingBuffer<>(6));
+  }
+
+  @Test
+  void drainTo_KeepsOrderAcrossThreads() throws InterruptedException {
+    int count = 1_000_000;
+    SpscRingBuffer<Integer> ringBuffer = new SpscRingBuffer<>(1024);
+    Thread producer = new Thread(() -> {
+      for (int i = 0; i < count; i++) {
+        while (!ringBuffer.offer(i)) {
+          Thread.onSpinWait();
+        }
+      }
+    });
+    producer.start();
+
+    List<Integer> batch = new ArrayList<>(256);
+    int expected = 0;
+    while (expected < count) {
+      batch.clear();
+      ringBuffer.drainTo(batch, 256);
+      for (int value : batch) {
+        assertEquals(expected++, value);
+      }
+    }
+    producer.join();
+    assertEquals(0, ringBuffer.size());
+  }
+}
@@ -0,0 +1,80 @@
+package com.eventease.eventease_service.unit_test.service;
+
+import com.eventease.eventease_service.model.Task;
+import com.eventease.eventease_service.model.TaskBoard;
+import com.eventease.eventease_service.model.TaskBoardItem;
+import com.eventease.eventease_service.repository.TaskRepository;
+import com.eventease.eventease_service.service.TaskBoardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the TaskBoardService class.
+ */
+@ActiveProfiles("test")
+public class TaskBoardServiceUnitTest {
+
+  @Mock
+  private TaskRepository taskRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private TaskBoardService taskBoardService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    taskBoardService = new TaskBoardService(taskRepository, transactionManager, 60000);
+
+    when(taskRepository.findBoardItemsByEventId(1L)).thenReturn(List.of(
+        new TaskBoardItem(1L, "Book venue", Task.TaskStatus.COMPLETED, 2L, "Ada", "Lovelace"),
+        new TaskBoardItem(2L, "Order food", Task.TaskStatus.PENDING, 3L, "Grace", null)));
+    when(taskRepository.countByStatusForEvent(1L)).thenReturn(List.of(
+        new Object[] {Task.TaskStatus.COMPLETED, 1L},
+        new Object[] {Task.TaskStatus.PENDING, 1L}));
+  }
+
+  @Test
+  void getBoard_ProjectsTasksAndCountsEveryStatus() {
+    TaskBoard board = taskBoardService.getBoard(1L);
+
+    assertEquals(1L, board.eventId());
+    assertEquals("Ada Lovelace", board.tasks().get(0).assigneeName());
+    assertEquals("Grace", board.tasks().get(1).assigneeName());
+    assertEquals(1L, board.counts().get(Task.TaskStatus.COMPLETED));
+    assertEquals(1L, board.counts().get(Task.TaskStatus.PENDING));
+    assertEquals(0L, board.counts().get(Task.TaskStatus.IN_PROGRESS));
+    assertEquals(0L, board.counts().get(Task.TaskStatus.CANCELLED));
+  }
+
+  @Test
+  void getBoard_ServesRepeatedReadsFromCache() {
+    TaskBoard first = taskBoardService.getBoard(1L);
+    TaskBoard second = taskBoardService.getBoard(1L);
+
+    assertSame(first, second);
+    verify(taskRepository, times(1)).findBoardItemsByEventId(1L);
+    verify(taskRepository, times(1)).countByStatusForEvent(1L);
+  }
+
+  @Test
+  void evict_ReloadsBoardOnNextRead() {
+    taskBoardService.getBoard(1L);
+    taskBoardService.evict(1L);
+    taskBoardService.getBoard(1L);
+
+    verify(taskRepository, times(2)).findBoardItemsByEventId(1L);
+  }
+}
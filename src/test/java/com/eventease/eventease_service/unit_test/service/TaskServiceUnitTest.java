@@ -1,12 +1,19 @@
 package com.eventease.eventease_service.unit_test.service;
 
+import com.eventease.eventease_service.exception.EventNotExistException;
 import com.eventease.eventease_service.exception.TaskNotExistException;
 import com.eventease.eventease_service.exception.UserNotExistException;
 import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.model.Task;
+import com.eventease.eventease_service.model.TaskBatchResult;
 import com.eventease.eventease_service.model.User;
 import com.eventease.eventease_service.repository.TaskRepository;
+import com.eventease.eventease_service.service.ConflictRetryExecutor;
+import com.eventease.eventease_service.service.DomainEventBus;
+import com.eventease.eventease_service.service.EventArchiveService;
+import com.eventease.eventease_service.service.ResourceVersionService;
 import com.eventease.eventease_service.service.EventService;
+import com.eventease.eventease_service.service.TaskBoardService;
 import com.eventease.eventease_service.service.TaskService;
 import com.eventease.eventease_service.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,8 +24,13 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.test.context.ActiveProfiles;
 
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,6 +54,21 @@ public class TaskServiceUnitTest {
     @Mock
     private EventService eventService;
 
+    @Mock
+    private ConflictRetryExecutor conflictRetryExecutor;
+
+    @Mock
+    private TaskBoardService taskBoardService;
+
+    @Mock
+    private DomainEventBus domainEventBus;
+
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
+    @Mock
+    private EventArchiveService eventArchiveService;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -52,6 +79,12 @@ public class TaskServiceUnitTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        doAnswer(invocation -> {
+          ((Runnable) invocation.getArgument(1)).run();
+          return null;
+        }).when(conflictRetryExecutor).run(anyString(), any());
+        doAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get())
+            .when(conflictRetryExecutor).execute(anyString(), any());
         event = new Event();
         event.setId(1L);
 
@@ -89,6 +122,28 @@ public class TaskServiceUnitTest {
         assertEquals(task, result.get(0));
     }
 
+    @Test
+    void testGetTasksByEvent_LiveEventWithoutTasksSkipsArchive() {
+        when(taskRepository.findByEventId(1L)).thenReturn(List.of());
+        when(eventService.findById(1L)).thenReturn(new Event());
+
+        List<Task> result = taskService.getTasksByEvent(1L);
+
+        assertTrue(result.isEmpty());
+        verify(eventArchiveService, never()).findArchivedTasksByEvent(anyLong());
+    }
+
+    @Test
+    void testGetTasksByEvent_ArchivedEventReadsArchivedTasks() {
+        when(taskRepository.findByEventId(1L)).thenReturn(List.of());
+        when(eventService.findById(1L)).thenThrow(new EventNotExistException("Event not found"));
+        when(eventArchiveService.findArchivedTasksByEvent(1L)).thenReturn(List.of(task));
+
+        List<Task> result = taskService.getTasksByEvent(1L);
+
+        assertEquals(List.of(task), result);
+    }
+
     @Test
     void testGetTaskId_TaskExists() {
         when(taskRepository.findById(anyLong())).thenReturn(Optional.of(task));
@@ -134,6 +189,7 @@ public class TaskServiceUnitTest {
         assertDoesNotThrow(() -> taskService.updateTaskAssignedUser(taskId, userId));
 
         verify(taskRepository).findById(taskId);
+    verify(taskBoardService).evict(1L);
         verify(userService).findUserById(userId);
         verify(taskRepository).save(task);
     }
@@ -180,6 +236,7 @@ public class TaskServiceUnitTest {
     Long taskId = 1L;
     Task mockTask = new Task();
     mockTask.setId(taskId);
+    mockTask.setEvent(event);
     
     when(taskRepository.findById(taskId)).thenReturn(Optional.of(mockTask));
     doNothing().when(taskRepository).delete(mockTask);
@@ -246,4 +303,107 @@ public class TaskServiceUnitTest {
 
         assertThrows(TaskNotExistException.class, () -> taskService.getTaskById(1L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCreateTasks_SkipsUnknownUsers() {
+        User unknownUser = new User();
+        unknownUser.setId(2L);
+        Task second = new Task();
+        second.setName("Second");
+        second.setStatus(Task.TaskStatus.PENDING);
+        second.setAssignedUser(unknownUser);
+        task.setName("First");
+        task.setStatus(Task.TaskStatus.PENDING);
+
+        when(eventService.findById(1L)).thenReturn(event);
+        when(userService.findUsersByIds(Set.of(1L, 2L))).thenReturn(Map.of(1L, user));
+        when(taskRepository.insertAll(1L, List.of(task))).thenReturn(List.of(10L));
+
+        List<TaskBatchResult> results = taskService.createTasks(1L, List.of(task, second));
+
+        assertEquals(List.of(
+                new TaskBatchResult(10L, TaskBatchResult.Outcome.CREATED),
+                new TaskBatchResult(null, TaskBatchResult.Outcome.USER_NOT_FOUND)), results);
+    }
+
+    @Test
+    void testUpdateTaskStatuses_OneUpdatePerStatus() {
+        Map<Long, Task.TaskStatus> statusByTaskId = new LinkedHashMap<>();
+        statusByTaskId.put(1L, Task.TaskStatus.COMPLETED);
+        statusByTaskId.put(2L, Task.TaskStatus.COMPLETED);
+        statusByTaskId.put(3L, Task.TaskStatus.IN_PROGRESS);
+        statusByTaskId.put(4L, Task.TaskStatus.CANCELLED);
+
+        when(eventService.findById(1L)).thenReturn(event);
+        when(taskRepository.findIdsByEventIdAndIdIn(1L, statusByTaskId.keySet())).thenReturn(List.of(1L, 2L, 3L));
+
+        List<TaskBatchResult> results = taskService.updateTaskStatuses(1L, statusByTaskId);
+
+        verify(taskRepository).updateStatusByEventIdAndIdIn(1L, List.of(1L, 2L), Task.TaskStatus.COMPLETED);
+        verify(taskRepository).updateStatusByEventIdAndIdIn(1L, List.of(3L), Task.TaskStatus.IN_PROGRESS);
+        verify(taskRepository, never()).updateStatusByEventIdAndIdIn(anyLong(), any(), eq(Task.TaskStatus.CANCELLED));
+        assertEquals(TaskBatchResult.Outcome.UPDATED, results.get(0).result());
+        assertEquals(new TaskBatchResult(4L, TaskBatchResult.Outcome.NOT_FOUND), results.get(3));
+    }
+
+    @Test
+    void testUpdateTaskAssignedUsers_ReportsMissingTasksAndUsers() {
+        Map<Long, Long> userIdByTaskId = new LinkedHashMap<>();
+        userIdByTaskId.put(1L, 1L);
+        userIdByTaskId.put(2L, 9L);
+        userIdByTaskId.put(3L, 1L);
+
+        when(eventService.findById(1L)).thenReturn(event);
+        when(taskRepository.findIdsByEventIdAndIdIn(1L, userIdByTaskId.keySet())).thenReturn(List.of(1L, 2L));
+        when(userService.findUsersByIds(Set.of(1L, 9L))).thenReturn(Map.of(1L, user));
+
+        List<TaskBatchResult> results = taskService.updateTaskAssignedUsers(1L, userIdByTaskId);
+
+        verify(taskRepository).updateAssignedUserByEventIdAndIdIn(1L, List.of(1L), user);
+        assertEquals(List.of(
+                new TaskBatchResult(1L, TaskBatchResult.Outcome.UPDATED),
+                new TaskBatchResult(2L, TaskBatchResult.Outcome.USER_NOT_FOUND),
+                new TaskBatchResult(3L, TaskBatchResult.Outcome.NOT_FOUND)), results);
+    }
+
+    @Test
+    void testDeleteTasks_DeletesOnlyTasksOfEvent() {
+        when(eventService.findById(1L)).thenReturn(event);
+        when(taskRepository.findIdsByEventIdAndIdIn(eq(1L), any())).thenReturn(List.of(1L));
+
+        List<TaskBatchResult> results = taskService.deleteTasks(1L, List.of(1L, 2L, 1L));
+
+        verify(taskRepository).deleteByEventIdAndIdIn(1L, Set.of(1L));
+        assertEquals(List.of(
+                new TaskBatchResult(1L, TaskBatchResult.Outcome.DELETED),
+                new TaskBatchResult(2L, TaskBatchResult.Outcome.NOT_FOUND)), results);
+    }
+
+    @Test
+    void testDeleteTasks_RejectsOversizedBatch() {
+        List<Long> taskIds = new ArrayList<>();
+        for (long id = 1; id <= TaskService.MAX_BATCH_SIZE + 1; id++) {
+            taskIds.add(id);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.deleteTasks(1L, taskIds));
+        verify(taskRepository, never()).deleteByEventIdAndIdIn(anyLong(), any());
+    }
+
+    @Test
+    void testGetTaskBoard_EventNotExist() {
+        when(eventService.findById(1L)).thenThrow(new EventNotExistException("Event not found"));
+
+        assertThrows(EventNotExistException.class, () -> taskService.getTaskBoard(1L));
+        verify(taskBoardService, never()).getBoard(anyLong());
+    }
+
+    @Test
+    void testUpdateTaskStatus_EvictsBoard() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        taskService.updateTaskStatus(1L, Task.TaskStatus.COMPLETED);
+
+        verify(taskBoardService).evict(1L);
+    }
+}
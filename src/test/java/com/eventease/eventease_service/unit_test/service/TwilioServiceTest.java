@@ -6,12 +6,18 @@ import com.twilio.Twilio;
 import com.twilio.rest.api.v2010.account.Message;
 import com.twilio.rest.api.v2010.account.MessageCreator;
 import com.twilio.type.PhoneNumber;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -150,6 +156,49 @@ class TwilioServiceTest {
         verify(messageCreatorMock).create();
     }
 
+    @Test
+    void testSendSms_RecordsOutboundCall() {
+        List<Observation.Context> stopped = recordObservations();
+
+        twilioService.sendSms(VALID_RECIPIENT_NUMBER, TEST_MESSAGE);
+
+        assertEquals(1, stopped.size());
+        Observation.Context context = stopped.get(0);
+        assertEquals("outbound.calls", context.getName());
+        assertEquals("twilio", context.getLowCardinalityKeyValue("service").getValue());
+        assertEquals("send-sms", context.getLowCardinalityKeyValue("operation").getValue());
+        assertNull(context.getError());
+    }
+
+    @Test
+    void testSendSms_RecordsOutboundCallError() {
+        List<Observation.Context> stopped = recordObservations();
+        doThrow(new RuntimeException("Message creation failed"))
+                .when(messageCreatorMock).create();
+
+        assertThrows(RuntimeException.class, () -> twilioService.sendSms(VALID_RECIPIENT_NUMBER, TEST_MESSAGE));
+
+        assertEquals(1, stopped.size());
+        assertEquals("Message creation failed", stopped.get(0).getError().getMessage());
+    }
+
+    private List<Observation.Context> recordObservations() {
+        List<Observation.Context> stopped = new ArrayList<>();
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        twilioService.setObservationRegistry(registry);
+        return stopped;
+    }
 
     @AfterEach
     void tearDown() {
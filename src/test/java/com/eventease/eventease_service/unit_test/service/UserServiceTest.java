@@ -2,8 +2,12 @@ package com.eventease.eventease_service.unit_test.service;
 
 import com.eventease.eventease_service.exception.UserExistsException;
 import com.eventease.eventease_service.exception.UserNotExistException;
+import com.eventease.eventease_service.model.Event;
 import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.repository.EventRepository;
 import com.eventease.eventease_service.repository.UserRepository;
+import com.eventease.eventease_service.service.DomainEventBus;
+import com.eventease.eventease_service.service.ResourceVersionService;
 import com.eventease.eventease_service.service.UserService;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -15,8 +19,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,6 +37,15 @@ public class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private DomainEventBus domainEventBus;
+
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
     @InjectMocks
     private UserService userService;
 
@@ -277,4 +294,42 @@ public class UserServiceTest {
             return true;
         }));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetCreatedEvents_Success() {
+        Event event = new Event();
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(eventRepository.findByHostId(eq(1L), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(event)));
+
+        Page<Event> result = userService.getCreatedEvents(1L, 0, 20);
+
+        assertEquals(1, result.getContent().size());
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void testGetCreatedEvents_CapsPageSize() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(eventRepository.findByHostId(eq(1L), any(Pageable.class))).thenReturn(Page.empty());
+
+        userService.getCreatedEvents(1L, 0, 10_000);
+
+        verify(eventRepository).findByHostId(eq(1L),
+                argThat(pageable -> pageable.getPageSize() == UserService.MAX_EVENT_PAGE_SIZE));
+    }
+
+    @Test
+    public void testGetAttendedEvents_UserNotFound() {
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(UserNotExistException.class, () -> userService.getAttendedEvents(1L, 0, 20));
+        verify(eventRepository, never()).findAttendedByUserId(anyLong(), any());
+    }
+
+    @Test
+    public void testGetAttendedEvents_InvalidPage() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> userService.getAttendedEvents(1L, -1, 20));
+    }
+}
@@ -0,0 +1,119 @@
+package com.eventease.eventease_service.unit_test.service;
+
+import com.eventease.eventease_service.model.Event;
+import com.eventease.eventease_service.model.User;
+import com.eventease.eventease_service.model.WaitlistEntry;
+import com.eventease.eventease_service.repository.WaitlistRepository;
+import com.eventease.eventease_service.service.WaitlistService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the WaitlistService class.
+ */
+@ActiveProfiles("test")
+public class WaitlistServiceUnitTest {
+
+  @Mock
+  private WaitlistRepository waitlistRepository;
+
+  private WaitlistService waitlistService;
+  private Event event;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    waitlistService = new WaitlistService(waitlistRepository, 60_000);
+    event = new Event();
+    event.setId(1L);
+    when(waitlistRepository.findTicketsByEventId(1L)).thenReturn(new ArrayList<>());
+    when(waitlistRepository.deleteByEventIdAndUserId(eq(1L), any())).thenReturn(1);
+  }
+
+  private User user(long id) {
+    User user = new User();
+    user.setId(id);
+    return user;
+  }
+
+  @Test
+  void joinAssignsConsecutivePositions() {
+    assertEquals(1, waitlistService.join(event, user(10)));
+    assertEquals(2, waitlistService.join(event, user(11)));
+    assertEquals(1, waitlistService.join(event, user(10)));
+
+    verify(waitlistRepository, times(2)).save(any(WaitlistEntry.class));
+    assertEquals(Optional.of(2L), waitlistService.position(1L, 11L));
+    assertEquals(Optional.empty(), waitlistService.position(1L, 12L));
+  }
+
+  @Test
+  void mirrorIsLoadedOnceFromTheTable() {
+    when(waitlistRepository.findTicketsByEventId(1L))
+        .thenReturn(List.of(new Object[] {10L, 4L}, new Object[] {11L, 7L}));
+
+    assertEquals(Optional.of(2L), waitlistService.position(1L, 11L));
+    assertEquals(3, waitlistService.join(event, user(12)));
+    assertEquals(3, waitlistService.size(1L));
+
+    verify(waitlistRepository, times(1)).findTicketsByEventId(1L);
+    verify(waitlistRepository).save(argThat(entry -> entry.getTicket() == 8L));
+  }
+
+  @Test
+  void pollHeadShiftsPositions() {
+    waitlistService.join(event, user(10));
+    waitlistService.join(event, user(11));
+
+    Optional<WaitlistService.Ticket> head = waitlistService.pollHead(1L);
+
+    assertEquals(10L, head.orElseThrow().userId());
+    assertEquals(Optional.of(1L), waitlistService.position(1L, 11L));
+    assertEquals(Optional.empty(), waitlistService.position(1L, 10L));
+    verify(waitlistRepository).deleteByEventIdAndUserId(1L, 10L);
+  }
+
+  @Test
+  void pollHeadSkipsEntriesServedElsewhere() {
+    waitlistService.join(event, user(10));
+    waitlistService.join(event, user(11));
+    when(waitlistRepository.deleteByEventIdAndUserId(1L, 10L)).thenReturn(0);
+
+    assertEquals(11L, waitlistService.pollHead(1L).orElseThrow().userId());
+    assertTrue(waitlistService.pollHead(1L).isEmpty());
+  }
+
+  @Test
+  void restoreHeadPutsTicketBackInFront() {
+    waitlistService.join(event, user(10));
+    waitlistService.join(event, user(11));
+    WaitlistService.Ticket head = waitlistService.pollHead(1L).orElseThrow();
+
+    waitlistService.restoreHead(event, user(10), head);
+
+    assertEquals(Optional.of(1L), waitlistService.position(1L, 10L));
+    assertEquals(Optional.of(2L), waitlistService.position(1L, 11L));
+  }
+
+  @Test
+  void joinReloadsMirrorAfterTicketConflict() {
+    when(waitlistRepository.save(any(WaitlistEntry.class)))
+        .thenThrow(new DataIntegrityViolationException("duplicate ticket"))
+        .thenReturn(new WaitlistEntry());
+
+    assertEquals(1, waitlistService.join(event, user(10)));
+    verify(waitlistRepository, times(2)).findTicketsByEventId(1L);
+  }
+}